@@ -0,0 +1,459 @@
+package com.geoffgranum.plugin.builder.benchmark;
+
+import com.geoffgranum.plugin.builder.core.generate.BuilderEmitter;
+import com.geoffgranum.plugin.builder.core.generate.TypeNames;
+import com.geoffgranum.plugin.builder.core.model.BuilderOptions;
+import com.geoffgranum.plugin.builder.core.model.ClassModel;
+import com.geoffgranum.plugin.builder.core.model.FieldKind;
+import com.geoffgranum.plugin.builder.core.model.FieldModel;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Writes the benchmark fixtures: a model class with a generated builder for each field shape under each option
+ * variant, and a JMH benchmark class per shape. The builders come from the same emitter the plugin uses, so
+ * regenerating after an emitter change shows its runtime cost in the next benchmark run.
+ *
+ * Usage: FixtureGenerator <jmh source root>
+ *
+ * @author ggranum
+ */
+public final class FixtureGenerator {
+
+  static final String PACKAGE = "com.geoffgranum.plugin.builder.benchmark";
+
+  private static final String HEADER = "/*\n * Generated by FixtureGenerator; do not edit.\n"
+                                       + " * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures\n */\n";
+
+  private final Path packageDir;
+
+  private FixtureGenerator(Path sourceRoot) {
+    this.packageDir = sourceRoot.resolve(PACKAGE.replace('.', '/'));
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) {
+      System.err.println("Usage: FixtureGenerator <jmh source root>");
+      System.exit(1);
+    }
+    FixtureGenerator generator = new FixtureGenerator(Paths.get(args[0]));
+    for (Shape shape : Shape.values()) {
+      for (Variant variant : Variant.values()) {
+        generator.writeModel(shape, variant);
+      }
+      generator.writeBenchmark(shape);
+    }
+  }
+
+  private void writeModel(Shape shape, Variant variant) throws IOException {
+    String name = shape.className(variant);
+    ClassModel model = new ClassModel.Builder().simpleName(name)
+      .qualifiedName(PACKAGE + "." + name)
+      .fields(shape.fields())
+      .build();
+    ImportingNames names = new ImportingNames();
+    BuilderEmitter emitter = new BuilderEmitter(variant.options, names);
+
+    StringBuilder body = new StringBuilder();
+    if (variant.options.implementJackson) {
+      body.append(emitter.jsonDeserializeAnnotation(model)).append('\n');
+    }
+    if (emitter.generatesSerializer()) {
+      body.append(emitter.jsonSerializeAnnotation(model)).append('\n');
+    }
+    body.append("public final class ").append(name).append(" {\n");
+    for (FieldModel field : model.fields) {
+      if (field.type.indexOf('<') > 0) {
+        // The fixture collections are all java.util types.
+        names.reference("java.util." + field.type.substring(0, field.type.indexOf('<')));
+      } else if (field.kind == FieldKind.PRIMITIVE_OPTIONAL) {
+        names.reference("java.util." + field.type);
+      }
+      if (emitter.unwrapsOptional(field)) {
+        body.append("private final ").append(field.unwrappedType());
+      } else {
+        body.append("public final ").append(field.type);
+      }
+      body.append(' ').append(field.name).append(";\n");
+    }
+    for (String presenceField : emitter.instancePresenceFields(model)) {
+      body.append(presenceField).append('\n');
+    }
+    body.append(emitter.instanceConstructor(model)).append('\n');
+    for (FieldModel field : model.fields) {
+      if (emitter.unwrapsOptional(field)) {
+        body.append(emitter.optionalAccessor(model, field)).append('\n');
+      }
+    }
+    body.append(emitter.builderClass(model)).append("\n}\n");
+
+    write(name, names, body.toString());
+  }
+
+  private void writeBenchmark(Shape shape) throws IOException {
+    String name = shape.title + "Benchmark";
+    String jackson = shape.className(Variant.JACKSON);
+    String copy = shape.className(Variant.COPY);
+    String streaming = shape.className(Variant.STREAMING);
+    ImportingNames names = new ImportingNames();
+    names.reference("com.fasterxml.jackson.databind.ObjectMapper");
+    names.reference("com.fasterxml.jackson.datatype.jdk8.Jdk8Module");
+    names.reference("java.io.IOException");
+    names.reference("java.util.concurrent.TimeUnit");
+    for (String annotation : new String[]{"Benchmark", "BenchmarkMode", "Mode", "OutputTimeUnit", "Scope", "Setup",
+      "State"}) {
+      names.reference("org.openjdk.jmh.annotations." + annotation);
+    }
+    for (String type : new String[]{"Arrays", "HashMap", "HashSet", "List", "Map", "OptionalDouble", "OptionalInt",
+      "OptionalLong", "Set"}) {
+      names.reference("java.util." + type);
+    }
+
+    StringBuilder body = new StringBuilder();
+    body.append("/**\n * build(), from()+build(), copy(), toJson and fromJson for the ")
+      .append(shape.title)
+      .append(" fixtures, per option variant.\n */\n");
+    body.append("@BenchmarkMode(Mode.AverageTime)\n@OutputTimeUnit(TimeUnit.NANOSECONDS)\n@State(Scope.Thread)\n");
+    body.append("public class ").append(name).append(" {\n");
+    body.append("private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new Jdk8Module());\n");
+    body.append(Values.CONSTANTS);
+    body.append("private ").append(copy).append(" copySource;\n");
+    body.append("private ").append(copy).append(".Builder copyBuilder;\n");
+    body.append("private ").append(jackson).append(" jacksonInstance;\n");
+    body.append("private ").append(streaming).append(" streamingInstance;\n");
+    body.append("private String json;\n");
+    body.append("@Setup\npublic void setup() throws IOException {\n")
+      .append("copySource = build_copy();\n")
+      .append("copyBuilder = new ").append(copy).append(".Builder().from(copySource);\n")
+      .append("jacksonInstance = build_jackson();\n")
+      .append("streamingInstance = build_streaming();\n")
+      .append("json = MAPPER.writeValueAsString(jacksonInstance);\n}\n");
+    for (Variant variant : Variant.values()) {
+      String className = shape.className(variant);
+      body.append("@Benchmark\npublic ").append(className).append(" build_").append(variant.suffix).append("() {\n")
+        .append("return new ").append(className).append(".Builder()");
+      for (FieldModel field : shape.fields()) {
+        body.append("\n.").append(field.name).append('(').append(Values.of(field, variant)).append(')');
+      }
+      body.append("\n.build();\n}\n");
+    }
+    // The adders variant again, filling its collections through addAll/putAll rather than the setters.
+    String adders = shape.className(Variant.ADDERS);
+    body.append("@Benchmark\npublic ").append(adders).append(" addAll_adders() {\n")
+      .append("return new ").append(adders).append(".Builder()");
+    for (FieldModel field : shape.fields()) {
+      String method = field.name;
+      if (field.kind == FieldKind.MAP) {
+        method = "putAll" + Character.toUpperCase(method.charAt(0)) + method.substring(1);
+      } else if (field.kind.isCollection()) {
+        method = "addAll" + Character.toUpperCase(method.charAt(0)) + method.substring(1);
+      }
+      body.append("\n.").append(method).append('(').append(Values.of(field, Variant.ADDERS)).append(')');
+    }
+    body.append("\n.build();\n}\n");
+    // The pooled variant again, through the thread's builder rather than a new one.
+    String pooled = shape.className(Variant.POOLED);
+    body.append("@Benchmark\npublic ").append(pooled).append(" pooledBuild_pooled() {\n")
+      .append("return ").append(pooled).append(".Builder.pooled()");
+    for (FieldModel field : shape.fields()) {
+      body.append("\n.").append(field.name).append('(').append(Values.of(field, Variant.POOLED)).append(')');
+    }
+    body.append("\n.build();\n}\n");
+    body.append("@Benchmark\npublic ").append(copy).append(" fromBuild_copy() {\n")
+      .append("return new ").append(copy).append(".Builder().from(copySource).build();\n}\n");
+    body.append("@Benchmark\npublic ").append(copy).append(".Builder copy_copy() {\n")
+      .append("return copyBuilder.copy();\n}\n");
+    body.append("@Benchmark\npublic String toJson_jackson() throws IOException {\n")
+      .append("return MAPPER.writeValueAsString(jacksonInstance);\n}\n");
+    body.append("@Benchmark\npublic ").append(jackson).append(" fromJson_jackson() throws IOException {\n")
+      .append("return MAPPER.readValue(json, ").append(jackson).append(".class);\n}\n");
+    // The same values, written and read by the streaming variant's generated serializer and deserializer.
+    body.append("@Benchmark\npublic String toJson_streaming() throws IOException {\n")
+      .append("return MAPPER.writeValueAsString(streamingInstance);\n}\n");
+    body.append("@Benchmark\npublic ").append(streaming).append(" fromJson_streaming() throws IOException {\n")
+      .append("return MAPPER.readValue(json, ").append(streaming).append(".class);\n}\n");
+    body.append("}\n");
+
+    write(name, names, body.toString());
+  }
+
+  private void write(String className, ImportingNames names, String body) throws IOException {
+    StringBuilder text = new StringBuilder(HEADER).append("package ").append(PACKAGE).append(";\n\n");
+    for (String imported : names.imports) {
+      text.append("import ").append(imported).append(";\n");
+    }
+    text.append('\n').append(indent(body));
+    Files.createDirectories(packageDir);
+    Files.write(packageDir.resolve(className + ".java"), text.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * The emitter leaves formatting to its callers; this is just enough to make the checked in copies readable.
+   */
+  private static String indent(String text) {
+    StringBuilder result = new StringBuilder();
+    int depth = 0;
+    for (String rawLine : text.split("\n", -1)) {
+      String line = rawLine.trim();
+      if (line.startsWith("}")) {
+        depth--;
+      }
+      boolean chained = line.startsWith(".");
+      if (line.startsWith("*")) {
+        line = " " + line;
+      }
+      if (!line.isEmpty()) {
+        int level = depth + (chained ? 2 : 0);
+        result.append(String.join("", Collections.nCopies(Math.max(level, 0), "  "))).append(line);
+      }
+      result.append('\n');
+      for (char c : line.toCharArray()) {
+        depth += c == '{' ? 1 : c == '}' ? -1 : 0;
+      }
+      if (line.startsWith("}")) {
+        depth++;
+      }
+    }
+    return result.toString().replaceAll("\n+$", "\n");
+  }
+
+  /**
+   * Imports everything it is asked about, by simple name; the fixtures have no clashing names.
+   */
+  private static final class ImportingNames implements TypeNames {
+
+    private final Set<String> imports = new TreeSet<>();
+
+    @Override
+    public String reference(String qualifiedName) {
+      String simpleName = qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+      if (!qualifiedName.equals("java.lang." + simpleName) && qualifiedName.indexOf('.') > 0) {
+        imports.add(qualifiedName);
+      }
+      return simpleName;
+    }
+  }
+
+  enum Variant {
+    /**
+     * The dialog's defaults.
+     */
+    PLAIN("plain", new BuilderOptions.Builder().build()),
+    JACKSON("jackson", new BuilderOptions.Builder().implementJackson(true).build()),
+    COPY("copy", new BuilderOptions.Builder().createCopyMethod(true).build()),
+    UNBOXED("unboxed", new BuilderOptions.Builder().primitiveBuilderFields(true).build()),
+    ADDERS("adders", new BuilderOptions.Builder().collectionAdders(true).build()),
+    /**
+     * At the benchmarks' own language level, 8: unmodifiable copies. List/Set/Map.copyOf needs a Java 10 build.
+     */
+    JDK("jdk", new BuilderOptions.Builder().jdkCollections(true).languageLevel(8).build()),
+    /**
+     * The Integer and Long collections held in fastutil's IntArrayList and LongOpenHashSet.
+     */
+    FASTUTIL("fastutil", new BuilderOptions.Builder().primitiveBackedCollections(true).build()),
+    /**
+     * Optional fields held as a nullable element, OptionalInt and friends as a primitive and a presence bit.
+     */
+    UNWRAPPED("unwrapped", new BuilderOptions.Builder().unwrappedOptionals(true).build()),
+    POOLED("pooled", new BuilderOptions.Builder().pooledBuilder(true).build()),
+    /**
+     * Jackson, through the generated streaming serializer and deserializer rather than the reflective bean and
+     * builder support.
+     */
+    STREAMING("streaming", new BuilderOptions.Builder().implementJackson(true)
+      .streamingDeserializer(true)
+      .streamingSerializer(true)
+      .build());
+
+    final String suffix;
+
+    final BuilderOptions options;
+
+    Variant(String suffix, BuilderOptions options) {
+      this.suffix = suffix;
+      this.options = options;
+    }
+  }
+
+  enum Shape {
+    PRIMITIVES("Primitives", 5) {
+      @Override
+      FieldModel field(int index) {
+        String[] types = {"int", "long", "double", "boolean", "float"};
+        return primitive("p" + index, types[index % types.length]);
+      }
+    },
+    OPTIONALS("Optionals", 5) {
+      @Override
+      FieldModel field(int index) {
+        switch (index % 5) {
+          case 0:
+            return optional("o" + index, "java.lang.String");
+          case 1:
+            return optional("o" + index, "java.lang.Integer");
+          case 2:
+            return primitiveOptional("o" + index, "OptionalInt");
+          case 3:
+            return primitiveOptional("o" + index, "OptionalLong");
+          default:
+            return primitiveOptional("o" + index, "OptionalDouble");
+        }
+      }
+    },
+    COLLECTIONS("Collections", 5) {
+      @Override
+      FieldModel field(int index) {
+        switch (index % 5) {
+          case 0:
+            return collection("c" + index, FieldKind.LIST, "java.util.List", "java.lang.String");
+          case 1:
+            return collection("c" + index, FieldKind.SET, "java.util.Set", "java.lang.String");
+          case 2:
+            return collection("c" + index, FieldKind.MAP, "java.util.Map", "java.lang.String", "java.lang.Integer");
+          case 3:
+            return collection("c" + index, FieldKind.LIST, "java.util.List", "java.lang.Integer");
+          default:
+            return collection("c" + index, FieldKind.SET, "java.util.Set", "java.lang.Long");
+        }
+      }
+    },
+    WIDE_5("Wide5", 5),
+    WIDE_50("Wide50", 50),
+    WIDE_200("Wide200", 200);
+
+    final String title;
+
+    final int fieldCount;
+
+    Shape(String title, int fieldCount) {
+      this.title = title;
+      this.fieldCount = fieldCount;
+    }
+
+    String className(Variant variant) {
+      return title + Character.toUpperCase(variant.suffix.charAt(0)) + variant.suffix.substring(1);
+    }
+
+    List<FieldModel> fields() {
+      List<FieldModel> fields = new ArrayList<>(fieldCount);
+      for (int i = 0; i < fieldCount; i++) {
+        fields.add(field(i));
+      }
+      return fields;
+    }
+
+    /**
+     * The wide shapes mix the common field kinds, in a fixed rotation.
+     */
+    FieldModel field(int index) {
+      String name = "f" + index;
+      switch (index % 5) {
+        case 0:
+          return new FieldModel.Builder().name(name).type("String").build();
+        case 1:
+          return primitive(name, "int");
+        case 2:
+          return optional(name, "java.lang.String");
+        case 3:
+          return collection(name, FieldKind.LIST, "java.util.List", "java.lang.String");
+        default:
+          return primitive(name, "long");
+      }
+    }
+
+    static FieldModel primitive(String name, String type) {
+      return new FieldModel.Builder().name(name).type(type).kind(FieldKind.PRIMITIVE).build();
+    }
+
+    static FieldModel optional(String name, String elementType) {
+      return collection(name, FieldKind.OPTIONAL, "java.util.Optional", elementType);
+    }
+
+    /**
+     * An OptionalInt, OptionalLong or OptionalDouble, by simple name.
+     */
+    static FieldModel primitiveOptional(String name, String type) {
+      return new FieldModel.Builder().name(name).type(type).kind(FieldKind.PRIMITIVE_OPTIONAL).build();
+    }
+
+    static FieldModel collection(String name, FieldKind kind, String type, String... typeArguments) {
+      List<String> simpleArguments = new ArrayList<>();
+      for (String argument : typeArguments) {
+        simpleArguments.add(argument.substring(argument.lastIndexOf('.') + 1));
+      }
+      String simpleType = type.substring(type.lastIndexOf('.') + 1);
+      return new FieldModel.Builder().name(name)
+        .type(simpleType + "<" + String.join(", ", simpleArguments) + ">")
+        .kind(kind)
+        .typeArguments(simpleArguments)
+        .build();
+    }
+  }
+
+  /**
+   * Setter arguments for each field type, and the shared constants they use.
+   */
+  static final class Values {
+
+    static final String CONSTANTS =
+      "private static final List<String> STRINGS = Arrays.asList(\"a\", \"b\", \"c\");\n"
+      + "private static final List<Integer> INTEGERS = Arrays.asList(1, 2, 3);\n"
+      + "private static final Set<String> STRING_SET = new HashSet<>(STRINGS);\n"
+      + "private static final Set<Long> LONG_SET = new HashSet<>(Arrays.asList(1L, 2L, 3L));\n"
+      + "private static final Map<String, Integer> COUNTS = new HashMap<>();\n"
+      + "static {\nCOUNTS.put(\"a\", 1);\nCOUNTS.put(\"b\", 2);\n}\n";
+
+    /**
+     * The primitive optionals are set as such, except where the builder holds them unwrapped.
+     */
+    static String of(FieldModel field, Variant variant) {
+      if (field.kind == FieldKind.PRIMITIVE_OPTIONAL && !variant.options.unwrappedOptionals) {
+        return field.type + ".of(" + of(field, Variant.UNWRAPPED) + ")";
+      }
+      switch (field.type) {
+        case "int":
+          return "42";
+        case "long":
+          return "42L";
+        case "double":
+          return "4.2";
+        case "boolean":
+          return "true";
+        case "float":
+          return "4.2f";
+        case "String":
+          return "\"" + field.name + "\"";
+        case "Optional<String>":
+          return "\"" + field.name + "\"";
+        case "Optional<Integer>":
+        case "OptionalInt":
+          return "42";
+        case "OptionalLong":
+          return "42L";
+        case "OptionalDouble":
+          return "4.2";
+        case "List<String>":
+          return "STRINGS";
+        case "List<Integer>":
+          return "INTEGERS";
+        case "Set<String>":
+          return "STRING_SET";
+        case "Set<Long>":
+          return "LONG_SET";
+        case "Map<String, Integer>":
+          return "COUNTS";
+        default:
+          throw new IllegalArgumentException("No fixture value for " + field.type);
+      }
+    }
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class CollectionsAdders {
+  public final List<String> c0;
+  public final Set<String> c1;
+  public final Map<String, Integer> c2;
+  public final List<Integer> c3;
+  public final Set<Long> c4;
+  private CollectionsAdders(Builder builder) { c0 = builder.c0 == null ? ImmutableList.of() : builder.c0.build();c1 = builder.c1 == null ? ImmutableSet.of() : builder.c1.build();c2 = builder.c2 == null ? ImmutableMap.of() : builder.c2.build();c3 = builder.c3 == null ? ImmutableList.of() : builder.c3.build();c4 = builder.c4 == null ? ImmutableSet.of() : builder.c4.build(); }
+  public static final class Builder {
+    private ImmutableList.Builder<String> c0;
+    private ImmutableSet.Builder<String> c1;
+    private ImmutableMap.Builder<String, Integer> c2;
+    private ImmutableList.Builder<Integer> c3;
+    private ImmutableSet.Builder<Long> c4;
+    public Builder c0(List<String> c0){
+      this.c0 = c0 == null ? null : ImmutableList.<String>builder().addAll(c0);  return this;
+    }
+    public Builder addC0(String element){
+      if (this.c0 == null) {
+        this.c0 = ImmutableList.builder();
+      }
+      this.c0.add(element);  return this;
+    }
+    public Builder addAllC0(Iterable<? extends String> elements){
+      if (this.c0 == null) {
+        this.c0 = ImmutableList.builder();
+      }
+      this.c0.addAll(elements);  return this;
+    }
+    public Builder c0ExpectedSize(int expectedSize){
+      if (this.c0 == null) {
+        this.c0 = ImmutableList.builderWithExpectedSize(expectedSize);
+      }
+      return this;
+    }
+    public Builder c1(Set<String> c1){
+      this.c1 = c1 == null ? null : ImmutableSet.<String>builder().addAll(c1);  return this;
+    }
+    public Builder addC1(String element){
+      if (this.c1 == null) {
+        this.c1 = ImmutableSet.builder();
+      }
+      this.c1.add(element);  return this;
+    }
+    public Builder addAllC1(Iterable<? extends String> elements){
+      if (this.c1 == null) {
+        this.c1 = ImmutableSet.builder();
+      }
+      this.c1.addAll(elements);  return this;
+    }
+    public Builder c1ExpectedSize(int expectedSize){
+      if (this.c1 == null) {
+        this.c1 = ImmutableSet.builderWithExpectedSize(expectedSize);
+      }
+      return this;
+    }
+    public Builder c2(Map<String, Integer> c2){
+      this.c2 = c2 == null ? null : ImmutableMap.<String, Integer>builder().putAll(c2);  return this;
+    }
+    public Builder putC2(String key, Integer value){
+      if (this.c2 == null) {
+        this.c2 = ImmutableMap.builder();
+      }
+      this.c2.put(key, value);  return this;
+    }
+    public Builder putAllC2(Map<? extends String, ? extends Integer> entries){
+      if (this.c2 == null) {
+        this.c2 = ImmutableMap.builder();
+      }
+      this.c2.putAll(entries);  return this;
+    }
+    public Builder c2ExpectedSize(int expectedSize){
+      if (this.c2 == null) {
+        this.c2 = ImmutableMap.builderWithExpectedSize(expectedSize);
+      }
+      return this;
+    }
+    public Builder c3(List<Integer> c3){
+      this.c3 = c3 == null ? null : ImmutableList.<Integer>builder().addAll(c3);  return this;
+    }
+    public Builder addC3(Integer element){
+      if (this.c3 == null) {
+        this.c3 = ImmutableList.builder();
+      }
+      this.c3.add(element);  return this;
+    }
+    public Builder addAllC3(Iterable<? extends Integer> elements){
+      if (this.c3 == null) {
+        this.c3 = ImmutableList.builder();
+      }
+      this.c3.addAll(elements);  return this;
+    }
+    public Builder c3ExpectedSize(int expectedSize){
+      if (this.c3 == null) {
+        this.c3 = ImmutableList.builderWithExpectedSize(expectedSize);
+      }
+      return this;
+    }
+    public Builder c4(Set<Long> c4){
+      this.c4 = c4 == null ? null : ImmutableSet.<Long>builder().addAll(c4);  return this;
+    }
+    public Builder addC4(Long element){
+      if (this.c4 == null) {
+        this.c4 = ImmutableSet.builder();
+      }
+      this.c4.add(element);  return this;
+    }
+    public Builder addAllC4(Iterable<? extends Long> elements){
+      if (this.c4 == null) {
+        this.c4 = ImmutableSet.builder();
+      }
+      this.c4.addAll(elements);  return this;
+    }
+    public Builder c4ExpectedSize(int expectedSize){
+      if (this.c4 == null) {
+        this.c4 = ImmutableSet.builderWithExpectedSize(expectedSize);
+      }
+      return this;
+    }
+    public Builder(){}
+    public Builder reset(){
+      c0 = null;
+      c1 = null;
+      c2 = null;
+      c3 = null;
+      c4 = null;
+      return this;}
+    public com.geoffgranum.plugin.builder.benchmark.CollectionsAdders build() {
+      return new com.geoffgranum.plugin.builder.benchmark.CollectionsAdders(this);
+    }
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * build(), from()+build(), copy(), toJson and fromJson for the Collections fixtures, per option variant.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class CollectionsBenchmark {
+  private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new Jdk8Module());
+  private static final List<String> STRINGS = Arrays.asList("a", "b", "c");
+  private static final List<Integer> INTEGERS = Arrays.asList(1, 2, 3);
+  private static final Set<String> STRING_SET = new HashSet<>(STRINGS);
+  private static final Set<Long> LONG_SET = new HashSet<>(Arrays.asList(1L, 2L, 3L));
+  private static final Map<String, Integer> COUNTS = new HashMap<>();
+  static {
+    COUNTS.put("a", 1);
+    COUNTS.put("b", 2);
+  }
+  private CollectionsCopy copySource;
+  private CollectionsCopy.Builder copyBuilder;
+  private CollectionsJackson jacksonInstance;
+  private CollectionsStreaming streamingInstance;
+  private String json;
+  @Setup
+  public void setup() throws IOException {
+    copySource = build_copy();
+    copyBuilder = new CollectionsCopy.Builder().from(copySource);
+    jacksonInstance = build_jackson();
+    streamingInstance = build_streaming();
+    json = MAPPER.writeValueAsString(jacksonInstance);
+  }
+  @Benchmark
+  public CollectionsPlain build_plain() {
+    return new CollectionsPlain.Builder()
+        .c0(STRINGS)
+        .c1(STRING_SET)
+        .c2(COUNTS)
+        .c3(INTEGERS)
+        .c4(LONG_SET)
+        .build();
+  }
+  @Benchmark
+  public CollectionsJackson build_jackson() {
+    return new CollectionsJackson.Builder()
+        .c0(STRINGS)
+        .c1(STRING_SET)
+        .c2(COUNTS)
+        .c3(INTEGERS)
+        .c4(LONG_SET)
+        .build();
+  }
+  @Benchmark
+  public CollectionsCopy build_copy() {
+    return new CollectionsCopy.Builder()
+        .c0(STRINGS)
+        .c1(STRING_SET)
+        .c2(COUNTS)
+        .c3(INTEGERS)
+        .c4(LONG_SET)
+        .build();
+  }
+  @Benchmark
+  public CollectionsUnboxed build_unboxed() {
+    return new CollectionsUnboxed.Builder()
+        .c0(STRINGS)
+        .c1(STRING_SET)
+        .c2(COUNTS)
+        .c3(INTEGERS)
+        .c4(LONG_SET)
+        .build();
+  }
+  @Benchmark
+  public CollectionsAdders build_adders() {
+    return new CollectionsAdders.Builder()
+        .c0(STRINGS)
+        .c1(STRING_SET)
+        .c2(COUNTS)
+        .c3(INTEGERS)
+        .c4(LONG_SET)
+        .build();
+  }
+  @Benchmark
+  public CollectionsJdk build_jdk() {
+    return new CollectionsJdk.Builder()
+        .c0(STRINGS)
+        .c1(STRING_SET)
+        .c2(COUNTS)
+        .c3(INTEGERS)
+        .c4(LONG_SET)
+        .build();
+  }
+  @Benchmark
+  public CollectionsFastutil build_fastutil() {
+    return new CollectionsFastutil.Builder()
+        .c0(STRINGS)
+        .c1(STRING_SET)
+        .c2(COUNTS)
+        .c3(INTEGERS)
+        .c4(LONG_SET)
+        .build();
+  }
+  @Benchmark
+  public CollectionsUnwrapped build_unwrapped() {
+    return new CollectionsUnwrapped.Builder()
+        .c0(STRINGS)
+        .c1(STRING_SET)
+        .c2(COUNTS)
+        .c3(INTEGERS)
+        .c4(LONG_SET)
+        .build();
+  }
+  @Benchmark
+  public CollectionsPooled build_pooled() {
+    return new CollectionsPooled.Builder()
+        .c0(STRINGS)
+        .c1(STRING_SET)
+        .c2(COUNTS)
+        .c3(INTEGERS)
+        .c4(LONG_SET)
+        .build();
+  }
+  @Benchmark
+  public CollectionsStreaming build_streaming() {
+    return new CollectionsStreaming.Builder()
+        .c0(STRINGS)
+        .c1(STRING_SET)
+        .c2(COUNTS)
+        .c3(INTEGERS)
+        .c4(LONG_SET)
+        .build();
+  }
+  @Benchmark
+  public CollectionsAdders addAll_adders() {
+    return new CollectionsAdders.Builder()
+        .addAllC0(STRINGS)
+        .addAllC1(STRING_SET)
+        .putAllC2(COUNTS)
+        .addAllC3(INTEGERS)
+        .addAllC4(LONG_SET)
+        .build();
+  }
+  @Benchmark
+  public CollectionsPooled pooledBuild_pooled() {
+    return CollectionsPooled.Builder.pooled()
+        .c0(STRINGS)
+        .c1(STRING_SET)
+        .c2(COUNTS)
+        .c3(INTEGERS)
+        .c4(LONG_SET)
+        .build();
+  }
+  @Benchmark
+  public CollectionsCopy fromBuild_copy() {
+    return new CollectionsCopy.Builder().from(copySource).build();
+  }
+  @Benchmark
+  public CollectionsCopy.Builder copy_copy() {
+    return copyBuilder.copy();
+  }
+  @Benchmark
+  public String toJson_jackson() throws IOException {
+    return MAPPER.writeValueAsString(jacksonInstance);
+  }
+  @Benchmark
+  public CollectionsJackson fromJson_jackson() throws IOException {
+    return MAPPER.readValue(json, CollectionsJackson.class);
+  }
+  @Benchmark
+  public String toJson_streaming() throws IOException {
+    return MAPPER.writeValueAsString(streamingInstance);
+  }
+  @Benchmark
+  public CollectionsStreaming fromJson_streaming() throws IOException {
+    return MAPPER.readValue(json, CollectionsStreaming.class);
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class CollectionsCopy {
+  public final List<String> c0;
+  public final Set<String> c1;
+  public final Map<String, Integer> c2;
+  public final List<Integer> c3;
+  public final Set<Long> c4;
+  private CollectionsCopy(Builder builder) { c0 = ImmutableList.copyOf(builder.c0);c1 = ImmutableSet.copyOf(builder.c1);c2 = ImmutableMap.copyOf(builder.c2);c3 = ImmutableList.copyOf(builder.c3);c4 = ImmutableSet.copyOf(builder.c4); }
+  public static final class Builder {
+    private List<String> c0 = Collections.emptyList();
+    private Set<String> c1;
+    private Map<String, Integer> c2 = Collections.emptyMap();
+    private List<Integer> c3 = Collections.emptyList();
+    private Set<Long> c4;
+    public Builder c0(List<String> c0){
+      this.c0 = c0;  return this;
+    }
+    public Builder c1(Set<String> c1){
+      this.c1 = c1;  return this;
+    }
+    public Builder c2(Map<String, Integer> c2){
+      this.c2 = c2;  return this;
+    }
+    public Builder c3(List<Integer> c3){
+      this.c3 = c3;  return this;
+    }
+    public Builder c4(Set<Long> c4){
+      this.c4 = c4;  return this;
+    }
+    public Builder(){}
+    public Builder from(com.geoffgranum.plugin.builder.benchmark.CollectionsCopy copy){
+      c0 = copy.c0;
+      c1 = copy.c1;
+      c2 = copy.c2;
+      c3 = copy.c3;
+      c4 = copy.c4;
+      return this;}
+    public Builder copy(){
+      Builder copy = new Builder();
+      copy.c0(this.c0);
+      copy.c1(this.c1);
+      copy.c2(this.c2);
+      copy.c3(this.c3);
+      copy.c4(this.c4);
+      return copy;}
+    public Builder reset(){
+      c0 = Collections.emptyList();
+      c1 = null;
+      c2 = Collections.emptyMap();
+      c3 = Collections.emptyList();
+      c4 = null;
+      return this;}
+    public com.geoffgranum.plugin.builder.benchmark.CollectionsCopy build() {
+      return new com.geoffgranum.plugin.builder.benchmark.CollectionsCopy(this);
+    }
+  }
+}
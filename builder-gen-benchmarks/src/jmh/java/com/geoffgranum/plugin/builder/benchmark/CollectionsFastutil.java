@@ -0,0 +1,96 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntLists;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class CollectionsFastutil {
+  public final List<String> c0;
+  public final Set<String> c1;
+  public final Map<String, Integer> c2;
+  public final List<Integer> c3;
+  public final Set<Long> c4;
+  private CollectionsFastutil(Builder builder) { c0 = ImmutableList.copyOf(builder.c0);c1 = ImmutableSet.copyOf(builder.c1);c2 = ImmutableMap.copyOf(builder.c2);c3 = builder.c3 == null ? IntLists.EMPTY_LIST : IntLists.unmodifiable(new IntArrayList(builder.c3));c4 = builder.c4 == null ? LongSets.EMPTY_SET : LongSets.unmodifiable(new LongOpenHashSet(builder.c4)); }
+  public static final class Builder {
+    private List<String> c0 = Collections.emptyList();
+    private Set<String> c1;
+    private Map<String, Integer> c2 = Collections.emptyMap();
+    private IntArrayList c3;
+    private LongOpenHashSet c4;
+    public Builder c0(List<String> c0){
+      this.c0 = c0;  return this;
+    }
+    public Builder c1(Set<String> c1){
+      this.c1 = c1;  return this;
+    }
+    public Builder c2(Map<String, Integer> c2){
+      this.c2 = c2;  return this;
+    }
+    public Builder c3(List<Integer> c3){
+      this.c3 = c3 == null ? null : new IntArrayList(c3);  return this;
+    }
+    public Builder addC3(int element){
+      if (this.c3 == null) {
+        this.c3 = new IntArrayList();
+      }
+      this.c3.add(element);  return this;
+    }
+    public Builder addAllC3(Collection<? extends Integer> elements){
+      if (this.c3 == null) {
+        this.c3 = new IntArrayList();
+      }
+      this.c3.addAll(elements);  return this;
+    }
+    public Builder c3ExpectedSize(int expectedSize){
+      if (this.c3 == null) {
+        this.c3 = new IntArrayList(expectedSize);
+      }
+      return this;
+    }
+    public Builder c4(Set<Long> c4){
+      this.c4 = c4 == null ? null : new LongOpenHashSet(c4);  return this;
+    }
+    public Builder addC4(long element){
+      if (this.c4 == null) {
+        this.c4 = new LongOpenHashSet();
+      }
+      this.c4.add(element);  return this;
+    }
+    public Builder addAllC4(Collection<? extends Long> elements){
+      if (this.c4 == null) {
+        this.c4 = new LongOpenHashSet();
+      }
+      this.c4.addAll(elements);  return this;
+    }
+    public Builder c4ExpectedSize(int expectedSize){
+      if (this.c4 == null) {
+        this.c4 = new LongOpenHashSet(expectedSize);
+      }
+      return this;
+    }
+    public Builder(){}
+    public Builder reset(){
+      c0 = Collections.emptyList();
+      c1 = null;
+      c2 = Collections.emptyMap();
+      c3 = null;
+      c4 = null;
+      return this;}
+    public com.geoffgranum.plugin.builder.benchmark.CollectionsFastutil build() {
+      return new com.geoffgranum.plugin.builder.benchmark.CollectionsFastutil(this);
+    }
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@JsonDeserialize(builder = CollectionsJackson.Builder.class)
+public final class CollectionsJackson {
+  public final List<String> c0;
+  public final Set<String> c1;
+  public final Map<String, Integer> c2;
+  public final List<Integer> c3;
+  public final Set<Long> c4;
+  private CollectionsJackson(Builder builder) { c0 = ImmutableList.copyOf(builder.c0);c1 = ImmutableSet.copyOf(builder.c1);c2 = ImmutableMap.copyOf(builder.c2);c3 = ImmutableList.copyOf(builder.c3);c4 = ImmutableSet.copyOf(builder.c4); }
+  public static final class Builder {
+    @JsonProperty
+    private List<String> c0 = Collections.emptyList();
+    @JsonProperty
+    private Set<String> c1;
+    @JsonProperty
+    private Map<String, Integer> c2 = Collections.emptyMap();
+    @JsonProperty
+    private List<Integer> c3 = Collections.emptyList();
+    @JsonProperty
+    private Set<Long> c4;
+    public Builder c0(List<String> c0){
+      this.c0 = c0;  return this;
+    }
+    public Builder c1(Set<String> c1){
+      this.c1 = c1;  return this;
+    }
+    public Builder c2(Map<String, Integer> c2){
+      this.c2 = c2;  return this;
+    }
+    public Builder c3(List<Integer> c3){
+      this.c3 = c3;  return this;
+    }
+    public Builder c4(Set<Long> c4){
+      this.c4 = c4;  return this;
+    }
+    public Builder(){}
+    public Builder reset(){
+      c0 = Collections.emptyList();
+      c1 = null;
+      c2 = Collections.emptyMap();
+      c3 = Collections.emptyList();
+      c4 = null;
+      return this;}
+    public com.geoffgranum.plugin.builder.benchmark.CollectionsJackson build() {
+      return new com.geoffgranum.plugin.builder.benchmark.CollectionsJackson(this);
+    }
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class CollectionsJdk {
+  public final List<String> c0;
+  public final Set<String> c1;
+  public final Map<String, Integer> c2;
+  public final List<Integer> c3;
+  public final Set<Long> c4;
+  private CollectionsJdk(Builder builder) { c0 = Collections.unmodifiableList(new ArrayList<>(builder.c0));c1 = Collections.unmodifiableSet(new LinkedHashSet<>(builder.c1));c2 = Collections.unmodifiableMap(new LinkedHashMap<>(builder.c2));c3 = Collections.unmodifiableList(new ArrayList<>(builder.c3));c4 = Collections.unmodifiableSet(new LinkedHashSet<>(builder.c4)); }
+  public static final class Builder {
+    private List<String> c0 = Collections.emptyList();
+    private Set<String> c1;
+    private Map<String, Integer> c2 = Collections.emptyMap();
+    private List<Integer> c3 = Collections.emptyList();
+    private Set<Long> c4;
+    public Builder c0(List<String> c0){
+      this.c0 = c0;  return this;
+    }
+    public Builder c1(Set<String> c1){
+      this.c1 = c1;  return this;
+    }
+    public Builder c2(Map<String, Integer> c2){
+      this.c2 = c2;  return this;
+    }
+    public Builder c3(List<Integer> c3){
+      this.c3 = c3;  return this;
+    }
+    public Builder c4(Set<Long> c4){
+      this.c4 = c4;  return this;
+    }
+    public Builder(){}
+    public Builder reset(){
+      c0 = Collections.emptyList();
+      c1 = null;
+      c2 = Collections.emptyMap();
+      c3 = Collections.emptyList();
+      c4 = null;
+      return this;}
+    public com.geoffgranum.plugin.builder.benchmark.CollectionsJdk build() {
+      return new com.geoffgranum.plugin.builder.benchmark.CollectionsJdk(this);
+    }
+  }
+}
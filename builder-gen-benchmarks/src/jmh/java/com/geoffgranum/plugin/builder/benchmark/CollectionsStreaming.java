@@ -0,0 +1,243 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@JsonDeserialize(using = CollectionsStreaming.Builder.Deserializer.class)
+@JsonSerialize(using = CollectionsStreaming.Builder.Serializer.class)
+public final class CollectionsStreaming {
+  public final List<String> c0;
+  public final Set<String> c1;
+  public final Map<String, Integer> c2;
+  public final List<Integer> c3;
+  public final Set<Long> c4;
+  private CollectionsStreaming(Builder builder) { c0 = ImmutableList.copyOf(builder.c0);c1 = ImmutableSet.copyOf(builder.c1);c2 = ImmutableMap.copyOf(builder.c2);c3 = ImmutableList.copyOf(builder.c3);c4 = ImmutableSet.copyOf(builder.c4); }
+  public static final class Builder {
+    @JsonProperty
+    private List<String> c0 = Collections.emptyList();
+    @JsonProperty
+    private Set<String> c1;
+    @JsonProperty
+    private Map<String, Integer> c2 = Collections.emptyMap();
+    @JsonProperty
+    private List<Integer> c3 = Collections.emptyList();
+    @JsonProperty
+    private Set<Long> c4;
+    public Builder c0(List<String> c0){
+      this.c0 = c0;  return this;
+    }
+    public Builder c1(Set<String> c1){
+      this.c1 = c1;  return this;
+    }
+    public Builder c2(Map<String, Integer> c2){
+      this.c2 = c2;  return this;
+    }
+    public Builder c3(List<Integer> c3){
+      this.c3 = c3;  return this;
+    }
+    public Builder c4(Set<Long> c4){
+      this.c4 = c4;  return this;
+    }
+    public Builder(){}
+    public Builder reset(){
+      c0 = Collections.emptyList();
+      c1 = null;
+      c2 = Collections.emptyMap();
+      c3 = Collections.emptyList();
+      c4 = null;
+      return this;}
+    public com.geoffgranum.plugin.builder.benchmark.CollectionsStreaming build() {
+      return new com.geoffgranum.plugin.builder.benchmark.CollectionsStreaming(this);
+    }
+    public static final class Deserializer extends JsonDeserializer<com.geoffgranum.plugin.builder.benchmark.CollectionsStreaming> implements ResolvableDeserializer {
+      private JsonDeserializer<Object> c0Deserializer;
+      private JsonDeserializer<Object> c1Deserializer;
+      private JsonDeserializer<Object> c2Deserializer;
+      private JsonDeserializer<Object> c3Deserializer;
+      private JsonDeserializer<Object> c4Deserializer;
+      @Override
+      public void resolve(DeserializationContext context) throws JsonMappingException {
+        c0Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        c1Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<Set<String>>() {}));
+        c2Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<Map<String, Integer>>() {}));
+        c3Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<Integer>>() {}));
+        c4Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<Set<Long>>() {}));
+      }
+      @Override
+      public boolean isCachable() {
+        return true;
+      }
+      @Override
+      public com.geoffgranum.plugin.builder.benchmark.CollectionsStreaming deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+          token = parser.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+          return (com.geoffgranum.plugin.builder.benchmark.CollectionsStreaming) context.handleUnexpectedToken(com.geoffgranum.plugin.builder.benchmark.CollectionsStreaming.class, parser);
+        }
+        Builder builder = new Builder();
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+          String name = parser.getCurrentName();
+          token = parser.nextToken();
+          if (!readProperty0(builder, name, token, parser, context)) {
+            context.handleUnknownProperty(parser, this, com.geoffgranum.plugin.builder.benchmark.CollectionsStreaming.class, name);
+          }
+        }
+        try {
+          return builder.build();
+        } catch (RuntimeException e) {
+          return (com.geoffgranum.plugin.builder.benchmark.CollectionsStreaming) context.handleInstantiationProblem(com.geoffgranum.plugin.builder.benchmark.CollectionsStreaming.class, builder, e);
+        }
+      }
+      @SuppressWarnings("unchecked")
+      private boolean readProperty0(Builder builder, String name, JsonToken token, JsonParser parser, DeserializationContext context) throws IOException {
+        switch (name) {
+          case "c0":
+          builder.c0 = (List<String>) read(parser, context, c0Deserializer);
+          return true;
+          case "c1":
+          builder.c1 = (Set<String>) read(parser, context, c1Deserializer);
+          return true;
+          case "c2":
+          builder.c2 = (Map<String, Integer>) read(parser, context, c2Deserializer);
+          return true;
+          case "c3":
+          builder.c3 = (List<Integer>) read(parser, context, c3Deserializer);
+          return true;
+          case "c4":
+          builder.c4 = (Set<Long>) read(parser, context, c4Deserializer);
+          return true;
+          default:
+          return false;
+        }
+      }
+      private static Object read(JsonParser parser, DeserializationContext context, JsonDeserializer<Object> deserializer) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL
+        ? deserializer.getNullValue(context)
+        : deserializer.deserialize(parser, context);
+      }
+    }
+    public static final class Serializer extends JsonSerializer<com.geoffgranum.plugin.builder.benchmark.CollectionsStreaming> {
+      private static final SerializedString C0 = new SerializedString("c0");
+      private static final SerializedString C1 = new SerializedString("c1");
+      private static final SerializedString C2 = new SerializedString("c2");
+      private static final SerializedString C3 = new SerializedString("c3");
+      private static final SerializedString C4 = new SerializedString("c4");
+      @Override
+      public Class<com.geoffgranum.plugin.builder.benchmark.CollectionsStreaming> handledType() {
+        return com.geoffgranum.plugin.builder.benchmark.CollectionsStreaming.class;
+      }
+      @Override
+      public void serialize(com.geoffgranum.plugin.builder.benchmark.CollectionsStreaming value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject();
+        writeProperties0(value, generator, provider);
+        generator.writeEndObject();
+      }
+      @Override
+      public void serializeWithType(com.geoffgranum.plugin.builder.benchmark.CollectionsStreaming value, JsonGenerator generator, SerializerProvider provider, TypeSerializer typeSerializer) throws IOException {
+        WritableTypeId typeId = typeSerializer.writeTypePrefix(generator, typeSerializer.typeId(value, JsonToken.START_OBJECT));
+        writeProperties0(value, generator, provider);
+        typeSerializer.writeTypeSuffix(generator, typeId);
+      }
+      private static void writeProperties0(com.geoffgranum.plugin.builder.benchmark.CollectionsStreaming value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeFieldName(C0);
+        if (value.c0 != null) {
+          generator.writeStartArray();
+          for (String element : value.c0) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(C1);
+        if (value.c1 != null) {
+          generator.writeStartArray();
+          for (String element : value.c1) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(C2);
+        if (value.c2 != null) {
+          generator.writeStartObject();
+          for (Map.Entry<String, Integer> entry : value.c2.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            if (entry.getValue() == null) {
+              generator.writeNull();
+            } else {
+              generator.writeNumber(entry.getValue());
+            }
+          }
+          generator.writeEndObject();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(C3);
+        if (value.c3 != null) {
+          generator.writeStartArray();
+          for (Integer element : value.c3) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeNumber(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(C4);
+        if (value.c4 != null) {
+          generator.writeStartArray();
+          for (Long element : value.c4) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeNumber(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package com.geoffgranum.plugin.builder.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialization alone, through Jackson's builder support ({@code @JsonDeserialize(builder = ...)}, the Jackson
+ * fixtures) against the generated streaming deserializer ({@code @JsonDeserialize(using = ...)}, the Streaming
+ * fixtures), for each fixture shape. Both read the same UTF-8 bytes through a reader resolved once, so the scores
+ * differ only by the deserializer. The fromJson benchmarks in the generated classes also include decoding a String
+ * and looking up the deserializer on each call.
+ *
+ * @author ggranum
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class JsonDeserializationBenchmark {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new Jdk8Module());
+
+  private static final String PREFIX = JsonDeserializationBenchmark.class.getPackage().getName() + ".";
+
+  @Param({"Primitives", "Optionals", "Collections", "Wide5", "Wide50", "Wide200"})
+  public String shape;
+
+  private byte[] json;
+
+  private ObjectReader builderReader;
+
+  private ObjectReader streamingReader;
+
+  @Setup
+  public void setup() throws Exception {
+    Class<?> benchmark = Class.forName(PREFIX + shape + "Benchmark");
+    Object instance = benchmark.getMethod("build_jackson").invoke(benchmark.getConstructor().newInstance());
+    json = MAPPER.writeValueAsBytes(instance);
+    builderReader = MAPPER.readerFor(Class.forName(PREFIX + shape + "Jackson"));
+    streamingReader = MAPPER.readerFor(Class.forName(PREFIX + shape + "Streaming"));
+    // Both paths have to read the same values for the comparison to mean anything.
+    String expected = MAPPER.writeValueAsString(instance);
+    for (ObjectReader reader : new ObjectReader[]{builderReader, streamingReader}) {
+      String actual = MAPPER.writeValueAsString(reader.readValue(json));
+      if (!actual.equals(expected)) {
+        throw new IllegalStateException(shape + " reads back as " + actual + ", not " + expected);
+      }
+    }
+  }
+
+  @Benchmark
+  public Object builder() throws IOException {
+    return builderReader.readValue(json);
+  }
+
+  @Benchmark
+  public Object streaming() throws IOException {
+    return streamingReader.readValue(json);
+  }
+}
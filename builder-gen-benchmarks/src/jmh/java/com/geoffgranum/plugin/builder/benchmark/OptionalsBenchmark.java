@@ -0,0 +1,202 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * build(), from()+build(), copy(), toJson and fromJson for the Optionals fixtures, per option variant.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class OptionalsBenchmark {
+  private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new Jdk8Module());
+  private static final List<String> STRINGS = Arrays.asList("a", "b", "c");
+  private static final List<Integer> INTEGERS = Arrays.asList(1, 2, 3);
+  private static final Set<String> STRING_SET = new HashSet<>(STRINGS);
+  private static final Set<Long> LONG_SET = new HashSet<>(Arrays.asList(1L, 2L, 3L));
+  private static final Map<String, Integer> COUNTS = new HashMap<>();
+  static {
+    COUNTS.put("a", 1);
+    COUNTS.put("b", 2);
+  }
+  private OptionalsCopy copySource;
+  private OptionalsCopy.Builder copyBuilder;
+  private OptionalsJackson jacksonInstance;
+  private OptionalsStreaming streamingInstance;
+  private String json;
+  @Setup
+  public void setup() throws IOException {
+    copySource = build_copy();
+    copyBuilder = new OptionalsCopy.Builder().from(copySource);
+    jacksonInstance = build_jackson();
+    streamingInstance = build_streaming();
+    json = MAPPER.writeValueAsString(jacksonInstance);
+  }
+  @Benchmark
+  public OptionalsPlain build_plain() {
+    return new OptionalsPlain.Builder()
+        .o0("o0")
+        .o1(42)
+        .o2(OptionalInt.of(42))
+        .o3(OptionalLong.of(42L))
+        .o4(OptionalDouble.of(4.2))
+        .build();
+  }
+  @Benchmark
+  public OptionalsJackson build_jackson() {
+    return new OptionalsJackson.Builder()
+        .o0("o0")
+        .o1(42)
+        .o2(OptionalInt.of(42))
+        .o3(OptionalLong.of(42L))
+        .o4(OptionalDouble.of(4.2))
+        .build();
+  }
+  @Benchmark
+  public OptionalsCopy build_copy() {
+    return new OptionalsCopy.Builder()
+        .o0("o0")
+        .o1(42)
+        .o2(OptionalInt.of(42))
+        .o3(OptionalLong.of(42L))
+        .o4(OptionalDouble.of(4.2))
+        .build();
+  }
+  @Benchmark
+  public OptionalsUnboxed build_unboxed() {
+    return new OptionalsUnboxed.Builder()
+        .o0("o0")
+        .o1(42)
+        .o2(OptionalInt.of(42))
+        .o3(OptionalLong.of(42L))
+        .o4(OptionalDouble.of(4.2))
+        .build();
+  }
+  @Benchmark
+  public OptionalsAdders build_adders() {
+    return new OptionalsAdders.Builder()
+        .o0("o0")
+        .o1(42)
+        .o2(OptionalInt.of(42))
+        .o3(OptionalLong.of(42L))
+        .o4(OptionalDouble.of(4.2))
+        .build();
+  }
+  @Benchmark
+  public OptionalsJdk build_jdk() {
+    return new OptionalsJdk.Builder()
+        .o0("o0")
+        .o1(42)
+        .o2(OptionalInt.of(42))
+        .o3(OptionalLong.of(42L))
+        .o4(OptionalDouble.of(4.2))
+        .build();
+  }
+  @Benchmark
+  public OptionalsFastutil build_fastutil() {
+    return new OptionalsFastutil.Builder()
+        .o0("o0")
+        .o1(42)
+        .o2(OptionalInt.of(42))
+        .o3(OptionalLong.of(42L))
+        .o4(OptionalDouble.of(4.2))
+        .build();
+  }
+  @Benchmark
+  public OptionalsUnwrapped build_unwrapped() {
+    return new OptionalsUnwrapped.Builder()
+        .o0("o0")
+        .o1(42)
+        .o2(42)
+        .o3(42L)
+        .o4(4.2)
+        .build();
+  }
+  @Benchmark
+  public OptionalsPooled build_pooled() {
+    return new OptionalsPooled.Builder()
+        .o0("o0")
+        .o1(42)
+        .o2(OptionalInt.of(42))
+        .o3(OptionalLong.of(42L))
+        .o4(OptionalDouble.of(4.2))
+        .build();
+  }
+  @Benchmark
+  public OptionalsStreaming build_streaming() {
+    return new OptionalsStreaming.Builder()
+        .o0("o0")
+        .o1(42)
+        .o2(OptionalInt.of(42))
+        .o3(OptionalLong.of(42L))
+        .o4(OptionalDouble.of(4.2))
+        .build();
+  }
+  @Benchmark
+  public OptionalsAdders addAll_adders() {
+    return new OptionalsAdders.Builder()
+        .o0("o0")
+        .o1(42)
+        .o2(OptionalInt.of(42))
+        .o3(OptionalLong.of(42L))
+        .o4(OptionalDouble.of(4.2))
+        .build();
+  }
+  @Benchmark
+  public OptionalsPooled pooledBuild_pooled() {
+    return OptionalsPooled.Builder.pooled()
+        .o0("o0")
+        .o1(42)
+        .o2(OptionalInt.of(42))
+        .o3(OptionalLong.of(42L))
+        .o4(OptionalDouble.of(4.2))
+        .build();
+  }
+  @Benchmark
+  public OptionalsCopy fromBuild_copy() {
+    return new OptionalsCopy.Builder().from(copySource).build();
+  }
+  @Benchmark
+  public OptionalsCopy.Builder copy_copy() {
+    return copyBuilder.copy();
+  }
+  @Benchmark
+  public String toJson_jackson() throws IOException {
+    return MAPPER.writeValueAsString(jacksonInstance);
+  }
+  @Benchmark
+  public OptionalsJackson fromJson_jackson() throws IOException {
+    return MAPPER.readValue(json, OptionalsJackson.class);
+  }
+  @Benchmark
+  public String toJson_streaming() throws IOException {
+    return MAPPER.writeValueAsString(streamingInstance);
+  }
+  @Benchmark
+  public OptionalsStreaming fromJson_streaming() throws IOException {
+    return MAPPER.readValue(json, OptionalsStreaming.class);
+  }
+}
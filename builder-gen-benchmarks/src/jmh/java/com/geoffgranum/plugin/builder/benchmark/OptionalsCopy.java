@@ -0,0 +1,67 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+public final class OptionalsCopy {
+  public final Optional<String> o0;
+  public final Optional<Integer> o1;
+  public final OptionalInt o2;
+  public final OptionalLong o3;
+  public final OptionalDouble o4;
+  private OptionalsCopy(Builder builder) { o0 = Optional.ofNullable(builder.o0);o1 = Optional.ofNullable(builder.o1);o2 = builder.o2;o3 = builder.o3;o4 = builder.o4; }
+  public static final class Builder {
+    private String o0;
+    private Integer o1;
+    private OptionalInt o2;
+    private OptionalLong o3;
+    private OptionalDouble o4;
+    public Builder o0(String o0){
+      this.o0 = o0;  return this;
+    }
+    public Builder o1(int o1){
+      this.o1 = o1;  return this;
+    }
+    public Builder o2(OptionalInt o2){
+      this.o2 = o2;  return this;
+    }
+    public Builder o3(OptionalLong o3){
+      this.o3 = o3;  return this;
+    }
+    public Builder o4(OptionalDouble o4){
+      this.o4 = o4;  return this;
+    }
+    public Builder(){}
+    public Builder from(com.geoffgranum.plugin.builder.benchmark.OptionalsCopy copy){
+      o0 = copy.o0.orElse(null);
+      o1 = copy.o1.orElse(null);
+      o2 = copy.o2;
+      o3 = copy.o3;
+      o4 = copy.o4;
+      return this;}
+    public Builder copy(){
+      Builder copy = new Builder();
+      copy.o0(this.o0);
+      copy.o1(this.o1);
+      copy.o2(this.o2);
+      copy.o3(this.o3);
+      copy.o4(this.o4);
+      return copy;}
+    public Builder reset(){
+      o0 = null;
+      o1 = null;
+      o2 = null;
+      o3 = null;
+      o4 = null;
+      return this;}
+    public com.geoffgranum.plugin.builder.benchmark.OptionalsCopy build() {
+      return new com.geoffgranum.plugin.builder.benchmark.OptionalsCopy(this);
+    }
+  }
+}
@@ -0,0 +1,205 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+@JsonDeserialize(using = OptionalsStreaming.Builder.Deserializer.class)
+@JsonSerialize(using = OptionalsStreaming.Builder.Serializer.class)
+public final class OptionalsStreaming {
+  public final Optional<String> o0;
+  public final Optional<Integer> o1;
+  public final OptionalInt o2;
+  public final OptionalLong o3;
+  public final OptionalDouble o4;
+  private OptionalsStreaming(Builder builder) { o0 = Optional.ofNullable(builder.o0);o1 = Optional.ofNullable(builder.o1);o2 = builder.o2;o3 = builder.o3;o4 = builder.o4; }
+  public static final class Builder {
+    @JsonProperty
+    private String o0;
+    @JsonProperty
+    private Integer o1;
+    @JsonProperty
+    private OptionalInt o2;
+    @JsonProperty
+    private OptionalLong o3;
+    @JsonProperty
+    private OptionalDouble o4;
+    public Builder o0(String o0){
+      this.o0 = o0;  return this;
+    }
+    public Builder o1(int o1){
+      this.o1 = o1;  return this;
+    }
+    public Builder o2(OptionalInt o2){
+      this.o2 = o2;  return this;
+    }
+    public Builder o3(OptionalLong o3){
+      this.o3 = o3;  return this;
+    }
+    public Builder o4(OptionalDouble o4){
+      this.o4 = o4;  return this;
+    }
+    public Builder(){}
+    public Builder reset(){
+      o0 = null;
+      o1 = null;
+      o2 = null;
+      o3 = null;
+      o4 = null;
+      return this;}
+    public com.geoffgranum.plugin.builder.benchmark.OptionalsStreaming build() {
+      return new com.geoffgranum.plugin.builder.benchmark.OptionalsStreaming(this);
+    }
+    public static final class Deserializer extends JsonDeserializer<com.geoffgranum.plugin.builder.benchmark.OptionalsStreaming> implements ResolvableDeserializer {
+      private JsonDeserializer<Object> o0Deserializer;
+      private JsonDeserializer<Object> o1Deserializer;
+      private JsonDeserializer<Object> o2Deserializer;
+      private JsonDeserializer<Object> o3Deserializer;
+      private JsonDeserializer<Object> o4Deserializer;
+      @Override
+      public void resolve(DeserializationContext context) throws JsonMappingException {
+        o0Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        o1Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        o2Deserializer = context.findRootValueDeserializer(context.constructType(OptionalInt.class));
+        o3Deserializer = context.findRootValueDeserializer(context.constructType(OptionalLong.class));
+        o4Deserializer = context.findRootValueDeserializer(context.constructType(OptionalDouble.class));
+      }
+      @Override
+      public boolean isCachable() {
+        return true;
+      }
+      @Override
+      public com.geoffgranum.plugin.builder.benchmark.OptionalsStreaming deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+          token = parser.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+          return (com.geoffgranum.plugin.builder.benchmark.OptionalsStreaming) context.handleUnexpectedToken(com.geoffgranum.plugin.builder.benchmark.OptionalsStreaming.class, parser);
+        }
+        Builder builder = new Builder();
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+          String name = parser.getCurrentName();
+          token = parser.nextToken();
+          if (!readProperty0(builder, name, token, parser, context)) {
+            context.handleUnknownProperty(parser, this, com.geoffgranum.plugin.builder.benchmark.OptionalsStreaming.class, name);
+          }
+        }
+        try {
+          return builder.build();
+        } catch (RuntimeException e) {
+          return (com.geoffgranum.plugin.builder.benchmark.OptionalsStreaming) context.handleInstantiationProblem(com.geoffgranum.plugin.builder.benchmark.OptionalsStreaming.class, builder, e);
+        }
+      }
+      private boolean readProperty0(Builder builder, String name, JsonToken token, JsonParser parser, DeserializationContext context) throws IOException {
+        switch (name) {
+          case "o0":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.o0 = parser.getText();
+          } else {
+            builder.o0 = (String) read(parser, context, o0Deserializer);
+          }
+          return true;
+          case "o1":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.o1 = parser.getIntValue();
+          } else {
+            builder.o1 = (Integer) read(parser, context, o1Deserializer);
+          }
+          return true;
+          case "o2":
+          builder.o2 = (OptionalInt) read(parser, context, o2Deserializer);
+          return true;
+          case "o3":
+          builder.o3 = (OptionalLong) read(parser, context, o3Deserializer);
+          return true;
+          case "o4":
+          builder.o4 = (OptionalDouble) read(parser, context, o4Deserializer);
+          return true;
+          default:
+          return false;
+        }
+      }
+      private static Object read(JsonParser parser, DeserializationContext context, JsonDeserializer<Object> deserializer) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL
+        ? deserializer.getNullValue(context)
+        : deserializer.deserialize(parser, context);
+      }
+    }
+    public static final class Serializer extends JsonSerializer<com.geoffgranum.plugin.builder.benchmark.OptionalsStreaming> {
+      private static final SerializedString O0 = new SerializedString("o0");
+      private static final SerializedString O1 = new SerializedString("o1");
+      private static final SerializedString O2 = new SerializedString("o2");
+      private static final SerializedString O3 = new SerializedString("o3");
+      private static final SerializedString O4 = new SerializedString("o4");
+      @Override
+      public Class<com.geoffgranum.plugin.builder.benchmark.OptionalsStreaming> handledType() {
+        return com.geoffgranum.plugin.builder.benchmark.OptionalsStreaming.class;
+      }
+      @Override
+      public void serialize(com.geoffgranum.plugin.builder.benchmark.OptionalsStreaming value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject();
+        writeProperties0(value, generator, provider);
+        generator.writeEndObject();
+      }
+      @Override
+      public void serializeWithType(com.geoffgranum.plugin.builder.benchmark.OptionalsStreaming value, JsonGenerator generator, SerializerProvider provider, TypeSerializer typeSerializer) throws IOException {
+        WritableTypeId typeId = typeSerializer.writeTypePrefix(generator, typeSerializer.typeId(value, JsonToken.START_OBJECT));
+        writeProperties0(value, generator, provider);
+        typeSerializer.writeTypeSuffix(generator, typeId);
+      }
+      private static void writeProperties0(com.geoffgranum.plugin.builder.benchmark.OptionalsStreaming value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeFieldName(O0);
+        if (value.o0 != null && value.o0.isPresent()) {
+          generator.writeString(value.o0.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(O1);
+        if (value.o1 != null && value.o1.isPresent()) {
+          generator.writeNumber(value.o1.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(O2);
+        if (value.o2 != null && value.o2.isPresent()) {
+          generator.writeNumber(value.o2.getAsInt());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(O3);
+        if (value.o3 != null && value.o3.isPresent()) {
+          generator.writeNumber(value.o3.getAsLong());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(O4);
+        if (value.o4 != null && value.o4.isPresent()) {
+          generator.writeNumber(value.o4.getAsDouble());
+        } else {
+          generator.writeNull();
+        }
+      }
+    }
+  }
+}
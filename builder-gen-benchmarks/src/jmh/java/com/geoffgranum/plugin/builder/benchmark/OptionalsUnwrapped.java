@@ -0,0 +1,88 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+public final class OptionalsUnwrapped {
+  private final String o0;
+  private final Integer o1;
+  private final int o2;
+  private final long o3;
+  private final double o4;
+  private final int optionalsPresent;
+  private OptionalsUnwrapped(Builder builder) { o0 = builder.o0;o1 = builder.o1;o2 = builder.o2;o3 = builder.o3;o4 = builder.o4;optionalsPresent = builder.optionalsSet; }
+  public Optional<String> o0() {
+    return Optional.ofNullable(o0);
+  }
+  public Optional<Integer> o1() {
+    return Optional.ofNullable(o1);
+  }
+  public OptionalInt o2() {
+    return (optionalsPresent & 0x1) != 0 ? OptionalInt.of(o2) : OptionalInt.empty();
+  }
+  public OptionalLong o3() {
+    return (optionalsPresent & 0x2) != 0 ? OptionalLong.of(o3) : OptionalLong.empty();
+  }
+  public OptionalDouble o4() {
+    return (optionalsPresent & 0x4) != 0 ? OptionalDouble.of(o4) : OptionalDouble.empty();
+  }
+  public static final class Builder {
+    private String o0;
+    private Integer o1;
+    private int o2;
+    private long o3;
+    private double o4;
+    private int optionalsSet;
+    public Builder o0(String o0){
+      this.o0 = o0;  return this;
+    }
+    public Builder o1(int o1){
+      this.o1 = o1;  return this;
+    }
+    public Builder o2(int o2){
+      this.o2 = o2;  optionalsSet |= 0x1;  return this;
+    }
+    public Builder o2(OptionalInt o2){
+      if (o2 != null && o2.isPresent()) {
+        return o2(o2.getAsInt());
+      }
+      this.o2 = 0;  optionalsSet &= ~0x1;  return this;
+    }
+    public Builder o3(long o3){
+      this.o3 = o3;  optionalsSet |= 0x2;  return this;
+    }
+    public Builder o3(OptionalLong o3){
+      if (o3 != null && o3.isPresent()) {
+        return o3(o3.getAsLong());
+      }
+      this.o3 = 0L;  optionalsSet &= ~0x2;  return this;
+    }
+    public Builder o4(double o4){
+      this.o4 = o4;  optionalsSet |= 0x4;  return this;
+    }
+    public Builder o4(OptionalDouble o4){
+      if (o4 != null && o4.isPresent()) {
+        return o4(o4.getAsDouble());
+      }
+      this.o4 = 0.0;  optionalsSet &= ~0x4;  return this;
+    }
+    public Builder(){}
+    public Builder reset(){
+      o0 = null;
+      o1 = null;
+      o2 = 0;
+      o3 = 0L;
+      o4 = 0.0;
+      optionalsSet = 0;
+      return this;}
+    public com.geoffgranum.plugin.builder.benchmark.OptionalsUnwrapped build() {
+      return new com.geoffgranum.plugin.builder.benchmark.OptionalsUnwrapped(this);
+    }
+  }
+}
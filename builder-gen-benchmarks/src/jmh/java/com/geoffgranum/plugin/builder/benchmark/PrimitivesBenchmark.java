@@ -0,0 +1,202 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * build(), from()+build(), copy(), toJson and fromJson for the Primitives fixtures, per option variant.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class PrimitivesBenchmark {
+  private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new Jdk8Module());
+  private static final List<String> STRINGS = Arrays.asList("a", "b", "c");
+  private static final List<Integer> INTEGERS = Arrays.asList(1, 2, 3);
+  private static final Set<String> STRING_SET = new HashSet<>(STRINGS);
+  private static final Set<Long> LONG_SET = new HashSet<>(Arrays.asList(1L, 2L, 3L));
+  private static final Map<String, Integer> COUNTS = new HashMap<>();
+  static {
+    COUNTS.put("a", 1);
+    COUNTS.put("b", 2);
+  }
+  private PrimitivesCopy copySource;
+  private PrimitivesCopy.Builder copyBuilder;
+  private PrimitivesJackson jacksonInstance;
+  private PrimitivesStreaming streamingInstance;
+  private String json;
+  @Setup
+  public void setup() throws IOException {
+    copySource = build_copy();
+    copyBuilder = new PrimitivesCopy.Builder().from(copySource);
+    jacksonInstance = build_jackson();
+    streamingInstance = build_streaming();
+    json = MAPPER.writeValueAsString(jacksonInstance);
+  }
+  @Benchmark
+  public PrimitivesPlain build_plain() {
+    return new PrimitivesPlain.Builder()
+        .p0(42)
+        .p1(42L)
+        .p2(4.2)
+        .p3(true)
+        .p4(4.2f)
+        .build();
+  }
+  @Benchmark
+  public PrimitivesJackson build_jackson() {
+    return new PrimitivesJackson.Builder()
+        .p0(42)
+        .p1(42L)
+        .p2(4.2)
+        .p3(true)
+        .p4(4.2f)
+        .build();
+  }
+  @Benchmark
+  public PrimitivesCopy build_copy() {
+    return new PrimitivesCopy.Builder()
+        .p0(42)
+        .p1(42L)
+        .p2(4.2)
+        .p3(true)
+        .p4(4.2f)
+        .build();
+  }
+  @Benchmark
+  public PrimitivesUnboxed build_unboxed() {
+    return new PrimitivesUnboxed.Builder()
+        .p0(42)
+        .p1(42L)
+        .p2(4.2)
+        .p3(true)
+        .p4(4.2f)
+        .build();
+  }
+  @Benchmark
+  public PrimitivesAdders build_adders() {
+    return new PrimitivesAdders.Builder()
+        .p0(42)
+        .p1(42L)
+        .p2(4.2)
+        .p3(true)
+        .p4(4.2f)
+        .build();
+  }
+  @Benchmark
+  public PrimitivesJdk build_jdk() {
+    return new PrimitivesJdk.Builder()
+        .p0(42)
+        .p1(42L)
+        .p2(4.2)
+        .p3(true)
+        .p4(4.2f)
+        .build();
+  }
+  @Benchmark
+  public PrimitivesFastutil build_fastutil() {
+    return new PrimitivesFastutil.Builder()
+        .p0(42)
+        .p1(42L)
+        .p2(4.2)
+        .p3(true)
+        .p4(4.2f)
+        .build();
+  }
+  @Benchmark
+  public PrimitivesUnwrapped build_unwrapped() {
+    return new PrimitivesUnwrapped.Builder()
+        .p0(42)
+        .p1(42L)
+        .p2(4.2)
+        .p3(true)
+        .p4(4.2f)
+        .build();
+  }
+  @Benchmark
+  public PrimitivesPooled build_pooled() {
+    return new PrimitivesPooled.Builder()
+        .p0(42)
+        .p1(42L)
+        .p2(4.2)
+        .p3(true)
+        .p4(4.2f)
+        .build();
+  }
+  @Benchmark
+  public PrimitivesStreaming build_streaming() {
+    return new PrimitivesStreaming.Builder()
+        .p0(42)
+        .p1(42L)
+        .p2(4.2)
+        .p3(true)
+        .p4(4.2f)
+        .build();
+  }
+  @Benchmark
+  public PrimitivesAdders addAll_adders() {
+    return new PrimitivesAdders.Builder()
+        .p0(42)
+        .p1(42L)
+        .p2(4.2)
+        .p3(true)
+        .p4(4.2f)
+        .build();
+  }
+  @Benchmark
+  public PrimitivesPooled pooledBuild_pooled() {
+    return PrimitivesPooled.Builder.pooled()
+        .p0(42)
+        .p1(42L)
+        .p2(4.2)
+        .p3(true)
+        .p4(4.2f)
+        .build();
+  }
+  @Benchmark
+  public PrimitivesCopy fromBuild_copy() {
+    return new PrimitivesCopy.Builder().from(copySource).build();
+  }
+  @Benchmark
+  public PrimitivesCopy.Builder copy_copy() {
+    return copyBuilder.copy();
+  }
+  @Benchmark
+  public String toJson_jackson() throws IOException {
+    return MAPPER.writeValueAsString(jacksonInstance);
+  }
+  @Benchmark
+  public PrimitivesJackson fromJson_jackson() throws IOException {
+    return MAPPER.readValue(json, PrimitivesJackson.class);
+  }
+  @Benchmark
+  public String toJson_streaming() throws IOException {
+    return MAPPER.writeValueAsString(streamingInstance);
+  }
+  @Benchmark
+  public PrimitivesStreaming fromJson_streaming() throws IOException {
+    return MAPPER.readValue(json, PrimitivesStreaming.class);
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+
+public final class PrimitivesFastutil {
+  public final int p0;
+  public final long p1;
+  public final double p2;
+  public final boolean p3;
+  public final float p4;
+  private PrimitivesFastutil(Builder builder) { p0 = builder.p0;p1 = builder.p1;p2 = builder.p2;p3 = builder.p3;p4 = builder.p4; }
+  public static final class Builder {
+    private Integer p0 = 0;
+    private Long p1 = 0L;
+    private Double p2 = 0.0;
+    private Boolean p3 = false;
+    private Float p4 = 0f;
+    public Builder p0(int p0){
+      this.p0 = p0;  return this;
+    }
+    public Builder p1(long p1){
+      this.p1 = p1;  return this;
+    }
+    public Builder p2(double p2){
+      this.p2 = p2;  return this;
+    }
+    public Builder p3(boolean p3){
+      this.p3 = p3;  return this;
+    }
+    public Builder p4(float p4){
+      this.p4 = p4;  return this;
+    }
+    public Builder(){}
+    public Builder reset(){
+      p0 = 0;
+      p1 = 0L;
+      p2 = 0.0;
+      p3 = false;
+      p4 = 0f;
+      return this;}
+    public com.geoffgranum.plugin.builder.benchmark.PrimitivesFastutil build() {
+      return new com.geoffgranum.plugin.builder.benchmark.PrimitivesFastutil(this);
+    }
+  }
+}
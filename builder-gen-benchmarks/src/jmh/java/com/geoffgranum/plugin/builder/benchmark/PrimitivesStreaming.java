@@ -0,0 +1,189 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import java.io.IOException;
+
+@JsonDeserialize(using = PrimitivesStreaming.Builder.Deserializer.class)
+@JsonSerialize(using = PrimitivesStreaming.Builder.Serializer.class)
+public final class PrimitivesStreaming {
+  public final int p0;
+  public final long p1;
+  public final double p2;
+  public final boolean p3;
+  public final float p4;
+  private PrimitivesStreaming(Builder builder) { p0 = builder.p0;p1 = builder.p1;p2 = builder.p2;p3 = builder.p3;p4 = builder.p4; }
+  public static final class Builder {
+    @JsonProperty
+    private Integer p0 = 0;
+    @JsonProperty
+    private Long p1 = 0L;
+    @JsonProperty
+    private Double p2 = 0.0;
+    @JsonProperty
+    private Boolean p3 = false;
+    @JsonProperty
+    private Float p4 = 0f;
+    public Builder p0(int p0){
+      this.p0 = p0;  return this;
+    }
+    public Builder p1(long p1){
+      this.p1 = p1;  return this;
+    }
+    public Builder p2(double p2){
+      this.p2 = p2;  return this;
+    }
+    public Builder p3(boolean p3){
+      this.p3 = p3;  return this;
+    }
+    public Builder p4(float p4){
+      this.p4 = p4;  return this;
+    }
+    public Builder(){}
+    public Builder reset(){
+      p0 = 0;
+      p1 = 0L;
+      p2 = 0.0;
+      p3 = false;
+      p4 = 0f;
+      return this;}
+    public com.geoffgranum.plugin.builder.benchmark.PrimitivesStreaming build() {
+      return new com.geoffgranum.plugin.builder.benchmark.PrimitivesStreaming(this);
+    }
+    public static final class Deserializer extends JsonDeserializer<com.geoffgranum.plugin.builder.benchmark.PrimitivesStreaming> implements ResolvableDeserializer {
+      private JsonDeserializer<Object> p0Deserializer;
+      private JsonDeserializer<Object> p1Deserializer;
+      private JsonDeserializer<Object> p2Deserializer;
+      private JsonDeserializer<Object> p3Deserializer;
+      private JsonDeserializer<Object> p4Deserializer;
+      @Override
+      public void resolve(DeserializationContext context) throws JsonMappingException {
+        p0Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        p1Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        p2Deserializer = context.findRootValueDeserializer(context.constructType(Double.class));
+        p3Deserializer = context.findRootValueDeserializer(context.constructType(Boolean.class));
+        p4Deserializer = context.findRootValueDeserializer(context.constructType(Float.class));
+      }
+      @Override
+      public boolean isCachable() {
+        return true;
+      }
+      @Override
+      public com.geoffgranum.plugin.builder.benchmark.PrimitivesStreaming deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+          token = parser.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+          return (com.geoffgranum.plugin.builder.benchmark.PrimitivesStreaming) context.handleUnexpectedToken(com.geoffgranum.plugin.builder.benchmark.PrimitivesStreaming.class, parser);
+        }
+        Builder builder = new Builder();
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+          String name = parser.getCurrentName();
+          token = parser.nextToken();
+          if (!readProperty0(builder, name, token, parser, context)) {
+            context.handleUnknownProperty(parser, this, com.geoffgranum.plugin.builder.benchmark.PrimitivesStreaming.class, name);
+          }
+        }
+        try {
+          return builder.build();
+        } catch (RuntimeException e) {
+          return (com.geoffgranum.plugin.builder.benchmark.PrimitivesStreaming) context.handleInstantiationProblem(com.geoffgranum.plugin.builder.benchmark.PrimitivesStreaming.class, builder, e);
+        }
+      }
+      private boolean readProperty0(Builder builder, String name, JsonToken token, JsonParser parser, DeserializationContext context) throws IOException {
+        switch (name) {
+          case "p0":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.p0 = parser.getIntValue();
+          } else {
+            builder.p0 = (Integer) read(parser, context, p0Deserializer);
+          }
+          return true;
+          case "p1":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.p1 = parser.getLongValue();
+          } else {
+            builder.p1 = (Long) read(parser, context, p1Deserializer);
+          }
+          return true;
+          case "p2":
+          if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            builder.p2 = parser.getDoubleValue();
+          } else {
+            builder.p2 = (Double) read(parser, context, p2Deserializer);
+          }
+          return true;
+          case "p3":
+          if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+            builder.p3 = token == JsonToken.VALUE_TRUE;
+          } else {
+            builder.p3 = (Boolean) read(parser, context, p3Deserializer);
+          }
+          return true;
+          case "p4":
+          builder.p4 = (Float) read(parser, context, p4Deserializer);
+          return true;
+          default:
+          return false;
+        }
+      }
+      private static Object read(JsonParser parser, DeserializationContext context, JsonDeserializer<Object> deserializer) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL
+        ? deserializer.getNullValue(context)
+        : deserializer.deserialize(parser, context);
+      }
+    }
+    public static final class Serializer extends JsonSerializer<com.geoffgranum.plugin.builder.benchmark.PrimitivesStreaming> {
+      private static final SerializedString P0 = new SerializedString("p0");
+      private static final SerializedString P1 = new SerializedString("p1");
+      private static final SerializedString P2 = new SerializedString("p2");
+      private static final SerializedString P3 = new SerializedString("p3");
+      private static final SerializedString P4 = new SerializedString("p4");
+      @Override
+      public Class<com.geoffgranum.plugin.builder.benchmark.PrimitivesStreaming> handledType() {
+        return com.geoffgranum.plugin.builder.benchmark.PrimitivesStreaming.class;
+      }
+      @Override
+      public void serialize(com.geoffgranum.plugin.builder.benchmark.PrimitivesStreaming value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject();
+        writeProperties0(value, generator, provider);
+        generator.writeEndObject();
+      }
+      @Override
+      public void serializeWithType(com.geoffgranum.plugin.builder.benchmark.PrimitivesStreaming value, JsonGenerator generator, SerializerProvider provider, TypeSerializer typeSerializer) throws IOException {
+        WritableTypeId typeId = typeSerializer.writeTypePrefix(generator, typeSerializer.typeId(value, JsonToken.START_OBJECT));
+        writeProperties0(value, generator, provider);
+        typeSerializer.writeTypeSuffix(generator, typeId);
+      }
+      private static void writeProperties0(com.geoffgranum.plugin.builder.benchmark.PrimitivesStreaming value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeFieldName(P0);
+        generator.writeNumber(value.p0);
+        generator.writeFieldName(P1);
+        generator.writeNumber(value.p1);
+        generator.writeFieldName(P2);
+        generator.writeNumber(value.p2);
+        generator.writeFieldName(P3);
+        generator.writeBoolean(value.p3);
+        generator.writeFieldName(P4);
+        generator.writeNumber(value.p4);
+      }
+    }
+  }
+}
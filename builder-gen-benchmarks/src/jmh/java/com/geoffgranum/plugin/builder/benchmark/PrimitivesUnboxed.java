@@ -0,0 +1,50 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+
+public final class PrimitivesUnboxed {
+  public final int p0;
+  public final long p1;
+  public final double p2;
+  public final boolean p3;
+  public final float p4;
+  private PrimitivesUnboxed(Builder builder) { p0 = builder.p0;p1 = builder.p1;p2 = builder.p2;p3 = builder.p3;p4 = builder.p4; }
+  public static final class Builder {
+    private int p0;
+    private long p1;
+    private double p2;
+    private boolean p3;
+    private float p4;
+    private int primitivesSet;
+    public Builder p0(int p0){
+      this.p0 = p0;  primitivesSet |= 0x1;  return this;
+    }
+    public Builder p1(long p1){
+      this.p1 = p1;  primitivesSet |= 0x2;  return this;
+    }
+    public Builder p2(double p2){
+      this.p2 = p2;  primitivesSet |= 0x4;  return this;
+    }
+    public Builder p3(boolean p3){
+      this.p3 = p3;  primitivesSet |= 0x8;  return this;
+    }
+    public Builder p4(float p4){
+      this.p4 = p4;  primitivesSet |= 0x10;  return this;
+    }
+    public Builder(){}
+    public Builder reset(){
+      p0 = 0;
+      p1 = 0L;
+      p2 = 0.0;
+      p3 = false;
+      p4 = 0f;
+      primitivesSet = 0;
+      return this;}
+    public com.geoffgranum.plugin.builder.benchmark.PrimitivesUnboxed build() {
+      return new com.geoffgranum.plugin.builder.benchmark.PrimitivesUnboxed(this);
+    }
+  }
+}
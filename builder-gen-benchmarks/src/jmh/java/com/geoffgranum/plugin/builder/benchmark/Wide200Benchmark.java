@@ -0,0 +1,2542 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * build(), from()+build(), copy(), toJson and fromJson for the Wide200 fixtures, per option variant.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class Wide200Benchmark {
+  private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new Jdk8Module());
+  private static final List<String> STRINGS = Arrays.asList("a", "b", "c");
+  private static final List<Integer> INTEGERS = Arrays.asList(1, 2, 3);
+  private static final Set<String> STRING_SET = new HashSet<>(STRINGS);
+  private static final Set<Long> LONG_SET = new HashSet<>(Arrays.asList(1L, 2L, 3L));
+  private static final Map<String, Integer> COUNTS = new HashMap<>();
+  static {
+    COUNTS.put("a", 1);
+    COUNTS.put("b", 2);
+  }
+  private Wide200Copy copySource;
+  private Wide200Copy.Builder copyBuilder;
+  private Wide200Jackson jacksonInstance;
+  private Wide200Streaming streamingInstance;
+  private String json;
+  @Setup
+  public void setup() throws IOException {
+    copySource = build_copy();
+    copyBuilder = new Wide200Copy.Builder().from(copySource);
+    jacksonInstance = build_jackson();
+    streamingInstance = build_streaming();
+    json = MAPPER.writeValueAsString(jacksonInstance);
+  }
+  @Benchmark
+  public Wide200Plain build_plain() {
+    return new Wide200Plain.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .f5("f5")
+        .f6(42)
+        .f7("f7")
+        .f8(STRINGS)
+        .f9(42L)
+        .f10("f10")
+        .f11(42)
+        .f12("f12")
+        .f13(STRINGS)
+        .f14(42L)
+        .f15("f15")
+        .f16(42)
+        .f17("f17")
+        .f18(STRINGS)
+        .f19(42L)
+        .f20("f20")
+        .f21(42)
+        .f22("f22")
+        .f23(STRINGS)
+        .f24(42L)
+        .f25("f25")
+        .f26(42)
+        .f27("f27")
+        .f28(STRINGS)
+        .f29(42L)
+        .f30("f30")
+        .f31(42)
+        .f32("f32")
+        .f33(STRINGS)
+        .f34(42L)
+        .f35("f35")
+        .f36(42)
+        .f37("f37")
+        .f38(STRINGS)
+        .f39(42L)
+        .f40("f40")
+        .f41(42)
+        .f42("f42")
+        .f43(STRINGS)
+        .f44(42L)
+        .f45("f45")
+        .f46(42)
+        .f47("f47")
+        .f48(STRINGS)
+        .f49(42L)
+        .f50("f50")
+        .f51(42)
+        .f52("f52")
+        .f53(STRINGS)
+        .f54(42L)
+        .f55("f55")
+        .f56(42)
+        .f57("f57")
+        .f58(STRINGS)
+        .f59(42L)
+        .f60("f60")
+        .f61(42)
+        .f62("f62")
+        .f63(STRINGS)
+        .f64(42L)
+        .f65("f65")
+        .f66(42)
+        .f67("f67")
+        .f68(STRINGS)
+        .f69(42L)
+        .f70("f70")
+        .f71(42)
+        .f72("f72")
+        .f73(STRINGS)
+        .f74(42L)
+        .f75("f75")
+        .f76(42)
+        .f77("f77")
+        .f78(STRINGS)
+        .f79(42L)
+        .f80("f80")
+        .f81(42)
+        .f82("f82")
+        .f83(STRINGS)
+        .f84(42L)
+        .f85("f85")
+        .f86(42)
+        .f87("f87")
+        .f88(STRINGS)
+        .f89(42L)
+        .f90("f90")
+        .f91(42)
+        .f92("f92")
+        .f93(STRINGS)
+        .f94(42L)
+        .f95("f95")
+        .f96(42)
+        .f97("f97")
+        .f98(STRINGS)
+        .f99(42L)
+        .f100("f100")
+        .f101(42)
+        .f102("f102")
+        .f103(STRINGS)
+        .f104(42L)
+        .f105("f105")
+        .f106(42)
+        .f107("f107")
+        .f108(STRINGS)
+        .f109(42L)
+        .f110("f110")
+        .f111(42)
+        .f112("f112")
+        .f113(STRINGS)
+        .f114(42L)
+        .f115("f115")
+        .f116(42)
+        .f117("f117")
+        .f118(STRINGS)
+        .f119(42L)
+        .f120("f120")
+        .f121(42)
+        .f122("f122")
+        .f123(STRINGS)
+        .f124(42L)
+        .f125("f125")
+        .f126(42)
+        .f127("f127")
+        .f128(STRINGS)
+        .f129(42L)
+        .f130("f130")
+        .f131(42)
+        .f132("f132")
+        .f133(STRINGS)
+        .f134(42L)
+        .f135("f135")
+        .f136(42)
+        .f137("f137")
+        .f138(STRINGS)
+        .f139(42L)
+        .f140("f140")
+        .f141(42)
+        .f142("f142")
+        .f143(STRINGS)
+        .f144(42L)
+        .f145("f145")
+        .f146(42)
+        .f147("f147")
+        .f148(STRINGS)
+        .f149(42L)
+        .f150("f150")
+        .f151(42)
+        .f152("f152")
+        .f153(STRINGS)
+        .f154(42L)
+        .f155("f155")
+        .f156(42)
+        .f157("f157")
+        .f158(STRINGS)
+        .f159(42L)
+        .f160("f160")
+        .f161(42)
+        .f162("f162")
+        .f163(STRINGS)
+        .f164(42L)
+        .f165("f165")
+        .f166(42)
+        .f167("f167")
+        .f168(STRINGS)
+        .f169(42L)
+        .f170("f170")
+        .f171(42)
+        .f172("f172")
+        .f173(STRINGS)
+        .f174(42L)
+        .f175("f175")
+        .f176(42)
+        .f177("f177")
+        .f178(STRINGS)
+        .f179(42L)
+        .f180("f180")
+        .f181(42)
+        .f182("f182")
+        .f183(STRINGS)
+        .f184(42L)
+        .f185("f185")
+        .f186(42)
+        .f187("f187")
+        .f188(STRINGS)
+        .f189(42L)
+        .f190("f190")
+        .f191(42)
+        .f192("f192")
+        .f193(STRINGS)
+        .f194(42L)
+        .f195("f195")
+        .f196(42)
+        .f197("f197")
+        .f198(STRINGS)
+        .f199(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide200Jackson build_jackson() {
+    return new Wide200Jackson.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .f5("f5")
+        .f6(42)
+        .f7("f7")
+        .f8(STRINGS)
+        .f9(42L)
+        .f10("f10")
+        .f11(42)
+        .f12("f12")
+        .f13(STRINGS)
+        .f14(42L)
+        .f15("f15")
+        .f16(42)
+        .f17("f17")
+        .f18(STRINGS)
+        .f19(42L)
+        .f20("f20")
+        .f21(42)
+        .f22("f22")
+        .f23(STRINGS)
+        .f24(42L)
+        .f25("f25")
+        .f26(42)
+        .f27("f27")
+        .f28(STRINGS)
+        .f29(42L)
+        .f30("f30")
+        .f31(42)
+        .f32("f32")
+        .f33(STRINGS)
+        .f34(42L)
+        .f35("f35")
+        .f36(42)
+        .f37("f37")
+        .f38(STRINGS)
+        .f39(42L)
+        .f40("f40")
+        .f41(42)
+        .f42("f42")
+        .f43(STRINGS)
+        .f44(42L)
+        .f45("f45")
+        .f46(42)
+        .f47("f47")
+        .f48(STRINGS)
+        .f49(42L)
+        .f50("f50")
+        .f51(42)
+        .f52("f52")
+        .f53(STRINGS)
+        .f54(42L)
+        .f55("f55")
+        .f56(42)
+        .f57("f57")
+        .f58(STRINGS)
+        .f59(42L)
+        .f60("f60")
+        .f61(42)
+        .f62("f62")
+        .f63(STRINGS)
+        .f64(42L)
+        .f65("f65")
+        .f66(42)
+        .f67("f67")
+        .f68(STRINGS)
+        .f69(42L)
+        .f70("f70")
+        .f71(42)
+        .f72("f72")
+        .f73(STRINGS)
+        .f74(42L)
+        .f75("f75")
+        .f76(42)
+        .f77("f77")
+        .f78(STRINGS)
+        .f79(42L)
+        .f80("f80")
+        .f81(42)
+        .f82("f82")
+        .f83(STRINGS)
+        .f84(42L)
+        .f85("f85")
+        .f86(42)
+        .f87("f87")
+        .f88(STRINGS)
+        .f89(42L)
+        .f90("f90")
+        .f91(42)
+        .f92("f92")
+        .f93(STRINGS)
+        .f94(42L)
+        .f95("f95")
+        .f96(42)
+        .f97("f97")
+        .f98(STRINGS)
+        .f99(42L)
+        .f100("f100")
+        .f101(42)
+        .f102("f102")
+        .f103(STRINGS)
+        .f104(42L)
+        .f105("f105")
+        .f106(42)
+        .f107("f107")
+        .f108(STRINGS)
+        .f109(42L)
+        .f110("f110")
+        .f111(42)
+        .f112("f112")
+        .f113(STRINGS)
+        .f114(42L)
+        .f115("f115")
+        .f116(42)
+        .f117("f117")
+        .f118(STRINGS)
+        .f119(42L)
+        .f120("f120")
+        .f121(42)
+        .f122("f122")
+        .f123(STRINGS)
+        .f124(42L)
+        .f125("f125")
+        .f126(42)
+        .f127("f127")
+        .f128(STRINGS)
+        .f129(42L)
+        .f130("f130")
+        .f131(42)
+        .f132("f132")
+        .f133(STRINGS)
+        .f134(42L)
+        .f135("f135")
+        .f136(42)
+        .f137("f137")
+        .f138(STRINGS)
+        .f139(42L)
+        .f140("f140")
+        .f141(42)
+        .f142("f142")
+        .f143(STRINGS)
+        .f144(42L)
+        .f145("f145")
+        .f146(42)
+        .f147("f147")
+        .f148(STRINGS)
+        .f149(42L)
+        .f150("f150")
+        .f151(42)
+        .f152("f152")
+        .f153(STRINGS)
+        .f154(42L)
+        .f155("f155")
+        .f156(42)
+        .f157("f157")
+        .f158(STRINGS)
+        .f159(42L)
+        .f160("f160")
+        .f161(42)
+        .f162("f162")
+        .f163(STRINGS)
+        .f164(42L)
+        .f165("f165")
+        .f166(42)
+        .f167("f167")
+        .f168(STRINGS)
+        .f169(42L)
+        .f170("f170")
+        .f171(42)
+        .f172("f172")
+        .f173(STRINGS)
+        .f174(42L)
+        .f175("f175")
+        .f176(42)
+        .f177("f177")
+        .f178(STRINGS)
+        .f179(42L)
+        .f180("f180")
+        .f181(42)
+        .f182("f182")
+        .f183(STRINGS)
+        .f184(42L)
+        .f185("f185")
+        .f186(42)
+        .f187("f187")
+        .f188(STRINGS)
+        .f189(42L)
+        .f190("f190")
+        .f191(42)
+        .f192("f192")
+        .f193(STRINGS)
+        .f194(42L)
+        .f195("f195")
+        .f196(42)
+        .f197("f197")
+        .f198(STRINGS)
+        .f199(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide200Copy build_copy() {
+    return new Wide200Copy.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .f5("f5")
+        .f6(42)
+        .f7("f7")
+        .f8(STRINGS)
+        .f9(42L)
+        .f10("f10")
+        .f11(42)
+        .f12("f12")
+        .f13(STRINGS)
+        .f14(42L)
+        .f15("f15")
+        .f16(42)
+        .f17("f17")
+        .f18(STRINGS)
+        .f19(42L)
+        .f20("f20")
+        .f21(42)
+        .f22("f22")
+        .f23(STRINGS)
+        .f24(42L)
+        .f25("f25")
+        .f26(42)
+        .f27("f27")
+        .f28(STRINGS)
+        .f29(42L)
+        .f30("f30")
+        .f31(42)
+        .f32("f32")
+        .f33(STRINGS)
+        .f34(42L)
+        .f35("f35")
+        .f36(42)
+        .f37("f37")
+        .f38(STRINGS)
+        .f39(42L)
+        .f40("f40")
+        .f41(42)
+        .f42("f42")
+        .f43(STRINGS)
+        .f44(42L)
+        .f45("f45")
+        .f46(42)
+        .f47("f47")
+        .f48(STRINGS)
+        .f49(42L)
+        .f50("f50")
+        .f51(42)
+        .f52("f52")
+        .f53(STRINGS)
+        .f54(42L)
+        .f55("f55")
+        .f56(42)
+        .f57("f57")
+        .f58(STRINGS)
+        .f59(42L)
+        .f60("f60")
+        .f61(42)
+        .f62("f62")
+        .f63(STRINGS)
+        .f64(42L)
+        .f65("f65")
+        .f66(42)
+        .f67("f67")
+        .f68(STRINGS)
+        .f69(42L)
+        .f70("f70")
+        .f71(42)
+        .f72("f72")
+        .f73(STRINGS)
+        .f74(42L)
+        .f75("f75")
+        .f76(42)
+        .f77("f77")
+        .f78(STRINGS)
+        .f79(42L)
+        .f80("f80")
+        .f81(42)
+        .f82("f82")
+        .f83(STRINGS)
+        .f84(42L)
+        .f85("f85")
+        .f86(42)
+        .f87("f87")
+        .f88(STRINGS)
+        .f89(42L)
+        .f90("f90")
+        .f91(42)
+        .f92("f92")
+        .f93(STRINGS)
+        .f94(42L)
+        .f95("f95")
+        .f96(42)
+        .f97("f97")
+        .f98(STRINGS)
+        .f99(42L)
+        .f100("f100")
+        .f101(42)
+        .f102("f102")
+        .f103(STRINGS)
+        .f104(42L)
+        .f105("f105")
+        .f106(42)
+        .f107("f107")
+        .f108(STRINGS)
+        .f109(42L)
+        .f110("f110")
+        .f111(42)
+        .f112("f112")
+        .f113(STRINGS)
+        .f114(42L)
+        .f115("f115")
+        .f116(42)
+        .f117("f117")
+        .f118(STRINGS)
+        .f119(42L)
+        .f120("f120")
+        .f121(42)
+        .f122("f122")
+        .f123(STRINGS)
+        .f124(42L)
+        .f125("f125")
+        .f126(42)
+        .f127("f127")
+        .f128(STRINGS)
+        .f129(42L)
+        .f130("f130")
+        .f131(42)
+        .f132("f132")
+        .f133(STRINGS)
+        .f134(42L)
+        .f135("f135")
+        .f136(42)
+        .f137("f137")
+        .f138(STRINGS)
+        .f139(42L)
+        .f140("f140")
+        .f141(42)
+        .f142("f142")
+        .f143(STRINGS)
+        .f144(42L)
+        .f145("f145")
+        .f146(42)
+        .f147("f147")
+        .f148(STRINGS)
+        .f149(42L)
+        .f150("f150")
+        .f151(42)
+        .f152("f152")
+        .f153(STRINGS)
+        .f154(42L)
+        .f155("f155")
+        .f156(42)
+        .f157("f157")
+        .f158(STRINGS)
+        .f159(42L)
+        .f160("f160")
+        .f161(42)
+        .f162("f162")
+        .f163(STRINGS)
+        .f164(42L)
+        .f165("f165")
+        .f166(42)
+        .f167("f167")
+        .f168(STRINGS)
+        .f169(42L)
+        .f170("f170")
+        .f171(42)
+        .f172("f172")
+        .f173(STRINGS)
+        .f174(42L)
+        .f175("f175")
+        .f176(42)
+        .f177("f177")
+        .f178(STRINGS)
+        .f179(42L)
+        .f180("f180")
+        .f181(42)
+        .f182("f182")
+        .f183(STRINGS)
+        .f184(42L)
+        .f185("f185")
+        .f186(42)
+        .f187("f187")
+        .f188(STRINGS)
+        .f189(42L)
+        .f190("f190")
+        .f191(42)
+        .f192("f192")
+        .f193(STRINGS)
+        .f194(42L)
+        .f195("f195")
+        .f196(42)
+        .f197("f197")
+        .f198(STRINGS)
+        .f199(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide200Unboxed build_unboxed() {
+    return new Wide200Unboxed.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .f5("f5")
+        .f6(42)
+        .f7("f7")
+        .f8(STRINGS)
+        .f9(42L)
+        .f10("f10")
+        .f11(42)
+        .f12("f12")
+        .f13(STRINGS)
+        .f14(42L)
+        .f15("f15")
+        .f16(42)
+        .f17("f17")
+        .f18(STRINGS)
+        .f19(42L)
+        .f20("f20")
+        .f21(42)
+        .f22("f22")
+        .f23(STRINGS)
+        .f24(42L)
+        .f25("f25")
+        .f26(42)
+        .f27("f27")
+        .f28(STRINGS)
+        .f29(42L)
+        .f30("f30")
+        .f31(42)
+        .f32("f32")
+        .f33(STRINGS)
+        .f34(42L)
+        .f35("f35")
+        .f36(42)
+        .f37("f37")
+        .f38(STRINGS)
+        .f39(42L)
+        .f40("f40")
+        .f41(42)
+        .f42("f42")
+        .f43(STRINGS)
+        .f44(42L)
+        .f45("f45")
+        .f46(42)
+        .f47("f47")
+        .f48(STRINGS)
+        .f49(42L)
+        .f50("f50")
+        .f51(42)
+        .f52("f52")
+        .f53(STRINGS)
+        .f54(42L)
+        .f55("f55")
+        .f56(42)
+        .f57("f57")
+        .f58(STRINGS)
+        .f59(42L)
+        .f60("f60")
+        .f61(42)
+        .f62("f62")
+        .f63(STRINGS)
+        .f64(42L)
+        .f65("f65")
+        .f66(42)
+        .f67("f67")
+        .f68(STRINGS)
+        .f69(42L)
+        .f70("f70")
+        .f71(42)
+        .f72("f72")
+        .f73(STRINGS)
+        .f74(42L)
+        .f75("f75")
+        .f76(42)
+        .f77("f77")
+        .f78(STRINGS)
+        .f79(42L)
+        .f80("f80")
+        .f81(42)
+        .f82("f82")
+        .f83(STRINGS)
+        .f84(42L)
+        .f85("f85")
+        .f86(42)
+        .f87("f87")
+        .f88(STRINGS)
+        .f89(42L)
+        .f90("f90")
+        .f91(42)
+        .f92("f92")
+        .f93(STRINGS)
+        .f94(42L)
+        .f95("f95")
+        .f96(42)
+        .f97("f97")
+        .f98(STRINGS)
+        .f99(42L)
+        .f100("f100")
+        .f101(42)
+        .f102("f102")
+        .f103(STRINGS)
+        .f104(42L)
+        .f105("f105")
+        .f106(42)
+        .f107("f107")
+        .f108(STRINGS)
+        .f109(42L)
+        .f110("f110")
+        .f111(42)
+        .f112("f112")
+        .f113(STRINGS)
+        .f114(42L)
+        .f115("f115")
+        .f116(42)
+        .f117("f117")
+        .f118(STRINGS)
+        .f119(42L)
+        .f120("f120")
+        .f121(42)
+        .f122("f122")
+        .f123(STRINGS)
+        .f124(42L)
+        .f125("f125")
+        .f126(42)
+        .f127("f127")
+        .f128(STRINGS)
+        .f129(42L)
+        .f130("f130")
+        .f131(42)
+        .f132("f132")
+        .f133(STRINGS)
+        .f134(42L)
+        .f135("f135")
+        .f136(42)
+        .f137("f137")
+        .f138(STRINGS)
+        .f139(42L)
+        .f140("f140")
+        .f141(42)
+        .f142("f142")
+        .f143(STRINGS)
+        .f144(42L)
+        .f145("f145")
+        .f146(42)
+        .f147("f147")
+        .f148(STRINGS)
+        .f149(42L)
+        .f150("f150")
+        .f151(42)
+        .f152("f152")
+        .f153(STRINGS)
+        .f154(42L)
+        .f155("f155")
+        .f156(42)
+        .f157("f157")
+        .f158(STRINGS)
+        .f159(42L)
+        .f160("f160")
+        .f161(42)
+        .f162("f162")
+        .f163(STRINGS)
+        .f164(42L)
+        .f165("f165")
+        .f166(42)
+        .f167("f167")
+        .f168(STRINGS)
+        .f169(42L)
+        .f170("f170")
+        .f171(42)
+        .f172("f172")
+        .f173(STRINGS)
+        .f174(42L)
+        .f175("f175")
+        .f176(42)
+        .f177("f177")
+        .f178(STRINGS)
+        .f179(42L)
+        .f180("f180")
+        .f181(42)
+        .f182("f182")
+        .f183(STRINGS)
+        .f184(42L)
+        .f185("f185")
+        .f186(42)
+        .f187("f187")
+        .f188(STRINGS)
+        .f189(42L)
+        .f190("f190")
+        .f191(42)
+        .f192("f192")
+        .f193(STRINGS)
+        .f194(42L)
+        .f195("f195")
+        .f196(42)
+        .f197("f197")
+        .f198(STRINGS)
+        .f199(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide200Adders build_adders() {
+    return new Wide200Adders.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .f5("f5")
+        .f6(42)
+        .f7("f7")
+        .f8(STRINGS)
+        .f9(42L)
+        .f10("f10")
+        .f11(42)
+        .f12("f12")
+        .f13(STRINGS)
+        .f14(42L)
+        .f15("f15")
+        .f16(42)
+        .f17("f17")
+        .f18(STRINGS)
+        .f19(42L)
+        .f20("f20")
+        .f21(42)
+        .f22("f22")
+        .f23(STRINGS)
+        .f24(42L)
+        .f25("f25")
+        .f26(42)
+        .f27("f27")
+        .f28(STRINGS)
+        .f29(42L)
+        .f30("f30")
+        .f31(42)
+        .f32("f32")
+        .f33(STRINGS)
+        .f34(42L)
+        .f35("f35")
+        .f36(42)
+        .f37("f37")
+        .f38(STRINGS)
+        .f39(42L)
+        .f40("f40")
+        .f41(42)
+        .f42("f42")
+        .f43(STRINGS)
+        .f44(42L)
+        .f45("f45")
+        .f46(42)
+        .f47("f47")
+        .f48(STRINGS)
+        .f49(42L)
+        .f50("f50")
+        .f51(42)
+        .f52("f52")
+        .f53(STRINGS)
+        .f54(42L)
+        .f55("f55")
+        .f56(42)
+        .f57("f57")
+        .f58(STRINGS)
+        .f59(42L)
+        .f60("f60")
+        .f61(42)
+        .f62("f62")
+        .f63(STRINGS)
+        .f64(42L)
+        .f65("f65")
+        .f66(42)
+        .f67("f67")
+        .f68(STRINGS)
+        .f69(42L)
+        .f70("f70")
+        .f71(42)
+        .f72("f72")
+        .f73(STRINGS)
+        .f74(42L)
+        .f75("f75")
+        .f76(42)
+        .f77("f77")
+        .f78(STRINGS)
+        .f79(42L)
+        .f80("f80")
+        .f81(42)
+        .f82("f82")
+        .f83(STRINGS)
+        .f84(42L)
+        .f85("f85")
+        .f86(42)
+        .f87("f87")
+        .f88(STRINGS)
+        .f89(42L)
+        .f90("f90")
+        .f91(42)
+        .f92("f92")
+        .f93(STRINGS)
+        .f94(42L)
+        .f95("f95")
+        .f96(42)
+        .f97("f97")
+        .f98(STRINGS)
+        .f99(42L)
+        .f100("f100")
+        .f101(42)
+        .f102("f102")
+        .f103(STRINGS)
+        .f104(42L)
+        .f105("f105")
+        .f106(42)
+        .f107("f107")
+        .f108(STRINGS)
+        .f109(42L)
+        .f110("f110")
+        .f111(42)
+        .f112("f112")
+        .f113(STRINGS)
+        .f114(42L)
+        .f115("f115")
+        .f116(42)
+        .f117("f117")
+        .f118(STRINGS)
+        .f119(42L)
+        .f120("f120")
+        .f121(42)
+        .f122("f122")
+        .f123(STRINGS)
+        .f124(42L)
+        .f125("f125")
+        .f126(42)
+        .f127("f127")
+        .f128(STRINGS)
+        .f129(42L)
+        .f130("f130")
+        .f131(42)
+        .f132("f132")
+        .f133(STRINGS)
+        .f134(42L)
+        .f135("f135")
+        .f136(42)
+        .f137("f137")
+        .f138(STRINGS)
+        .f139(42L)
+        .f140("f140")
+        .f141(42)
+        .f142("f142")
+        .f143(STRINGS)
+        .f144(42L)
+        .f145("f145")
+        .f146(42)
+        .f147("f147")
+        .f148(STRINGS)
+        .f149(42L)
+        .f150("f150")
+        .f151(42)
+        .f152("f152")
+        .f153(STRINGS)
+        .f154(42L)
+        .f155("f155")
+        .f156(42)
+        .f157("f157")
+        .f158(STRINGS)
+        .f159(42L)
+        .f160("f160")
+        .f161(42)
+        .f162("f162")
+        .f163(STRINGS)
+        .f164(42L)
+        .f165("f165")
+        .f166(42)
+        .f167("f167")
+        .f168(STRINGS)
+        .f169(42L)
+        .f170("f170")
+        .f171(42)
+        .f172("f172")
+        .f173(STRINGS)
+        .f174(42L)
+        .f175("f175")
+        .f176(42)
+        .f177("f177")
+        .f178(STRINGS)
+        .f179(42L)
+        .f180("f180")
+        .f181(42)
+        .f182("f182")
+        .f183(STRINGS)
+        .f184(42L)
+        .f185("f185")
+        .f186(42)
+        .f187("f187")
+        .f188(STRINGS)
+        .f189(42L)
+        .f190("f190")
+        .f191(42)
+        .f192("f192")
+        .f193(STRINGS)
+        .f194(42L)
+        .f195("f195")
+        .f196(42)
+        .f197("f197")
+        .f198(STRINGS)
+        .f199(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide200Jdk build_jdk() {
+    return new Wide200Jdk.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .f5("f5")
+        .f6(42)
+        .f7("f7")
+        .f8(STRINGS)
+        .f9(42L)
+        .f10("f10")
+        .f11(42)
+        .f12("f12")
+        .f13(STRINGS)
+        .f14(42L)
+        .f15("f15")
+        .f16(42)
+        .f17("f17")
+        .f18(STRINGS)
+        .f19(42L)
+        .f20("f20")
+        .f21(42)
+        .f22("f22")
+        .f23(STRINGS)
+        .f24(42L)
+        .f25("f25")
+        .f26(42)
+        .f27("f27")
+        .f28(STRINGS)
+        .f29(42L)
+        .f30("f30")
+        .f31(42)
+        .f32("f32")
+        .f33(STRINGS)
+        .f34(42L)
+        .f35("f35")
+        .f36(42)
+        .f37("f37")
+        .f38(STRINGS)
+        .f39(42L)
+        .f40("f40")
+        .f41(42)
+        .f42("f42")
+        .f43(STRINGS)
+        .f44(42L)
+        .f45("f45")
+        .f46(42)
+        .f47("f47")
+        .f48(STRINGS)
+        .f49(42L)
+        .f50("f50")
+        .f51(42)
+        .f52("f52")
+        .f53(STRINGS)
+        .f54(42L)
+        .f55("f55")
+        .f56(42)
+        .f57("f57")
+        .f58(STRINGS)
+        .f59(42L)
+        .f60("f60")
+        .f61(42)
+        .f62("f62")
+        .f63(STRINGS)
+        .f64(42L)
+        .f65("f65")
+        .f66(42)
+        .f67("f67")
+        .f68(STRINGS)
+        .f69(42L)
+        .f70("f70")
+        .f71(42)
+        .f72("f72")
+        .f73(STRINGS)
+        .f74(42L)
+        .f75("f75")
+        .f76(42)
+        .f77("f77")
+        .f78(STRINGS)
+        .f79(42L)
+        .f80("f80")
+        .f81(42)
+        .f82("f82")
+        .f83(STRINGS)
+        .f84(42L)
+        .f85("f85")
+        .f86(42)
+        .f87("f87")
+        .f88(STRINGS)
+        .f89(42L)
+        .f90("f90")
+        .f91(42)
+        .f92("f92")
+        .f93(STRINGS)
+        .f94(42L)
+        .f95("f95")
+        .f96(42)
+        .f97("f97")
+        .f98(STRINGS)
+        .f99(42L)
+        .f100("f100")
+        .f101(42)
+        .f102("f102")
+        .f103(STRINGS)
+        .f104(42L)
+        .f105("f105")
+        .f106(42)
+        .f107("f107")
+        .f108(STRINGS)
+        .f109(42L)
+        .f110("f110")
+        .f111(42)
+        .f112("f112")
+        .f113(STRINGS)
+        .f114(42L)
+        .f115("f115")
+        .f116(42)
+        .f117("f117")
+        .f118(STRINGS)
+        .f119(42L)
+        .f120("f120")
+        .f121(42)
+        .f122("f122")
+        .f123(STRINGS)
+        .f124(42L)
+        .f125("f125")
+        .f126(42)
+        .f127("f127")
+        .f128(STRINGS)
+        .f129(42L)
+        .f130("f130")
+        .f131(42)
+        .f132("f132")
+        .f133(STRINGS)
+        .f134(42L)
+        .f135("f135")
+        .f136(42)
+        .f137("f137")
+        .f138(STRINGS)
+        .f139(42L)
+        .f140("f140")
+        .f141(42)
+        .f142("f142")
+        .f143(STRINGS)
+        .f144(42L)
+        .f145("f145")
+        .f146(42)
+        .f147("f147")
+        .f148(STRINGS)
+        .f149(42L)
+        .f150("f150")
+        .f151(42)
+        .f152("f152")
+        .f153(STRINGS)
+        .f154(42L)
+        .f155("f155")
+        .f156(42)
+        .f157("f157")
+        .f158(STRINGS)
+        .f159(42L)
+        .f160("f160")
+        .f161(42)
+        .f162("f162")
+        .f163(STRINGS)
+        .f164(42L)
+        .f165("f165")
+        .f166(42)
+        .f167("f167")
+        .f168(STRINGS)
+        .f169(42L)
+        .f170("f170")
+        .f171(42)
+        .f172("f172")
+        .f173(STRINGS)
+        .f174(42L)
+        .f175("f175")
+        .f176(42)
+        .f177("f177")
+        .f178(STRINGS)
+        .f179(42L)
+        .f180("f180")
+        .f181(42)
+        .f182("f182")
+        .f183(STRINGS)
+        .f184(42L)
+        .f185("f185")
+        .f186(42)
+        .f187("f187")
+        .f188(STRINGS)
+        .f189(42L)
+        .f190("f190")
+        .f191(42)
+        .f192("f192")
+        .f193(STRINGS)
+        .f194(42L)
+        .f195("f195")
+        .f196(42)
+        .f197("f197")
+        .f198(STRINGS)
+        .f199(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide200Fastutil build_fastutil() {
+    return new Wide200Fastutil.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .f5("f5")
+        .f6(42)
+        .f7("f7")
+        .f8(STRINGS)
+        .f9(42L)
+        .f10("f10")
+        .f11(42)
+        .f12("f12")
+        .f13(STRINGS)
+        .f14(42L)
+        .f15("f15")
+        .f16(42)
+        .f17("f17")
+        .f18(STRINGS)
+        .f19(42L)
+        .f20("f20")
+        .f21(42)
+        .f22("f22")
+        .f23(STRINGS)
+        .f24(42L)
+        .f25("f25")
+        .f26(42)
+        .f27("f27")
+        .f28(STRINGS)
+        .f29(42L)
+        .f30("f30")
+        .f31(42)
+        .f32("f32")
+        .f33(STRINGS)
+        .f34(42L)
+        .f35("f35")
+        .f36(42)
+        .f37("f37")
+        .f38(STRINGS)
+        .f39(42L)
+        .f40("f40")
+        .f41(42)
+        .f42("f42")
+        .f43(STRINGS)
+        .f44(42L)
+        .f45("f45")
+        .f46(42)
+        .f47("f47")
+        .f48(STRINGS)
+        .f49(42L)
+        .f50("f50")
+        .f51(42)
+        .f52("f52")
+        .f53(STRINGS)
+        .f54(42L)
+        .f55("f55")
+        .f56(42)
+        .f57("f57")
+        .f58(STRINGS)
+        .f59(42L)
+        .f60("f60")
+        .f61(42)
+        .f62("f62")
+        .f63(STRINGS)
+        .f64(42L)
+        .f65("f65")
+        .f66(42)
+        .f67("f67")
+        .f68(STRINGS)
+        .f69(42L)
+        .f70("f70")
+        .f71(42)
+        .f72("f72")
+        .f73(STRINGS)
+        .f74(42L)
+        .f75("f75")
+        .f76(42)
+        .f77("f77")
+        .f78(STRINGS)
+        .f79(42L)
+        .f80("f80")
+        .f81(42)
+        .f82("f82")
+        .f83(STRINGS)
+        .f84(42L)
+        .f85("f85")
+        .f86(42)
+        .f87("f87")
+        .f88(STRINGS)
+        .f89(42L)
+        .f90("f90")
+        .f91(42)
+        .f92("f92")
+        .f93(STRINGS)
+        .f94(42L)
+        .f95("f95")
+        .f96(42)
+        .f97("f97")
+        .f98(STRINGS)
+        .f99(42L)
+        .f100("f100")
+        .f101(42)
+        .f102("f102")
+        .f103(STRINGS)
+        .f104(42L)
+        .f105("f105")
+        .f106(42)
+        .f107("f107")
+        .f108(STRINGS)
+        .f109(42L)
+        .f110("f110")
+        .f111(42)
+        .f112("f112")
+        .f113(STRINGS)
+        .f114(42L)
+        .f115("f115")
+        .f116(42)
+        .f117("f117")
+        .f118(STRINGS)
+        .f119(42L)
+        .f120("f120")
+        .f121(42)
+        .f122("f122")
+        .f123(STRINGS)
+        .f124(42L)
+        .f125("f125")
+        .f126(42)
+        .f127("f127")
+        .f128(STRINGS)
+        .f129(42L)
+        .f130("f130")
+        .f131(42)
+        .f132("f132")
+        .f133(STRINGS)
+        .f134(42L)
+        .f135("f135")
+        .f136(42)
+        .f137("f137")
+        .f138(STRINGS)
+        .f139(42L)
+        .f140("f140")
+        .f141(42)
+        .f142("f142")
+        .f143(STRINGS)
+        .f144(42L)
+        .f145("f145")
+        .f146(42)
+        .f147("f147")
+        .f148(STRINGS)
+        .f149(42L)
+        .f150("f150")
+        .f151(42)
+        .f152("f152")
+        .f153(STRINGS)
+        .f154(42L)
+        .f155("f155")
+        .f156(42)
+        .f157("f157")
+        .f158(STRINGS)
+        .f159(42L)
+        .f160("f160")
+        .f161(42)
+        .f162("f162")
+        .f163(STRINGS)
+        .f164(42L)
+        .f165("f165")
+        .f166(42)
+        .f167("f167")
+        .f168(STRINGS)
+        .f169(42L)
+        .f170("f170")
+        .f171(42)
+        .f172("f172")
+        .f173(STRINGS)
+        .f174(42L)
+        .f175("f175")
+        .f176(42)
+        .f177("f177")
+        .f178(STRINGS)
+        .f179(42L)
+        .f180("f180")
+        .f181(42)
+        .f182("f182")
+        .f183(STRINGS)
+        .f184(42L)
+        .f185("f185")
+        .f186(42)
+        .f187("f187")
+        .f188(STRINGS)
+        .f189(42L)
+        .f190("f190")
+        .f191(42)
+        .f192("f192")
+        .f193(STRINGS)
+        .f194(42L)
+        .f195("f195")
+        .f196(42)
+        .f197("f197")
+        .f198(STRINGS)
+        .f199(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide200Unwrapped build_unwrapped() {
+    return new Wide200Unwrapped.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .f5("f5")
+        .f6(42)
+        .f7("f7")
+        .f8(STRINGS)
+        .f9(42L)
+        .f10("f10")
+        .f11(42)
+        .f12("f12")
+        .f13(STRINGS)
+        .f14(42L)
+        .f15("f15")
+        .f16(42)
+        .f17("f17")
+        .f18(STRINGS)
+        .f19(42L)
+        .f20("f20")
+        .f21(42)
+        .f22("f22")
+        .f23(STRINGS)
+        .f24(42L)
+        .f25("f25")
+        .f26(42)
+        .f27("f27")
+        .f28(STRINGS)
+        .f29(42L)
+        .f30("f30")
+        .f31(42)
+        .f32("f32")
+        .f33(STRINGS)
+        .f34(42L)
+        .f35("f35")
+        .f36(42)
+        .f37("f37")
+        .f38(STRINGS)
+        .f39(42L)
+        .f40("f40")
+        .f41(42)
+        .f42("f42")
+        .f43(STRINGS)
+        .f44(42L)
+        .f45("f45")
+        .f46(42)
+        .f47("f47")
+        .f48(STRINGS)
+        .f49(42L)
+        .f50("f50")
+        .f51(42)
+        .f52("f52")
+        .f53(STRINGS)
+        .f54(42L)
+        .f55("f55")
+        .f56(42)
+        .f57("f57")
+        .f58(STRINGS)
+        .f59(42L)
+        .f60("f60")
+        .f61(42)
+        .f62("f62")
+        .f63(STRINGS)
+        .f64(42L)
+        .f65("f65")
+        .f66(42)
+        .f67("f67")
+        .f68(STRINGS)
+        .f69(42L)
+        .f70("f70")
+        .f71(42)
+        .f72("f72")
+        .f73(STRINGS)
+        .f74(42L)
+        .f75("f75")
+        .f76(42)
+        .f77("f77")
+        .f78(STRINGS)
+        .f79(42L)
+        .f80("f80")
+        .f81(42)
+        .f82("f82")
+        .f83(STRINGS)
+        .f84(42L)
+        .f85("f85")
+        .f86(42)
+        .f87("f87")
+        .f88(STRINGS)
+        .f89(42L)
+        .f90("f90")
+        .f91(42)
+        .f92("f92")
+        .f93(STRINGS)
+        .f94(42L)
+        .f95("f95")
+        .f96(42)
+        .f97("f97")
+        .f98(STRINGS)
+        .f99(42L)
+        .f100("f100")
+        .f101(42)
+        .f102("f102")
+        .f103(STRINGS)
+        .f104(42L)
+        .f105("f105")
+        .f106(42)
+        .f107("f107")
+        .f108(STRINGS)
+        .f109(42L)
+        .f110("f110")
+        .f111(42)
+        .f112("f112")
+        .f113(STRINGS)
+        .f114(42L)
+        .f115("f115")
+        .f116(42)
+        .f117("f117")
+        .f118(STRINGS)
+        .f119(42L)
+        .f120("f120")
+        .f121(42)
+        .f122("f122")
+        .f123(STRINGS)
+        .f124(42L)
+        .f125("f125")
+        .f126(42)
+        .f127("f127")
+        .f128(STRINGS)
+        .f129(42L)
+        .f130("f130")
+        .f131(42)
+        .f132("f132")
+        .f133(STRINGS)
+        .f134(42L)
+        .f135("f135")
+        .f136(42)
+        .f137("f137")
+        .f138(STRINGS)
+        .f139(42L)
+        .f140("f140")
+        .f141(42)
+        .f142("f142")
+        .f143(STRINGS)
+        .f144(42L)
+        .f145("f145")
+        .f146(42)
+        .f147("f147")
+        .f148(STRINGS)
+        .f149(42L)
+        .f150("f150")
+        .f151(42)
+        .f152("f152")
+        .f153(STRINGS)
+        .f154(42L)
+        .f155("f155")
+        .f156(42)
+        .f157("f157")
+        .f158(STRINGS)
+        .f159(42L)
+        .f160("f160")
+        .f161(42)
+        .f162("f162")
+        .f163(STRINGS)
+        .f164(42L)
+        .f165("f165")
+        .f166(42)
+        .f167("f167")
+        .f168(STRINGS)
+        .f169(42L)
+        .f170("f170")
+        .f171(42)
+        .f172("f172")
+        .f173(STRINGS)
+        .f174(42L)
+        .f175("f175")
+        .f176(42)
+        .f177("f177")
+        .f178(STRINGS)
+        .f179(42L)
+        .f180("f180")
+        .f181(42)
+        .f182("f182")
+        .f183(STRINGS)
+        .f184(42L)
+        .f185("f185")
+        .f186(42)
+        .f187("f187")
+        .f188(STRINGS)
+        .f189(42L)
+        .f190("f190")
+        .f191(42)
+        .f192("f192")
+        .f193(STRINGS)
+        .f194(42L)
+        .f195("f195")
+        .f196(42)
+        .f197("f197")
+        .f198(STRINGS)
+        .f199(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide200Pooled build_pooled() {
+    return new Wide200Pooled.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .f5("f5")
+        .f6(42)
+        .f7("f7")
+        .f8(STRINGS)
+        .f9(42L)
+        .f10("f10")
+        .f11(42)
+        .f12("f12")
+        .f13(STRINGS)
+        .f14(42L)
+        .f15("f15")
+        .f16(42)
+        .f17("f17")
+        .f18(STRINGS)
+        .f19(42L)
+        .f20("f20")
+        .f21(42)
+        .f22("f22")
+        .f23(STRINGS)
+        .f24(42L)
+        .f25("f25")
+        .f26(42)
+        .f27("f27")
+        .f28(STRINGS)
+        .f29(42L)
+        .f30("f30")
+        .f31(42)
+        .f32("f32")
+        .f33(STRINGS)
+        .f34(42L)
+        .f35("f35")
+        .f36(42)
+        .f37("f37")
+        .f38(STRINGS)
+        .f39(42L)
+        .f40("f40")
+        .f41(42)
+        .f42("f42")
+        .f43(STRINGS)
+        .f44(42L)
+        .f45("f45")
+        .f46(42)
+        .f47("f47")
+        .f48(STRINGS)
+        .f49(42L)
+        .f50("f50")
+        .f51(42)
+        .f52("f52")
+        .f53(STRINGS)
+        .f54(42L)
+        .f55("f55")
+        .f56(42)
+        .f57("f57")
+        .f58(STRINGS)
+        .f59(42L)
+        .f60("f60")
+        .f61(42)
+        .f62("f62")
+        .f63(STRINGS)
+        .f64(42L)
+        .f65("f65")
+        .f66(42)
+        .f67("f67")
+        .f68(STRINGS)
+        .f69(42L)
+        .f70("f70")
+        .f71(42)
+        .f72("f72")
+        .f73(STRINGS)
+        .f74(42L)
+        .f75("f75")
+        .f76(42)
+        .f77("f77")
+        .f78(STRINGS)
+        .f79(42L)
+        .f80("f80")
+        .f81(42)
+        .f82("f82")
+        .f83(STRINGS)
+        .f84(42L)
+        .f85("f85")
+        .f86(42)
+        .f87("f87")
+        .f88(STRINGS)
+        .f89(42L)
+        .f90("f90")
+        .f91(42)
+        .f92("f92")
+        .f93(STRINGS)
+        .f94(42L)
+        .f95("f95")
+        .f96(42)
+        .f97("f97")
+        .f98(STRINGS)
+        .f99(42L)
+        .f100("f100")
+        .f101(42)
+        .f102("f102")
+        .f103(STRINGS)
+        .f104(42L)
+        .f105("f105")
+        .f106(42)
+        .f107("f107")
+        .f108(STRINGS)
+        .f109(42L)
+        .f110("f110")
+        .f111(42)
+        .f112("f112")
+        .f113(STRINGS)
+        .f114(42L)
+        .f115("f115")
+        .f116(42)
+        .f117("f117")
+        .f118(STRINGS)
+        .f119(42L)
+        .f120("f120")
+        .f121(42)
+        .f122("f122")
+        .f123(STRINGS)
+        .f124(42L)
+        .f125("f125")
+        .f126(42)
+        .f127("f127")
+        .f128(STRINGS)
+        .f129(42L)
+        .f130("f130")
+        .f131(42)
+        .f132("f132")
+        .f133(STRINGS)
+        .f134(42L)
+        .f135("f135")
+        .f136(42)
+        .f137("f137")
+        .f138(STRINGS)
+        .f139(42L)
+        .f140("f140")
+        .f141(42)
+        .f142("f142")
+        .f143(STRINGS)
+        .f144(42L)
+        .f145("f145")
+        .f146(42)
+        .f147("f147")
+        .f148(STRINGS)
+        .f149(42L)
+        .f150("f150")
+        .f151(42)
+        .f152("f152")
+        .f153(STRINGS)
+        .f154(42L)
+        .f155("f155")
+        .f156(42)
+        .f157("f157")
+        .f158(STRINGS)
+        .f159(42L)
+        .f160("f160")
+        .f161(42)
+        .f162("f162")
+        .f163(STRINGS)
+        .f164(42L)
+        .f165("f165")
+        .f166(42)
+        .f167("f167")
+        .f168(STRINGS)
+        .f169(42L)
+        .f170("f170")
+        .f171(42)
+        .f172("f172")
+        .f173(STRINGS)
+        .f174(42L)
+        .f175("f175")
+        .f176(42)
+        .f177("f177")
+        .f178(STRINGS)
+        .f179(42L)
+        .f180("f180")
+        .f181(42)
+        .f182("f182")
+        .f183(STRINGS)
+        .f184(42L)
+        .f185("f185")
+        .f186(42)
+        .f187("f187")
+        .f188(STRINGS)
+        .f189(42L)
+        .f190("f190")
+        .f191(42)
+        .f192("f192")
+        .f193(STRINGS)
+        .f194(42L)
+        .f195("f195")
+        .f196(42)
+        .f197("f197")
+        .f198(STRINGS)
+        .f199(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide200Streaming build_streaming() {
+    return new Wide200Streaming.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .f5("f5")
+        .f6(42)
+        .f7("f7")
+        .f8(STRINGS)
+        .f9(42L)
+        .f10("f10")
+        .f11(42)
+        .f12("f12")
+        .f13(STRINGS)
+        .f14(42L)
+        .f15("f15")
+        .f16(42)
+        .f17("f17")
+        .f18(STRINGS)
+        .f19(42L)
+        .f20("f20")
+        .f21(42)
+        .f22("f22")
+        .f23(STRINGS)
+        .f24(42L)
+        .f25("f25")
+        .f26(42)
+        .f27("f27")
+        .f28(STRINGS)
+        .f29(42L)
+        .f30("f30")
+        .f31(42)
+        .f32("f32")
+        .f33(STRINGS)
+        .f34(42L)
+        .f35("f35")
+        .f36(42)
+        .f37("f37")
+        .f38(STRINGS)
+        .f39(42L)
+        .f40("f40")
+        .f41(42)
+        .f42("f42")
+        .f43(STRINGS)
+        .f44(42L)
+        .f45("f45")
+        .f46(42)
+        .f47("f47")
+        .f48(STRINGS)
+        .f49(42L)
+        .f50("f50")
+        .f51(42)
+        .f52("f52")
+        .f53(STRINGS)
+        .f54(42L)
+        .f55("f55")
+        .f56(42)
+        .f57("f57")
+        .f58(STRINGS)
+        .f59(42L)
+        .f60("f60")
+        .f61(42)
+        .f62("f62")
+        .f63(STRINGS)
+        .f64(42L)
+        .f65("f65")
+        .f66(42)
+        .f67("f67")
+        .f68(STRINGS)
+        .f69(42L)
+        .f70("f70")
+        .f71(42)
+        .f72("f72")
+        .f73(STRINGS)
+        .f74(42L)
+        .f75("f75")
+        .f76(42)
+        .f77("f77")
+        .f78(STRINGS)
+        .f79(42L)
+        .f80("f80")
+        .f81(42)
+        .f82("f82")
+        .f83(STRINGS)
+        .f84(42L)
+        .f85("f85")
+        .f86(42)
+        .f87("f87")
+        .f88(STRINGS)
+        .f89(42L)
+        .f90("f90")
+        .f91(42)
+        .f92("f92")
+        .f93(STRINGS)
+        .f94(42L)
+        .f95("f95")
+        .f96(42)
+        .f97("f97")
+        .f98(STRINGS)
+        .f99(42L)
+        .f100("f100")
+        .f101(42)
+        .f102("f102")
+        .f103(STRINGS)
+        .f104(42L)
+        .f105("f105")
+        .f106(42)
+        .f107("f107")
+        .f108(STRINGS)
+        .f109(42L)
+        .f110("f110")
+        .f111(42)
+        .f112("f112")
+        .f113(STRINGS)
+        .f114(42L)
+        .f115("f115")
+        .f116(42)
+        .f117("f117")
+        .f118(STRINGS)
+        .f119(42L)
+        .f120("f120")
+        .f121(42)
+        .f122("f122")
+        .f123(STRINGS)
+        .f124(42L)
+        .f125("f125")
+        .f126(42)
+        .f127("f127")
+        .f128(STRINGS)
+        .f129(42L)
+        .f130("f130")
+        .f131(42)
+        .f132("f132")
+        .f133(STRINGS)
+        .f134(42L)
+        .f135("f135")
+        .f136(42)
+        .f137("f137")
+        .f138(STRINGS)
+        .f139(42L)
+        .f140("f140")
+        .f141(42)
+        .f142("f142")
+        .f143(STRINGS)
+        .f144(42L)
+        .f145("f145")
+        .f146(42)
+        .f147("f147")
+        .f148(STRINGS)
+        .f149(42L)
+        .f150("f150")
+        .f151(42)
+        .f152("f152")
+        .f153(STRINGS)
+        .f154(42L)
+        .f155("f155")
+        .f156(42)
+        .f157("f157")
+        .f158(STRINGS)
+        .f159(42L)
+        .f160("f160")
+        .f161(42)
+        .f162("f162")
+        .f163(STRINGS)
+        .f164(42L)
+        .f165("f165")
+        .f166(42)
+        .f167("f167")
+        .f168(STRINGS)
+        .f169(42L)
+        .f170("f170")
+        .f171(42)
+        .f172("f172")
+        .f173(STRINGS)
+        .f174(42L)
+        .f175("f175")
+        .f176(42)
+        .f177("f177")
+        .f178(STRINGS)
+        .f179(42L)
+        .f180("f180")
+        .f181(42)
+        .f182("f182")
+        .f183(STRINGS)
+        .f184(42L)
+        .f185("f185")
+        .f186(42)
+        .f187("f187")
+        .f188(STRINGS)
+        .f189(42L)
+        .f190("f190")
+        .f191(42)
+        .f192("f192")
+        .f193(STRINGS)
+        .f194(42L)
+        .f195("f195")
+        .f196(42)
+        .f197("f197")
+        .f198(STRINGS)
+        .f199(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide200Adders addAll_adders() {
+    return new Wide200Adders.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .addAllF3(STRINGS)
+        .f4(42L)
+        .f5("f5")
+        .f6(42)
+        .f7("f7")
+        .addAllF8(STRINGS)
+        .f9(42L)
+        .f10("f10")
+        .f11(42)
+        .f12("f12")
+        .addAllF13(STRINGS)
+        .f14(42L)
+        .f15("f15")
+        .f16(42)
+        .f17("f17")
+        .addAllF18(STRINGS)
+        .f19(42L)
+        .f20("f20")
+        .f21(42)
+        .f22("f22")
+        .addAllF23(STRINGS)
+        .f24(42L)
+        .f25("f25")
+        .f26(42)
+        .f27("f27")
+        .addAllF28(STRINGS)
+        .f29(42L)
+        .f30("f30")
+        .f31(42)
+        .f32("f32")
+        .addAllF33(STRINGS)
+        .f34(42L)
+        .f35("f35")
+        .f36(42)
+        .f37("f37")
+        .addAllF38(STRINGS)
+        .f39(42L)
+        .f40("f40")
+        .f41(42)
+        .f42("f42")
+        .addAllF43(STRINGS)
+        .f44(42L)
+        .f45("f45")
+        .f46(42)
+        .f47("f47")
+        .addAllF48(STRINGS)
+        .f49(42L)
+        .f50("f50")
+        .f51(42)
+        .f52("f52")
+        .addAllF53(STRINGS)
+        .f54(42L)
+        .f55("f55")
+        .f56(42)
+        .f57("f57")
+        .addAllF58(STRINGS)
+        .f59(42L)
+        .f60("f60")
+        .f61(42)
+        .f62("f62")
+        .addAllF63(STRINGS)
+        .f64(42L)
+        .f65("f65")
+        .f66(42)
+        .f67("f67")
+        .addAllF68(STRINGS)
+        .f69(42L)
+        .f70("f70")
+        .f71(42)
+        .f72("f72")
+        .addAllF73(STRINGS)
+        .f74(42L)
+        .f75("f75")
+        .f76(42)
+        .f77("f77")
+        .addAllF78(STRINGS)
+        .f79(42L)
+        .f80("f80")
+        .f81(42)
+        .f82("f82")
+        .addAllF83(STRINGS)
+        .f84(42L)
+        .f85("f85")
+        .f86(42)
+        .f87("f87")
+        .addAllF88(STRINGS)
+        .f89(42L)
+        .f90("f90")
+        .f91(42)
+        .f92("f92")
+        .addAllF93(STRINGS)
+        .f94(42L)
+        .f95("f95")
+        .f96(42)
+        .f97("f97")
+        .addAllF98(STRINGS)
+        .f99(42L)
+        .f100("f100")
+        .f101(42)
+        .f102("f102")
+        .addAllF103(STRINGS)
+        .f104(42L)
+        .f105("f105")
+        .f106(42)
+        .f107("f107")
+        .addAllF108(STRINGS)
+        .f109(42L)
+        .f110("f110")
+        .f111(42)
+        .f112("f112")
+        .addAllF113(STRINGS)
+        .f114(42L)
+        .f115("f115")
+        .f116(42)
+        .f117("f117")
+        .addAllF118(STRINGS)
+        .f119(42L)
+        .f120("f120")
+        .f121(42)
+        .f122("f122")
+        .addAllF123(STRINGS)
+        .f124(42L)
+        .f125("f125")
+        .f126(42)
+        .f127("f127")
+        .addAllF128(STRINGS)
+        .f129(42L)
+        .f130("f130")
+        .f131(42)
+        .f132("f132")
+        .addAllF133(STRINGS)
+        .f134(42L)
+        .f135("f135")
+        .f136(42)
+        .f137("f137")
+        .addAllF138(STRINGS)
+        .f139(42L)
+        .f140("f140")
+        .f141(42)
+        .f142("f142")
+        .addAllF143(STRINGS)
+        .f144(42L)
+        .f145("f145")
+        .f146(42)
+        .f147("f147")
+        .addAllF148(STRINGS)
+        .f149(42L)
+        .f150("f150")
+        .f151(42)
+        .f152("f152")
+        .addAllF153(STRINGS)
+        .f154(42L)
+        .f155("f155")
+        .f156(42)
+        .f157("f157")
+        .addAllF158(STRINGS)
+        .f159(42L)
+        .f160("f160")
+        .f161(42)
+        .f162("f162")
+        .addAllF163(STRINGS)
+        .f164(42L)
+        .f165("f165")
+        .f166(42)
+        .f167("f167")
+        .addAllF168(STRINGS)
+        .f169(42L)
+        .f170("f170")
+        .f171(42)
+        .f172("f172")
+        .addAllF173(STRINGS)
+        .f174(42L)
+        .f175("f175")
+        .f176(42)
+        .f177("f177")
+        .addAllF178(STRINGS)
+        .f179(42L)
+        .f180("f180")
+        .f181(42)
+        .f182("f182")
+        .addAllF183(STRINGS)
+        .f184(42L)
+        .f185("f185")
+        .f186(42)
+        .f187("f187")
+        .addAllF188(STRINGS)
+        .f189(42L)
+        .f190("f190")
+        .f191(42)
+        .f192("f192")
+        .addAllF193(STRINGS)
+        .f194(42L)
+        .f195("f195")
+        .f196(42)
+        .f197("f197")
+        .addAllF198(STRINGS)
+        .f199(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide200Pooled pooledBuild_pooled() {
+    return Wide200Pooled.Builder.pooled()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .f5("f5")
+        .f6(42)
+        .f7("f7")
+        .f8(STRINGS)
+        .f9(42L)
+        .f10("f10")
+        .f11(42)
+        .f12("f12")
+        .f13(STRINGS)
+        .f14(42L)
+        .f15("f15")
+        .f16(42)
+        .f17("f17")
+        .f18(STRINGS)
+        .f19(42L)
+        .f20("f20")
+        .f21(42)
+        .f22("f22")
+        .f23(STRINGS)
+        .f24(42L)
+        .f25("f25")
+        .f26(42)
+        .f27("f27")
+        .f28(STRINGS)
+        .f29(42L)
+        .f30("f30")
+        .f31(42)
+        .f32("f32")
+        .f33(STRINGS)
+        .f34(42L)
+        .f35("f35")
+        .f36(42)
+        .f37("f37")
+        .f38(STRINGS)
+        .f39(42L)
+        .f40("f40")
+        .f41(42)
+        .f42("f42")
+        .f43(STRINGS)
+        .f44(42L)
+        .f45("f45")
+        .f46(42)
+        .f47("f47")
+        .f48(STRINGS)
+        .f49(42L)
+        .f50("f50")
+        .f51(42)
+        .f52("f52")
+        .f53(STRINGS)
+        .f54(42L)
+        .f55("f55")
+        .f56(42)
+        .f57("f57")
+        .f58(STRINGS)
+        .f59(42L)
+        .f60("f60")
+        .f61(42)
+        .f62("f62")
+        .f63(STRINGS)
+        .f64(42L)
+        .f65("f65")
+        .f66(42)
+        .f67("f67")
+        .f68(STRINGS)
+        .f69(42L)
+        .f70("f70")
+        .f71(42)
+        .f72("f72")
+        .f73(STRINGS)
+        .f74(42L)
+        .f75("f75")
+        .f76(42)
+        .f77("f77")
+        .f78(STRINGS)
+        .f79(42L)
+        .f80("f80")
+        .f81(42)
+        .f82("f82")
+        .f83(STRINGS)
+        .f84(42L)
+        .f85("f85")
+        .f86(42)
+        .f87("f87")
+        .f88(STRINGS)
+        .f89(42L)
+        .f90("f90")
+        .f91(42)
+        .f92("f92")
+        .f93(STRINGS)
+        .f94(42L)
+        .f95("f95")
+        .f96(42)
+        .f97("f97")
+        .f98(STRINGS)
+        .f99(42L)
+        .f100("f100")
+        .f101(42)
+        .f102("f102")
+        .f103(STRINGS)
+        .f104(42L)
+        .f105("f105")
+        .f106(42)
+        .f107("f107")
+        .f108(STRINGS)
+        .f109(42L)
+        .f110("f110")
+        .f111(42)
+        .f112("f112")
+        .f113(STRINGS)
+        .f114(42L)
+        .f115("f115")
+        .f116(42)
+        .f117("f117")
+        .f118(STRINGS)
+        .f119(42L)
+        .f120("f120")
+        .f121(42)
+        .f122("f122")
+        .f123(STRINGS)
+        .f124(42L)
+        .f125("f125")
+        .f126(42)
+        .f127("f127")
+        .f128(STRINGS)
+        .f129(42L)
+        .f130("f130")
+        .f131(42)
+        .f132("f132")
+        .f133(STRINGS)
+        .f134(42L)
+        .f135("f135")
+        .f136(42)
+        .f137("f137")
+        .f138(STRINGS)
+        .f139(42L)
+        .f140("f140")
+        .f141(42)
+        .f142("f142")
+        .f143(STRINGS)
+        .f144(42L)
+        .f145("f145")
+        .f146(42)
+        .f147("f147")
+        .f148(STRINGS)
+        .f149(42L)
+        .f150("f150")
+        .f151(42)
+        .f152("f152")
+        .f153(STRINGS)
+        .f154(42L)
+        .f155("f155")
+        .f156(42)
+        .f157("f157")
+        .f158(STRINGS)
+        .f159(42L)
+        .f160("f160")
+        .f161(42)
+        .f162("f162")
+        .f163(STRINGS)
+        .f164(42L)
+        .f165("f165")
+        .f166(42)
+        .f167("f167")
+        .f168(STRINGS)
+        .f169(42L)
+        .f170("f170")
+        .f171(42)
+        .f172("f172")
+        .f173(STRINGS)
+        .f174(42L)
+        .f175("f175")
+        .f176(42)
+        .f177("f177")
+        .f178(STRINGS)
+        .f179(42L)
+        .f180("f180")
+        .f181(42)
+        .f182("f182")
+        .f183(STRINGS)
+        .f184(42L)
+        .f185("f185")
+        .f186(42)
+        .f187("f187")
+        .f188(STRINGS)
+        .f189(42L)
+        .f190("f190")
+        .f191(42)
+        .f192("f192")
+        .f193(STRINGS)
+        .f194(42L)
+        .f195("f195")
+        .f196(42)
+        .f197("f197")
+        .f198(STRINGS)
+        .f199(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide200Copy fromBuild_copy() {
+    return new Wide200Copy.Builder().from(copySource).build();
+  }
+  @Benchmark
+  public Wide200Copy.Builder copy_copy() {
+    return copyBuilder.copy();
+  }
+  @Benchmark
+  public String toJson_jackson() throws IOException {
+    return MAPPER.writeValueAsString(jacksonInstance);
+  }
+  @Benchmark
+  public Wide200Jackson fromJson_jackson() throws IOException {
+    return MAPPER.readValue(json, Wide200Jackson.class);
+  }
+  @Benchmark
+  public String toJson_streaming() throws IOException {
+    return MAPPER.writeValueAsString(streamingInstance);
+  }
+  @Benchmark
+  public Wide200Streaming fromJson_streaming() throws IOException {
+    return MAPPER.readValue(json, Wide200Streaming.class);
+  }
+}
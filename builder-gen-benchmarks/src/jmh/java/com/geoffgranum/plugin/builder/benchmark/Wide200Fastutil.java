@@ -0,0 +1,1222 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+public final class Wide200Fastutil {
+  public final String f0;
+  public final int f1;
+  public final Optional<String> f2;
+  public final List<String> f3;
+  public final long f4;
+  public final String f5;
+  public final int f6;
+  public final Optional<String> f7;
+  public final List<String> f8;
+  public final long f9;
+  public final String f10;
+  public final int f11;
+  public final Optional<String> f12;
+  public final List<String> f13;
+  public final long f14;
+  public final String f15;
+  public final int f16;
+  public final Optional<String> f17;
+  public final List<String> f18;
+  public final long f19;
+  public final String f20;
+  public final int f21;
+  public final Optional<String> f22;
+  public final List<String> f23;
+  public final long f24;
+  public final String f25;
+  public final int f26;
+  public final Optional<String> f27;
+  public final List<String> f28;
+  public final long f29;
+  public final String f30;
+  public final int f31;
+  public final Optional<String> f32;
+  public final List<String> f33;
+  public final long f34;
+  public final String f35;
+  public final int f36;
+  public final Optional<String> f37;
+  public final List<String> f38;
+  public final long f39;
+  public final String f40;
+  public final int f41;
+  public final Optional<String> f42;
+  public final List<String> f43;
+  public final long f44;
+  public final String f45;
+  public final int f46;
+  public final Optional<String> f47;
+  public final List<String> f48;
+  public final long f49;
+  public final String f50;
+  public final int f51;
+  public final Optional<String> f52;
+  public final List<String> f53;
+  public final long f54;
+  public final String f55;
+  public final int f56;
+  public final Optional<String> f57;
+  public final List<String> f58;
+  public final long f59;
+  public final String f60;
+  public final int f61;
+  public final Optional<String> f62;
+  public final List<String> f63;
+  public final long f64;
+  public final String f65;
+  public final int f66;
+  public final Optional<String> f67;
+  public final List<String> f68;
+  public final long f69;
+  public final String f70;
+  public final int f71;
+  public final Optional<String> f72;
+  public final List<String> f73;
+  public final long f74;
+  public final String f75;
+  public final int f76;
+  public final Optional<String> f77;
+  public final List<String> f78;
+  public final long f79;
+  public final String f80;
+  public final int f81;
+  public final Optional<String> f82;
+  public final List<String> f83;
+  public final long f84;
+  public final String f85;
+  public final int f86;
+  public final Optional<String> f87;
+  public final List<String> f88;
+  public final long f89;
+  public final String f90;
+  public final int f91;
+  public final Optional<String> f92;
+  public final List<String> f93;
+  public final long f94;
+  public final String f95;
+  public final int f96;
+  public final Optional<String> f97;
+  public final List<String> f98;
+  public final long f99;
+  public final String f100;
+  public final int f101;
+  public final Optional<String> f102;
+  public final List<String> f103;
+  public final long f104;
+  public final String f105;
+  public final int f106;
+  public final Optional<String> f107;
+  public final List<String> f108;
+  public final long f109;
+  public final String f110;
+  public final int f111;
+  public final Optional<String> f112;
+  public final List<String> f113;
+  public final long f114;
+  public final String f115;
+  public final int f116;
+  public final Optional<String> f117;
+  public final List<String> f118;
+  public final long f119;
+  public final String f120;
+  public final int f121;
+  public final Optional<String> f122;
+  public final List<String> f123;
+  public final long f124;
+  public final String f125;
+  public final int f126;
+  public final Optional<String> f127;
+  public final List<String> f128;
+  public final long f129;
+  public final String f130;
+  public final int f131;
+  public final Optional<String> f132;
+  public final List<String> f133;
+  public final long f134;
+  public final String f135;
+  public final int f136;
+  public final Optional<String> f137;
+  public final List<String> f138;
+  public final long f139;
+  public final String f140;
+  public final int f141;
+  public final Optional<String> f142;
+  public final List<String> f143;
+  public final long f144;
+  public final String f145;
+  public final int f146;
+  public final Optional<String> f147;
+  public final List<String> f148;
+  public final long f149;
+  public final String f150;
+  public final int f151;
+  public final Optional<String> f152;
+  public final List<String> f153;
+  public final long f154;
+  public final String f155;
+  public final int f156;
+  public final Optional<String> f157;
+  public final List<String> f158;
+  public final long f159;
+  public final String f160;
+  public final int f161;
+  public final Optional<String> f162;
+  public final List<String> f163;
+  public final long f164;
+  public final String f165;
+  public final int f166;
+  public final Optional<String> f167;
+  public final List<String> f168;
+  public final long f169;
+  public final String f170;
+  public final int f171;
+  public final Optional<String> f172;
+  public final List<String> f173;
+  public final long f174;
+  public final String f175;
+  public final int f176;
+  public final Optional<String> f177;
+  public final List<String> f178;
+  public final long f179;
+  public final String f180;
+  public final int f181;
+  public final Optional<String> f182;
+  public final List<String> f183;
+  public final long f184;
+  public final String f185;
+  public final int f186;
+  public final Optional<String> f187;
+  public final List<String> f188;
+  public final long f189;
+  public final String f190;
+  public final int f191;
+  public final Optional<String> f192;
+  public final List<String> f193;
+  public final long f194;
+  public final String f195;
+  public final int f196;
+  public final Optional<String> f197;
+  public final List<String> f198;
+  public final long f199;
+  private Wide200Fastutil(Builder builder) { f0 = builder.f0;f1 = builder.f1;f2 = Optional.ofNullable(builder.f2);f3 = ImmutableList.copyOf(builder.f3);f4 = builder.f4;f5 = builder.f5;f6 = builder.f6;f7 = Optional.ofNullable(builder.f7);f8 = ImmutableList.copyOf(builder.f8);f9 = builder.f9;f10 = builder.f10;f11 = builder.f11;f12 = Optional.ofNullable(builder.f12);f13 = ImmutableList.copyOf(builder.f13);f14 = builder.f14;f15 = builder.f15;f16 = builder.f16;f17 = Optional.ofNullable(builder.f17);f18 = ImmutableList.copyOf(builder.f18);f19 = builder.f19;f20 = builder.f20;f21 = builder.f21;f22 = Optional.ofNullable(builder.f22);f23 = ImmutableList.copyOf(builder.f23);f24 = builder.f24;f25 = builder.f25;f26 = builder.f26;f27 = Optional.ofNullable(builder.f27);f28 = ImmutableList.copyOf(builder.f28);f29 = builder.f29;f30 = builder.f30;f31 = builder.f31;f32 = Optional.ofNullable(builder.f32);f33 = ImmutableList.copyOf(builder.f33);f34 = builder.f34;f35 = builder.f35;f36 = builder.f36;f37 = Optional.ofNullable(builder.f37);f38 = ImmutableList.copyOf(builder.f38);f39 = builder.f39;f40 = builder.f40;f41 = builder.f41;f42 = Optional.ofNullable(builder.f42);f43 = ImmutableList.copyOf(builder.f43);f44 = builder.f44;f45 = builder.f45;f46 = builder.f46;f47 = Optional.ofNullable(builder.f47);f48 = ImmutableList.copyOf(builder.f48);f49 = builder.f49;f50 = builder.f50;f51 = builder.f51;f52 = Optional.ofNullable(builder.f52);f53 = ImmutableList.copyOf(builder.f53);f54 = builder.f54;f55 = builder.f55;f56 = builder.f56;f57 = Optional.ofNullable(builder.f57);f58 = ImmutableList.copyOf(builder.f58);f59 = builder.f59;f60 = builder.f60;f61 = builder.f61;f62 = Optional.ofNullable(builder.f62);f63 = ImmutableList.copyOf(builder.f63);f64 = builder.f64;f65 = builder.f65;f66 = builder.f66;f67 = Optional.ofNullable(builder.f67);f68 = ImmutableList.copyOf(builder.f68);f69 = builder.f69;f70 = builder.f70;f71 = builder.f71;f72 = Optional.ofNullable(builder.f72);f73 = ImmutableList.copyOf(builder.f73);f74 = builder.f74;f75 = builder.f75;f76 = builder.f76;f77 = Optional.ofNullable(builder.f77);f78 = ImmutableList.copyOf(builder.f78);f79 = builder.f79;f80 = builder.f80;f81 = builder.f81;f82 = Optional.ofNullable(builder.f82);f83 = ImmutableList.copyOf(builder.f83);f84 = builder.f84;f85 = builder.f85;f86 = builder.f86;f87 = Optional.ofNullable(builder.f87);f88 = ImmutableList.copyOf(builder.f88);f89 = builder.f89;f90 = builder.f90;f91 = builder.f91;f92 = Optional.ofNullable(builder.f92);f93 = ImmutableList.copyOf(builder.f93);f94 = builder.f94;f95 = builder.f95;f96 = builder.f96;f97 = Optional.ofNullable(builder.f97);f98 = ImmutableList.copyOf(builder.f98);f99 = builder.f99;f100 = builder.f100;f101 = builder.f101;f102 = Optional.ofNullable(builder.f102);f103 = ImmutableList.copyOf(builder.f103);f104 = builder.f104;f105 = builder.f105;f106 = builder.f106;f107 = Optional.ofNullable(builder.f107);f108 = ImmutableList.copyOf(builder.f108);f109 = builder.f109;f110 = builder.f110;f111 = builder.f111;f112 = Optional.ofNullable(builder.f112);f113 = ImmutableList.copyOf(builder.f113);f114 = builder.f114;f115 = builder.f115;f116 = builder.f116;f117 = Optional.ofNullable(builder.f117);f118 = ImmutableList.copyOf(builder.f118);f119 = builder.f119;f120 = builder.f120;f121 = builder.f121;f122 = Optional.ofNullable(builder.f122);f123 = ImmutableList.copyOf(builder.f123);f124 = builder.f124;f125 = builder.f125;f126 = builder.f126;f127 = Optional.ofNullable(builder.f127);f128 = ImmutableList.copyOf(builder.f128);f129 = builder.f129;f130 = builder.f130;f131 = builder.f131;f132 = Optional.ofNullable(builder.f132);f133 = ImmutableList.copyOf(builder.f133);f134 = builder.f134;f135 = builder.f135;f136 = builder.f136;f137 = Optional.ofNullable(builder.f137);f138 = ImmutableList.copyOf(builder.f138);f139 = builder.f139;f140 = builder.f140;f141 = builder.f141;f142 = Optional.ofNullable(builder.f142);f143 = ImmutableList.copyOf(builder.f143);f144 = builder.f144;f145 = builder.f145;f146 = builder.f146;f147 = Optional.ofNullable(builder.f147);f148 = ImmutableList.copyOf(builder.f148);f149 = builder.f149;f150 = builder.f150;f151 = builder.f151;f152 = Optional.ofNullable(builder.f152);f153 = ImmutableList.copyOf(builder.f153);f154 = builder.f154;f155 = builder.f155;f156 = builder.f156;f157 = Optional.ofNullable(builder.f157);f158 = ImmutableList.copyOf(builder.f158);f159 = builder.f159;f160 = builder.f160;f161 = builder.f161;f162 = Optional.ofNullable(builder.f162);f163 = ImmutableList.copyOf(builder.f163);f164 = builder.f164;f165 = builder.f165;f166 = builder.f166;f167 = Optional.ofNullable(builder.f167);f168 = ImmutableList.copyOf(builder.f168);f169 = builder.f169;f170 = builder.f170;f171 = builder.f171;f172 = Optional.ofNullable(builder.f172);f173 = ImmutableList.copyOf(builder.f173);f174 = builder.f174;f175 = builder.f175;f176 = builder.f176;f177 = Optional.ofNullable(builder.f177);f178 = ImmutableList.copyOf(builder.f178);f179 = builder.f179;f180 = builder.f180;f181 = builder.f181;f182 = Optional.ofNullable(builder.f182);f183 = ImmutableList.copyOf(builder.f183);f184 = builder.f184;f185 = builder.f185;f186 = builder.f186;f187 = Optional.ofNullable(builder.f187);f188 = ImmutableList.copyOf(builder.f188);f189 = builder.f189;f190 = builder.f190;f191 = builder.f191;f192 = Optional.ofNullable(builder.f192);f193 = ImmutableList.copyOf(builder.f193);f194 = builder.f194;f195 = builder.f195;f196 = builder.f196;f197 = Optional.ofNullable(builder.f197);f198 = ImmutableList.copyOf(builder.f198);f199 = builder.f199; }
+  public static final class Builder {
+    private String f0;
+    private Integer f1 = 0;
+    private String f2;
+    private List<String> f3 = Collections.emptyList();
+    private Long f4 = 0L;
+    private String f5;
+    private Integer f6 = 0;
+    private String f7;
+    private List<String> f8 = Collections.emptyList();
+    private Long f9 = 0L;
+    private String f10;
+    private Integer f11 = 0;
+    private String f12;
+    private List<String> f13 = Collections.emptyList();
+    private Long f14 = 0L;
+    private String f15;
+    private Integer f16 = 0;
+    private String f17;
+    private List<String> f18 = Collections.emptyList();
+    private Long f19 = 0L;
+    private String f20;
+    private Integer f21 = 0;
+    private String f22;
+    private List<String> f23 = Collections.emptyList();
+    private Long f24 = 0L;
+    private String f25;
+    private Integer f26 = 0;
+    private String f27;
+    private List<String> f28 = Collections.emptyList();
+    private Long f29 = 0L;
+    private String f30;
+    private Integer f31 = 0;
+    private String f32;
+    private List<String> f33 = Collections.emptyList();
+    private Long f34 = 0L;
+    private String f35;
+    private Integer f36 = 0;
+    private String f37;
+    private List<String> f38 = Collections.emptyList();
+    private Long f39 = 0L;
+    private String f40;
+    private Integer f41 = 0;
+    private String f42;
+    private List<String> f43 = Collections.emptyList();
+    private Long f44 = 0L;
+    private String f45;
+    private Integer f46 = 0;
+    private String f47;
+    private List<String> f48 = Collections.emptyList();
+    private Long f49 = 0L;
+    private String f50;
+    private Integer f51 = 0;
+    private String f52;
+    private List<String> f53 = Collections.emptyList();
+    private Long f54 = 0L;
+    private String f55;
+    private Integer f56 = 0;
+    private String f57;
+    private List<String> f58 = Collections.emptyList();
+    private Long f59 = 0L;
+    private String f60;
+    private Integer f61 = 0;
+    private String f62;
+    private List<String> f63 = Collections.emptyList();
+    private Long f64 = 0L;
+    private String f65;
+    private Integer f66 = 0;
+    private String f67;
+    private List<String> f68 = Collections.emptyList();
+    private Long f69 = 0L;
+    private String f70;
+    private Integer f71 = 0;
+    private String f72;
+    private List<String> f73 = Collections.emptyList();
+    private Long f74 = 0L;
+    private String f75;
+    private Integer f76 = 0;
+    private String f77;
+    private List<String> f78 = Collections.emptyList();
+    private Long f79 = 0L;
+    private String f80;
+    private Integer f81 = 0;
+    private String f82;
+    private List<String> f83 = Collections.emptyList();
+    private Long f84 = 0L;
+    private String f85;
+    private Integer f86 = 0;
+    private String f87;
+    private List<String> f88 = Collections.emptyList();
+    private Long f89 = 0L;
+    private String f90;
+    private Integer f91 = 0;
+    private String f92;
+    private List<String> f93 = Collections.emptyList();
+    private Long f94 = 0L;
+    private String f95;
+    private Integer f96 = 0;
+    private String f97;
+    private List<String> f98 = Collections.emptyList();
+    private Long f99 = 0L;
+    private String f100;
+    private Integer f101 = 0;
+    private String f102;
+    private List<String> f103 = Collections.emptyList();
+    private Long f104 = 0L;
+    private String f105;
+    private Integer f106 = 0;
+    private String f107;
+    private List<String> f108 = Collections.emptyList();
+    private Long f109 = 0L;
+    private String f110;
+    private Integer f111 = 0;
+    private String f112;
+    private List<String> f113 = Collections.emptyList();
+    private Long f114 = 0L;
+    private String f115;
+    private Integer f116 = 0;
+    private String f117;
+    private List<String> f118 = Collections.emptyList();
+    private Long f119 = 0L;
+    private String f120;
+    private Integer f121 = 0;
+    private String f122;
+    private List<String> f123 = Collections.emptyList();
+    private Long f124 = 0L;
+    private String f125;
+    private Integer f126 = 0;
+    private String f127;
+    private List<String> f128 = Collections.emptyList();
+    private Long f129 = 0L;
+    private String f130;
+    private Integer f131 = 0;
+    private String f132;
+    private List<String> f133 = Collections.emptyList();
+    private Long f134 = 0L;
+    private String f135;
+    private Integer f136 = 0;
+    private String f137;
+    private List<String> f138 = Collections.emptyList();
+    private Long f139 = 0L;
+    private String f140;
+    private Integer f141 = 0;
+    private String f142;
+    private List<String> f143 = Collections.emptyList();
+    private Long f144 = 0L;
+    private String f145;
+    private Integer f146 = 0;
+    private String f147;
+    private List<String> f148 = Collections.emptyList();
+    private Long f149 = 0L;
+    private String f150;
+    private Integer f151 = 0;
+    private String f152;
+    private List<String> f153 = Collections.emptyList();
+    private Long f154 = 0L;
+    private String f155;
+    private Integer f156 = 0;
+    private String f157;
+    private List<String> f158 = Collections.emptyList();
+    private Long f159 = 0L;
+    private String f160;
+    private Integer f161 = 0;
+    private String f162;
+    private List<String> f163 = Collections.emptyList();
+    private Long f164 = 0L;
+    private String f165;
+    private Integer f166 = 0;
+    private String f167;
+    private List<String> f168 = Collections.emptyList();
+    private Long f169 = 0L;
+    private String f170;
+    private Integer f171 = 0;
+    private String f172;
+    private List<String> f173 = Collections.emptyList();
+    private Long f174 = 0L;
+    private String f175;
+    private Integer f176 = 0;
+    private String f177;
+    private List<String> f178 = Collections.emptyList();
+    private Long f179 = 0L;
+    private String f180;
+    private Integer f181 = 0;
+    private String f182;
+    private List<String> f183 = Collections.emptyList();
+    private Long f184 = 0L;
+    private String f185;
+    private Integer f186 = 0;
+    private String f187;
+    private List<String> f188 = Collections.emptyList();
+    private Long f189 = 0L;
+    private String f190;
+    private Integer f191 = 0;
+    private String f192;
+    private List<String> f193 = Collections.emptyList();
+    private Long f194 = 0L;
+    private String f195;
+    private Integer f196 = 0;
+    private String f197;
+    private List<String> f198 = Collections.emptyList();
+    private Long f199 = 0L;
+    public Builder f0(String f0){
+      this.f0 = f0;  return this;
+    }
+    public Builder f1(int f1){
+      this.f1 = f1;  return this;
+    }
+    public Builder f2(String f2){
+      this.f2 = f2;  return this;
+    }
+    public Builder f3(List<String> f3){
+      this.f3 = f3;  return this;
+    }
+    public Builder f4(long f4){
+      this.f4 = f4;  return this;
+    }
+    public Builder f5(String f5){
+      this.f5 = f5;  return this;
+    }
+    public Builder f6(int f6){
+      this.f6 = f6;  return this;
+    }
+    public Builder f7(String f7){
+      this.f7 = f7;  return this;
+    }
+    public Builder f8(List<String> f8){
+      this.f8 = f8;  return this;
+    }
+    public Builder f9(long f9){
+      this.f9 = f9;  return this;
+    }
+    public Builder f10(String f10){
+      this.f10 = f10;  return this;
+    }
+    public Builder f11(int f11){
+      this.f11 = f11;  return this;
+    }
+    public Builder f12(String f12){
+      this.f12 = f12;  return this;
+    }
+    public Builder f13(List<String> f13){
+      this.f13 = f13;  return this;
+    }
+    public Builder f14(long f14){
+      this.f14 = f14;  return this;
+    }
+    public Builder f15(String f15){
+      this.f15 = f15;  return this;
+    }
+    public Builder f16(int f16){
+      this.f16 = f16;  return this;
+    }
+    public Builder f17(String f17){
+      this.f17 = f17;  return this;
+    }
+    public Builder f18(List<String> f18){
+      this.f18 = f18;  return this;
+    }
+    public Builder f19(long f19){
+      this.f19 = f19;  return this;
+    }
+    public Builder f20(String f20){
+      this.f20 = f20;  return this;
+    }
+    public Builder f21(int f21){
+      this.f21 = f21;  return this;
+    }
+    public Builder f22(String f22){
+      this.f22 = f22;  return this;
+    }
+    public Builder f23(List<String> f23){
+      this.f23 = f23;  return this;
+    }
+    public Builder f24(long f24){
+      this.f24 = f24;  return this;
+    }
+    public Builder f25(String f25){
+      this.f25 = f25;  return this;
+    }
+    public Builder f26(int f26){
+      this.f26 = f26;  return this;
+    }
+    public Builder f27(String f27){
+      this.f27 = f27;  return this;
+    }
+    public Builder f28(List<String> f28){
+      this.f28 = f28;  return this;
+    }
+    public Builder f29(long f29){
+      this.f29 = f29;  return this;
+    }
+    public Builder f30(String f30){
+      this.f30 = f30;  return this;
+    }
+    public Builder f31(int f31){
+      this.f31 = f31;  return this;
+    }
+    public Builder f32(String f32){
+      this.f32 = f32;  return this;
+    }
+    public Builder f33(List<String> f33){
+      this.f33 = f33;  return this;
+    }
+    public Builder f34(long f34){
+      this.f34 = f34;  return this;
+    }
+    public Builder f35(String f35){
+      this.f35 = f35;  return this;
+    }
+    public Builder f36(int f36){
+      this.f36 = f36;  return this;
+    }
+    public Builder f37(String f37){
+      this.f37 = f37;  return this;
+    }
+    public Builder f38(List<String> f38){
+      this.f38 = f38;  return this;
+    }
+    public Builder f39(long f39){
+      this.f39 = f39;  return this;
+    }
+    public Builder f40(String f40){
+      this.f40 = f40;  return this;
+    }
+    public Builder f41(int f41){
+      this.f41 = f41;  return this;
+    }
+    public Builder f42(String f42){
+      this.f42 = f42;  return this;
+    }
+    public Builder f43(List<String> f43){
+      this.f43 = f43;  return this;
+    }
+    public Builder f44(long f44){
+      this.f44 = f44;  return this;
+    }
+    public Builder f45(String f45){
+      this.f45 = f45;  return this;
+    }
+    public Builder f46(int f46){
+      this.f46 = f46;  return this;
+    }
+    public Builder f47(String f47){
+      this.f47 = f47;  return this;
+    }
+    public Builder f48(List<String> f48){
+      this.f48 = f48;  return this;
+    }
+    public Builder f49(long f49){
+      this.f49 = f49;  return this;
+    }
+    public Builder f50(String f50){
+      this.f50 = f50;  return this;
+    }
+    public Builder f51(int f51){
+      this.f51 = f51;  return this;
+    }
+    public Builder f52(String f52){
+      this.f52 = f52;  return this;
+    }
+    public Builder f53(List<String> f53){
+      this.f53 = f53;  return this;
+    }
+    public Builder f54(long f54){
+      this.f54 = f54;  return this;
+    }
+    public Builder f55(String f55){
+      this.f55 = f55;  return this;
+    }
+    public Builder f56(int f56){
+      this.f56 = f56;  return this;
+    }
+    public Builder f57(String f57){
+      this.f57 = f57;  return this;
+    }
+    public Builder f58(List<String> f58){
+      this.f58 = f58;  return this;
+    }
+    public Builder f59(long f59){
+      this.f59 = f59;  return this;
+    }
+    public Builder f60(String f60){
+      this.f60 = f60;  return this;
+    }
+    public Builder f61(int f61){
+      this.f61 = f61;  return this;
+    }
+    public Builder f62(String f62){
+      this.f62 = f62;  return this;
+    }
+    public Builder f63(List<String> f63){
+      this.f63 = f63;  return this;
+    }
+    public Builder f64(long f64){
+      this.f64 = f64;  return this;
+    }
+    public Builder f65(String f65){
+      this.f65 = f65;  return this;
+    }
+    public Builder f66(int f66){
+      this.f66 = f66;  return this;
+    }
+    public Builder f67(String f67){
+      this.f67 = f67;  return this;
+    }
+    public Builder f68(List<String> f68){
+      this.f68 = f68;  return this;
+    }
+    public Builder f69(long f69){
+      this.f69 = f69;  return this;
+    }
+    public Builder f70(String f70){
+      this.f70 = f70;  return this;
+    }
+    public Builder f71(int f71){
+      this.f71 = f71;  return this;
+    }
+    public Builder f72(String f72){
+      this.f72 = f72;  return this;
+    }
+    public Builder f73(List<String> f73){
+      this.f73 = f73;  return this;
+    }
+    public Builder f74(long f74){
+      this.f74 = f74;  return this;
+    }
+    public Builder f75(String f75){
+      this.f75 = f75;  return this;
+    }
+    public Builder f76(int f76){
+      this.f76 = f76;  return this;
+    }
+    public Builder f77(String f77){
+      this.f77 = f77;  return this;
+    }
+    public Builder f78(List<String> f78){
+      this.f78 = f78;  return this;
+    }
+    public Builder f79(long f79){
+      this.f79 = f79;  return this;
+    }
+    public Builder f80(String f80){
+      this.f80 = f80;  return this;
+    }
+    public Builder f81(int f81){
+      this.f81 = f81;  return this;
+    }
+    public Builder f82(String f82){
+      this.f82 = f82;  return this;
+    }
+    public Builder f83(List<String> f83){
+      this.f83 = f83;  return this;
+    }
+    public Builder f84(long f84){
+      this.f84 = f84;  return this;
+    }
+    public Builder f85(String f85){
+      this.f85 = f85;  return this;
+    }
+    public Builder f86(int f86){
+      this.f86 = f86;  return this;
+    }
+    public Builder f87(String f87){
+      this.f87 = f87;  return this;
+    }
+    public Builder f88(List<String> f88){
+      this.f88 = f88;  return this;
+    }
+    public Builder f89(long f89){
+      this.f89 = f89;  return this;
+    }
+    public Builder f90(String f90){
+      this.f90 = f90;  return this;
+    }
+    public Builder f91(int f91){
+      this.f91 = f91;  return this;
+    }
+    public Builder f92(String f92){
+      this.f92 = f92;  return this;
+    }
+    public Builder f93(List<String> f93){
+      this.f93 = f93;  return this;
+    }
+    public Builder f94(long f94){
+      this.f94 = f94;  return this;
+    }
+    public Builder f95(String f95){
+      this.f95 = f95;  return this;
+    }
+    public Builder f96(int f96){
+      this.f96 = f96;  return this;
+    }
+    public Builder f97(String f97){
+      this.f97 = f97;  return this;
+    }
+    public Builder f98(List<String> f98){
+      this.f98 = f98;  return this;
+    }
+    public Builder f99(long f99){
+      this.f99 = f99;  return this;
+    }
+    public Builder f100(String f100){
+      this.f100 = f100;  return this;
+    }
+    public Builder f101(int f101){
+      this.f101 = f101;  return this;
+    }
+    public Builder f102(String f102){
+      this.f102 = f102;  return this;
+    }
+    public Builder f103(List<String> f103){
+      this.f103 = f103;  return this;
+    }
+    public Builder f104(long f104){
+      this.f104 = f104;  return this;
+    }
+    public Builder f105(String f105){
+      this.f105 = f105;  return this;
+    }
+    public Builder f106(int f106){
+      this.f106 = f106;  return this;
+    }
+    public Builder f107(String f107){
+      this.f107 = f107;  return this;
+    }
+    public Builder f108(List<String> f108){
+      this.f108 = f108;  return this;
+    }
+    public Builder f109(long f109){
+      this.f109 = f109;  return this;
+    }
+    public Builder f110(String f110){
+      this.f110 = f110;  return this;
+    }
+    public Builder f111(int f111){
+      this.f111 = f111;  return this;
+    }
+    public Builder f112(String f112){
+      this.f112 = f112;  return this;
+    }
+    public Builder f113(List<String> f113){
+      this.f113 = f113;  return this;
+    }
+    public Builder f114(long f114){
+      this.f114 = f114;  return this;
+    }
+    public Builder f115(String f115){
+      this.f115 = f115;  return this;
+    }
+    public Builder f116(int f116){
+      this.f116 = f116;  return this;
+    }
+    public Builder f117(String f117){
+      this.f117 = f117;  return this;
+    }
+    public Builder f118(List<String> f118){
+      this.f118 = f118;  return this;
+    }
+    public Builder f119(long f119){
+      this.f119 = f119;  return this;
+    }
+    public Builder f120(String f120){
+      this.f120 = f120;  return this;
+    }
+    public Builder f121(int f121){
+      this.f121 = f121;  return this;
+    }
+    public Builder f122(String f122){
+      this.f122 = f122;  return this;
+    }
+    public Builder f123(List<String> f123){
+      this.f123 = f123;  return this;
+    }
+    public Builder f124(long f124){
+      this.f124 = f124;  return this;
+    }
+    public Builder f125(String f125){
+      this.f125 = f125;  return this;
+    }
+    public Builder f126(int f126){
+      this.f126 = f126;  return this;
+    }
+    public Builder f127(String f127){
+      this.f127 = f127;  return this;
+    }
+    public Builder f128(List<String> f128){
+      this.f128 = f128;  return this;
+    }
+    public Builder f129(long f129){
+      this.f129 = f129;  return this;
+    }
+    public Builder f130(String f130){
+      this.f130 = f130;  return this;
+    }
+    public Builder f131(int f131){
+      this.f131 = f131;  return this;
+    }
+    public Builder f132(String f132){
+      this.f132 = f132;  return this;
+    }
+    public Builder f133(List<String> f133){
+      this.f133 = f133;  return this;
+    }
+    public Builder f134(long f134){
+      this.f134 = f134;  return this;
+    }
+    public Builder f135(String f135){
+      this.f135 = f135;  return this;
+    }
+    public Builder f136(int f136){
+      this.f136 = f136;  return this;
+    }
+    public Builder f137(String f137){
+      this.f137 = f137;  return this;
+    }
+    public Builder f138(List<String> f138){
+      this.f138 = f138;  return this;
+    }
+    public Builder f139(long f139){
+      this.f139 = f139;  return this;
+    }
+    public Builder f140(String f140){
+      this.f140 = f140;  return this;
+    }
+    public Builder f141(int f141){
+      this.f141 = f141;  return this;
+    }
+    public Builder f142(String f142){
+      this.f142 = f142;  return this;
+    }
+    public Builder f143(List<String> f143){
+      this.f143 = f143;  return this;
+    }
+    public Builder f144(long f144){
+      this.f144 = f144;  return this;
+    }
+    public Builder f145(String f145){
+      this.f145 = f145;  return this;
+    }
+    public Builder f146(int f146){
+      this.f146 = f146;  return this;
+    }
+    public Builder f147(String f147){
+      this.f147 = f147;  return this;
+    }
+    public Builder f148(List<String> f148){
+      this.f148 = f148;  return this;
+    }
+    public Builder f149(long f149){
+      this.f149 = f149;  return this;
+    }
+    public Builder f150(String f150){
+      this.f150 = f150;  return this;
+    }
+    public Builder f151(int f151){
+      this.f151 = f151;  return this;
+    }
+    public Builder f152(String f152){
+      this.f152 = f152;  return this;
+    }
+    public Builder f153(List<String> f153){
+      this.f153 = f153;  return this;
+    }
+    public Builder f154(long f154){
+      this.f154 = f154;  return this;
+    }
+    public Builder f155(String f155){
+      this.f155 = f155;  return this;
+    }
+    public Builder f156(int f156){
+      this.f156 = f156;  return this;
+    }
+    public Builder f157(String f157){
+      this.f157 = f157;  return this;
+    }
+    public Builder f158(List<String> f158){
+      this.f158 = f158;  return this;
+    }
+    public Builder f159(long f159){
+      this.f159 = f159;  return this;
+    }
+    public Builder f160(String f160){
+      this.f160 = f160;  return this;
+    }
+    public Builder f161(int f161){
+      this.f161 = f161;  return this;
+    }
+    public Builder f162(String f162){
+      this.f162 = f162;  return this;
+    }
+    public Builder f163(List<String> f163){
+      this.f163 = f163;  return this;
+    }
+    public Builder f164(long f164){
+      this.f164 = f164;  return this;
+    }
+    public Builder f165(String f165){
+      this.f165 = f165;  return this;
+    }
+    public Builder f166(int f166){
+      this.f166 = f166;  return this;
+    }
+    public Builder f167(String f167){
+      this.f167 = f167;  return this;
+    }
+    public Builder f168(List<String> f168){
+      this.f168 = f168;  return this;
+    }
+    public Builder f169(long f169){
+      this.f169 = f169;  return this;
+    }
+    public Builder f170(String f170){
+      this.f170 = f170;  return this;
+    }
+    public Builder f171(int f171){
+      this.f171 = f171;  return this;
+    }
+    public Builder f172(String f172){
+      this.f172 = f172;  return this;
+    }
+    public Builder f173(List<String> f173){
+      this.f173 = f173;  return this;
+    }
+    public Builder f174(long f174){
+      this.f174 = f174;  return this;
+    }
+    public Builder f175(String f175){
+      this.f175 = f175;  return this;
+    }
+    public Builder f176(int f176){
+      this.f176 = f176;  return this;
+    }
+    public Builder f177(String f177){
+      this.f177 = f177;  return this;
+    }
+    public Builder f178(List<String> f178){
+      this.f178 = f178;  return this;
+    }
+    public Builder f179(long f179){
+      this.f179 = f179;  return this;
+    }
+    public Builder f180(String f180){
+      this.f180 = f180;  return this;
+    }
+    public Builder f181(int f181){
+      this.f181 = f181;  return this;
+    }
+    public Builder f182(String f182){
+      this.f182 = f182;  return this;
+    }
+    public Builder f183(List<String> f183){
+      this.f183 = f183;  return this;
+    }
+    public Builder f184(long f184){
+      this.f184 = f184;  return this;
+    }
+    public Builder f185(String f185){
+      this.f185 = f185;  return this;
+    }
+    public Builder f186(int f186){
+      this.f186 = f186;  return this;
+    }
+    public Builder f187(String f187){
+      this.f187 = f187;  return this;
+    }
+    public Builder f188(List<String> f188){
+      this.f188 = f188;  return this;
+    }
+    public Builder f189(long f189){
+      this.f189 = f189;  return this;
+    }
+    public Builder f190(String f190){
+      this.f190 = f190;  return this;
+    }
+    public Builder f191(int f191){
+      this.f191 = f191;  return this;
+    }
+    public Builder f192(String f192){
+      this.f192 = f192;  return this;
+    }
+    public Builder f193(List<String> f193){
+      this.f193 = f193;  return this;
+    }
+    public Builder f194(long f194){
+      this.f194 = f194;  return this;
+    }
+    public Builder f195(String f195){
+      this.f195 = f195;  return this;
+    }
+    public Builder f196(int f196){
+      this.f196 = f196;  return this;
+    }
+    public Builder f197(String f197){
+      this.f197 = f197;  return this;
+    }
+    public Builder f198(List<String> f198){
+      this.f198 = f198;  return this;
+    }
+    public Builder f199(long f199){
+      this.f199 = f199;  return this;
+    }
+    public Builder(){}
+    public Builder reset(){
+      f0 = null;
+      f1 = 0;
+      f2 = null;
+      f3 = Collections.emptyList();
+      f4 = 0L;
+      f5 = null;
+      f6 = 0;
+      f7 = null;
+      f8 = Collections.emptyList();
+      f9 = 0L;
+      f10 = null;
+      f11 = 0;
+      f12 = null;
+      f13 = Collections.emptyList();
+      f14 = 0L;
+      f15 = null;
+      f16 = 0;
+      f17 = null;
+      f18 = Collections.emptyList();
+      f19 = 0L;
+      f20 = null;
+      f21 = 0;
+      f22 = null;
+      f23 = Collections.emptyList();
+      f24 = 0L;
+      f25 = null;
+      f26 = 0;
+      f27 = null;
+      f28 = Collections.emptyList();
+      f29 = 0L;
+      f30 = null;
+      f31 = 0;
+      f32 = null;
+      f33 = Collections.emptyList();
+      f34 = 0L;
+      f35 = null;
+      f36 = 0;
+      f37 = null;
+      f38 = Collections.emptyList();
+      f39 = 0L;
+      f40 = null;
+      f41 = 0;
+      f42 = null;
+      f43 = Collections.emptyList();
+      f44 = 0L;
+      f45 = null;
+      f46 = 0;
+      f47 = null;
+      f48 = Collections.emptyList();
+      f49 = 0L;
+      f50 = null;
+      f51 = 0;
+      f52 = null;
+      f53 = Collections.emptyList();
+      f54 = 0L;
+      f55 = null;
+      f56 = 0;
+      f57 = null;
+      f58 = Collections.emptyList();
+      f59 = 0L;
+      f60 = null;
+      f61 = 0;
+      f62 = null;
+      f63 = Collections.emptyList();
+      f64 = 0L;
+      f65 = null;
+      f66 = 0;
+      f67 = null;
+      f68 = Collections.emptyList();
+      f69 = 0L;
+      f70 = null;
+      f71 = 0;
+      f72 = null;
+      f73 = Collections.emptyList();
+      f74 = 0L;
+      f75 = null;
+      f76 = 0;
+      f77 = null;
+      f78 = Collections.emptyList();
+      f79 = 0L;
+      f80 = null;
+      f81 = 0;
+      f82 = null;
+      f83 = Collections.emptyList();
+      f84 = 0L;
+      f85 = null;
+      f86 = 0;
+      f87 = null;
+      f88 = Collections.emptyList();
+      f89 = 0L;
+      f90 = null;
+      f91 = 0;
+      f92 = null;
+      f93 = Collections.emptyList();
+      f94 = 0L;
+      f95 = null;
+      f96 = 0;
+      f97 = null;
+      f98 = Collections.emptyList();
+      f99 = 0L;
+      f100 = null;
+      f101 = 0;
+      f102 = null;
+      f103 = Collections.emptyList();
+      f104 = 0L;
+      f105 = null;
+      f106 = 0;
+      f107 = null;
+      f108 = Collections.emptyList();
+      f109 = 0L;
+      f110 = null;
+      f111 = 0;
+      f112 = null;
+      f113 = Collections.emptyList();
+      f114 = 0L;
+      f115 = null;
+      f116 = 0;
+      f117 = null;
+      f118 = Collections.emptyList();
+      f119 = 0L;
+      f120 = null;
+      f121 = 0;
+      f122 = null;
+      f123 = Collections.emptyList();
+      f124 = 0L;
+      f125 = null;
+      f126 = 0;
+      f127 = null;
+      f128 = Collections.emptyList();
+      f129 = 0L;
+      f130 = null;
+      f131 = 0;
+      f132 = null;
+      f133 = Collections.emptyList();
+      f134 = 0L;
+      f135 = null;
+      f136 = 0;
+      f137 = null;
+      f138 = Collections.emptyList();
+      f139 = 0L;
+      f140 = null;
+      f141 = 0;
+      f142 = null;
+      f143 = Collections.emptyList();
+      f144 = 0L;
+      f145 = null;
+      f146 = 0;
+      f147 = null;
+      f148 = Collections.emptyList();
+      f149 = 0L;
+      f150 = null;
+      f151 = 0;
+      f152 = null;
+      f153 = Collections.emptyList();
+      f154 = 0L;
+      f155 = null;
+      f156 = 0;
+      f157 = null;
+      f158 = Collections.emptyList();
+      f159 = 0L;
+      f160 = null;
+      f161 = 0;
+      f162 = null;
+      f163 = Collections.emptyList();
+      f164 = 0L;
+      f165 = null;
+      f166 = 0;
+      f167 = null;
+      f168 = Collections.emptyList();
+      f169 = 0L;
+      f170 = null;
+      f171 = 0;
+      f172 = null;
+      f173 = Collections.emptyList();
+      f174 = 0L;
+      f175 = null;
+      f176 = 0;
+      f177 = null;
+      f178 = Collections.emptyList();
+      f179 = 0L;
+      f180 = null;
+      f181 = 0;
+      f182 = null;
+      f183 = Collections.emptyList();
+      f184 = 0L;
+      f185 = null;
+      f186 = 0;
+      f187 = null;
+      f188 = Collections.emptyList();
+      f189 = 0L;
+      f190 = null;
+      f191 = 0;
+      f192 = null;
+      f193 = Collections.emptyList();
+      f194 = 0L;
+      f195 = null;
+      f196 = 0;
+      f197 = null;
+      f198 = Collections.emptyList();
+      f199 = 0L;
+      return this;}
+    public com.geoffgranum.plugin.builder.benchmark.Wide200Fastutil build() {
+      return new com.geoffgranum.plugin.builder.benchmark.Wide200Fastutil(this);
+    }
+  }
+}
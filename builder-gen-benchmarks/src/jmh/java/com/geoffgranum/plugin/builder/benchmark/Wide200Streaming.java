@@ -0,0 +1,4577 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+@JsonDeserialize(using = Wide200Streaming.Builder.Deserializer.class)
+@JsonSerialize(using = Wide200Streaming.Builder.Serializer.class)
+public final class Wide200Streaming {
+  public final String f0;
+  public final int f1;
+  public final Optional<String> f2;
+  public final List<String> f3;
+  public final long f4;
+  public final String f5;
+  public final int f6;
+  public final Optional<String> f7;
+  public final List<String> f8;
+  public final long f9;
+  public final String f10;
+  public final int f11;
+  public final Optional<String> f12;
+  public final List<String> f13;
+  public final long f14;
+  public final String f15;
+  public final int f16;
+  public final Optional<String> f17;
+  public final List<String> f18;
+  public final long f19;
+  public final String f20;
+  public final int f21;
+  public final Optional<String> f22;
+  public final List<String> f23;
+  public final long f24;
+  public final String f25;
+  public final int f26;
+  public final Optional<String> f27;
+  public final List<String> f28;
+  public final long f29;
+  public final String f30;
+  public final int f31;
+  public final Optional<String> f32;
+  public final List<String> f33;
+  public final long f34;
+  public final String f35;
+  public final int f36;
+  public final Optional<String> f37;
+  public final List<String> f38;
+  public final long f39;
+  public final String f40;
+  public final int f41;
+  public final Optional<String> f42;
+  public final List<String> f43;
+  public final long f44;
+  public final String f45;
+  public final int f46;
+  public final Optional<String> f47;
+  public final List<String> f48;
+  public final long f49;
+  public final String f50;
+  public final int f51;
+  public final Optional<String> f52;
+  public final List<String> f53;
+  public final long f54;
+  public final String f55;
+  public final int f56;
+  public final Optional<String> f57;
+  public final List<String> f58;
+  public final long f59;
+  public final String f60;
+  public final int f61;
+  public final Optional<String> f62;
+  public final List<String> f63;
+  public final long f64;
+  public final String f65;
+  public final int f66;
+  public final Optional<String> f67;
+  public final List<String> f68;
+  public final long f69;
+  public final String f70;
+  public final int f71;
+  public final Optional<String> f72;
+  public final List<String> f73;
+  public final long f74;
+  public final String f75;
+  public final int f76;
+  public final Optional<String> f77;
+  public final List<String> f78;
+  public final long f79;
+  public final String f80;
+  public final int f81;
+  public final Optional<String> f82;
+  public final List<String> f83;
+  public final long f84;
+  public final String f85;
+  public final int f86;
+  public final Optional<String> f87;
+  public final List<String> f88;
+  public final long f89;
+  public final String f90;
+  public final int f91;
+  public final Optional<String> f92;
+  public final List<String> f93;
+  public final long f94;
+  public final String f95;
+  public final int f96;
+  public final Optional<String> f97;
+  public final List<String> f98;
+  public final long f99;
+  public final String f100;
+  public final int f101;
+  public final Optional<String> f102;
+  public final List<String> f103;
+  public final long f104;
+  public final String f105;
+  public final int f106;
+  public final Optional<String> f107;
+  public final List<String> f108;
+  public final long f109;
+  public final String f110;
+  public final int f111;
+  public final Optional<String> f112;
+  public final List<String> f113;
+  public final long f114;
+  public final String f115;
+  public final int f116;
+  public final Optional<String> f117;
+  public final List<String> f118;
+  public final long f119;
+  public final String f120;
+  public final int f121;
+  public final Optional<String> f122;
+  public final List<String> f123;
+  public final long f124;
+  public final String f125;
+  public final int f126;
+  public final Optional<String> f127;
+  public final List<String> f128;
+  public final long f129;
+  public final String f130;
+  public final int f131;
+  public final Optional<String> f132;
+  public final List<String> f133;
+  public final long f134;
+  public final String f135;
+  public final int f136;
+  public final Optional<String> f137;
+  public final List<String> f138;
+  public final long f139;
+  public final String f140;
+  public final int f141;
+  public final Optional<String> f142;
+  public final List<String> f143;
+  public final long f144;
+  public final String f145;
+  public final int f146;
+  public final Optional<String> f147;
+  public final List<String> f148;
+  public final long f149;
+  public final String f150;
+  public final int f151;
+  public final Optional<String> f152;
+  public final List<String> f153;
+  public final long f154;
+  public final String f155;
+  public final int f156;
+  public final Optional<String> f157;
+  public final List<String> f158;
+  public final long f159;
+  public final String f160;
+  public final int f161;
+  public final Optional<String> f162;
+  public final List<String> f163;
+  public final long f164;
+  public final String f165;
+  public final int f166;
+  public final Optional<String> f167;
+  public final List<String> f168;
+  public final long f169;
+  public final String f170;
+  public final int f171;
+  public final Optional<String> f172;
+  public final List<String> f173;
+  public final long f174;
+  public final String f175;
+  public final int f176;
+  public final Optional<String> f177;
+  public final List<String> f178;
+  public final long f179;
+  public final String f180;
+  public final int f181;
+  public final Optional<String> f182;
+  public final List<String> f183;
+  public final long f184;
+  public final String f185;
+  public final int f186;
+  public final Optional<String> f187;
+  public final List<String> f188;
+  public final long f189;
+  public final String f190;
+  public final int f191;
+  public final Optional<String> f192;
+  public final List<String> f193;
+  public final long f194;
+  public final String f195;
+  public final int f196;
+  public final Optional<String> f197;
+  public final List<String> f198;
+  public final long f199;
+  private Wide200Streaming(Builder builder) { f0 = builder.f0;f1 = builder.f1;f2 = Optional.ofNullable(builder.f2);f3 = ImmutableList.copyOf(builder.f3);f4 = builder.f4;f5 = builder.f5;f6 = builder.f6;f7 = Optional.ofNullable(builder.f7);f8 = ImmutableList.copyOf(builder.f8);f9 = builder.f9;f10 = builder.f10;f11 = builder.f11;f12 = Optional.ofNullable(builder.f12);f13 = ImmutableList.copyOf(builder.f13);f14 = builder.f14;f15 = builder.f15;f16 = builder.f16;f17 = Optional.ofNullable(builder.f17);f18 = ImmutableList.copyOf(builder.f18);f19 = builder.f19;f20 = builder.f20;f21 = builder.f21;f22 = Optional.ofNullable(builder.f22);f23 = ImmutableList.copyOf(builder.f23);f24 = builder.f24;f25 = builder.f25;f26 = builder.f26;f27 = Optional.ofNullable(builder.f27);f28 = ImmutableList.copyOf(builder.f28);f29 = builder.f29;f30 = builder.f30;f31 = builder.f31;f32 = Optional.ofNullable(builder.f32);f33 = ImmutableList.copyOf(builder.f33);f34 = builder.f34;f35 = builder.f35;f36 = builder.f36;f37 = Optional.ofNullable(builder.f37);f38 = ImmutableList.copyOf(builder.f38);f39 = builder.f39;f40 = builder.f40;f41 = builder.f41;f42 = Optional.ofNullable(builder.f42);f43 = ImmutableList.copyOf(builder.f43);f44 = builder.f44;f45 = builder.f45;f46 = builder.f46;f47 = Optional.ofNullable(builder.f47);f48 = ImmutableList.copyOf(builder.f48);f49 = builder.f49;f50 = builder.f50;f51 = builder.f51;f52 = Optional.ofNullable(builder.f52);f53 = ImmutableList.copyOf(builder.f53);f54 = builder.f54;f55 = builder.f55;f56 = builder.f56;f57 = Optional.ofNullable(builder.f57);f58 = ImmutableList.copyOf(builder.f58);f59 = builder.f59;f60 = builder.f60;f61 = builder.f61;f62 = Optional.ofNullable(builder.f62);f63 = ImmutableList.copyOf(builder.f63);f64 = builder.f64;f65 = builder.f65;f66 = builder.f66;f67 = Optional.ofNullable(builder.f67);f68 = ImmutableList.copyOf(builder.f68);f69 = builder.f69;f70 = builder.f70;f71 = builder.f71;f72 = Optional.ofNullable(builder.f72);f73 = ImmutableList.copyOf(builder.f73);f74 = builder.f74;f75 = builder.f75;f76 = builder.f76;f77 = Optional.ofNullable(builder.f77);f78 = ImmutableList.copyOf(builder.f78);f79 = builder.f79;f80 = builder.f80;f81 = builder.f81;f82 = Optional.ofNullable(builder.f82);f83 = ImmutableList.copyOf(builder.f83);f84 = builder.f84;f85 = builder.f85;f86 = builder.f86;f87 = Optional.ofNullable(builder.f87);f88 = ImmutableList.copyOf(builder.f88);f89 = builder.f89;f90 = builder.f90;f91 = builder.f91;f92 = Optional.ofNullable(builder.f92);f93 = ImmutableList.copyOf(builder.f93);f94 = builder.f94;f95 = builder.f95;f96 = builder.f96;f97 = Optional.ofNullable(builder.f97);f98 = ImmutableList.copyOf(builder.f98);f99 = builder.f99;f100 = builder.f100;f101 = builder.f101;f102 = Optional.ofNullable(builder.f102);f103 = ImmutableList.copyOf(builder.f103);f104 = builder.f104;f105 = builder.f105;f106 = builder.f106;f107 = Optional.ofNullable(builder.f107);f108 = ImmutableList.copyOf(builder.f108);f109 = builder.f109;f110 = builder.f110;f111 = builder.f111;f112 = Optional.ofNullable(builder.f112);f113 = ImmutableList.copyOf(builder.f113);f114 = builder.f114;f115 = builder.f115;f116 = builder.f116;f117 = Optional.ofNullable(builder.f117);f118 = ImmutableList.copyOf(builder.f118);f119 = builder.f119;f120 = builder.f120;f121 = builder.f121;f122 = Optional.ofNullable(builder.f122);f123 = ImmutableList.copyOf(builder.f123);f124 = builder.f124;f125 = builder.f125;f126 = builder.f126;f127 = Optional.ofNullable(builder.f127);f128 = ImmutableList.copyOf(builder.f128);f129 = builder.f129;f130 = builder.f130;f131 = builder.f131;f132 = Optional.ofNullable(builder.f132);f133 = ImmutableList.copyOf(builder.f133);f134 = builder.f134;f135 = builder.f135;f136 = builder.f136;f137 = Optional.ofNullable(builder.f137);f138 = ImmutableList.copyOf(builder.f138);f139 = builder.f139;f140 = builder.f140;f141 = builder.f141;f142 = Optional.ofNullable(builder.f142);f143 = ImmutableList.copyOf(builder.f143);f144 = builder.f144;f145 = builder.f145;f146 = builder.f146;f147 = Optional.ofNullable(builder.f147);f148 = ImmutableList.copyOf(builder.f148);f149 = builder.f149;f150 = builder.f150;f151 = builder.f151;f152 = Optional.ofNullable(builder.f152);f153 = ImmutableList.copyOf(builder.f153);f154 = builder.f154;f155 = builder.f155;f156 = builder.f156;f157 = Optional.ofNullable(builder.f157);f158 = ImmutableList.copyOf(builder.f158);f159 = builder.f159;f160 = builder.f160;f161 = builder.f161;f162 = Optional.ofNullable(builder.f162);f163 = ImmutableList.copyOf(builder.f163);f164 = builder.f164;f165 = builder.f165;f166 = builder.f166;f167 = Optional.ofNullable(builder.f167);f168 = ImmutableList.copyOf(builder.f168);f169 = builder.f169;f170 = builder.f170;f171 = builder.f171;f172 = Optional.ofNullable(builder.f172);f173 = ImmutableList.copyOf(builder.f173);f174 = builder.f174;f175 = builder.f175;f176 = builder.f176;f177 = Optional.ofNullable(builder.f177);f178 = ImmutableList.copyOf(builder.f178);f179 = builder.f179;f180 = builder.f180;f181 = builder.f181;f182 = Optional.ofNullable(builder.f182);f183 = ImmutableList.copyOf(builder.f183);f184 = builder.f184;f185 = builder.f185;f186 = builder.f186;f187 = Optional.ofNullable(builder.f187);f188 = ImmutableList.copyOf(builder.f188);f189 = builder.f189;f190 = builder.f190;f191 = builder.f191;f192 = Optional.ofNullable(builder.f192);f193 = ImmutableList.copyOf(builder.f193);f194 = builder.f194;f195 = builder.f195;f196 = builder.f196;f197 = Optional.ofNullable(builder.f197);f198 = ImmutableList.copyOf(builder.f198);f199 = builder.f199; }
+  public static final class Builder {
+    @JsonProperty
+    private String f0;
+    @JsonProperty
+    private Integer f1 = 0;
+    @JsonProperty
+    private String f2;
+    @JsonProperty
+    private List<String> f3 = Collections.emptyList();
+    @JsonProperty
+    private Long f4 = 0L;
+    @JsonProperty
+    private String f5;
+    @JsonProperty
+    private Integer f6 = 0;
+    @JsonProperty
+    private String f7;
+    @JsonProperty
+    private List<String> f8 = Collections.emptyList();
+    @JsonProperty
+    private Long f9 = 0L;
+    @JsonProperty
+    private String f10;
+    @JsonProperty
+    private Integer f11 = 0;
+    @JsonProperty
+    private String f12;
+    @JsonProperty
+    private List<String> f13 = Collections.emptyList();
+    @JsonProperty
+    private Long f14 = 0L;
+    @JsonProperty
+    private String f15;
+    @JsonProperty
+    private Integer f16 = 0;
+    @JsonProperty
+    private String f17;
+    @JsonProperty
+    private List<String> f18 = Collections.emptyList();
+    @JsonProperty
+    private Long f19 = 0L;
+    @JsonProperty
+    private String f20;
+    @JsonProperty
+    private Integer f21 = 0;
+    @JsonProperty
+    private String f22;
+    @JsonProperty
+    private List<String> f23 = Collections.emptyList();
+    @JsonProperty
+    private Long f24 = 0L;
+    @JsonProperty
+    private String f25;
+    @JsonProperty
+    private Integer f26 = 0;
+    @JsonProperty
+    private String f27;
+    @JsonProperty
+    private List<String> f28 = Collections.emptyList();
+    @JsonProperty
+    private Long f29 = 0L;
+    @JsonProperty
+    private String f30;
+    @JsonProperty
+    private Integer f31 = 0;
+    @JsonProperty
+    private String f32;
+    @JsonProperty
+    private List<String> f33 = Collections.emptyList();
+    @JsonProperty
+    private Long f34 = 0L;
+    @JsonProperty
+    private String f35;
+    @JsonProperty
+    private Integer f36 = 0;
+    @JsonProperty
+    private String f37;
+    @JsonProperty
+    private List<String> f38 = Collections.emptyList();
+    @JsonProperty
+    private Long f39 = 0L;
+    @JsonProperty
+    private String f40;
+    @JsonProperty
+    private Integer f41 = 0;
+    @JsonProperty
+    private String f42;
+    @JsonProperty
+    private List<String> f43 = Collections.emptyList();
+    @JsonProperty
+    private Long f44 = 0L;
+    @JsonProperty
+    private String f45;
+    @JsonProperty
+    private Integer f46 = 0;
+    @JsonProperty
+    private String f47;
+    @JsonProperty
+    private List<String> f48 = Collections.emptyList();
+    @JsonProperty
+    private Long f49 = 0L;
+    @JsonProperty
+    private String f50;
+    @JsonProperty
+    private Integer f51 = 0;
+    @JsonProperty
+    private String f52;
+    @JsonProperty
+    private List<String> f53 = Collections.emptyList();
+    @JsonProperty
+    private Long f54 = 0L;
+    @JsonProperty
+    private String f55;
+    @JsonProperty
+    private Integer f56 = 0;
+    @JsonProperty
+    private String f57;
+    @JsonProperty
+    private List<String> f58 = Collections.emptyList();
+    @JsonProperty
+    private Long f59 = 0L;
+    @JsonProperty
+    private String f60;
+    @JsonProperty
+    private Integer f61 = 0;
+    @JsonProperty
+    private String f62;
+    @JsonProperty
+    private List<String> f63 = Collections.emptyList();
+    @JsonProperty
+    private Long f64 = 0L;
+    @JsonProperty
+    private String f65;
+    @JsonProperty
+    private Integer f66 = 0;
+    @JsonProperty
+    private String f67;
+    @JsonProperty
+    private List<String> f68 = Collections.emptyList();
+    @JsonProperty
+    private Long f69 = 0L;
+    @JsonProperty
+    private String f70;
+    @JsonProperty
+    private Integer f71 = 0;
+    @JsonProperty
+    private String f72;
+    @JsonProperty
+    private List<String> f73 = Collections.emptyList();
+    @JsonProperty
+    private Long f74 = 0L;
+    @JsonProperty
+    private String f75;
+    @JsonProperty
+    private Integer f76 = 0;
+    @JsonProperty
+    private String f77;
+    @JsonProperty
+    private List<String> f78 = Collections.emptyList();
+    @JsonProperty
+    private Long f79 = 0L;
+    @JsonProperty
+    private String f80;
+    @JsonProperty
+    private Integer f81 = 0;
+    @JsonProperty
+    private String f82;
+    @JsonProperty
+    private List<String> f83 = Collections.emptyList();
+    @JsonProperty
+    private Long f84 = 0L;
+    @JsonProperty
+    private String f85;
+    @JsonProperty
+    private Integer f86 = 0;
+    @JsonProperty
+    private String f87;
+    @JsonProperty
+    private List<String> f88 = Collections.emptyList();
+    @JsonProperty
+    private Long f89 = 0L;
+    @JsonProperty
+    private String f90;
+    @JsonProperty
+    private Integer f91 = 0;
+    @JsonProperty
+    private String f92;
+    @JsonProperty
+    private List<String> f93 = Collections.emptyList();
+    @JsonProperty
+    private Long f94 = 0L;
+    @JsonProperty
+    private String f95;
+    @JsonProperty
+    private Integer f96 = 0;
+    @JsonProperty
+    private String f97;
+    @JsonProperty
+    private List<String> f98 = Collections.emptyList();
+    @JsonProperty
+    private Long f99 = 0L;
+    @JsonProperty
+    private String f100;
+    @JsonProperty
+    private Integer f101 = 0;
+    @JsonProperty
+    private String f102;
+    @JsonProperty
+    private List<String> f103 = Collections.emptyList();
+    @JsonProperty
+    private Long f104 = 0L;
+    @JsonProperty
+    private String f105;
+    @JsonProperty
+    private Integer f106 = 0;
+    @JsonProperty
+    private String f107;
+    @JsonProperty
+    private List<String> f108 = Collections.emptyList();
+    @JsonProperty
+    private Long f109 = 0L;
+    @JsonProperty
+    private String f110;
+    @JsonProperty
+    private Integer f111 = 0;
+    @JsonProperty
+    private String f112;
+    @JsonProperty
+    private List<String> f113 = Collections.emptyList();
+    @JsonProperty
+    private Long f114 = 0L;
+    @JsonProperty
+    private String f115;
+    @JsonProperty
+    private Integer f116 = 0;
+    @JsonProperty
+    private String f117;
+    @JsonProperty
+    private List<String> f118 = Collections.emptyList();
+    @JsonProperty
+    private Long f119 = 0L;
+    @JsonProperty
+    private String f120;
+    @JsonProperty
+    private Integer f121 = 0;
+    @JsonProperty
+    private String f122;
+    @JsonProperty
+    private List<String> f123 = Collections.emptyList();
+    @JsonProperty
+    private Long f124 = 0L;
+    @JsonProperty
+    private String f125;
+    @JsonProperty
+    private Integer f126 = 0;
+    @JsonProperty
+    private String f127;
+    @JsonProperty
+    private List<String> f128 = Collections.emptyList();
+    @JsonProperty
+    private Long f129 = 0L;
+    @JsonProperty
+    private String f130;
+    @JsonProperty
+    private Integer f131 = 0;
+    @JsonProperty
+    private String f132;
+    @JsonProperty
+    private List<String> f133 = Collections.emptyList();
+    @JsonProperty
+    private Long f134 = 0L;
+    @JsonProperty
+    private String f135;
+    @JsonProperty
+    private Integer f136 = 0;
+    @JsonProperty
+    private String f137;
+    @JsonProperty
+    private List<String> f138 = Collections.emptyList();
+    @JsonProperty
+    private Long f139 = 0L;
+    @JsonProperty
+    private String f140;
+    @JsonProperty
+    private Integer f141 = 0;
+    @JsonProperty
+    private String f142;
+    @JsonProperty
+    private List<String> f143 = Collections.emptyList();
+    @JsonProperty
+    private Long f144 = 0L;
+    @JsonProperty
+    private String f145;
+    @JsonProperty
+    private Integer f146 = 0;
+    @JsonProperty
+    private String f147;
+    @JsonProperty
+    private List<String> f148 = Collections.emptyList();
+    @JsonProperty
+    private Long f149 = 0L;
+    @JsonProperty
+    private String f150;
+    @JsonProperty
+    private Integer f151 = 0;
+    @JsonProperty
+    private String f152;
+    @JsonProperty
+    private List<String> f153 = Collections.emptyList();
+    @JsonProperty
+    private Long f154 = 0L;
+    @JsonProperty
+    private String f155;
+    @JsonProperty
+    private Integer f156 = 0;
+    @JsonProperty
+    private String f157;
+    @JsonProperty
+    private List<String> f158 = Collections.emptyList();
+    @JsonProperty
+    private Long f159 = 0L;
+    @JsonProperty
+    private String f160;
+    @JsonProperty
+    private Integer f161 = 0;
+    @JsonProperty
+    private String f162;
+    @JsonProperty
+    private List<String> f163 = Collections.emptyList();
+    @JsonProperty
+    private Long f164 = 0L;
+    @JsonProperty
+    private String f165;
+    @JsonProperty
+    private Integer f166 = 0;
+    @JsonProperty
+    private String f167;
+    @JsonProperty
+    private List<String> f168 = Collections.emptyList();
+    @JsonProperty
+    private Long f169 = 0L;
+    @JsonProperty
+    private String f170;
+    @JsonProperty
+    private Integer f171 = 0;
+    @JsonProperty
+    private String f172;
+    @JsonProperty
+    private List<String> f173 = Collections.emptyList();
+    @JsonProperty
+    private Long f174 = 0L;
+    @JsonProperty
+    private String f175;
+    @JsonProperty
+    private Integer f176 = 0;
+    @JsonProperty
+    private String f177;
+    @JsonProperty
+    private List<String> f178 = Collections.emptyList();
+    @JsonProperty
+    private Long f179 = 0L;
+    @JsonProperty
+    private String f180;
+    @JsonProperty
+    private Integer f181 = 0;
+    @JsonProperty
+    private String f182;
+    @JsonProperty
+    private List<String> f183 = Collections.emptyList();
+    @JsonProperty
+    private Long f184 = 0L;
+    @JsonProperty
+    private String f185;
+    @JsonProperty
+    private Integer f186 = 0;
+    @JsonProperty
+    private String f187;
+    @JsonProperty
+    private List<String> f188 = Collections.emptyList();
+    @JsonProperty
+    private Long f189 = 0L;
+    @JsonProperty
+    private String f190;
+    @JsonProperty
+    private Integer f191 = 0;
+    @JsonProperty
+    private String f192;
+    @JsonProperty
+    private List<String> f193 = Collections.emptyList();
+    @JsonProperty
+    private Long f194 = 0L;
+    @JsonProperty
+    private String f195;
+    @JsonProperty
+    private Integer f196 = 0;
+    @JsonProperty
+    private String f197;
+    @JsonProperty
+    private List<String> f198 = Collections.emptyList();
+    @JsonProperty
+    private Long f199 = 0L;
+    public Builder f0(String f0){
+      this.f0 = f0;  return this;
+    }
+    public Builder f1(int f1){
+      this.f1 = f1;  return this;
+    }
+    public Builder f2(String f2){
+      this.f2 = f2;  return this;
+    }
+    public Builder f3(List<String> f3){
+      this.f3 = f3;  return this;
+    }
+    public Builder f4(long f4){
+      this.f4 = f4;  return this;
+    }
+    public Builder f5(String f5){
+      this.f5 = f5;  return this;
+    }
+    public Builder f6(int f6){
+      this.f6 = f6;  return this;
+    }
+    public Builder f7(String f7){
+      this.f7 = f7;  return this;
+    }
+    public Builder f8(List<String> f8){
+      this.f8 = f8;  return this;
+    }
+    public Builder f9(long f9){
+      this.f9 = f9;  return this;
+    }
+    public Builder f10(String f10){
+      this.f10 = f10;  return this;
+    }
+    public Builder f11(int f11){
+      this.f11 = f11;  return this;
+    }
+    public Builder f12(String f12){
+      this.f12 = f12;  return this;
+    }
+    public Builder f13(List<String> f13){
+      this.f13 = f13;  return this;
+    }
+    public Builder f14(long f14){
+      this.f14 = f14;  return this;
+    }
+    public Builder f15(String f15){
+      this.f15 = f15;  return this;
+    }
+    public Builder f16(int f16){
+      this.f16 = f16;  return this;
+    }
+    public Builder f17(String f17){
+      this.f17 = f17;  return this;
+    }
+    public Builder f18(List<String> f18){
+      this.f18 = f18;  return this;
+    }
+    public Builder f19(long f19){
+      this.f19 = f19;  return this;
+    }
+    public Builder f20(String f20){
+      this.f20 = f20;  return this;
+    }
+    public Builder f21(int f21){
+      this.f21 = f21;  return this;
+    }
+    public Builder f22(String f22){
+      this.f22 = f22;  return this;
+    }
+    public Builder f23(List<String> f23){
+      this.f23 = f23;  return this;
+    }
+    public Builder f24(long f24){
+      this.f24 = f24;  return this;
+    }
+    public Builder f25(String f25){
+      this.f25 = f25;  return this;
+    }
+    public Builder f26(int f26){
+      this.f26 = f26;  return this;
+    }
+    public Builder f27(String f27){
+      this.f27 = f27;  return this;
+    }
+    public Builder f28(List<String> f28){
+      this.f28 = f28;  return this;
+    }
+    public Builder f29(long f29){
+      this.f29 = f29;  return this;
+    }
+    public Builder f30(String f30){
+      this.f30 = f30;  return this;
+    }
+    public Builder f31(int f31){
+      this.f31 = f31;  return this;
+    }
+    public Builder f32(String f32){
+      this.f32 = f32;  return this;
+    }
+    public Builder f33(List<String> f33){
+      this.f33 = f33;  return this;
+    }
+    public Builder f34(long f34){
+      this.f34 = f34;  return this;
+    }
+    public Builder f35(String f35){
+      this.f35 = f35;  return this;
+    }
+    public Builder f36(int f36){
+      this.f36 = f36;  return this;
+    }
+    public Builder f37(String f37){
+      this.f37 = f37;  return this;
+    }
+    public Builder f38(List<String> f38){
+      this.f38 = f38;  return this;
+    }
+    public Builder f39(long f39){
+      this.f39 = f39;  return this;
+    }
+    public Builder f40(String f40){
+      this.f40 = f40;  return this;
+    }
+    public Builder f41(int f41){
+      this.f41 = f41;  return this;
+    }
+    public Builder f42(String f42){
+      this.f42 = f42;  return this;
+    }
+    public Builder f43(List<String> f43){
+      this.f43 = f43;  return this;
+    }
+    public Builder f44(long f44){
+      this.f44 = f44;  return this;
+    }
+    public Builder f45(String f45){
+      this.f45 = f45;  return this;
+    }
+    public Builder f46(int f46){
+      this.f46 = f46;  return this;
+    }
+    public Builder f47(String f47){
+      this.f47 = f47;  return this;
+    }
+    public Builder f48(List<String> f48){
+      this.f48 = f48;  return this;
+    }
+    public Builder f49(long f49){
+      this.f49 = f49;  return this;
+    }
+    public Builder f50(String f50){
+      this.f50 = f50;  return this;
+    }
+    public Builder f51(int f51){
+      this.f51 = f51;  return this;
+    }
+    public Builder f52(String f52){
+      this.f52 = f52;  return this;
+    }
+    public Builder f53(List<String> f53){
+      this.f53 = f53;  return this;
+    }
+    public Builder f54(long f54){
+      this.f54 = f54;  return this;
+    }
+    public Builder f55(String f55){
+      this.f55 = f55;  return this;
+    }
+    public Builder f56(int f56){
+      this.f56 = f56;  return this;
+    }
+    public Builder f57(String f57){
+      this.f57 = f57;  return this;
+    }
+    public Builder f58(List<String> f58){
+      this.f58 = f58;  return this;
+    }
+    public Builder f59(long f59){
+      this.f59 = f59;  return this;
+    }
+    public Builder f60(String f60){
+      this.f60 = f60;  return this;
+    }
+    public Builder f61(int f61){
+      this.f61 = f61;  return this;
+    }
+    public Builder f62(String f62){
+      this.f62 = f62;  return this;
+    }
+    public Builder f63(List<String> f63){
+      this.f63 = f63;  return this;
+    }
+    public Builder f64(long f64){
+      this.f64 = f64;  return this;
+    }
+    public Builder f65(String f65){
+      this.f65 = f65;  return this;
+    }
+    public Builder f66(int f66){
+      this.f66 = f66;  return this;
+    }
+    public Builder f67(String f67){
+      this.f67 = f67;  return this;
+    }
+    public Builder f68(List<String> f68){
+      this.f68 = f68;  return this;
+    }
+    public Builder f69(long f69){
+      this.f69 = f69;  return this;
+    }
+    public Builder f70(String f70){
+      this.f70 = f70;  return this;
+    }
+    public Builder f71(int f71){
+      this.f71 = f71;  return this;
+    }
+    public Builder f72(String f72){
+      this.f72 = f72;  return this;
+    }
+    public Builder f73(List<String> f73){
+      this.f73 = f73;  return this;
+    }
+    public Builder f74(long f74){
+      this.f74 = f74;  return this;
+    }
+    public Builder f75(String f75){
+      this.f75 = f75;  return this;
+    }
+    public Builder f76(int f76){
+      this.f76 = f76;  return this;
+    }
+    public Builder f77(String f77){
+      this.f77 = f77;  return this;
+    }
+    public Builder f78(List<String> f78){
+      this.f78 = f78;  return this;
+    }
+    public Builder f79(long f79){
+      this.f79 = f79;  return this;
+    }
+    public Builder f80(String f80){
+      this.f80 = f80;  return this;
+    }
+    public Builder f81(int f81){
+      this.f81 = f81;  return this;
+    }
+    public Builder f82(String f82){
+      this.f82 = f82;  return this;
+    }
+    public Builder f83(List<String> f83){
+      this.f83 = f83;  return this;
+    }
+    public Builder f84(long f84){
+      this.f84 = f84;  return this;
+    }
+    public Builder f85(String f85){
+      this.f85 = f85;  return this;
+    }
+    public Builder f86(int f86){
+      this.f86 = f86;  return this;
+    }
+    public Builder f87(String f87){
+      this.f87 = f87;  return this;
+    }
+    public Builder f88(List<String> f88){
+      this.f88 = f88;  return this;
+    }
+    public Builder f89(long f89){
+      this.f89 = f89;  return this;
+    }
+    public Builder f90(String f90){
+      this.f90 = f90;  return this;
+    }
+    public Builder f91(int f91){
+      this.f91 = f91;  return this;
+    }
+    public Builder f92(String f92){
+      this.f92 = f92;  return this;
+    }
+    public Builder f93(List<String> f93){
+      this.f93 = f93;  return this;
+    }
+    public Builder f94(long f94){
+      this.f94 = f94;  return this;
+    }
+    public Builder f95(String f95){
+      this.f95 = f95;  return this;
+    }
+    public Builder f96(int f96){
+      this.f96 = f96;  return this;
+    }
+    public Builder f97(String f97){
+      this.f97 = f97;  return this;
+    }
+    public Builder f98(List<String> f98){
+      this.f98 = f98;  return this;
+    }
+    public Builder f99(long f99){
+      this.f99 = f99;  return this;
+    }
+    public Builder f100(String f100){
+      this.f100 = f100;  return this;
+    }
+    public Builder f101(int f101){
+      this.f101 = f101;  return this;
+    }
+    public Builder f102(String f102){
+      this.f102 = f102;  return this;
+    }
+    public Builder f103(List<String> f103){
+      this.f103 = f103;  return this;
+    }
+    public Builder f104(long f104){
+      this.f104 = f104;  return this;
+    }
+    public Builder f105(String f105){
+      this.f105 = f105;  return this;
+    }
+    public Builder f106(int f106){
+      this.f106 = f106;  return this;
+    }
+    public Builder f107(String f107){
+      this.f107 = f107;  return this;
+    }
+    public Builder f108(List<String> f108){
+      this.f108 = f108;  return this;
+    }
+    public Builder f109(long f109){
+      this.f109 = f109;  return this;
+    }
+    public Builder f110(String f110){
+      this.f110 = f110;  return this;
+    }
+    public Builder f111(int f111){
+      this.f111 = f111;  return this;
+    }
+    public Builder f112(String f112){
+      this.f112 = f112;  return this;
+    }
+    public Builder f113(List<String> f113){
+      this.f113 = f113;  return this;
+    }
+    public Builder f114(long f114){
+      this.f114 = f114;  return this;
+    }
+    public Builder f115(String f115){
+      this.f115 = f115;  return this;
+    }
+    public Builder f116(int f116){
+      this.f116 = f116;  return this;
+    }
+    public Builder f117(String f117){
+      this.f117 = f117;  return this;
+    }
+    public Builder f118(List<String> f118){
+      this.f118 = f118;  return this;
+    }
+    public Builder f119(long f119){
+      this.f119 = f119;  return this;
+    }
+    public Builder f120(String f120){
+      this.f120 = f120;  return this;
+    }
+    public Builder f121(int f121){
+      this.f121 = f121;  return this;
+    }
+    public Builder f122(String f122){
+      this.f122 = f122;  return this;
+    }
+    public Builder f123(List<String> f123){
+      this.f123 = f123;  return this;
+    }
+    public Builder f124(long f124){
+      this.f124 = f124;  return this;
+    }
+    public Builder f125(String f125){
+      this.f125 = f125;  return this;
+    }
+    public Builder f126(int f126){
+      this.f126 = f126;  return this;
+    }
+    public Builder f127(String f127){
+      this.f127 = f127;  return this;
+    }
+    public Builder f128(List<String> f128){
+      this.f128 = f128;  return this;
+    }
+    public Builder f129(long f129){
+      this.f129 = f129;  return this;
+    }
+    public Builder f130(String f130){
+      this.f130 = f130;  return this;
+    }
+    public Builder f131(int f131){
+      this.f131 = f131;  return this;
+    }
+    public Builder f132(String f132){
+      this.f132 = f132;  return this;
+    }
+    public Builder f133(List<String> f133){
+      this.f133 = f133;  return this;
+    }
+    public Builder f134(long f134){
+      this.f134 = f134;  return this;
+    }
+    public Builder f135(String f135){
+      this.f135 = f135;  return this;
+    }
+    public Builder f136(int f136){
+      this.f136 = f136;  return this;
+    }
+    public Builder f137(String f137){
+      this.f137 = f137;  return this;
+    }
+    public Builder f138(List<String> f138){
+      this.f138 = f138;  return this;
+    }
+    public Builder f139(long f139){
+      this.f139 = f139;  return this;
+    }
+    public Builder f140(String f140){
+      this.f140 = f140;  return this;
+    }
+    public Builder f141(int f141){
+      this.f141 = f141;  return this;
+    }
+    public Builder f142(String f142){
+      this.f142 = f142;  return this;
+    }
+    public Builder f143(List<String> f143){
+      this.f143 = f143;  return this;
+    }
+    public Builder f144(long f144){
+      this.f144 = f144;  return this;
+    }
+    public Builder f145(String f145){
+      this.f145 = f145;  return this;
+    }
+    public Builder f146(int f146){
+      this.f146 = f146;  return this;
+    }
+    public Builder f147(String f147){
+      this.f147 = f147;  return this;
+    }
+    public Builder f148(List<String> f148){
+      this.f148 = f148;  return this;
+    }
+    public Builder f149(long f149){
+      this.f149 = f149;  return this;
+    }
+    public Builder f150(String f150){
+      this.f150 = f150;  return this;
+    }
+    public Builder f151(int f151){
+      this.f151 = f151;  return this;
+    }
+    public Builder f152(String f152){
+      this.f152 = f152;  return this;
+    }
+    public Builder f153(List<String> f153){
+      this.f153 = f153;  return this;
+    }
+    public Builder f154(long f154){
+      this.f154 = f154;  return this;
+    }
+    public Builder f155(String f155){
+      this.f155 = f155;  return this;
+    }
+    public Builder f156(int f156){
+      this.f156 = f156;  return this;
+    }
+    public Builder f157(String f157){
+      this.f157 = f157;  return this;
+    }
+    public Builder f158(List<String> f158){
+      this.f158 = f158;  return this;
+    }
+    public Builder f159(long f159){
+      this.f159 = f159;  return this;
+    }
+    public Builder f160(String f160){
+      this.f160 = f160;  return this;
+    }
+    public Builder f161(int f161){
+      this.f161 = f161;  return this;
+    }
+    public Builder f162(String f162){
+      this.f162 = f162;  return this;
+    }
+    public Builder f163(List<String> f163){
+      this.f163 = f163;  return this;
+    }
+    public Builder f164(long f164){
+      this.f164 = f164;  return this;
+    }
+    public Builder f165(String f165){
+      this.f165 = f165;  return this;
+    }
+    public Builder f166(int f166){
+      this.f166 = f166;  return this;
+    }
+    public Builder f167(String f167){
+      this.f167 = f167;  return this;
+    }
+    public Builder f168(List<String> f168){
+      this.f168 = f168;  return this;
+    }
+    public Builder f169(long f169){
+      this.f169 = f169;  return this;
+    }
+    public Builder f170(String f170){
+      this.f170 = f170;  return this;
+    }
+    public Builder f171(int f171){
+      this.f171 = f171;  return this;
+    }
+    public Builder f172(String f172){
+      this.f172 = f172;  return this;
+    }
+    public Builder f173(List<String> f173){
+      this.f173 = f173;  return this;
+    }
+    public Builder f174(long f174){
+      this.f174 = f174;  return this;
+    }
+    public Builder f175(String f175){
+      this.f175 = f175;  return this;
+    }
+    public Builder f176(int f176){
+      this.f176 = f176;  return this;
+    }
+    public Builder f177(String f177){
+      this.f177 = f177;  return this;
+    }
+    public Builder f178(List<String> f178){
+      this.f178 = f178;  return this;
+    }
+    public Builder f179(long f179){
+      this.f179 = f179;  return this;
+    }
+    public Builder f180(String f180){
+      this.f180 = f180;  return this;
+    }
+    public Builder f181(int f181){
+      this.f181 = f181;  return this;
+    }
+    public Builder f182(String f182){
+      this.f182 = f182;  return this;
+    }
+    public Builder f183(List<String> f183){
+      this.f183 = f183;  return this;
+    }
+    public Builder f184(long f184){
+      this.f184 = f184;  return this;
+    }
+    public Builder f185(String f185){
+      this.f185 = f185;  return this;
+    }
+    public Builder f186(int f186){
+      this.f186 = f186;  return this;
+    }
+    public Builder f187(String f187){
+      this.f187 = f187;  return this;
+    }
+    public Builder f188(List<String> f188){
+      this.f188 = f188;  return this;
+    }
+    public Builder f189(long f189){
+      this.f189 = f189;  return this;
+    }
+    public Builder f190(String f190){
+      this.f190 = f190;  return this;
+    }
+    public Builder f191(int f191){
+      this.f191 = f191;  return this;
+    }
+    public Builder f192(String f192){
+      this.f192 = f192;  return this;
+    }
+    public Builder f193(List<String> f193){
+      this.f193 = f193;  return this;
+    }
+    public Builder f194(long f194){
+      this.f194 = f194;  return this;
+    }
+    public Builder f195(String f195){
+      this.f195 = f195;  return this;
+    }
+    public Builder f196(int f196){
+      this.f196 = f196;  return this;
+    }
+    public Builder f197(String f197){
+      this.f197 = f197;  return this;
+    }
+    public Builder f198(List<String> f198){
+      this.f198 = f198;  return this;
+    }
+    public Builder f199(long f199){
+      this.f199 = f199;  return this;
+    }
+    public Builder(){}
+    public Builder reset(){
+      f0 = null;
+      f1 = 0;
+      f2 = null;
+      f3 = Collections.emptyList();
+      f4 = 0L;
+      f5 = null;
+      f6 = 0;
+      f7 = null;
+      f8 = Collections.emptyList();
+      f9 = 0L;
+      f10 = null;
+      f11 = 0;
+      f12 = null;
+      f13 = Collections.emptyList();
+      f14 = 0L;
+      f15 = null;
+      f16 = 0;
+      f17 = null;
+      f18 = Collections.emptyList();
+      f19 = 0L;
+      f20 = null;
+      f21 = 0;
+      f22 = null;
+      f23 = Collections.emptyList();
+      f24 = 0L;
+      f25 = null;
+      f26 = 0;
+      f27 = null;
+      f28 = Collections.emptyList();
+      f29 = 0L;
+      f30 = null;
+      f31 = 0;
+      f32 = null;
+      f33 = Collections.emptyList();
+      f34 = 0L;
+      f35 = null;
+      f36 = 0;
+      f37 = null;
+      f38 = Collections.emptyList();
+      f39 = 0L;
+      f40 = null;
+      f41 = 0;
+      f42 = null;
+      f43 = Collections.emptyList();
+      f44 = 0L;
+      f45 = null;
+      f46 = 0;
+      f47 = null;
+      f48 = Collections.emptyList();
+      f49 = 0L;
+      f50 = null;
+      f51 = 0;
+      f52 = null;
+      f53 = Collections.emptyList();
+      f54 = 0L;
+      f55 = null;
+      f56 = 0;
+      f57 = null;
+      f58 = Collections.emptyList();
+      f59 = 0L;
+      f60 = null;
+      f61 = 0;
+      f62 = null;
+      f63 = Collections.emptyList();
+      f64 = 0L;
+      f65 = null;
+      f66 = 0;
+      f67 = null;
+      f68 = Collections.emptyList();
+      f69 = 0L;
+      f70 = null;
+      f71 = 0;
+      f72 = null;
+      f73 = Collections.emptyList();
+      f74 = 0L;
+      f75 = null;
+      f76 = 0;
+      f77 = null;
+      f78 = Collections.emptyList();
+      f79 = 0L;
+      f80 = null;
+      f81 = 0;
+      f82 = null;
+      f83 = Collections.emptyList();
+      f84 = 0L;
+      f85 = null;
+      f86 = 0;
+      f87 = null;
+      f88 = Collections.emptyList();
+      f89 = 0L;
+      f90 = null;
+      f91 = 0;
+      f92 = null;
+      f93 = Collections.emptyList();
+      f94 = 0L;
+      f95 = null;
+      f96 = 0;
+      f97 = null;
+      f98 = Collections.emptyList();
+      f99 = 0L;
+      f100 = null;
+      f101 = 0;
+      f102 = null;
+      f103 = Collections.emptyList();
+      f104 = 0L;
+      f105 = null;
+      f106 = 0;
+      f107 = null;
+      f108 = Collections.emptyList();
+      f109 = 0L;
+      f110 = null;
+      f111 = 0;
+      f112 = null;
+      f113 = Collections.emptyList();
+      f114 = 0L;
+      f115 = null;
+      f116 = 0;
+      f117 = null;
+      f118 = Collections.emptyList();
+      f119 = 0L;
+      f120 = null;
+      f121 = 0;
+      f122 = null;
+      f123 = Collections.emptyList();
+      f124 = 0L;
+      f125 = null;
+      f126 = 0;
+      f127 = null;
+      f128 = Collections.emptyList();
+      f129 = 0L;
+      f130 = null;
+      f131 = 0;
+      f132 = null;
+      f133 = Collections.emptyList();
+      f134 = 0L;
+      f135 = null;
+      f136 = 0;
+      f137 = null;
+      f138 = Collections.emptyList();
+      f139 = 0L;
+      f140 = null;
+      f141 = 0;
+      f142 = null;
+      f143 = Collections.emptyList();
+      f144 = 0L;
+      f145 = null;
+      f146 = 0;
+      f147 = null;
+      f148 = Collections.emptyList();
+      f149 = 0L;
+      f150 = null;
+      f151 = 0;
+      f152 = null;
+      f153 = Collections.emptyList();
+      f154 = 0L;
+      f155 = null;
+      f156 = 0;
+      f157 = null;
+      f158 = Collections.emptyList();
+      f159 = 0L;
+      f160 = null;
+      f161 = 0;
+      f162 = null;
+      f163 = Collections.emptyList();
+      f164 = 0L;
+      f165 = null;
+      f166 = 0;
+      f167 = null;
+      f168 = Collections.emptyList();
+      f169 = 0L;
+      f170 = null;
+      f171 = 0;
+      f172 = null;
+      f173 = Collections.emptyList();
+      f174 = 0L;
+      f175 = null;
+      f176 = 0;
+      f177 = null;
+      f178 = Collections.emptyList();
+      f179 = 0L;
+      f180 = null;
+      f181 = 0;
+      f182 = null;
+      f183 = Collections.emptyList();
+      f184 = 0L;
+      f185 = null;
+      f186 = 0;
+      f187 = null;
+      f188 = Collections.emptyList();
+      f189 = 0L;
+      f190 = null;
+      f191 = 0;
+      f192 = null;
+      f193 = Collections.emptyList();
+      f194 = 0L;
+      f195 = null;
+      f196 = 0;
+      f197 = null;
+      f198 = Collections.emptyList();
+      f199 = 0L;
+      return this;}
+    public com.geoffgranum.plugin.builder.benchmark.Wide200Streaming build() {
+      return new com.geoffgranum.plugin.builder.benchmark.Wide200Streaming(this);
+    }
+    public static final class Deserializer extends JsonDeserializer<com.geoffgranum.plugin.builder.benchmark.Wide200Streaming> implements ResolvableDeserializer {
+      private JsonDeserializer<Object> f0Deserializer;
+      private JsonDeserializer<Object> f1Deserializer;
+      private JsonDeserializer<Object> f2Deserializer;
+      private JsonDeserializer<Object> f3Deserializer;
+      private JsonDeserializer<Object> f4Deserializer;
+      private JsonDeserializer<Object> f5Deserializer;
+      private JsonDeserializer<Object> f6Deserializer;
+      private JsonDeserializer<Object> f7Deserializer;
+      private JsonDeserializer<Object> f8Deserializer;
+      private JsonDeserializer<Object> f9Deserializer;
+      private JsonDeserializer<Object> f10Deserializer;
+      private JsonDeserializer<Object> f11Deserializer;
+      private JsonDeserializer<Object> f12Deserializer;
+      private JsonDeserializer<Object> f13Deserializer;
+      private JsonDeserializer<Object> f14Deserializer;
+      private JsonDeserializer<Object> f15Deserializer;
+      private JsonDeserializer<Object> f16Deserializer;
+      private JsonDeserializer<Object> f17Deserializer;
+      private JsonDeserializer<Object> f18Deserializer;
+      private JsonDeserializer<Object> f19Deserializer;
+      private JsonDeserializer<Object> f20Deserializer;
+      private JsonDeserializer<Object> f21Deserializer;
+      private JsonDeserializer<Object> f22Deserializer;
+      private JsonDeserializer<Object> f23Deserializer;
+      private JsonDeserializer<Object> f24Deserializer;
+      private JsonDeserializer<Object> f25Deserializer;
+      private JsonDeserializer<Object> f26Deserializer;
+      private JsonDeserializer<Object> f27Deserializer;
+      private JsonDeserializer<Object> f28Deserializer;
+      private JsonDeserializer<Object> f29Deserializer;
+      private JsonDeserializer<Object> f30Deserializer;
+      private JsonDeserializer<Object> f31Deserializer;
+      private JsonDeserializer<Object> f32Deserializer;
+      private JsonDeserializer<Object> f33Deserializer;
+      private JsonDeserializer<Object> f34Deserializer;
+      private JsonDeserializer<Object> f35Deserializer;
+      private JsonDeserializer<Object> f36Deserializer;
+      private JsonDeserializer<Object> f37Deserializer;
+      private JsonDeserializer<Object> f38Deserializer;
+      private JsonDeserializer<Object> f39Deserializer;
+      private JsonDeserializer<Object> f40Deserializer;
+      private JsonDeserializer<Object> f41Deserializer;
+      private JsonDeserializer<Object> f42Deserializer;
+      private JsonDeserializer<Object> f43Deserializer;
+      private JsonDeserializer<Object> f44Deserializer;
+      private JsonDeserializer<Object> f45Deserializer;
+      private JsonDeserializer<Object> f46Deserializer;
+      private JsonDeserializer<Object> f47Deserializer;
+      private JsonDeserializer<Object> f48Deserializer;
+      private JsonDeserializer<Object> f49Deserializer;
+      private JsonDeserializer<Object> f50Deserializer;
+      private JsonDeserializer<Object> f51Deserializer;
+      private JsonDeserializer<Object> f52Deserializer;
+      private JsonDeserializer<Object> f53Deserializer;
+      private JsonDeserializer<Object> f54Deserializer;
+      private JsonDeserializer<Object> f55Deserializer;
+      private JsonDeserializer<Object> f56Deserializer;
+      private JsonDeserializer<Object> f57Deserializer;
+      private JsonDeserializer<Object> f58Deserializer;
+      private JsonDeserializer<Object> f59Deserializer;
+      private JsonDeserializer<Object> f60Deserializer;
+      private JsonDeserializer<Object> f61Deserializer;
+      private JsonDeserializer<Object> f62Deserializer;
+      private JsonDeserializer<Object> f63Deserializer;
+      private JsonDeserializer<Object> f64Deserializer;
+      private JsonDeserializer<Object> f65Deserializer;
+      private JsonDeserializer<Object> f66Deserializer;
+      private JsonDeserializer<Object> f67Deserializer;
+      private JsonDeserializer<Object> f68Deserializer;
+      private JsonDeserializer<Object> f69Deserializer;
+      private JsonDeserializer<Object> f70Deserializer;
+      private JsonDeserializer<Object> f71Deserializer;
+      private JsonDeserializer<Object> f72Deserializer;
+      private JsonDeserializer<Object> f73Deserializer;
+      private JsonDeserializer<Object> f74Deserializer;
+      private JsonDeserializer<Object> f75Deserializer;
+      private JsonDeserializer<Object> f76Deserializer;
+      private JsonDeserializer<Object> f77Deserializer;
+      private JsonDeserializer<Object> f78Deserializer;
+      private JsonDeserializer<Object> f79Deserializer;
+      private JsonDeserializer<Object> f80Deserializer;
+      private JsonDeserializer<Object> f81Deserializer;
+      private JsonDeserializer<Object> f82Deserializer;
+      private JsonDeserializer<Object> f83Deserializer;
+      private JsonDeserializer<Object> f84Deserializer;
+      private JsonDeserializer<Object> f85Deserializer;
+      private JsonDeserializer<Object> f86Deserializer;
+      private JsonDeserializer<Object> f87Deserializer;
+      private JsonDeserializer<Object> f88Deserializer;
+      private JsonDeserializer<Object> f89Deserializer;
+      private JsonDeserializer<Object> f90Deserializer;
+      private JsonDeserializer<Object> f91Deserializer;
+      private JsonDeserializer<Object> f92Deserializer;
+      private JsonDeserializer<Object> f93Deserializer;
+      private JsonDeserializer<Object> f94Deserializer;
+      private JsonDeserializer<Object> f95Deserializer;
+      private JsonDeserializer<Object> f96Deserializer;
+      private JsonDeserializer<Object> f97Deserializer;
+      private JsonDeserializer<Object> f98Deserializer;
+      private JsonDeserializer<Object> f99Deserializer;
+      private JsonDeserializer<Object> f100Deserializer;
+      private JsonDeserializer<Object> f101Deserializer;
+      private JsonDeserializer<Object> f102Deserializer;
+      private JsonDeserializer<Object> f103Deserializer;
+      private JsonDeserializer<Object> f104Deserializer;
+      private JsonDeserializer<Object> f105Deserializer;
+      private JsonDeserializer<Object> f106Deserializer;
+      private JsonDeserializer<Object> f107Deserializer;
+      private JsonDeserializer<Object> f108Deserializer;
+      private JsonDeserializer<Object> f109Deserializer;
+      private JsonDeserializer<Object> f110Deserializer;
+      private JsonDeserializer<Object> f111Deserializer;
+      private JsonDeserializer<Object> f112Deserializer;
+      private JsonDeserializer<Object> f113Deserializer;
+      private JsonDeserializer<Object> f114Deserializer;
+      private JsonDeserializer<Object> f115Deserializer;
+      private JsonDeserializer<Object> f116Deserializer;
+      private JsonDeserializer<Object> f117Deserializer;
+      private JsonDeserializer<Object> f118Deserializer;
+      private JsonDeserializer<Object> f119Deserializer;
+      private JsonDeserializer<Object> f120Deserializer;
+      private JsonDeserializer<Object> f121Deserializer;
+      private JsonDeserializer<Object> f122Deserializer;
+      private JsonDeserializer<Object> f123Deserializer;
+      private JsonDeserializer<Object> f124Deserializer;
+      private JsonDeserializer<Object> f125Deserializer;
+      private JsonDeserializer<Object> f126Deserializer;
+      private JsonDeserializer<Object> f127Deserializer;
+      private JsonDeserializer<Object> f128Deserializer;
+      private JsonDeserializer<Object> f129Deserializer;
+      private JsonDeserializer<Object> f130Deserializer;
+      private JsonDeserializer<Object> f131Deserializer;
+      private JsonDeserializer<Object> f132Deserializer;
+      private JsonDeserializer<Object> f133Deserializer;
+      private JsonDeserializer<Object> f134Deserializer;
+      private JsonDeserializer<Object> f135Deserializer;
+      private JsonDeserializer<Object> f136Deserializer;
+      private JsonDeserializer<Object> f137Deserializer;
+      private JsonDeserializer<Object> f138Deserializer;
+      private JsonDeserializer<Object> f139Deserializer;
+      private JsonDeserializer<Object> f140Deserializer;
+      private JsonDeserializer<Object> f141Deserializer;
+      private JsonDeserializer<Object> f142Deserializer;
+      private JsonDeserializer<Object> f143Deserializer;
+      private JsonDeserializer<Object> f144Deserializer;
+      private JsonDeserializer<Object> f145Deserializer;
+      private JsonDeserializer<Object> f146Deserializer;
+      private JsonDeserializer<Object> f147Deserializer;
+      private JsonDeserializer<Object> f148Deserializer;
+      private JsonDeserializer<Object> f149Deserializer;
+      private JsonDeserializer<Object> f150Deserializer;
+      private JsonDeserializer<Object> f151Deserializer;
+      private JsonDeserializer<Object> f152Deserializer;
+      private JsonDeserializer<Object> f153Deserializer;
+      private JsonDeserializer<Object> f154Deserializer;
+      private JsonDeserializer<Object> f155Deserializer;
+      private JsonDeserializer<Object> f156Deserializer;
+      private JsonDeserializer<Object> f157Deserializer;
+      private JsonDeserializer<Object> f158Deserializer;
+      private JsonDeserializer<Object> f159Deserializer;
+      private JsonDeserializer<Object> f160Deserializer;
+      private JsonDeserializer<Object> f161Deserializer;
+      private JsonDeserializer<Object> f162Deserializer;
+      private JsonDeserializer<Object> f163Deserializer;
+      private JsonDeserializer<Object> f164Deserializer;
+      private JsonDeserializer<Object> f165Deserializer;
+      private JsonDeserializer<Object> f166Deserializer;
+      private JsonDeserializer<Object> f167Deserializer;
+      private JsonDeserializer<Object> f168Deserializer;
+      private JsonDeserializer<Object> f169Deserializer;
+      private JsonDeserializer<Object> f170Deserializer;
+      private JsonDeserializer<Object> f171Deserializer;
+      private JsonDeserializer<Object> f172Deserializer;
+      private JsonDeserializer<Object> f173Deserializer;
+      private JsonDeserializer<Object> f174Deserializer;
+      private JsonDeserializer<Object> f175Deserializer;
+      private JsonDeserializer<Object> f176Deserializer;
+      private JsonDeserializer<Object> f177Deserializer;
+      private JsonDeserializer<Object> f178Deserializer;
+      private JsonDeserializer<Object> f179Deserializer;
+      private JsonDeserializer<Object> f180Deserializer;
+      private JsonDeserializer<Object> f181Deserializer;
+      private JsonDeserializer<Object> f182Deserializer;
+      private JsonDeserializer<Object> f183Deserializer;
+      private JsonDeserializer<Object> f184Deserializer;
+      private JsonDeserializer<Object> f185Deserializer;
+      private JsonDeserializer<Object> f186Deserializer;
+      private JsonDeserializer<Object> f187Deserializer;
+      private JsonDeserializer<Object> f188Deserializer;
+      private JsonDeserializer<Object> f189Deserializer;
+      private JsonDeserializer<Object> f190Deserializer;
+      private JsonDeserializer<Object> f191Deserializer;
+      private JsonDeserializer<Object> f192Deserializer;
+      private JsonDeserializer<Object> f193Deserializer;
+      private JsonDeserializer<Object> f194Deserializer;
+      private JsonDeserializer<Object> f195Deserializer;
+      private JsonDeserializer<Object> f196Deserializer;
+      private JsonDeserializer<Object> f197Deserializer;
+      private JsonDeserializer<Object> f198Deserializer;
+      private JsonDeserializer<Object> f199Deserializer;
+      @Override
+      public void resolve(DeserializationContext context) throws JsonMappingException {
+        f0Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f1Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f2Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f3Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f4Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f5Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f6Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f7Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f8Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f9Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f10Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f11Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f12Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f13Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f14Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f15Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f16Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f17Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f18Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f19Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f20Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f21Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f22Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f23Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f24Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f25Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f26Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f27Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f28Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f29Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f30Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f31Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f32Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f33Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f34Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f35Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f36Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f37Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f38Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f39Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f40Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f41Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f42Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f43Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f44Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f45Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f46Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f47Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f48Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f49Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f50Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f51Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f52Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f53Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f54Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f55Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f56Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f57Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f58Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f59Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f60Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f61Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f62Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f63Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f64Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f65Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f66Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f67Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f68Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f69Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f70Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f71Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f72Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f73Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f74Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f75Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f76Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f77Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f78Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f79Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f80Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f81Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f82Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f83Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f84Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f85Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f86Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f87Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f88Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f89Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f90Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f91Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f92Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f93Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f94Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f95Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f96Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f97Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f98Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f99Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f100Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f101Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f102Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f103Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f104Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f105Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f106Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f107Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f108Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f109Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f110Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f111Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f112Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f113Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f114Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f115Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f116Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f117Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f118Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f119Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f120Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f121Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f122Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f123Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f124Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f125Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f126Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f127Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f128Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f129Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f130Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f131Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f132Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f133Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f134Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f135Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f136Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f137Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f138Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f139Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f140Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f141Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f142Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f143Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f144Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f145Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f146Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f147Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f148Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f149Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f150Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f151Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f152Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f153Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f154Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f155Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f156Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f157Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f158Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f159Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f160Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f161Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f162Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f163Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f164Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f165Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f166Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f167Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f168Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f169Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f170Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f171Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f172Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f173Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f174Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f175Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f176Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f177Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f178Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f179Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f180Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f181Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f182Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f183Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f184Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f185Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f186Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f187Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f188Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f189Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f190Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f191Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f192Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f193Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f194Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f195Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f196Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f197Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f198Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f199Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+      }
+      @Override
+      public boolean isCachable() {
+        return true;
+      }
+      @Override
+      public com.geoffgranum.plugin.builder.benchmark.Wide200Streaming deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+          token = parser.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+          return (com.geoffgranum.plugin.builder.benchmark.Wide200Streaming) context.handleUnexpectedToken(com.geoffgranum.plugin.builder.benchmark.Wide200Streaming.class, parser);
+        }
+        Builder builder = new Builder();
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+          String name = parser.getCurrentName();
+          token = parser.nextToken();
+          if (!readProperty0(builder, name, token, parser, context) && !readProperty1(builder, name, token, parser, context) && !readProperty2(builder, name, token, parser, context) && !readProperty3(builder, name, token, parser, context)) {
+            context.handleUnknownProperty(parser, this, com.geoffgranum.plugin.builder.benchmark.Wide200Streaming.class, name);
+          }
+        }
+        try {
+          return builder.build();
+        } catch (RuntimeException e) {
+          return (com.geoffgranum.plugin.builder.benchmark.Wide200Streaming) context.handleInstantiationProblem(com.geoffgranum.plugin.builder.benchmark.Wide200Streaming.class, builder, e);
+        }
+      }
+      @SuppressWarnings("unchecked")
+      private boolean readProperty0(Builder builder, String name, JsonToken token, JsonParser parser, DeserializationContext context) throws IOException {
+        switch (name) {
+          case "f0":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f0 = parser.getText();
+          } else {
+            builder.f0 = (String) read(parser, context, f0Deserializer);
+          }
+          return true;
+          case "f1":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f1 = parser.getIntValue();
+          } else {
+            builder.f1 = (Integer) read(parser, context, f1Deserializer);
+          }
+          return true;
+          case "f2":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f2 = parser.getText();
+          } else {
+            builder.f2 = (String) read(parser, context, f2Deserializer);
+          }
+          return true;
+          case "f3":
+          builder.f3 = (List<String>) read(parser, context, f3Deserializer);
+          return true;
+          case "f4":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f4 = parser.getLongValue();
+          } else {
+            builder.f4 = (Long) read(parser, context, f4Deserializer);
+          }
+          return true;
+          case "f5":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f5 = parser.getText();
+          } else {
+            builder.f5 = (String) read(parser, context, f5Deserializer);
+          }
+          return true;
+          case "f6":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f6 = parser.getIntValue();
+          } else {
+            builder.f6 = (Integer) read(parser, context, f6Deserializer);
+          }
+          return true;
+          case "f7":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f7 = parser.getText();
+          } else {
+            builder.f7 = (String) read(parser, context, f7Deserializer);
+          }
+          return true;
+          case "f8":
+          builder.f8 = (List<String>) read(parser, context, f8Deserializer);
+          return true;
+          case "f9":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f9 = parser.getLongValue();
+          } else {
+            builder.f9 = (Long) read(parser, context, f9Deserializer);
+          }
+          return true;
+          case "f10":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f10 = parser.getText();
+          } else {
+            builder.f10 = (String) read(parser, context, f10Deserializer);
+          }
+          return true;
+          case "f11":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f11 = parser.getIntValue();
+          } else {
+            builder.f11 = (Integer) read(parser, context, f11Deserializer);
+          }
+          return true;
+          case "f12":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f12 = parser.getText();
+          } else {
+            builder.f12 = (String) read(parser, context, f12Deserializer);
+          }
+          return true;
+          case "f13":
+          builder.f13 = (List<String>) read(parser, context, f13Deserializer);
+          return true;
+          case "f14":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f14 = parser.getLongValue();
+          } else {
+            builder.f14 = (Long) read(parser, context, f14Deserializer);
+          }
+          return true;
+          case "f15":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f15 = parser.getText();
+          } else {
+            builder.f15 = (String) read(parser, context, f15Deserializer);
+          }
+          return true;
+          case "f16":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f16 = parser.getIntValue();
+          } else {
+            builder.f16 = (Integer) read(parser, context, f16Deserializer);
+          }
+          return true;
+          case "f17":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f17 = parser.getText();
+          } else {
+            builder.f17 = (String) read(parser, context, f17Deserializer);
+          }
+          return true;
+          case "f18":
+          builder.f18 = (List<String>) read(parser, context, f18Deserializer);
+          return true;
+          case "f19":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f19 = parser.getLongValue();
+          } else {
+            builder.f19 = (Long) read(parser, context, f19Deserializer);
+          }
+          return true;
+          case "f20":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f20 = parser.getText();
+          } else {
+            builder.f20 = (String) read(parser, context, f20Deserializer);
+          }
+          return true;
+          case "f21":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f21 = parser.getIntValue();
+          } else {
+            builder.f21 = (Integer) read(parser, context, f21Deserializer);
+          }
+          return true;
+          case "f22":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f22 = parser.getText();
+          } else {
+            builder.f22 = (String) read(parser, context, f22Deserializer);
+          }
+          return true;
+          case "f23":
+          builder.f23 = (List<String>) read(parser, context, f23Deserializer);
+          return true;
+          case "f24":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f24 = parser.getLongValue();
+          } else {
+            builder.f24 = (Long) read(parser, context, f24Deserializer);
+          }
+          return true;
+          case "f25":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f25 = parser.getText();
+          } else {
+            builder.f25 = (String) read(parser, context, f25Deserializer);
+          }
+          return true;
+          case "f26":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f26 = parser.getIntValue();
+          } else {
+            builder.f26 = (Integer) read(parser, context, f26Deserializer);
+          }
+          return true;
+          case "f27":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f27 = parser.getText();
+          } else {
+            builder.f27 = (String) read(parser, context, f27Deserializer);
+          }
+          return true;
+          case "f28":
+          builder.f28 = (List<String>) read(parser, context, f28Deserializer);
+          return true;
+          case "f29":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f29 = parser.getLongValue();
+          } else {
+            builder.f29 = (Long) read(parser, context, f29Deserializer);
+          }
+          return true;
+          case "f30":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f30 = parser.getText();
+          } else {
+            builder.f30 = (String) read(parser, context, f30Deserializer);
+          }
+          return true;
+          case "f31":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f31 = parser.getIntValue();
+          } else {
+            builder.f31 = (Integer) read(parser, context, f31Deserializer);
+          }
+          return true;
+          case "f32":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f32 = parser.getText();
+          } else {
+            builder.f32 = (String) read(parser, context, f32Deserializer);
+          }
+          return true;
+          case "f33":
+          builder.f33 = (List<String>) read(parser, context, f33Deserializer);
+          return true;
+          case "f34":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f34 = parser.getLongValue();
+          } else {
+            builder.f34 = (Long) read(parser, context, f34Deserializer);
+          }
+          return true;
+          case "f35":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f35 = parser.getText();
+          } else {
+            builder.f35 = (String) read(parser, context, f35Deserializer);
+          }
+          return true;
+          case "f36":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f36 = parser.getIntValue();
+          } else {
+            builder.f36 = (Integer) read(parser, context, f36Deserializer);
+          }
+          return true;
+          case "f37":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f37 = parser.getText();
+          } else {
+            builder.f37 = (String) read(parser, context, f37Deserializer);
+          }
+          return true;
+          case "f38":
+          builder.f38 = (List<String>) read(parser, context, f38Deserializer);
+          return true;
+          case "f39":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f39 = parser.getLongValue();
+          } else {
+            builder.f39 = (Long) read(parser, context, f39Deserializer);
+          }
+          return true;
+          case "f40":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f40 = parser.getText();
+          } else {
+            builder.f40 = (String) read(parser, context, f40Deserializer);
+          }
+          return true;
+          case "f41":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f41 = parser.getIntValue();
+          } else {
+            builder.f41 = (Integer) read(parser, context, f41Deserializer);
+          }
+          return true;
+          case "f42":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f42 = parser.getText();
+          } else {
+            builder.f42 = (String) read(parser, context, f42Deserializer);
+          }
+          return true;
+          case "f43":
+          builder.f43 = (List<String>) read(parser, context, f43Deserializer);
+          return true;
+          case "f44":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f44 = parser.getLongValue();
+          } else {
+            builder.f44 = (Long) read(parser, context, f44Deserializer);
+          }
+          return true;
+          case "f45":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f45 = parser.getText();
+          } else {
+            builder.f45 = (String) read(parser, context, f45Deserializer);
+          }
+          return true;
+          case "f46":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f46 = parser.getIntValue();
+          } else {
+            builder.f46 = (Integer) read(parser, context, f46Deserializer);
+          }
+          return true;
+          case "f47":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f47 = parser.getText();
+          } else {
+            builder.f47 = (String) read(parser, context, f47Deserializer);
+          }
+          return true;
+          case "f48":
+          builder.f48 = (List<String>) read(parser, context, f48Deserializer);
+          return true;
+          case "f49":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f49 = parser.getLongValue();
+          } else {
+            builder.f49 = (Long) read(parser, context, f49Deserializer);
+          }
+          return true;
+          case "f50":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f50 = parser.getText();
+          } else {
+            builder.f50 = (String) read(parser, context, f50Deserializer);
+          }
+          return true;
+          case "f51":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f51 = parser.getIntValue();
+          } else {
+            builder.f51 = (Integer) read(parser, context, f51Deserializer);
+          }
+          return true;
+          case "f52":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f52 = parser.getText();
+          } else {
+            builder.f52 = (String) read(parser, context, f52Deserializer);
+          }
+          return true;
+          case "f53":
+          builder.f53 = (List<String>) read(parser, context, f53Deserializer);
+          return true;
+          case "f54":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f54 = parser.getLongValue();
+          } else {
+            builder.f54 = (Long) read(parser, context, f54Deserializer);
+          }
+          return true;
+          case "f55":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f55 = parser.getText();
+          } else {
+            builder.f55 = (String) read(parser, context, f55Deserializer);
+          }
+          return true;
+          case "f56":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f56 = parser.getIntValue();
+          } else {
+            builder.f56 = (Integer) read(parser, context, f56Deserializer);
+          }
+          return true;
+          case "f57":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f57 = parser.getText();
+          } else {
+            builder.f57 = (String) read(parser, context, f57Deserializer);
+          }
+          return true;
+          case "f58":
+          builder.f58 = (List<String>) read(parser, context, f58Deserializer);
+          return true;
+          case "f59":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f59 = parser.getLongValue();
+          } else {
+            builder.f59 = (Long) read(parser, context, f59Deserializer);
+          }
+          return true;
+          case "f60":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f60 = parser.getText();
+          } else {
+            builder.f60 = (String) read(parser, context, f60Deserializer);
+          }
+          return true;
+          case "f61":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f61 = parser.getIntValue();
+          } else {
+            builder.f61 = (Integer) read(parser, context, f61Deserializer);
+          }
+          return true;
+          case "f62":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f62 = parser.getText();
+          } else {
+            builder.f62 = (String) read(parser, context, f62Deserializer);
+          }
+          return true;
+          case "f63":
+          builder.f63 = (List<String>) read(parser, context, f63Deserializer);
+          return true;
+          default:
+          return false;
+        }
+      }
+      @SuppressWarnings("unchecked")
+      private boolean readProperty1(Builder builder, String name, JsonToken token, JsonParser parser, DeserializationContext context) throws IOException {
+        switch (name) {
+          case "f64":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f64 = parser.getLongValue();
+          } else {
+            builder.f64 = (Long) read(parser, context, f64Deserializer);
+          }
+          return true;
+          case "f65":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f65 = parser.getText();
+          } else {
+            builder.f65 = (String) read(parser, context, f65Deserializer);
+          }
+          return true;
+          case "f66":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f66 = parser.getIntValue();
+          } else {
+            builder.f66 = (Integer) read(parser, context, f66Deserializer);
+          }
+          return true;
+          case "f67":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f67 = parser.getText();
+          } else {
+            builder.f67 = (String) read(parser, context, f67Deserializer);
+          }
+          return true;
+          case "f68":
+          builder.f68 = (List<String>) read(parser, context, f68Deserializer);
+          return true;
+          case "f69":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f69 = parser.getLongValue();
+          } else {
+            builder.f69 = (Long) read(parser, context, f69Deserializer);
+          }
+          return true;
+          case "f70":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f70 = parser.getText();
+          } else {
+            builder.f70 = (String) read(parser, context, f70Deserializer);
+          }
+          return true;
+          case "f71":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f71 = parser.getIntValue();
+          } else {
+            builder.f71 = (Integer) read(parser, context, f71Deserializer);
+          }
+          return true;
+          case "f72":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f72 = parser.getText();
+          } else {
+            builder.f72 = (String) read(parser, context, f72Deserializer);
+          }
+          return true;
+          case "f73":
+          builder.f73 = (List<String>) read(parser, context, f73Deserializer);
+          return true;
+          case "f74":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f74 = parser.getLongValue();
+          } else {
+            builder.f74 = (Long) read(parser, context, f74Deserializer);
+          }
+          return true;
+          case "f75":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f75 = parser.getText();
+          } else {
+            builder.f75 = (String) read(parser, context, f75Deserializer);
+          }
+          return true;
+          case "f76":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f76 = parser.getIntValue();
+          } else {
+            builder.f76 = (Integer) read(parser, context, f76Deserializer);
+          }
+          return true;
+          case "f77":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f77 = parser.getText();
+          } else {
+            builder.f77 = (String) read(parser, context, f77Deserializer);
+          }
+          return true;
+          case "f78":
+          builder.f78 = (List<String>) read(parser, context, f78Deserializer);
+          return true;
+          case "f79":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f79 = parser.getLongValue();
+          } else {
+            builder.f79 = (Long) read(parser, context, f79Deserializer);
+          }
+          return true;
+          case "f80":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f80 = parser.getText();
+          } else {
+            builder.f80 = (String) read(parser, context, f80Deserializer);
+          }
+          return true;
+          case "f81":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f81 = parser.getIntValue();
+          } else {
+            builder.f81 = (Integer) read(parser, context, f81Deserializer);
+          }
+          return true;
+          case "f82":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f82 = parser.getText();
+          } else {
+            builder.f82 = (String) read(parser, context, f82Deserializer);
+          }
+          return true;
+          case "f83":
+          builder.f83 = (List<String>) read(parser, context, f83Deserializer);
+          return true;
+          case "f84":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f84 = parser.getLongValue();
+          } else {
+            builder.f84 = (Long) read(parser, context, f84Deserializer);
+          }
+          return true;
+          case "f85":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f85 = parser.getText();
+          } else {
+            builder.f85 = (String) read(parser, context, f85Deserializer);
+          }
+          return true;
+          case "f86":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f86 = parser.getIntValue();
+          } else {
+            builder.f86 = (Integer) read(parser, context, f86Deserializer);
+          }
+          return true;
+          case "f87":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f87 = parser.getText();
+          } else {
+            builder.f87 = (String) read(parser, context, f87Deserializer);
+          }
+          return true;
+          case "f88":
+          builder.f88 = (List<String>) read(parser, context, f88Deserializer);
+          return true;
+          case "f89":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f89 = parser.getLongValue();
+          } else {
+            builder.f89 = (Long) read(parser, context, f89Deserializer);
+          }
+          return true;
+          case "f90":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f90 = parser.getText();
+          } else {
+            builder.f90 = (String) read(parser, context, f90Deserializer);
+          }
+          return true;
+          case "f91":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f91 = parser.getIntValue();
+          } else {
+            builder.f91 = (Integer) read(parser, context, f91Deserializer);
+          }
+          return true;
+          case "f92":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f92 = parser.getText();
+          } else {
+            builder.f92 = (String) read(parser, context, f92Deserializer);
+          }
+          return true;
+          case "f93":
+          builder.f93 = (List<String>) read(parser, context, f93Deserializer);
+          return true;
+          case "f94":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f94 = parser.getLongValue();
+          } else {
+            builder.f94 = (Long) read(parser, context, f94Deserializer);
+          }
+          return true;
+          case "f95":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f95 = parser.getText();
+          } else {
+            builder.f95 = (String) read(parser, context, f95Deserializer);
+          }
+          return true;
+          case "f96":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f96 = parser.getIntValue();
+          } else {
+            builder.f96 = (Integer) read(parser, context, f96Deserializer);
+          }
+          return true;
+          case "f97":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f97 = parser.getText();
+          } else {
+            builder.f97 = (String) read(parser, context, f97Deserializer);
+          }
+          return true;
+          case "f98":
+          builder.f98 = (List<String>) read(parser, context, f98Deserializer);
+          return true;
+          case "f99":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f99 = parser.getLongValue();
+          } else {
+            builder.f99 = (Long) read(parser, context, f99Deserializer);
+          }
+          return true;
+          case "f100":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f100 = parser.getText();
+          } else {
+            builder.f100 = (String) read(parser, context, f100Deserializer);
+          }
+          return true;
+          case "f101":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f101 = parser.getIntValue();
+          } else {
+            builder.f101 = (Integer) read(parser, context, f101Deserializer);
+          }
+          return true;
+          case "f102":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f102 = parser.getText();
+          } else {
+            builder.f102 = (String) read(parser, context, f102Deserializer);
+          }
+          return true;
+          case "f103":
+          builder.f103 = (List<String>) read(parser, context, f103Deserializer);
+          return true;
+          case "f104":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f104 = parser.getLongValue();
+          } else {
+            builder.f104 = (Long) read(parser, context, f104Deserializer);
+          }
+          return true;
+          case "f105":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f105 = parser.getText();
+          } else {
+            builder.f105 = (String) read(parser, context, f105Deserializer);
+          }
+          return true;
+          case "f106":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f106 = parser.getIntValue();
+          } else {
+            builder.f106 = (Integer) read(parser, context, f106Deserializer);
+          }
+          return true;
+          case "f107":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f107 = parser.getText();
+          } else {
+            builder.f107 = (String) read(parser, context, f107Deserializer);
+          }
+          return true;
+          case "f108":
+          builder.f108 = (List<String>) read(parser, context, f108Deserializer);
+          return true;
+          case "f109":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f109 = parser.getLongValue();
+          } else {
+            builder.f109 = (Long) read(parser, context, f109Deserializer);
+          }
+          return true;
+          case "f110":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f110 = parser.getText();
+          } else {
+            builder.f110 = (String) read(parser, context, f110Deserializer);
+          }
+          return true;
+          case "f111":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f111 = parser.getIntValue();
+          } else {
+            builder.f111 = (Integer) read(parser, context, f111Deserializer);
+          }
+          return true;
+          case "f112":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f112 = parser.getText();
+          } else {
+            builder.f112 = (String) read(parser, context, f112Deserializer);
+          }
+          return true;
+          case "f113":
+          builder.f113 = (List<String>) read(parser, context, f113Deserializer);
+          return true;
+          case "f114":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f114 = parser.getLongValue();
+          } else {
+            builder.f114 = (Long) read(parser, context, f114Deserializer);
+          }
+          return true;
+          case "f115":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f115 = parser.getText();
+          } else {
+            builder.f115 = (String) read(parser, context, f115Deserializer);
+          }
+          return true;
+          case "f116":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f116 = parser.getIntValue();
+          } else {
+            builder.f116 = (Integer) read(parser, context, f116Deserializer);
+          }
+          return true;
+          case "f117":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f117 = parser.getText();
+          } else {
+            builder.f117 = (String) read(parser, context, f117Deserializer);
+          }
+          return true;
+          case "f118":
+          builder.f118 = (List<String>) read(parser, context, f118Deserializer);
+          return true;
+          case "f119":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f119 = parser.getLongValue();
+          } else {
+            builder.f119 = (Long) read(parser, context, f119Deserializer);
+          }
+          return true;
+          case "f120":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f120 = parser.getText();
+          } else {
+            builder.f120 = (String) read(parser, context, f120Deserializer);
+          }
+          return true;
+          case "f121":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f121 = parser.getIntValue();
+          } else {
+            builder.f121 = (Integer) read(parser, context, f121Deserializer);
+          }
+          return true;
+          case "f122":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f122 = parser.getText();
+          } else {
+            builder.f122 = (String) read(parser, context, f122Deserializer);
+          }
+          return true;
+          case "f123":
+          builder.f123 = (List<String>) read(parser, context, f123Deserializer);
+          return true;
+          case "f124":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f124 = parser.getLongValue();
+          } else {
+            builder.f124 = (Long) read(parser, context, f124Deserializer);
+          }
+          return true;
+          case "f125":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f125 = parser.getText();
+          } else {
+            builder.f125 = (String) read(parser, context, f125Deserializer);
+          }
+          return true;
+          case "f126":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f126 = parser.getIntValue();
+          } else {
+            builder.f126 = (Integer) read(parser, context, f126Deserializer);
+          }
+          return true;
+          case "f127":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f127 = parser.getText();
+          } else {
+            builder.f127 = (String) read(parser, context, f127Deserializer);
+          }
+          return true;
+          default:
+          return false;
+        }
+      }
+      @SuppressWarnings("unchecked")
+      private boolean readProperty2(Builder builder, String name, JsonToken token, JsonParser parser, DeserializationContext context) throws IOException {
+        switch (name) {
+          case "f128":
+          builder.f128 = (List<String>) read(parser, context, f128Deserializer);
+          return true;
+          case "f129":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f129 = parser.getLongValue();
+          } else {
+            builder.f129 = (Long) read(parser, context, f129Deserializer);
+          }
+          return true;
+          case "f130":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f130 = parser.getText();
+          } else {
+            builder.f130 = (String) read(parser, context, f130Deserializer);
+          }
+          return true;
+          case "f131":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f131 = parser.getIntValue();
+          } else {
+            builder.f131 = (Integer) read(parser, context, f131Deserializer);
+          }
+          return true;
+          case "f132":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f132 = parser.getText();
+          } else {
+            builder.f132 = (String) read(parser, context, f132Deserializer);
+          }
+          return true;
+          case "f133":
+          builder.f133 = (List<String>) read(parser, context, f133Deserializer);
+          return true;
+          case "f134":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f134 = parser.getLongValue();
+          } else {
+            builder.f134 = (Long) read(parser, context, f134Deserializer);
+          }
+          return true;
+          case "f135":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f135 = parser.getText();
+          } else {
+            builder.f135 = (String) read(parser, context, f135Deserializer);
+          }
+          return true;
+          case "f136":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f136 = parser.getIntValue();
+          } else {
+            builder.f136 = (Integer) read(parser, context, f136Deserializer);
+          }
+          return true;
+          case "f137":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f137 = parser.getText();
+          } else {
+            builder.f137 = (String) read(parser, context, f137Deserializer);
+          }
+          return true;
+          case "f138":
+          builder.f138 = (List<String>) read(parser, context, f138Deserializer);
+          return true;
+          case "f139":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f139 = parser.getLongValue();
+          } else {
+            builder.f139 = (Long) read(parser, context, f139Deserializer);
+          }
+          return true;
+          case "f140":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f140 = parser.getText();
+          } else {
+            builder.f140 = (String) read(parser, context, f140Deserializer);
+          }
+          return true;
+          case "f141":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f141 = parser.getIntValue();
+          } else {
+            builder.f141 = (Integer) read(parser, context, f141Deserializer);
+          }
+          return true;
+          case "f142":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f142 = parser.getText();
+          } else {
+            builder.f142 = (String) read(parser, context, f142Deserializer);
+          }
+          return true;
+          case "f143":
+          builder.f143 = (List<String>) read(parser, context, f143Deserializer);
+          return true;
+          case "f144":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f144 = parser.getLongValue();
+          } else {
+            builder.f144 = (Long) read(parser, context, f144Deserializer);
+          }
+          return true;
+          case "f145":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f145 = parser.getText();
+          } else {
+            builder.f145 = (String) read(parser, context, f145Deserializer);
+          }
+          return true;
+          case "f146":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f146 = parser.getIntValue();
+          } else {
+            builder.f146 = (Integer) read(parser, context, f146Deserializer);
+          }
+          return true;
+          case "f147":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f147 = parser.getText();
+          } else {
+            builder.f147 = (String) read(parser, context, f147Deserializer);
+          }
+          return true;
+          case "f148":
+          builder.f148 = (List<String>) read(parser, context, f148Deserializer);
+          return true;
+          case "f149":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f149 = parser.getLongValue();
+          } else {
+            builder.f149 = (Long) read(parser, context, f149Deserializer);
+          }
+          return true;
+          case "f150":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f150 = parser.getText();
+          } else {
+            builder.f150 = (String) read(parser, context, f150Deserializer);
+          }
+          return true;
+          case "f151":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f151 = parser.getIntValue();
+          } else {
+            builder.f151 = (Integer) read(parser, context, f151Deserializer);
+          }
+          return true;
+          case "f152":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f152 = parser.getText();
+          } else {
+            builder.f152 = (String) read(parser, context, f152Deserializer);
+          }
+          return true;
+          case "f153":
+          builder.f153 = (List<String>) read(parser, context, f153Deserializer);
+          return true;
+          case "f154":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f154 = parser.getLongValue();
+          } else {
+            builder.f154 = (Long) read(parser, context, f154Deserializer);
+          }
+          return true;
+          case "f155":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f155 = parser.getText();
+          } else {
+            builder.f155 = (String) read(parser, context, f155Deserializer);
+          }
+          return true;
+          case "f156":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f156 = parser.getIntValue();
+          } else {
+            builder.f156 = (Integer) read(parser, context, f156Deserializer);
+          }
+          return true;
+          case "f157":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f157 = parser.getText();
+          } else {
+            builder.f157 = (String) read(parser, context, f157Deserializer);
+          }
+          return true;
+          case "f158":
+          builder.f158 = (List<String>) read(parser, context, f158Deserializer);
+          return true;
+          case "f159":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f159 = parser.getLongValue();
+          } else {
+            builder.f159 = (Long) read(parser, context, f159Deserializer);
+          }
+          return true;
+          case "f160":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f160 = parser.getText();
+          } else {
+            builder.f160 = (String) read(parser, context, f160Deserializer);
+          }
+          return true;
+          case "f161":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f161 = parser.getIntValue();
+          } else {
+            builder.f161 = (Integer) read(parser, context, f161Deserializer);
+          }
+          return true;
+          case "f162":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f162 = parser.getText();
+          } else {
+            builder.f162 = (String) read(parser, context, f162Deserializer);
+          }
+          return true;
+          case "f163":
+          builder.f163 = (List<String>) read(parser, context, f163Deserializer);
+          return true;
+          case "f164":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f164 = parser.getLongValue();
+          } else {
+            builder.f164 = (Long) read(parser, context, f164Deserializer);
+          }
+          return true;
+          case "f165":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f165 = parser.getText();
+          } else {
+            builder.f165 = (String) read(parser, context, f165Deserializer);
+          }
+          return true;
+          case "f166":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f166 = parser.getIntValue();
+          } else {
+            builder.f166 = (Integer) read(parser, context, f166Deserializer);
+          }
+          return true;
+          case "f167":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f167 = parser.getText();
+          } else {
+            builder.f167 = (String) read(parser, context, f167Deserializer);
+          }
+          return true;
+          case "f168":
+          builder.f168 = (List<String>) read(parser, context, f168Deserializer);
+          return true;
+          case "f169":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f169 = parser.getLongValue();
+          } else {
+            builder.f169 = (Long) read(parser, context, f169Deserializer);
+          }
+          return true;
+          case "f170":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f170 = parser.getText();
+          } else {
+            builder.f170 = (String) read(parser, context, f170Deserializer);
+          }
+          return true;
+          case "f171":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f171 = parser.getIntValue();
+          } else {
+            builder.f171 = (Integer) read(parser, context, f171Deserializer);
+          }
+          return true;
+          case "f172":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f172 = parser.getText();
+          } else {
+            builder.f172 = (String) read(parser, context, f172Deserializer);
+          }
+          return true;
+          case "f173":
+          builder.f173 = (List<String>) read(parser, context, f173Deserializer);
+          return true;
+          case "f174":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f174 = parser.getLongValue();
+          } else {
+            builder.f174 = (Long) read(parser, context, f174Deserializer);
+          }
+          return true;
+          case "f175":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f175 = parser.getText();
+          } else {
+            builder.f175 = (String) read(parser, context, f175Deserializer);
+          }
+          return true;
+          case "f176":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f176 = parser.getIntValue();
+          } else {
+            builder.f176 = (Integer) read(parser, context, f176Deserializer);
+          }
+          return true;
+          case "f177":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f177 = parser.getText();
+          } else {
+            builder.f177 = (String) read(parser, context, f177Deserializer);
+          }
+          return true;
+          case "f178":
+          builder.f178 = (List<String>) read(parser, context, f178Deserializer);
+          return true;
+          case "f179":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f179 = parser.getLongValue();
+          } else {
+            builder.f179 = (Long) read(parser, context, f179Deserializer);
+          }
+          return true;
+          case "f180":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f180 = parser.getText();
+          } else {
+            builder.f180 = (String) read(parser, context, f180Deserializer);
+          }
+          return true;
+          case "f181":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f181 = parser.getIntValue();
+          } else {
+            builder.f181 = (Integer) read(parser, context, f181Deserializer);
+          }
+          return true;
+          case "f182":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f182 = parser.getText();
+          } else {
+            builder.f182 = (String) read(parser, context, f182Deserializer);
+          }
+          return true;
+          case "f183":
+          builder.f183 = (List<String>) read(parser, context, f183Deserializer);
+          return true;
+          case "f184":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f184 = parser.getLongValue();
+          } else {
+            builder.f184 = (Long) read(parser, context, f184Deserializer);
+          }
+          return true;
+          case "f185":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f185 = parser.getText();
+          } else {
+            builder.f185 = (String) read(parser, context, f185Deserializer);
+          }
+          return true;
+          case "f186":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f186 = parser.getIntValue();
+          } else {
+            builder.f186 = (Integer) read(parser, context, f186Deserializer);
+          }
+          return true;
+          case "f187":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f187 = parser.getText();
+          } else {
+            builder.f187 = (String) read(parser, context, f187Deserializer);
+          }
+          return true;
+          case "f188":
+          builder.f188 = (List<String>) read(parser, context, f188Deserializer);
+          return true;
+          case "f189":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f189 = parser.getLongValue();
+          } else {
+            builder.f189 = (Long) read(parser, context, f189Deserializer);
+          }
+          return true;
+          case "f190":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f190 = parser.getText();
+          } else {
+            builder.f190 = (String) read(parser, context, f190Deserializer);
+          }
+          return true;
+          case "f191":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f191 = parser.getIntValue();
+          } else {
+            builder.f191 = (Integer) read(parser, context, f191Deserializer);
+          }
+          return true;
+          default:
+          return false;
+        }
+      }
+      @SuppressWarnings("unchecked")
+      private boolean readProperty3(Builder builder, String name, JsonToken token, JsonParser parser, DeserializationContext context) throws IOException {
+        switch (name) {
+          case "f192":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f192 = parser.getText();
+          } else {
+            builder.f192 = (String) read(parser, context, f192Deserializer);
+          }
+          return true;
+          case "f193":
+          builder.f193 = (List<String>) read(parser, context, f193Deserializer);
+          return true;
+          case "f194":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f194 = parser.getLongValue();
+          } else {
+            builder.f194 = (Long) read(parser, context, f194Deserializer);
+          }
+          return true;
+          case "f195":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f195 = parser.getText();
+          } else {
+            builder.f195 = (String) read(parser, context, f195Deserializer);
+          }
+          return true;
+          case "f196":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f196 = parser.getIntValue();
+          } else {
+            builder.f196 = (Integer) read(parser, context, f196Deserializer);
+          }
+          return true;
+          case "f197":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f197 = parser.getText();
+          } else {
+            builder.f197 = (String) read(parser, context, f197Deserializer);
+          }
+          return true;
+          case "f198":
+          builder.f198 = (List<String>) read(parser, context, f198Deserializer);
+          return true;
+          case "f199":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f199 = parser.getLongValue();
+          } else {
+            builder.f199 = (Long) read(parser, context, f199Deserializer);
+          }
+          return true;
+          default:
+          return false;
+        }
+      }
+      private static Object read(JsonParser parser, DeserializationContext context, JsonDeserializer<Object> deserializer) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL
+        ? deserializer.getNullValue(context)
+        : deserializer.deserialize(parser, context);
+      }
+    }
+    public static final class Serializer extends JsonSerializer<com.geoffgranum.plugin.builder.benchmark.Wide200Streaming> {
+      private static final SerializedString F0 = new SerializedString("f0");
+      private static final SerializedString F1 = new SerializedString("f1");
+      private static final SerializedString F2 = new SerializedString("f2");
+      private static final SerializedString F3 = new SerializedString("f3");
+      private static final SerializedString F4 = new SerializedString("f4");
+      private static final SerializedString F5 = new SerializedString("f5");
+      private static final SerializedString F6 = new SerializedString("f6");
+      private static final SerializedString F7 = new SerializedString("f7");
+      private static final SerializedString F8 = new SerializedString("f8");
+      private static final SerializedString F9 = new SerializedString("f9");
+      private static final SerializedString F10 = new SerializedString("f10");
+      private static final SerializedString F11 = new SerializedString("f11");
+      private static final SerializedString F12 = new SerializedString("f12");
+      private static final SerializedString F13 = new SerializedString("f13");
+      private static final SerializedString F14 = new SerializedString("f14");
+      private static final SerializedString F15 = new SerializedString("f15");
+      private static final SerializedString F16 = new SerializedString("f16");
+      private static final SerializedString F17 = new SerializedString("f17");
+      private static final SerializedString F18 = new SerializedString("f18");
+      private static final SerializedString F19 = new SerializedString("f19");
+      private static final SerializedString F20 = new SerializedString("f20");
+      private static final SerializedString F21 = new SerializedString("f21");
+      private static final SerializedString F22 = new SerializedString("f22");
+      private static final SerializedString F23 = new SerializedString("f23");
+      private static final SerializedString F24 = new SerializedString("f24");
+      private static final SerializedString F25 = new SerializedString("f25");
+      private static final SerializedString F26 = new SerializedString("f26");
+      private static final SerializedString F27 = new SerializedString("f27");
+      private static final SerializedString F28 = new SerializedString("f28");
+      private static final SerializedString F29 = new SerializedString("f29");
+      private static final SerializedString F30 = new SerializedString("f30");
+      private static final SerializedString F31 = new SerializedString("f31");
+      private static final SerializedString F32 = new SerializedString("f32");
+      private static final SerializedString F33 = new SerializedString("f33");
+      private static final SerializedString F34 = new SerializedString("f34");
+      private static final SerializedString F35 = new SerializedString("f35");
+      private static final SerializedString F36 = new SerializedString("f36");
+      private static final SerializedString F37 = new SerializedString("f37");
+      private static final SerializedString F38 = new SerializedString("f38");
+      private static final SerializedString F39 = new SerializedString("f39");
+      private static final SerializedString F40 = new SerializedString("f40");
+      private static final SerializedString F41 = new SerializedString("f41");
+      private static final SerializedString F42 = new SerializedString("f42");
+      private static final SerializedString F43 = new SerializedString("f43");
+      private static final SerializedString F44 = new SerializedString("f44");
+      private static final SerializedString F45 = new SerializedString("f45");
+      private static final SerializedString F46 = new SerializedString("f46");
+      private static final SerializedString F47 = new SerializedString("f47");
+      private static final SerializedString F48 = new SerializedString("f48");
+      private static final SerializedString F49 = new SerializedString("f49");
+      private static final SerializedString F50 = new SerializedString("f50");
+      private static final SerializedString F51 = new SerializedString("f51");
+      private static final SerializedString F52 = new SerializedString("f52");
+      private static final SerializedString F53 = new SerializedString("f53");
+      private static final SerializedString F54 = new SerializedString("f54");
+      private static final SerializedString F55 = new SerializedString("f55");
+      private static final SerializedString F56 = new SerializedString("f56");
+      private static final SerializedString F57 = new SerializedString("f57");
+      private static final SerializedString F58 = new SerializedString("f58");
+      private static final SerializedString F59 = new SerializedString("f59");
+      private static final SerializedString F60 = new SerializedString("f60");
+      private static final SerializedString F61 = new SerializedString("f61");
+      private static final SerializedString F62 = new SerializedString("f62");
+      private static final SerializedString F63 = new SerializedString("f63");
+      private static final SerializedString F64 = new SerializedString("f64");
+      private static final SerializedString F65 = new SerializedString("f65");
+      private static final SerializedString F66 = new SerializedString("f66");
+      private static final SerializedString F67 = new SerializedString("f67");
+      private static final SerializedString F68 = new SerializedString("f68");
+      private static final SerializedString F69 = new SerializedString("f69");
+      private static final SerializedString F70 = new SerializedString("f70");
+      private static final SerializedString F71 = new SerializedString("f71");
+      private static final SerializedString F72 = new SerializedString("f72");
+      private static final SerializedString F73 = new SerializedString("f73");
+      private static final SerializedString F74 = new SerializedString("f74");
+      private static final SerializedString F75 = new SerializedString("f75");
+      private static final SerializedString F76 = new SerializedString("f76");
+      private static final SerializedString F77 = new SerializedString("f77");
+      private static final SerializedString F78 = new SerializedString("f78");
+      private static final SerializedString F79 = new SerializedString("f79");
+      private static final SerializedString F80 = new SerializedString("f80");
+      private static final SerializedString F81 = new SerializedString("f81");
+      private static final SerializedString F82 = new SerializedString("f82");
+      private static final SerializedString F83 = new SerializedString("f83");
+      private static final SerializedString F84 = new SerializedString("f84");
+      private static final SerializedString F85 = new SerializedString("f85");
+      private static final SerializedString F86 = new SerializedString("f86");
+      private static final SerializedString F87 = new SerializedString("f87");
+      private static final SerializedString F88 = new SerializedString("f88");
+      private static final SerializedString F89 = new SerializedString("f89");
+      private static final SerializedString F90 = new SerializedString("f90");
+      private static final SerializedString F91 = new SerializedString("f91");
+      private static final SerializedString F92 = new SerializedString("f92");
+      private static final SerializedString F93 = new SerializedString("f93");
+      private static final SerializedString F94 = new SerializedString("f94");
+      private static final SerializedString F95 = new SerializedString("f95");
+      private static final SerializedString F96 = new SerializedString("f96");
+      private static final SerializedString F97 = new SerializedString("f97");
+      private static final SerializedString F98 = new SerializedString("f98");
+      private static final SerializedString F99 = new SerializedString("f99");
+      private static final SerializedString F100 = new SerializedString("f100");
+      private static final SerializedString F101 = new SerializedString("f101");
+      private static final SerializedString F102 = new SerializedString("f102");
+      private static final SerializedString F103 = new SerializedString("f103");
+      private static final SerializedString F104 = new SerializedString("f104");
+      private static final SerializedString F105 = new SerializedString("f105");
+      private static final SerializedString F106 = new SerializedString("f106");
+      private static final SerializedString F107 = new SerializedString("f107");
+      private static final SerializedString F108 = new SerializedString("f108");
+      private static final SerializedString F109 = new SerializedString("f109");
+      private static final SerializedString F110 = new SerializedString("f110");
+      private static final SerializedString F111 = new SerializedString("f111");
+      private static final SerializedString F112 = new SerializedString("f112");
+      private static final SerializedString F113 = new SerializedString("f113");
+      private static final SerializedString F114 = new SerializedString("f114");
+      private static final SerializedString F115 = new SerializedString("f115");
+      private static final SerializedString F116 = new SerializedString("f116");
+      private static final SerializedString F117 = new SerializedString("f117");
+      private static final SerializedString F118 = new SerializedString("f118");
+      private static final SerializedString F119 = new SerializedString("f119");
+      private static final SerializedString F120 = new SerializedString("f120");
+      private static final SerializedString F121 = new SerializedString("f121");
+      private static final SerializedString F122 = new SerializedString("f122");
+      private static final SerializedString F123 = new SerializedString("f123");
+      private static final SerializedString F124 = new SerializedString("f124");
+      private static final SerializedString F125 = new SerializedString("f125");
+      private static final SerializedString F126 = new SerializedString("f126");
+      private static final SerializedString F127 = new SerializedString("f127");
+      private static final SerializedString F128 = new SerializedString("f128");
+      private static final SerializedString F129 = new SerializedString("f129");
+      private static final SerializedString F130 = new SerializedString("f130");
+      private static final SerializedString F131 = new SerializedString("f131");
+      private static final SerializedString F132 = new SerializedString("f132");
+      private static final SerializedString F133 = new SerializedString("f133");
+      private static final SerializedString F134 = new SerializedString("f134");
+      private static final SerializedString F135 = new SerializedString("f135");
+      private static final SerializedString F136 = new SerializedString("f136");
+      private static final SerializedString F137 = new SerializedString("f137");
+      private static final SerializedString F138 = new SerializedString("f138");
+      private static final SerializedString F139 = new SerializedString("f139");
+      private static final SerializedString F140 = new SerializedString("f140");
+      private static final SerializedString F141 = new SerializedString("f141");
+      private static final SerializedString F142 = new SerializedString("f142");
+      private static final SerializedString F143 = new SerializedString("f143");
+      private static final SerializedString F144 = new SerializedString("f144");
+      private static final SerializedString F145 = new SerializedString("f145");
+      private static final SerializedString F146 = new SerializedString("f146");
+      private static final SerializedString F147 = new SerializedString("f147");
+      private static final SerializedString F148 = new SerializedString("f148");
+      private static final SerializedString F149 = new SerializedString("f149");
+      private static final SerializedString F150 = new SerializedString("f150");
+      private static final SerializedString F151 = new SerializedString("f151");
+      private static final SerializedString F152 = new SerializedString("f152");
+      private static final SerializedString F153 = new SerializedString("f153");
+      private static final SerializedString F154 = new SerializedString("f154");
+      private static final SerializedString F155 = new SerializedString("f155");
+      private static final SerializedString F156 = new SerializedString("f156");
+      private static final SerializedString F157 = new SerializedString("f157");
+      private static final SerializedString F158 = new SerializedString("f158");
+      private static final SerializedString F159 = new SerializedString("f159");
+      private static final SerializedString F160 = new SerializedString("f160");
+      private static final SerializedString F161 = new SerializedString("f161");
+      private static final SerializedString F162 = new SerializedString("f162");
+      private static final SerializedString F163 = new SerializedString("f163");
+      private static final SerializedString F164 = new SerializedString("f164");
+      private static final SerializedString F165 = new SerializedString("f165");
+      private static final SerializedString F166 = new SerializedString("f166");
+      private static final SerializedString F167 = new SerializedString("f167");
+      private static final SerializedString F168 = new SerializedString("f168");
+      private static final SerializedString F169 = new SerializedString("f169");
+      private static final SerializedString F170 = new SerializedString("f170");
+      private static final SerializedString F171 = new SerializedString("f171");
+      private static final SerializedString F172 = new SerializedString("f172");
+      private static final SerializedString F173 = new SerializedString("f173");
+      private static final SerializedString F174 = new SerializedString("f174");
+      private static final SerializedString F175 = new SerializedString("f175");
+      private static final SerializedString F176 = new SerializedString("f176");
+      private static final SerializedString F177 = new SerializedString("f177");
+      private static final SerializedString F178 = new SerializedString("f178");
+      private static final SerializedString F179 = new SerializedString("f179");
+      private static final SerializedString F180 = new SerializedString("f180");
+      private static final SerializedString F181 = new SerializedString("f181");
+      private static final SerializedString F182 = new SerializedString("f182");
+      private static final SerializedString F183 = new SerializedString("f183");
+      private static final SerializedString F184 = new SerializedString("f184");
+      private static final SerializedString F185 = new SerializedString("f185");
+      private static final SerializedString F186 = new SerializedString("f186");
+      private static final SerializedString F187 = new SerializedString("f187");
+      private static final SerializedString F188 = new SerializedString("f188");
+      private static final SerializedString F189 = new SerializedString("f189");
+      private static final SerializedString F190 = new SerializedString("f190");
+      private static final SerializedString F191 = new SerializedString("f191");
+      private static final SerializedString F192 = new SerializedString("f192");
+      private static final SerializedString F193 = new SerializedString("f193");
+      private static final SerializedString F194 = new SerializedString("f194");
+      private static final SerializedString F195 = new SerializedString("f195");
+      private static final SerializedString F196 = new SerializedString("f196");
+      private static final SerializedString F197 = new SerializedString("f197");
+      private static final SerializedString F198 = new SerializedString("f198");
+      private static final SerializedString F199 = new SerializedString("f199");
+      @Override
+      public Class<com.geoffgranum.plugin.builder.benchmark.Wide200Streaming> handledType() {
+        return com.geoffgranum.plugin.builder.benchmark.Wide200Streaming.class;
+      }
+      @Override
+      public void serialize(com.geoffgranum.plugin.builder.benchmark.Wide200Streaming value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject();
+        writeProperties0(value, generator, provider);
+        writeProperties1(value, generator, provider);
+        writeProperties2(value, generator, provider);
+        writeProperties3(value, generator, provider);
+        generator.writeEndObject();
+      }
+      @Override
+      public void serializeWithType(com.geoffgranum.plugin.builder.benchmark.Wide200Streaming value, JsonGenerator generator, SerializerProvider provider, TypeSerializer typeSerializer) throws IOException {
+        WritableTypeId typeId = typeSerializer.writeTypePrefix(generator, typeSerializer.typeId(value, JsonToken.START_OBJECT));
+        writeProperties0(value, generator, provider);
+        writeProperties1(value, generator, provider);
+        writeProperties2(value, generator, provider);
+        writeProperties3(value, generator, provider);
+        typeSerializer.writeTypeSuffix(generator, typeId);
+      }
+      private static void writeProperties0(com.geoffgranum.plugin.builder.benchmark.Wide200Streaming value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeFieldName(F0);
+        if (value.f0 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f0);
+        }
+        generator.writeFieldName(F1);
+        generator.writeNumber(value.f1);
+        generator.writeFieldName(F2);
+        if (value.f2 != null && value.f2.isPresent()) {
+          generator.writeString(value.f2.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F3);
+        if (value.f3 != null) {
+          generator.writeStartArray();
+          for (String element : value.f3) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F4);
+        generator.writeNumber(value.f4);
+        generator.writeFieldName(F5);
+        if (value.f5 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f5);
+        }
+        generator.writeFieldName(F6);
+        generator.writeNumber(value.f6);
+        generator.writeFieldName(F7);
+        if (value.f7 != null && value.f7.isPresent()) {
+          generator.writeString(value.f7.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F8);
+        if (value.f8 != null) {
+          generator.writeStartArray();
+          for (String element : value.f8) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F9);
+        generator.writeNumber(value.f9);
+        generator.writeFieldName(F10);
+        if (value.f10 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f10);
+        }
+        generator.writeFieldName(F11);
+        generator.writeNumber(value.f11);
+        generator.writeFieldName(F12);
+        if (value.f12 != null && value.f12.isPresent()) {
+          generator.writeString(value.f12.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F13);
+        if (value.f13 != null) {
+          generator.writeStartArray();
+          for (String element : value.f13) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F14);
+        generator.writeNumber(value.f14);
+        generator.writeFieldName(F15);
+        if (value.f15 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f15);
+        }
+        generator.writeFieldName(F16);
+        generator.writeNumber(value.f16);
+        generator.writeFieldName(F17);
+        if (value.f17 != null && value.f17.isPresent()) {
+          generator.writeString(value.f17.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F18);
+        if (value.f18 != null) {
+          generator.writeStartArray();
+          for (String element : value.f18) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F19);
+        generator.writeNumber(value.f19);
+        generator.writeFieldName(F20);
+        if (value.f20 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f20);
+        }
+        generator.writeFieldName(F21);
+        generator.writeNumber(value.f21);
+        generator.writeFieldName(F22);
+        if (value.f22 != null && value.f22.isPresent()) {
+          generator.writeString(value.f22.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F23);
+        if (value.f23 != null) {
+          generator.writeStartArray();
+          for (String element : value.f23) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F24);
+        generator.writeNumber(value.f24);
+        generator.writeFieldName(F25);
+        if (value.f25 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f25);
+        }
+        generator.writeFieldName(F26);
+        generator.writeNumber(value.f26);
+        generator.writeFieldName(F27);
+        if (value.f27 != null && value.f27.isPresent()) {
+          generator.writeString(value.f27.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F28);
+        if (value.f28 != null) {
+          generator.writeStartArray();
+          for (String element : value.f28) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F29);
+        generator.writeNumber(value.f29);
+        generator.writeFieldName(F30);
+        if (value.f30 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f30);
+        }
+        generator.writeFieldName(F31);
+        generator.writeNumber(value.f31);
+        generator.writeFieldName(F32);
+        if (value.f32 != null && value.f32.isPresent()) {
+          generator.writeString(value.f32.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F33);
+        if (value.f33 != null) {
+          generator.writeStartArray();
+          for (String element : value.f33) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F34);
+        generator.writeNumber(value.f34);
+        generator.writeFieldName(F35);
+        if (value.f35 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f35);
+        }
+        generator.writeFieldName(F36);
+        generator.writeNumber(value.f36);
+        generator.writeFieldName(F37);
+        if (value.f37 != null && value.f37.isPresent()) {
+          generator.writeString(value.f37.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F38);
+        if (value.f38 != null) {
+          generator.writeStartArray();
+          for (String element : value.f38) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F39);
+        generator.writeNumber(value.f39);
+        generator.writeFieldName(F40);
+        if (value.f40 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f40);
+        }
+        generator.writeFieldName(F41);
+        generator.writeNumber(value.f41);
+        generator.writeFieldName(F42);
+        if (value.f42 != null && value.f42.isPresent()) {
+          generator.writeString(value.f42.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F43);
+        if (value.f43 != null) {
+          generator.writeStartArray();
+          for (String element : value.f43) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F44);
+        generator.writeNumber(value.f44);
+        generator.writeFieldName(F45);
+        if (value.f45 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f45);
+        }
+        generator.writeFieldName(F46);
+        generator.writeNumber(value.f46);
+        generator.writeFieldName(F47);
+        if (value.f47 != null && value.f47.isPresent()) {
+          generator.writeString(value.f47.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F48);
+        if (value.f48 != null) {
+          generator.writeStartArray();
+          for (String element : value.f48) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F49);
+        generator.writeNumber(value.f49);
+        generator.writeFieldName(F50);
+        if (value.f50 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f50);
+        }
+        generator.writeFieldName(F51);
+        generator.writeNumber(value.f51);
+        generator.writeFieldName(F52);
+        if (value.f52 != null && value.f52.isPresent()) {
+          generator.writeString(value.f52.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F53);
+        if (value.f53 != null) {
+          generator.writeStartArray();
+          for (String element : value.f53) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F54);
+        generator.writeNumber(value.f54);
+        generator.writeFieldName(F55);
+        if (value.f55 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f55);
+        }
+        generator.writeFieldName(F56);
+        generator.writeNumber(value.f56);
+        generator.writeFieldName(F57);
+        if (value.f57 != null && value.f57.isPresent()) {
+          generator.writeString(value.f57.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F58);
+        if (value.f58 != null) {
+          generator.writeStartArray();
+          for (String element : value.f58) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F59);
+        generator.writeNumber(value.f59);
+        generator.writeFieldName(F60);
+        if (value.f60 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f60);
+        }
+        generator.writeFieldName(F61);
+        generator.writeNumber(value.f61);
+        generator.writeFieldName(F62);
+        if (value.f62 != null && value.f62.isPresent()) {
+          generator.writeString(value.f62.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F63);
+        if (value.f63 != null) {
+          generator.writeStartArray();
+          for (String element : value.f63) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+      }
+      private static void writeProperties1(com.geoffgranum.plugin.builder.benchmark.Wide200Streaming value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeFieldName(F64);
+        generator.writeNumber(value.f64);
+        generator.writeFieldName(F65);
+        if (value.f65 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f65);
+        }
+        generator.writeFieldName(F66);
+        generator.writeNumber(value.f66);
+        generator.writeFieldName(F67);
+        if (value.f67 != null && value.f67.isPresent()) {
+          generator.writeString(value.f67.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F68);
+        if (value.f68 != null) {
+          generator.writeStartArray();
+          for (String element : value.f68) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F69);
+        generator.writeNumber(value.f69);
+        generator.writeFieldName(F70);
+        if (value.f70 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f70);
+        }
+        generator.writeFieldName(F71);
+        generator.writeNumber(value.f71);
+        generator.writeFieldName(F72);
+        if (value.f72 != null && value.f72.isPresent()) {
+          generator.writeString(value.f72.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F73);
+        if (value.f73 != null) {
+          generator.writeStartArray();
+          for (String element : value.f73) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F74);
+        generator.writeNumber(value.f74);
+        generator.writeFieldName(F75);
+        if (value.f75 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f75);
+        }
+        generator.writeFieldName(F76);
+        generator.writeNumber(value.f76);
+        generator.writeFieldName(F77);
+        if (value.f77 != null && value.f77.isPresent()) {
+          generator.writeString(value.f77.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F78);
+        if (value.f78 != null) {
+          generator.writeStartArray();
+          for (String element : value.f78) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F79);
+        generator.writeNumber(value.f79);
+        generator.writeFieldName(F80);
+        if (value.f80 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f80);
+        }
+        generator.writeFieldName(F81);
+        generator.writeNumber(value.f81);
+        generator.writeFieldName(F82);
+        if (value.f82 != null && value.f82.isPresent()) {
+          generator.writeString(value.f82.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F83);
+        if (value.f83 != null) {
+          generator.writeStartArray();
+          for (String element : value.f83) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F84);
+        generator.writeNumber(value.f84);
+        generator.writeFieldName(F85);
+        if (value.f85 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f85);
+        }
+        generator.writeFieldName(F86);
+        generator.writeNumber(value.f86);
+        generator.writeFieldName(F87);
+        if (value.f87 != null && value.f87.isPresent()) {
+          generator.writeString(value.f87.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F88);
+        if (value.f88 != null) {
+          generator.writeStartArray();
+          for (String element : value.f88) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F89);
+        generator.writeNumber(value.f89);
+        generator.writeFieldName(F90);
+        if (value.f90 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f90);
+        }
+        generator.writeFieldName(F91);
+        generator.writeNumber(value.f91);
+        generator.writeFieldName(F92);
+        if (value.f92 != null && value.f92.isPresent()) {
+          generator.writeString(value.f92.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F93);
+        if (value.f93 != null) {
+          generator.writeStartArray();
+          for (String element : value.f93) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F94);
+        generator.writeNumber(value.f94);
+        generator.writeFieldName(F95);
+        if (value.f95 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f95);
+        }
+        generator.writeFieldName(F96);
+        generator.writeNumber(value.f96);
+        generator.writeFieldName(F97);
+        if (value.f97 != null && value.f97.isPresent()) {
+          generator.writeString(value.f97.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F98);
+        if (value.f98 != null) {
+          generator.writeStartArray();
+          for (String element : value.f98) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F99);
+        generator.writeNumber(value.f99);
+        generator.writeFieldName(F100);
+        if (value.f100 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f100);
+        }
+        generator.writeFieldName(F101);
+        generator.writeNumber(value.f101);
+        generator.writeFieldName(F102);
+        if (value.f102 != null && value.f102.isPresent()) {
+          generator.writeString(value.f102.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F103);
+        if (value.f103 != null) {
+          generator.writeStartArray();
+          for (String element : value.f103) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F104);
+        generator.writeNumber(value.f104);
+        generator.writeFieldName(F105);
+        if (value.f105 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f105);
+        }
+        generator.writeFieldName(F106);
+        generator.writeNumber(value.f106);
+        generator.writeFieldName(F107);
+        if (value.f107 != null && value.f107.isPresent()) {
+          generator.writeString(value.f107.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F108);
+        if (value.f108 != null) {
+          generator.writeStartArray();
+          for (String element : value.f108) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F109);
+        generator.writeNumber(value.f109);
+        generator.writeFieldName(F110);
+        if (value.f110 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f110);
+        }
+        generator.writeFieldName(F111);
+        generator.writeNumber(value.f111);
+        generator.writeFieldName(F112);
+        if (value.f112 != null && value.f112.isPresent()) {
+          generator.writeString(value.f112.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F113);
+        if (value.f113 != null) {
+          generator.writeStartArray();
+          for (String element : value.f113) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F114);
+        generator.writeNumber(value.f114);
+        generator.writeFieldName(F115);
+        if (value.f115 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f115);
+        }
+        generator.writeFieldName(F116);
+        generator.writeNumber(value.f116);
+        generator.writeFieldName(F117);
+        if (value.f117 != null && value.f117.isPresent()) {
+          generator.writeString(value.f117.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F118);
+        if (value.f118 != null) {
+          generator.writeStartArray();
+          for (String element : value.f118) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F119);
+        generator.writeNumber(value.f119);
+        generator.writeFieldName(F120);
+        if (value.f120 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f120);
+        }
+        generator.writeFieldName(F121);
+        generator.writeNumber(value.f121);
+        generator.writeFieldName(F122);
+        if (value.f122 != null && value.f122.isPresent()) {
+          generator.writeString(value.f122.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F123);
+        if (value.f123 != null) {
+          generator.writeStartArray();
+          for (String element : value.f123) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F124);
+        generator.writeNumber(value.f124);
+        generator.writeFieldName(F125);
+        if (value.f125 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f125);
+        }
+        generator.writeFieldName(F126);
+        generator.writeNumber(value.f126);
+        generator.writeFieldName(F127);
+        if (value.f127 != null && value.f127.isPresent()) {
+          generator.writeString(value.f127.get());
+        } else {
+          generator.writeNull();
+        }
+      }
+      private static void writeProperties2(com.geoffgranum.plugin.builder.benchmark.Wide200Streaming value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeFieldName(F128);
+        if (value.f128 != null) {
+          generator.writeStartArray();
+          for (String element : value.f128) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F129);
+        generator.writeNumber(value.f129);
+        generator.writeFieldName(F130);
+        if (value.f130 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f130);
+        }
+        generator.writeFieldName(F131);
+        generator.writeNumber(value.f131);
+        generator.writeFieldName(F132);
+        if (value.f132 != null && value.f132.isPresent()) {
+          generator.writeString(value.f132.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F133);
+        if (value.f133 != null) {
+          generator.writeStartArray();
+          for (String element : value.f133) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F134);
+        generator.writeNumber(value.f134);
+        generator.writeFieldName(F135);
+        if (value.f135 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f135);
+        }
+        generator.writeFieldName(F136);
+        generator.writeNumber(value.f136);
+        generator.writeFieldName(F137);
+        if (value.f137 != null && value.f137.isPresent()) {
+          generator.writeString(value.f137.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F138);
+        if (value.f138 != null) {
+          generator.writeStartArray();
+          for (String element : value.f138) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F139);
+        generator.writeNumber(value.f139);
+        generator.writeFieldName(F140);
+        if (value.f140 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f140);
+        }
+        generator.writeFieldName(F141);
+        generator.writeNumber(value.f141);
+        generator.writeFieldName(F142);
+        if (value.f142 != null && value.f142.isPresent()) {
+          generator.writeString(value.f142.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F143);
+        if (value.f143 != null) {
+          generator.writeStartArray();
+          for (String element : value.f143) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F144);
+        generator.writeNumber(value.f144);
+        generator.writeFieldName(F145);
+        if (value.f145 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f145);
+        }
+        generator.writeFieldName(F146);
+        generator.writeNumber(value.f146);
+        generator.writeFieldName(F147);
+        if (value.f147 != null && value.f147.isPresent()) {
+          generator.writeString(value.f147.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F148);
+        if (value.f148 != null) {
+          generator.writeStartArray();
+          for (String element : value.f148) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F149);
+        generator.writeNumber(value.f149);
+        generator.writeFieldName(F150);
+        if (value.f150 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f150);
+        }
+        generator.writeFieldName(F151);
+        generator.writeNumber(value.f151);
+        generator.writeFieldName(F152);
+        if (value.f152 != null && value.f152.isPresent()) {
+          generator.writeString(value.f152.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F153);
+        if (value.f153 != null) {
+          generator.writeStartArray();
+          for (String element : value.f153) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F154);
+        generator.writeNumber(value.f154);
+        generator.writeFieldName(F155);
+        if (value.f155 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f155);
+        }
+        generator.writeFieldName(F156);
+        generator.writeNumber(value.f156);
+        generator.writeFieldName(F157);
+        if (value.f157 != null && value.f157.isPresent()) {
+          generator.writeString(value.f157.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F158);
+        if (value.f158 != null) {
+          generator.writeStartArray();
+          for (String element : value.f158) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F159);
+        generator.writeNumber(value.f159);
+        generator.writeFieldName(F160);
+        if (value.f160 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f160);
+        }
+        generator.writeFieldName(F161);
+        generator.writeNumber(value.f161);
+        generator.writeFieldName(F162);
+        if (value.f162 != null && value.f162.isPresent()) {
+          generator.writeString(value.f162.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F163);
+        if (value.f163 != null) {
+          generator.writeStartArray();
+          for (String element : value.f163) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F164);
+        generator.writeNumber(value.f164);
+        generator.writeFieldName(F165);
+        if (value.f165 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f165);
+        }
+        generator.writeFieldName(F166);
+        generator.writeNumber(value.f166);
+        generator.writeFieldName(F167);
+        if (value.f167 != null && value.f167.isPresent()) {
+          generator.writeString(value.f167.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F168);
+        if (value.f168 != null) {
+          generator.writeStartArray();
+          for (String element : value.f168) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F169);
+        generator.writeNumber(value.f169);
+        generator.writeFieldName(F170);
+        if (value.f170 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f170);
+        }
+        generator.writeFieldName(F171);
+        generator.writeNumber(value.f171);
+        generator.writeFieldName(F172);
+        if (value.f172 != null && value.f172.isPresent()) {
+          generator.writeString(value.f172.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F173);
+        if (value.f173 != null) {
+          generator.writeStartArray();
+          for (String element : value.f173) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F174);
+        generator.writeNumber(value.f174);
+        generator.writeFieldName(F175);
+        if (value.f175 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f175);
+        }
+        generator.writeFieldName(F176);
+        generator.writeNumber(value.f176);
+        generator.writeFieldName(F177);
+        if (value.f177 != null && value.f177.isPresent()) {
+          generator.writeString(value.f177.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F178);
+        if (value.f178 != null) {
+          generator.writeStartArray();
+          for (String element : value.f178) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F179);
+        generator.writeNumber(value.f179);
+        generator.writeFieldName(F180);
+        if (value.f180 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f180);
+        }
+        generator.writeFieldName(F181);
+        generator.writeNumber(value.f181);
+        generator.writeFieldName(F182);
+        if (value.f182 != null && value.f182.isPresent()) {
+          generator.writeString(value.f182.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F183);
+        if (value.f183 != null) {
+          generator.writeStartArray();
+          for (String element : value.f183) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F184);
+        generator.writeNumber(value.f184);
+        generator.writeFieldName(F185);
+        if (value.f185 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f185);
+        }
+        generator.writeFieldName(F186);
+        generator.writeNumber(value.f186);
+        generator.writeFieldName(F187);
+        if (value.f187 != null && value.f187.isPresent()) {
+          generator.writeString(value.f187.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F188);
+        if (value.f188 != null) {
+          generator.writeStartArray();
+          for (String element : value.f188) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F189);
+        generator.writeNumber(value.f189);
+        generator.writeFieldName(F190);
+        if (value.f190 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f190);
+        }
+        generator.writeFieldName(F191);
+        generator.writeNumber(value.f191);
+      }
+      private static void writeProperties3(com.geoffgranum.plugin.builder.benchmark.Wide200Streaming value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeFieldName(F192);
+        if (value.f192 != null && value.f192.isPresent()) {
+          generator.writeString(value.f192.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F193);
+        if (value.f193 != null) {
+          generator.writeStartArray();
+          for (String element : value.f193) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F194);
+        generator.writeNumber(value.f194);
+        generator.writeFieldName(F195);
+        if (value.f195 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f195);
+        }
+        generator.writeFieldName(F196);
+        generator.writeNumber(value.f196);
+        generator.writeFieldName(F197);
+        if (value.f197 != null && value.f197.isPresent()) {
+          generator.writeString(value.f197.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F198);
+        if (value.f198 != null) {
+          generator.writeStartArray();
+          for (String element : value.f198) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F199);
+        generator.writeNumber(value.f199);
+      }
+    }
+  }
+}
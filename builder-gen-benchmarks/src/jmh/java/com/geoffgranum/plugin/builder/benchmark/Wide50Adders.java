@@ -0,0 +1,501 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.Optional;
+
+public final class Wide50Adders {
+  public final String f0;
+  public final int f1;
+  public final Optional<String> f2;
+  public final List<String> f3;
+  public final long f4;
+  public final String f5;
+  public final int f6;
+  public final Optional<String> f7;
+  public final List<String> f8;
+  public final long f9;
+  public final String f10;
+  public final int f11;
+  public final Optional<String> f12;
+  public final List<String> f13;
+  public final long f14;
+  public final String f15;
+  public final int f16;
+  public final Optional<String> f17;
+  public final List<String> f18;
+  public final long f19;
+  public final String f20;
+  public final int f21;
+  public final Optional<String> f22;
+  public final List<String> f23;
+  public final long f24;
+  public final String f25;
+  public final int f26;
+  public final Optional<String> f27;
+  public final List<String> f28;
+  public final long f29;
+  public final String f30;
+  public final int f31;
+  public final Optional<String> f32;
+  public final List<String> f33;
+  public final long f34;
+  public final String f35;
+  public final int f36;
+  public final Optional<String> f37;
+  public final List<String> f38;
+  public final long f39;
+  public final String f40;
+  public final int f41;
+  public final Optional<String> f42;
+  public final List<String> f43;
+  public final long f44;
+  public final String f45;
+  public final int f46;
+  public final Optional<String> f47;
+  public final List<String> f48;
+  public final long f49;
+  private Wide50Adders(Builder builder) { f0 = builder.f0;f1 = builder.f1;f2 = Optional.ofNullable(builder.f2);f3 = builder.f3 == null ? ImmutableList.of() : builder.f3.build();f4 = builder.f4;f5 = builder.f5;f6 = builder.f6;f7 = Optional.ofNullable(builder.f7);f8 = builder.f8 == null ? ImmutableList.of() : builder.f8.build();f9 = builder.f9;f10 = builder.f10;f11 = builder.f11;f12 = Optional.ofNullable(builder.f12);f13 = builder.f13 == null ? ImmutableList.of() : builder.f13.build();f14 = builder.f14;f15 = builder.f15;f16 = builder.f16;f17 = Optional.ofNullable(builder.f17);f18 = builder.f18 == null ? ImmutableList.of() : builder.f18.build();f19 = builder.f19;f20 = builder.f20;f21 = builder.f21;f22 = Optional.ofNullable(builder.f22);f23 = builder.f23 == null ? ImmutableList.of() : builder.f23.build();f24 = builder.f24;f25 = builder.f25;f26 = builder.f26;f27 = Optional.ofNullable(builder.f27);f28 = builder.f28 == null ? ImmutableList.of() : builder.f28.build();f29 = builder.f29;f30 = builder.f30;f31 = builder.f31;f32 = Optional.ofNullable(builder.f32);f33 = builder.f33 == null ? ImmutableList.of() : builder.f33.build();f34 = builder.f34;f35 = builder.f35;f36 = builder.f36;f37 = Optional.ofNullable(builder.f37);f38 = builder.f38 == null ? ImmutableList.of() : builder.f38.build();f39 = builder.f39;f40 = builder.f40;f41 = builder.f41;f42 = Optional.ofNullable(builder.f42);f43 = builder.f43 == null ? ImmutableList.of() : builder.f43.build();f44 = builder.f44;f45 = builder.f45;f46 = builder.f46;f47 = Optional.ofNullable(builder.f47);f48 = builder.f48 == null ? ImmutableList.of() : builder.f48.build();f49 = builder.f49; }
+  public static final class Builder {
+    private String f0;
+    private Integer f1 = 0;
+    private String f2;
+    private ImmutableList.Builder<String> f3;
+    private Long f4 = 0L;
+    private String f5;
+    private Integer f6 = 0;
+    private String f7;
+    private ImmutableList.Builder<String> f8;
+    private Long f9 = 0L;
+    private String f10;
+    private Integer f11 = 0;
+    private String f12;
+    private ImmutableList.Builder<String> f13;
+    private Long f14 = 0L;
+    private String f15;
+    private Integer f16 = 0;
+    private String f17;
+    private ImmutableList.Builder<String> f18;
+    private Long f19 = 0L;
+    private String f20;
+    private Integer f21 = 0;
+    private String f22;
+    private ImmutableList.Builder<String> f23;
+    private Long f24 = 0L;
+    private String f25;
+    private Integer f26 = 0;
+    private String f27;
+    private ImmutableList.Builder<String> f28;
+    private Long f29 = 0L;
+    private String f30;
+    private Integer f31 = 0;
+    private String f32;
+    private ImmutableList.Builder<String> f33;
+    private Long f34 = 0L;
+    private String f35;
+    private Integer f36 = 0;
+    private String f37;
+    private ImmutableList.Builder<String> f38;
+    private Long f39 = 0L;
+    private String f40;
+    private Integer f41 = 0;
+    private String f42;
+    private ImmutableList.Builder<String> f43;
+    private Long f44 = 0L;
+    private String f45;
+    private Integer f46 = 0;
+    private String f47;
+    private ImmutableList.Builder<String> f48;
+    private Long f49 = 0L;
+    public Builder f0(String f0){
+      this.f0 = f0;  return this;
+    }
+    public Builder f1(int f1){
+      this.f1 = f1;  return this;
+    }
+    public Builder f2(String f2){
+      this.f2 = f2;  return this;
+    }
+    public Builder f3(List<String> f3){
+      this.f3 = f3 == null ? null : ImmutableList.<String>builder().addAll(f3);  return this;
+    }
+    public Builder addF3(String element){
+      if (this.f3 == null) {
+        this.f3 = ImmutableList.builder();
+      }
+      this.f3.add(element);  return this;
+    }
+    public Builder addAllF3(Iterable<? extends String> elements){
+      if (this.f3 == null) {
+        this.f3 = ImmutableList.builder();
+      }
+      this.f3.addAll(elements);  return this;
+    }
+    public Builder f3ExpectedSize(int expectedSize){
+      if (this.f3 == null) {
+        this.f3 = ImmutableList.builderWithExpectedSize(expectedSize);
+      }
+      return this;
+    }
+    public Builder f4(long f4){
+      this.f4 = f4;  return this;
+    }
+    public Builder f5(String f5){
+      this.f5 = f5;  return this;
+    }
+    public Builder f6(int f6){
+      this.f6 = f6;  return this;
+    }
+    public Builder f7(String f7){
+      this.f7 = f7;  return this;
+    }
+    public Builder f8(List<String> f8){
+      this.f8 = f8 == null ? null : ImmutableList.<String>builder().addAll(f8);  return this;
+    }
+    public Builder addF8(String element){
+      if (this.f8 == null) {
+        this.f8 = ImmutableList.builder();
+      }
+      this.f8.add(element);  return this;
+    }
+    public Builder addAllF8(Iterable<? extends String> elements){
+      if (this.f8 == null) {
+        this.f8 = ImmutableList.builder();
+      }
+      this.f8.addAll(elements);  return this;
+    }
+    public Builder f8ExpectedSize(int expectedSize){
+      if (this.f8 == null) {
+        this.f8 = ImmutableList.builderWithExpectedSize(expectedSize);
+      }
+      return this;
+    }
+    public Builder f9(long f9){
+      this.f9 = f9;  return this;
+    }
+    public Builder f10(String f10){
+      this.f10 = f10;  return this;
+    }
+    public Builder f11(int f11){
+      this.f11 = f11;  return this;
+    }
+    public Builder f12(String f12){
+      this.f12 = f12;  return this;
+    }
+    public Builder f13(List<String> f13){
+      this.f13 = f13 == null ? null : ImmutableList.<String>builder().addAll(f13);  return this;
+    }
+    public Builder addF13(String element){
+      if (this.f13 == null) {
+        this.f13 = ImmutableList.builder();
+      }
+      this.f13.add(element);  return this;
+    }
+    public Builder addAllF13(Iterable<? extends String> elements){
+      if (this.f13 == null) {
+        this.f13 = ImmutableList.builder();
+      }
+      this.f13.addAll(elements);  return this;
+    }
+    public Builder f13ExpectedSize(int expectedSize){
+      if (this.f13 == null) {
+        this.f13 = ImmutableList.builderWithExpectedSize(expectedSize);
+      }
+      return this;
+    }
+    public Builder f14(long f14){
+      this.f14 = f14;  return this;
+    }
+    public Builder f15(String f15){
+      this.f15 = f15;  return this;
+    }
+    public Builder f16(int f16){
+      this.f16 = f16;  return this;
+    }
+    public Builder f17(String f17){
+      this.f17 = f17;  return this;
+    }
+    public Builder f18(List<String> f18){
+      this.f18 = f18 == null ? null : ImmutableList.<String>builder().addAll(f18);  return this;
+    }
+    public Builder addF18(String element){
+      if (this.f18 == null) {
+        this.f18 = ImmutableList.builder();
+      }
+      this.f18.add(element);  return this;
+    }
+    public Builder addAllF18(Iterable<? extends String> elements){
+      if (this.f18 == null) {
+        this.f18 = ImmutableList.builder();
+      }
+      this.f18.addAll(elements);  return this;
+    }
+    public Builder f18ExpectedSize(int expectedSize){
+      if (this.f18 == null) {
+        this.f18 = ImmutableList.builderWithExpectedSize(expectedSize);
+      }
+      return this;
+    }
+    public Builder f19(long f19){
+      this.f19 = f19;  return this;
+    }
+    public Builder f20(String f20){
+      this.f20 = f20;  return this;
+    }
+    public Builder f21(int f21){
+      this.f21 = f21;  return this;
+    }
+    public Builder f22(String f22){
+      this.f22 = f22;  return this;
+    }
+    public Builder f23(List<String> f23){
+      this.f23 = f23 == null ? null : ImmutableList.<String>builder().addAll(f23);  return this;
+    }
+    public Builder addF23(String element){
+      if (this.f23 == null) {
+        this.f23 = ImmutableList.builder();
+      }
+      this.f23.add(element);  return this;
+    }
+    public Builder addAllF23(Iterable<? extends String> elements){
+      if (this.f23 == null) {
+        this.f23 = ImmutableList.builder();
+      }
+      this.f23.addAll(elements);  return this;
+    }
+    public Builder f23ExpectedSize(int expectedSize){
+      if (this.f23 == null) {
+        this.f23 = ImmutableList.builderWithExpectedSize(expectedSize);
+      }
+      return this;
+    }
+    public Builder f24(long f24){
+      this.f24 = f24;  return this;
+    }
+    public Builder f25(String f25){
+      this.f25 = f25;  return this;
+    }
+    public Builder f26(int f26){
+      this.f26 = f26;  return this;
+    }
+    public Builder f27(String f27){
+      this.f27 = f27;  return this;
+    }
+    public Builder f28(List<String> f28){
+      this.f28 = f28 == null ? null : ImmutableList.<String>builder().addAll(f28);  return this;
+    }
+    public Builder addF28(String element){
+      if (this.f28 == null) {
+        this.f28 = ImmutableList.builder();
+      }
+      this.f28.add(element);  return this;
+    }
+    public Builder addAllF28(Iterable<? extends String> elements){
+      if (this.f28 == null) {
+        this.f28 = ImmutableList.builder();
+      }
+      this.f28.addAll(elements);  return this;
+    }
+    public Builder f28ExpectedSize(int expectedSize){
+      if (this.f28 == null) {
+        this.f28 = ImmutableList.builderWithExpectedSize(expectedSize);
+      }
+      return this;
+    }
+    public Builder f29(long f29){
+      this.f29 = f29;  return this;
+    }
+    public Builder f30(String f30){
+      this.f30 = f30;  return this;
+    }
+    public Builder f31(int f31){
+      this.f31 = f31;  return this;
+    }
+    public Builder f32(String f32){
+      this.f32 = f32;  return this;
+    }
+    public Builder f33(List<String> f33){
+      this.f33 = f33 == null ? null : ImmutableList.<String>builder().addAll(f33);  return this;
+    }
+    public Builder addF33(String element){
+      if (this.f33 == null) {
+        this.f33 = ImmutableList.builder();
+      }
+      this.f33.add(element);  return this;
+    }
+    public Builder addAllF33(Iterable<? extends String> elements){
+      if (this.f33 == null) {
+        this.f33 = ImmutableList.builder();
+      }
+      this.f33.addAll(elements);  return this;
+    }
+    public Builder f33ExpectedSize(int expectedSize){
+      if (this.f33 == null) {
+        this.f33 = ImmutableList.builderWithExpectedSize(expectedSize);
+      }
+      return this;
+    }
+    public Builder f34(long f34){
+      this.f34 = f34;  return this;
+    }
+    public Builder f35(String f35){
+      this.f35 = f35;  return this;
+    }
+    public Builder f36(int f36){
+      this.f36 = f36;  return this;
+    }
+    public Builder f37(String f37){
+      this.f37 = f37;  return this;
+    }
+    public Builder f38(List<String> f38){
+      this.f38 = f38 == null ? null : ImmutableList.<String>builder().addAll(f38);  return this;
+    }
+    public Builder addF38(String element){
+      if (this.f38 == null) {
+        this.f38 = ImmutableList.builder();
+      }
+      this.f38.add(element);  return this;
+    }
+    public Builder addAllF38(Iterable<? extends String> elements){
+      if (this.f38 == null) {
+        this.f38 = ImmutableList.builder();
+      }
+      this.f38.addAll(elements);  return this;
+    }
+    public Builder f38ExpectedSize(int expectedSize){
+      if (this.f38 == null) {
+        this.f38 = ImmutableList.builderWithExpectedSize(expectedSize);
+      }
+      return this;
+    }
+    public Builder f39(long f39){
+      this.f39 = f39;  return this;
+    }
+    public Builder f40(String f40){
+      this.f40 = f40;  return this;
+    }
+    public Builder f41(int f41){
+      this.f41 = f41;  return this;
+    }
+    public Builder f42(String f42){
+      this.f42 = f42;  return this;
+    }
+    public Builder f43(List<String> f43){
+      this.f43 = f43 == null ? null : ImmutableList.<String>builder().addAll(f43);  return this;
+    }
+    public Builder addF43(String element){
+      if (this.f43 == null) {
+        this.f43 = ImmutableList.builder();
+      }
+      this.f43.add(element);  return this;
+    }
+    public Builder addAllF43(Iterable<? extends String> elements){
+      if (this.f43 == null) {
+        this.f43 = ImmutableList.builder();
+      }
+      this.f43.addAll(elements);  return this;
+    }
+    public Builder f43ExpectedSize(int expectedSize){
+      if (this.f43 == null) {
+        this.f43 = ImmutableList.builderWithExpectedSize(expectedSize);
+      }
+      return this;
+    }
+    public Builder f44(long f44){
+      this.f44 = f44;  return this;
+    }
+    public Builder f45(String f45){
+      this.f45 = f45;  return this;
+    }
+    public Builder f46(int f46){
+      this.f46 = f46;  return this;
+    }
+    public Builder f47(String f47){
+      this.f47 = f47;  return this;
+    }
+    public Builder f48(List<String> f48){
+      this.f48 = f48 == null ? null : ImmutableList.<String>builder().addAll(f48);  return this;
+    }
+    public Builder addF48(String element){
+      if (this.f48 == null) {
+        this.f48 = ImmutableList.builder();
+      }
+      this.f48.add(element);  return this;
+    }
+    public Builder addAllF48(Iterable<? extends String> elements){
+      if (this.f48 == null) {
+        this.f48 = ImmutableList.builder();
+      }
+      this.f48.addAll(elements);  return this;
+    }
+    public Builder f48ExpectedSize(int expectedSize){
+      if (this.f48 == null) {
+        this.f48 = ImmutableList.builderWithExpectedSize(expectedSize);
+      }
+      return this;
+    }
+    public Builder f49(long f49){
+      this.f49 = f49;  return this;
+    }
+    public Builder(){}
+    public Builder reset(){
+      f0 = null;
+      f1 = 0;
+      f2 = null;
+      f3 = null;
+      f4 = 0L;
+      f5 = null;
+      f6 = 0;
+      f7 = null;
+      f8 = null;
+      f9 = 0L;
+      f10 = null;
+      f11 = 0;
+      f12 = null;
+      f13 = null;
+      f14 = 0L;
+      f15 = null;
+      f16 = 0;
+      f17 = null;
+      f18 = null;
+      f19 = 0L;
+      f20 = null;
+      f21 = 0;
+      f22 = null;
+      f23 = null;
+      f24 = 0L;
+      f25 = null;
+      f26 = 0;
+      f27 = null;
+      f28 = null;
+      f29 = 0L;
+      f30 = null;
+      f31 = 0;
+      f32 = null;
+      f33 = null;
+      f34 = 0L;
+      f35 = null;
+      f36 = 0;
+      f37 = null;
+      f38 = null;
+      f39 = 0L;
+      f40 = null;
+      f41 = 0;
+      f42 = null;
+      f43 = null;
+      f44 = 0L;
+      f45 = null;
+      f46 = 0;
+      f47 = null;
+      f48 = null;
+      f49 = 0L;
+      return this;}
+    public com.geoffgranum.plugin.builder.benchmark.Wide50Adders build() {
+      return new com.geoffgranum.plugin.builder.benchmark.Wide50Adders(this);
+    }
+  }
+}
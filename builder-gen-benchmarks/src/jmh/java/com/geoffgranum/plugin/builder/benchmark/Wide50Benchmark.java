@@ -0,0 +1,742 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * build(), from()+build(), copy(), toJson and fromJson for the Wide50 fixtures, per option variant.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class Wide50Benchmark {
+  private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new Jdk8Module());
+  private static final List<String> STRINGS = Arrays.asList("a", "b", "c");
+  private static final List<Integer> INTEGERS = Arrays.asList(1, 2, 3);
+  private static final Set<String> STRING_SET = new HashSet<>(STRINGS);
+  private static final Set<Long> LONG_SET = new HashSet<>(Arrays.asList(1L, 2L, 3L));
+  private static final Map<String, Integer> COUNTS = new HashMap<>();
+  static {
+    COUNTS.put("a", 1);
+    COUNTS.put("b", 2);
+  }
+  private Wide50Copy copySource;
+  private Wide50Copy.Builder copyBuilder;
+  private Wide50Jackson jacksonInstance;
+  private Wide50Streaming streamingInstance;
+  private String json;
+  @Setup
+  public void setup() throws IOException {
+    copySource = build_copy();
+    copyBuilder = new Wide50Copy.Builder().from(copySource);
+    jacksonInstance = build_jackson();
+    streamingInstance = build_streaming();
+    json = MAPPER.writeValueAsString(jacksonInstance);
+  }
+  @Benchmark
+  public Wide50Plain build_plain() {
+    return new Wide50Plain.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .f5("f5")
+        .f6(42)
+        .f7("f7")
+        .f8(STRINGS)
+        .f9(42L)
+        .f10("f10")
+        .f11(42)
+        .f12("f12")
+        .f13(STRINGS)
+        .f14(42L)
+        .f15("f15")
+        .f16(42)
+        .f17("f17")
+        .f18(STRINGS)
+        .f19(42L)
+        .f20("f20")
+        .f21(42)
+        .f22("f22")
+        .f23(STRINGS)
+        .f24(42L)
+        .f25("f25")
+        .f26(42)
+        .f27("f27")
+        .f28(STRINGS)
+        .f29(42L)
+        .f30("f30")
+        .f31(42)
+        .f32("f32")
+        .f33(STRINGS)
+        .f34(42L)
+        .f35("f35")
+        .f36(42)
+        .f37("f37")
+        .f38(STRINGS)
+        .f39(42L)
+        .f40("f40")
+        .f41(42)
+        .f42("f42")
+        .f43(STRINGS)
+        .f44(42L)
+        .f45("f45")
+        .f46(42)
+        .f47("f47")
+        .f48(STRINGS)
+        .f49(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide50Jackson build_jackson() {
+    return new Wide50Jackson.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .f5("f5")
+        .f6(42)
+        .f7("f7")
+        .f8(STRINGS)
+        .f9(42L)
+        .f10("f10")
+        .f11(42)
+        .f12("f12")
+        .f13(STRINGS)
+        .f14(42L)
+        .f15("f15")
+        .f16(42)
+        .f17("f17")
+        .f18(STRINGS)
+        .f19(42L)
+        .f20("f20")
+        .f21(42)
+        .f22("f22")
+        .f23(STRINGS)
+        .f24(42L)
+        .f25("f25")
+        .f26(42)
+        .f27("f27")
+        .f28(STRINGS)
+        .f29(42L)
+        .f30("f30")
+        .f31(42)
+        .f32("f32")
+        .f33(STRINGS)
+        .f34(42L)
+        .f35("f35")
+        .f36(42)
+        .f37("f37")
+        .f38(STRINGS)
+        .f39(42L)
+        .f40("f40")
+        .f41(42)
+        .f42("f42")
+        .f43(STRINGS)
+        .f44(42L)
+        .f45("f45")
+        .f46(42)
+        .f47("f47")
+        .f48(STRINGS)
+        .f49(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide50Copy build_copy() {
+    return new Wide50Copy.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .f5("f5")
+        .f6(42)
+        .f7("f7")
+        .f8(STRINGS)
+        .f9(42L)
+        .f10("f10")
+        .f11(42)
+        .f12("f12")
+        .f13(STRINGS)
+        .f14(42L)
+        .f15("f15")
+        .f16(42)
+        .f17("f17")
+        .f18(STRINGS)
+        .f19(42L)
+        .f20("f20")
+        .f21(42)
+        .f22("f22")
+        .f23(STRINGS)
+        .f24(42L)
+        .f25("f25")
+        .f26(42)
+        .f27("f27")
+        .f28(STRINGS)
+        .f29(42L)
+        .f30("f30")
+        .f31(42)
+        .f32("f32")
+        .f33(STRINGS)
+        .f34(42L)
+        .f35("f35")
+        .f36(42)
+        .f37("f37")
+        .f38(STRINGS)
+        .f39(42L)
+        .f40("f40")
+        .f41(42)
+        .f42("f42")
+        .f43(STRINGS)
+        .f44(42L)
+        .f45("f45")
+        .f46(42)
+        .f47("f47")
+        .f48(STRINGS)
+        .f49(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide50Unboxed build_unboxed() {
+    return new Wide50Unboxed.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .f5("f5")
+        .f6(42)
+        .f7("f7")
+        .f8(STRINGS)
+        .f9(42L)
+        .f10("f10")
+        .f11(42)
+        .f12("f12")
+        .f13(STRINGS)
+        .f14(42L)
+        .f15("f15")
+        .f16(42)
+        .f17("f17")
+        .f18(STRINGS)
+        .f19(42L)
+        .f20("f20")
+        .f21(42)
+        .f22("f22")
+        .f23(STRINGS)
+        .f24(42L)
+        .f25("f25")
+        .f26(42)
+        .f27("f27")
+        .f28(STRINGS)
+        .f29(42L)
+        .f30("f30")
+        .f31(42)
+        .f32("f32")
+        .f33(STRINGS)
+        .f34(42L)
+        .f35("f35")
+        .f36(42)
+        .f37("f37")
+        .f38(STRINGS)
+        .f39(42L)
+        .f40("f40")
+        .f41(42)
+        .f42("f42")
+        .f43(STRINGS)
+        .f44(42L)
+        .f45("f45")
+        .f46(42)
+        .f47("f47")
+        .f48(STRINGS)
+        .f49(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide50Adders build_adders() {
+    return new Wide50Adders.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .f5("f5")
+        .f6(42)
+        .f7("f7")
+        .f8(STRINGS)
+        .f9(42L)
+        .f10("f10")
+        .f11(42)
+        .f12("f12")
+        .f13(STRINGS)
+        .f14(42L)
+        .f15("f15")
+        .f16(42)
+        .f17("f17")
+        .f18(STRINGS)
+        .f19(42L)
+        .f20("f20")
+        .f21(42)
+        .f22("f22")
+        .f23(STRINGS)
+        .f24(42L)
+        .f25("f25")
+        .f26(42)
+        .f27("f27")
+        .f28(STRINGS)
+        .f29(42L)
+        .f30("f30")
+        .f31(42)
+        .f32("f32")
+        .f33(STRINGS)
+        .f34(42L)
+        .f35("f35")
+        .f36(42)
+        .f37("f37")
+        .f38(STRINGS)
+        .f39(42L)
+        .f40("f40")
+        .f41(42)
+        .f42("f42")
+        .f43(STRINGS)
+        .f44(42L)
+        .f45("f45")
+        .f46(42)
+        .f47("f47")
+        .f48(STRINGS)
+        .f49(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide50Jdk build_jdk() {
+    return new Wide50Jdk.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .f5("f5")
+        .f6(42)
+        .f7("f7")
+        .f8(STRINGS)
+        .f9(42L)
+        .f10("f10")
+        .f11(42)
+        .f12("f12")
+        .f13(STRINGS)
+        .f14(42L)
+        .f15("f15")
+        .f16(42)
+        .f17("f17")
+        .f18(STRINGS)
+        .f19(42L)
+        .f20("f20")
+        .f21(42)
+        .f22("f22")
+        .f23(STRINGS)
+        .f24(42L)
+        .f25("f25")
+        .f26(42)
+        .f27("f27")
+        .f28(STRINGS)
+        .f29(42L)
+        .f30("f30")
+        .f31(42)
+        .f32("f32")
+        .f33(STRINGS)
+        .f34(42L)
+        .f35("f35")
+        .f36(42)
+        .f37("f37")
+        .f38(STRINGS)
+        .f39(42L)
+        .f40("f40")
+        .f41(42)
+        .f42("f42")
+        .f43(STRINGS)
+        .f44(42L)
+        .f45("f45")
+        .f46(42)
+        .f47("f47")
+        .f48(STRINGS)
+        .f49(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide50Fastutil build_fastutil() {
+    return new Wide50Fastutil.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .f5("f5")
+        .f6(42)
+        .f7("f7")
+        .f8(STRINGS)
+        .f9(42L)
+        .f10("f10")
+        .f11(42)
+        .f12("f12")
+        .f13(STRINGS)
+        .f14(42L)
+        .f15("f15")
+        .f16(42)
+        .f17("f17")
+        .f18(STRINGS)
+        .f19(42L)
+        .f20("f20")
+        .f21(42)
+        .f22("f22")
+        .f23(STRINGS)
+        .f24(42L)
+        .f25("f25")
+        .f26(42)
+        .f27("f27")
+        .f28(STRINGS)
+        .f29(42L)
+        .f30("f30")
+        .f31(42)
+        .f32("f32")
+        .f33(STRINGS)
+        .f34(42L)
+        .f35("f35")
+        .f36(42)
+        .f37("f37")
+        .f38(STRINGS)
+        .f39(42L)
+        .f40("f40")
+        .f41(42)
+        .f42("f42")
+        .f43(STRINGS)
+        .f44(42L)
+        .f45("f45")
+        .f46(42)
+        .f47("f47")
+        .f48(STRINGS)
+        .f49(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide50Unwrapped build_unwrapped() {
+    return new Wide50Unwrapped.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .f5("f5")
+        .f6(42)
+        .f7("f7")
+        .f8(STRINGS)
+        .f9(42L)
+        .f10("f10")
+        .f11(42)
+        .f12("f12")
+        .f13(STRINGS)
+        .f14(42L)
+        .f15("f15")
+        .f16(42)
+        .f17("f17")
+        .f18(STRINGS)
+        .f19(42L)
+        .f20("f20")
+        .f21(42)
+        .f22("f22")
+        .f23(STRINGS)
+        .f24(42L)
+        .f25("f25")
+        .f26(42)
+        .f27("f27")
+        .f28(STRINGS)
+        .f29(42L)
+        .f30("f30")
+        .f31(42)
+        .f32("f32")
+        .f33(STRINGS)
+        .f34(42L)
+        .f35("f35")
+        .f36(42)
+        .f37("f37")
+        .f38(STRINGS)
+        .f39(42L)
+        .f40("f40")
+        .f41(42)
+        .f42("f42")
+        .f43(STRINGS)
+        .f44(42L)
+        .f45("f45")
+        .f46(42)
+        .f47("f47")
+        .f48(STRINGS)
+        .f49(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide50Pooled build_pooled() {
+    return new Wide50Pooled.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .f5("f5")
+        .f6(42)
+        .f7("f7")
+        .f8(STRINGS)
+        .f9(42L)
+        .f10("f10")
+        .f11(42)
+        .f12("f12")
+        .f13(STRINGS)
+        .f14(42L)
+        .f15("f15")
+        .f16(42)
+        .f17("f17")
+        .f18(STRINGS)
+        .f19(42L)
+        .f20("f20")
+        .f21(42)
+        .f22("f22")
+        .f23(STRINGS)
+        .f24(42L)
+        .f25("f25")
+        .f26(42)
+        .f27("f27")
+        .f28(STRINGS)
+        .f29(42L)
+        .f30("f30")
+        .f31(42)
+        .f32("f32")
+        .f33(STRINGS)
+        .f34(42L)
+        .f35("f35")
+        .f36(42)
+        .f37("f37")
+        .f38(STRINGS)
+        .f39(42L)
+        .f40("f40")
+        .f41(42)
+        .f42("f42")
+        .f43(STRINGS)
+        .f44(42L)
+        .f45("f45")
+        .f46(42)
+        .f47("f47")
+        .f48(STRINGS)
+        .f49(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide50Streaming build_streaming() {
+    return new Wide50Streaming.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .f5("f5")
+        .f6(42)
+        .f7("f7")
+        .f8(STRINGS)
+        .f9(42L)
+        .f10("f10")
+        .f11(42)
+        .f12("f12")
+        .f13(STRINGS)
+        .f14(42L)
+        .f15("f15")
+        .f16(42)
+        .f17("f17")
+        .f18(STRINGS)
+        .f19(42L)
+        .f20("f20")
+        .f21(42)
+        .f22("f22")
+        .f23(STRINGS)
+        .f24(42L)
+        .f25("f25")
+        .f26(42)
+        .f27("f27")
+        .f28(STRINGS)
+        .f29(42L)
+        .f30("f30")
+        .f31(42)
+        .f32("f32")
+        .f33(STRINGS)
+        .f34(42L)
+        .f35("f35")
+        .f36(42)
+        .f37("f37")
+        .f38(STRINGS)
+        .f39(42L)
+        .f40("f40")
+        .f41(42)
+        .f42("f42")
+        .f43(STRINGS)
+        .f44(42L)
+        .f45("f45")
+        .f46(42)
+        .f47("f47")
+        .f48(STRINGS)
+        .f49(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide50Adders addAll_adders() {
+    return new Wide50Adders.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .addAllF3(STRINGS)
+        .f4(42L)
+        .f5("f5")
+        .f6(42)
+        .f7("f7")
+        .addAllF8(STRINGS)
+        .f9(42L)
+        .f10("f10")
+        .f11(42)
+        .f12("f12")
+        .addAllF13(STRINGS)
+        .f14(42L)
+        .f15("f15")
+        .f16(42)
+        .f17("f17")
+        .addAllF18(STRINGS)
+        .f19(42L)
+        .f20("f20")
+        .f21(42)
+        .f22("f22")
+        .addAllF23(STRINGS)
+        .f24(42L)
+        .f25("f25")
+        .f26(42)
+        .f27("f27")
+        .addAllF28(STRINGS)
+        .f29(42L)
+        .f30("f30")
+        .f31(42)
+        .f32("f32")
+        .addAllF33(STRINGS)
+        .f34(42L)
+        .f35("f35")
+        .f36(42)
+        .f37("f37")
+        .addAllF38(STRINGS)
+        .f39(42L)
+        .f40("f40")
+        .f41(42)
+        .f42("f42")
+        .addAllF43(STRINGS)
+        .f44(42L)
+        .f45("f45")
+        .f46(42)
+        .f47("f47")
+        .addAllF48(STRINGS)
+        .f49(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide50Pooled pooledBuild_pooled() {
+    return Wide50Pooled.Builder.pooled()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .f5("f5")
+        .f6(42)
+        .f7("f7")
+        .f8(STRINGS)
+        .f9(42L)
+        .f10("f10")
+        .f11(42)
+        .f12("f12")
+        .f13(STRINGS)
+        .f14(42L)
+        .f15("f15")
+        .f16(42)
+        .f17("f17")
+        .f18(STRINGS)
+        .f19(42L)
+        .f20("f20")
+        .f21(42)
+        .f22("f22")
+        .f23(STRINGS)
+        .f24(42L)
+        .f25("f25")
+        .f26(42)
+        .f27("f27")
+        .f28(STRINGS)
+        .f29(42L)
+        .f30("f30")
+        .f31(42)
+        .f32("f32")
+        .f33(STRINGS)
+        .f34(42L)
+        .f35("f35")
+        .f36(42)
+        .f37("f37")
+        .f38(STRINGS)
+        .f39(42L)
+        .f40("f40")
+        .f41(42)
+        .f42("f42")
+        .f43(STRINGS)
+        .f44(42L)
+        .f45("f45")
+        .f46(42)
+        .f47("f47")
+        .f48(STRINGS)
+        .f49(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide50Copy fromBuild_copy() {
+    return new Wide50Copy.Builder().from(copySource).build();
+  }
+  @Benchmark
+  public Wide50Copy.Builder copy_copy() {
+    return copyBuilder.copy();
+  }
+  @Benchmark
+  public String toJson_jackson() throws IOException {
+    return MAPPER.writeValueAsString(jacksonInstance);
+  }
+  @Benchmark
+  public Wide50Jackson fromJson_jackson() throws IOException {
+    return MAPPER.readValue(json, Wide50Jackson.class);
+  }
+  @Benchmark
+  public String toJson_streaming() throws IOException {
+    return MAPPER.writeValueAsString(streamingInstance);
+  }
+  @Benchmark
+  public Wide50Streaming fromJson_streaming() throws IOException {
+    return MAPPER.readValue(json, Wide50Streaming.class);
+  }
+}
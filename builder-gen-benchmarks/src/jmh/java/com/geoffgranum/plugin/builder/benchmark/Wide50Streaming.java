@@ -0,0 +1,1214 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+@JsonDeserialize(using = Wide50Streaming.Builder.Deserializer.class)
+@JsonSerialize(using = Wide50Streaming.Builder.Serializer.class)
+public final class Wide50Streaming {
+  public final String f0;
+  public final int f1;
+  public final Optional<String> f2;
+  public final List<String> f3;
+  public final long f4;
+  public final String f5;
+  public final int f6;
+  public final Optional<String> f7;
+  public final List<String> f8;
+  public final long f9;
+  public final String f10;
+  public final int f11;
+  public final Optional<String> f12;
+  public final List<String> f13;
+  public final long f14;
+  public final String f15;
+  public final int f16;
+  public final Optional<String> f17;
+  public final List<String> f18;
+  public final long f19;
+  public final String f20;
+  public final int f21;
+  public final Optional<String> f22;
+  public final List<String> f23;
+  public final long f24;
+  public final String f25;
+  public final int f26;
+  public final Optional<String> f27;
+  public final List<String> f28;
+  public final long f29;
+  public final String f30;
+  public final int f31;
+  public final Optional<String> f32;
+  public final List<String> f33;
+  public final long f34;
+  public final String f35;
+  public final int f36;
+  public final Optional<String> f37;
+  public final List<String> f38;
+  public final long f39;
+  public final String f40;
+  public final int f41;
+  public final Optional<String> f42;
+  public final List<String> f43;
+  public final long f44;
+  public final String f45;
+  public final int f46;
+  public final Optional<String> f47;
+  public final List<String> f48;
+  public final long f49;
+  private Wide50Streaming(Builder builder) { f0 = builder.f0;f1 = builder.f1;f2 = Optional.ofNullable(builder.f2);f3 = ImmutableList.copyOf(builder.f3);f4 = builder.f4;f5 = builder.f5;f6 = builder.f6;f7 = Optional.ofNullable(builder.f7);f8 = ImmutableList.copyOf(builder.f8);f9 = builder.f9;f10 = builder.f10;f11 = builder.f11;f12 = Optional.ofNullable(builder.f12);f13 = ImmutableList.copyOf(builder.f13);f14 = builder.f14;f15 = builder.f15;f16 = builder.f16;f17 = Optional.ofNullable(builder.f17);f18 = ImmutableList.copyOf(builder.f18);f19 = builder.f19;f20 = builder.f20;f21 = builder.f21;f22 = Optional.ofNullable(builder.f22);f23 = ImmutableList.copyOf(builder.f23);f24 = builder.f24;f25 = builder.f25;f26 = builder.f26;f27 = Optional.ofNullable(builder.f27);f28 = ImmutableList.copyOf(builder.f28);f29 = builder.f29;f30 = builder.f30;f31 = builder.f31;f32 = Optional.ofNullable(builder.f32);f33 = ImmutableList.copyOf(builder.f33);f34 = builder.f34;f35 = builder.f35;f36 = builder.f36;f37 = Optional.ofNullable(builder.f37);f38 = ImmutableList.copyOf(builder.f38);f39 = builder.f39;f40 = builder.f40;f41 = builder.f41;f42 = Optional.ofNullable(builder.f42);f43 = ImmutableList.copyOf(builder.f43);f44 = builder.f44;f45 = builder.f45;f46 = builder.f46;f47 = Optional.ofNullable(builder.f47);f48 = ImmutableList.copyOf(builder.f48);f49 = builder.f49; }
+  public static final class Builder {
+    @JsonProperty
+    private String f0;
+    @JsonProperty
+    private Integer f1 = 0;
+    @JsonProperty
+    private String f2;
+    @JsonProperty
+    private List<String> f3 = Collections.emptyList();
+    @JsonProperty
+    private Long f4 = 0L;
+    @JsonProperty
+    private String f5;
+    @JsonProperty
+    private Integer f6 = 0;
+    @JsonProperty
+    private String f7;
+    @JsonProperty
+    private List<String> f8 = Collections.emptyList();
+    @JsonProperty
+    private Long f9 = 0L;
+    @JsonProperty
+    private String f10;
+    @JsonProperty
+    private Integer f11 = 0;
+    @JsonProperty
+    private String f12;
+    @JsonProperty
+    private List<String> f13 = Collections.emptyList();
+    @JsonProperty
+    private Long f14 = 0L;
+    @JsonProperty
+    private String f15;
+    @JsonProperty
+    private Integer f16 = 0;
+    @JsonProperty
+    private String f17;
+    @JsonProperty
+    private List<String> f18 = Collections.emptyList();
+    @JsonProperty
+    private Long f19 = 0L;
+    @JsonProperty
+    private String f20;
+    @JsonProperty
+    private Integer f21 = 0;
+    @JsonProperty
+    private String f22;
+    @JsonProperty
+    private List<String> f23 = Collections.emptyList();
+    @JsonProperty
+    private Long f24 = 0L;
+    @JsonProperty
+    private String f25;
+    @JsonProperty
+    private Integer f26 = 0;
+    @JsonProperty
+    private String f27;
+    @JsonProperty
+    private List<String> f28 = Collections.emptyList();
+    @JsonProperty
+    private Long f29 = 0L;
+    @JsonProperty
+    private String f30;
+    @JsonProperty
+    private Integer f31 = 0;
+    @JsonProperty
+    private String f32;
+    @JsonProperty
+    private List<String> f33 = Collections.emptyList();
+    @JsonProperty
+    private Long f34 = 0L;
+    @JsonProperty
+    private String f35;
+    @JsonProperty
+    private Integer f36 = 0;
+    @JsonProperty
+    private String f37;
+    @JsonProperty
+    private List<String> f38 = Collections.emptyList();
+    @JsonProperty
+    private Long f39 = 0L;
+    @JsonProperty
+    private String f40;
+    @JsonProperty
+    private Integer f41 = 0;
+    @JsonProperty
+    private String f42;
+    @JsonProperty
+    private List<String> f43 = Collections.emptyList();
+    @JsonProperty
+    private Long f44 = 0L;
+    @JsonProperty
+    private String f45;
+    @JsonProperty
+    private Integer f46 = 0;
+    @JsonProperty
+    private String f47;
+    @JsonProperty
+    private List<String> f48 = Collections.emptyList();
+    @JsonProperty
+    private Long f49 = 0L;
+    public Builder f0(String f0){
+      this.f0 = f0;  return this;
+    }
+    public Builder f1(int f1){
+      this.f1 = f1;  return this;
+    }
+    public Builder f2(String f2){
+      this.f2 = f2;  return this;
+    }
+    public Builder f3(List<String> f3){
+      this.f3 = f3;  return this;
+    }
+    public Builder f4(long f4){
+      this.f4 = f4;  return this;
+    }
+    public Builder f5(String f5){
+      this.f5 = f5;  return this;
+    }
+    public Builder f6(int f6){
+      this.f6 = f6;  return this;
+    }
+    public Builder f7(String f7){
+      this.f7 = f7;  return this;
+    }
+    public Builder f8(List<String> f8){
+      this.f8 = f8;  return this;
+    }
+    public Builder f9(long f9){
+      this.f9 = f9;  return this;
+    }
+    public Builder f10(String f10){
+      this.f10 = f10;  return this;
+    }
+    public Builder f11(int f11){
+      this.f11 = f11;  return this;
+    }
+    public Builder f12(String f12){
+      this.f12 = f12;  return this;
+    }
+    public Builder f13(List<String> f13){
+      this.f13 = f13;  return this;
+    }
+    public Builder f14(long f14){
+      this.f14 = f14;  return this;
+    }
+    public Builder f15(String f15){
+      this.f15 = f15;  return this;
+    }
+    public Builder f16(int f16){
+      this.f16 = f16;  return this;
+    }
+    public Builder f17(String f17){
+      this.f17 = f17;  return this;
+    }
+    public Builder f18(List<String> f18){
+      this.f18 = f18;  return this;
+    }
+    public Builder f19(long f19){
+      this.f19 = f19;  return this;
+    }
+    public Builder f20(String f20){
+      this.f20 = f20;  return this;
+    }
+    public Builder f21(int f21){
+      this.f21 = f21;  return this;
+    }
+    public Builder f22(String f22){
+      this.f22 = f22;  return this;
+    }
+    public Builder f23(List<String> f23){
+      this.f23 = f23;  return this;
+    }
+    public Builder f24(long f24){
+      this.f24 = f24;  return this;
+    }
+    public Builder f25(String f25){
+      this.f25 = f25;  return this;
+    }
+    public Builder f26(int f26){
+      this.f26 = f26;  return this;
+    }
+    public Builder f27(String f27){
+      this.f27 = f27;  return this;
+    }
+    public Builder f28(List<String> f28){
+      this.f28 = f28;  return this;
+    }
+    public Builder f29(long f29){
+      this.f29 = f29;  return this;
+    }
+    public Builder f30(String f30){
+      this.f30 = f30;  return this;
+    }
+    public Builder f31(int f31){
+      this.f31 = f31;  return this;
+    }
+    public Builder f32(String f32){
+      this.f32 = f32;  return this;
+    }
+    public Builder f33(List<String> f33){
+      this.f33 = f33;  return this;
+    }
+    public Builder f34(long f34){
+      this.f34 = f34;  return this;
+    }
+    public Builder f35(String f35){
+      this.f35 = f35;  return this;
+    }
+    public Builder f36(int f36){
+      this.f36 = f36;  return this;
+    }
+    public Builder f37(String f37){
+      this.f37 = f37;  return this;
+    }
+    public Builder f38(List<String> f38){
+      this.f38 = f38;  return this;
+    }
+    public Builder f39(long f39){
+      this.f39 = f39;  return this;
+    }
+    public Builder f40(String f40){
+      this.f40 = f40;  return this;
+    }
+    public Builder f41(int f41){
+      this.f41 = f41;  return this;
+    }
+    public Builder f42(String f42){
+      this.f42 = f42;  return this;
+    }
+    public Builder f43(List<String> f43){
+      this.f43 = f43;  return this;
+    }
+    public Builder f44(long f44){
+      this.f44 = f44;  return this;
+    }
+    public Builder f45(String f45){
+      this.f45 = f45;  return this;
+    }
+    public Builder f46(int f46){
+      this.f46 = f46;  return this;
+    }
+    public Builder f47(String f47){
+      this.f47 = f47;  return this;
+    }
+    public Builder f48(List<String> f48){
+      this.f48 = f48;  return this;
+    }
+    public Builder f49(long f49){
+      this.f49 = f49;  return this;
+    }
+    public Builder(){}
+    public Builder reset(){
+      f0 = null;
+      f1 = 0;
+      f2 = null;
+      f3 = Collections.emptyList();
+      f4 = 0L;
+      f5 = null;
+      f6 = 0;
+      f7 = null;
+      f8 = Collections.emptyList();
+      f9 = 0L;
+      f10 = null;
+      f11 = 0;
+      f12 = null;
+      f13 = Collections.emptyList();
+      f14 = 0L;
+      f15 = null;
+      f16 = 0;
+      f17 = null;
+      f18 = Collections.emptyList();
+      f19 = 0L;
+      f20 = null;
+      f21 = 0;
+      f22 = null;
+      f23 = Collections.emptyList();
+      f24 = 0L;
+      f25 = null;
+      f26 = 0;
+      f27 = null;
+      f28 = Collections.emptyList();
+      f29 = 0L;
+      f30 = null;
+      f31 = 0;
+      f32 = null;
+      f33 = Collections.emptyList();
+      f34 = 0L;
+      f35 = null;
+      f36 = 0;
+      f37 = null;
+      f38 = Collections.emptyList();
+      f39 = 0L;
+      f40 = null;
+      f41 = 0;
+      f42 = null;
+      f43 = Collections.emptyList();
+      f44 = 0L;
+      f45 = null;
+      f46 = 0;
+      f47 = null;
+      f48 = Collections.emptyList();
+      f49 = 0L;
+      return this;}
+    public com.geoffgranum.plugin.builder.benchmark.Wide50Streaming build() {
+      return new com.geoffgranum.plugin.builder.benchmark.Wide50Streaming(this);
+    }
+    public static final class Deserializer extends JsonDeserializer<com.geoffgranum.plugin.builder.benchmark.Wide50Streaming> implements ResolvableDeserializer {
+      private JsonDeserializer<Object> f0Deserializer;
+      private JsonDeserializer<Object> f1Deserializer;
+      private JsonDeserializer<Object> f2Deserializer;
+      private JsonDeserializer<Object> f3Deserializer;
+      private JsonDeserializer<Object> f4Deserializer;
+      private JsonDeserializer<Object> f5Deserializer;
+      private JsonDeserializer<Object> f6Deserializer;
+      private JsonDeserializer<Object> f7Deserializer;
+      private JsonDeserializer<Object> f8Deserializer;
+      private JsonDeserializer<Object> f9Deserializer;
+      private JsonDeserializer<Object> f10Deserializer;
+      private JsonDeserializer<Object> f11Deserializer;
+      private JsonDeserializer<Object> f12Deserializer;
+      private JsonDeserializer<Object> f13Deserializer;
+      private JsonDeserializer<Object> f14Deserializer;
+      private JsonDeserializer<Object> f15Deserializer;
+      private JsonDeserializer<Object> f16Deserializer;
+      private JsonDeserializer<Object> f17Deserializer;
+      private JsonDeserializer<Object> f18Deserializer;
+      private JsonDeserializer<Object> f19Deserializer;
+      private JsonDeserializer<Object> f20Deserializer;
+      private JsonDeserializer<Object> f21Deserializer;
+      private JsonDeserializer<Object> f22Deserializer;
+      private JsonDeserializer<Object> f23Deserializer;
+      private JsonDeserializer<Object> f24Deserializer;
+      private JsonDeserializer<Object> f25Deserializer;
+      private JsonDeserializer<Object> f26Deserializer;
+      private JsonDeserializer<Object> f27Deserializer;
+      private JsonDeserializer<Object> f28Deserializer;
+      private JsonDeserializer<Object> f29Deserializer;
+      private JsonDeserializer<Object> f30Deserializer;
+      private JsonDeserializer<Object> f31Deserializer;
+      private JsonDeserializer<Object> f32Deserializer;
+      private JsonDeserializer<Object> f33Deserializer;
+      private JsonDeserializer<Object> f34Deserializer;
+      private JsonDeserializer<Object> f35Deserializer;
+      private JsonDeserializer<Object> f36Deserializer;
+      private JsonDeserializer<Object> f37Deserializer;
+      private JsonDeserializer<Object> f38Deserializer;
+      private JsonDeserializer<Object> f39Deserializer;
+      private JsonDeserializer<Object> f40Deserializer;
+      private JsonDeserializer<Object> f41Deserializer;
+      private JsonDeserializer<Object> f42Deserializer;
+      private JsonDeserializer<Object> f43Deserializer;
+      private JsonDeserializer<Object> f44Deserializer;
+      private JsonDeserializer<Object> f45Deserializer;
+      private JsonDeserializer<Object> f46Deserializer;
+      private JsonDeserializer<Object> f47Deserializer;
+      private JsonDeserializer<Object> f48Deserializer;
+      private JsonDeserializer<Object> f49Deserializer;
+      @Override
+      public void resolve(DeserializationContext context) throws JsonMappingException {
+        f0Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f1Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f2Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f3Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f4Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f5Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f6Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f7Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f8Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f9Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f10Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f11Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f12Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f13Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f14Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f15Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f16Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f17Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f18Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f19Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f20Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f21Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f22Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f23Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f24Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f25Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f26Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f27Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f28Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f29Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f30Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f31Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f32Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f33Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f34Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f35Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f36Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f37Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f38Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f39Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f40Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f41Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f42Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f43Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f44Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+        f45Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f46Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f47Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f48Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f49Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+      }
+      @Override
+      public boolean isCachable() {
+        return true;
+      }
+      @Override
+      public com.geoffgranum.plugin.builder.benchmark.Wide50Streaming deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+          token = parser.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+          return (com.geoffgranum.plugin.builder.benchmark.Wide50Streaming) context.handleUnexpectedToken(com.geoffgranum.plugin.builder.benchmark.Wide50Streaming.class, parser);
+        }
+        Builder builder = new Builder();
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+          String name = parser.getCurrentName();
+          token = parser.nextToken();
+          if (!readProperty0(builder, name, token, parser, context)) {
+            context.handleUnknownProperty(parser, this, com.geoffgranum.plugin.builder.benchmark.Wide50Streaming.class, name);
+          }
+        }
+        try {
+          return builder.build();
+        } catch (RuntimeException e) {
+          return (com.geoffgranum.plugin.builder.benchmark.Wide50Streaming) context.handleInstantiationProblem(com.geoffgranum.plugin.builder.benchmark.Wide50Streaming.class, builder, e);
+        }
+      }
+      @SuppressWarnings("unchecked")
+      private boolean readProperty0(Builder builder, String name, JsonToken token, JsonParser parser, DeserializationContext context) throws IOException {
+        switch (name) {
+          case "f0":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f0 = parser.getText();
+          } else {
+            builder.f0 = (String) read(parser, context, f0Deserializer);
+          }
+          return true;
+          case "f1":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f1 = parser.getIntValue();
+          } else {
+            builder.f1 = (Integer) read(parser, context, f1Deserializer);
+          }
+          return true;
+          case "f2":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f2 = parser.getText();
+          } else {
+            builder.f2 = (String) read(parser, context, f2Deserializer);
+          }
+          return true;
+          case "f3":
+          builder.f3 = (List<String>) read(parser, context, f3Deserializer);
+          return true;
+          case "f4":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f4 = parser.getLongValue();
+          } else {
+            builder.f4 = (Long) read(parser, context, f4Deserializer);
+          }
+          return true;
+          case "f5":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f5 = parser.getText();
+          } else {
+            builder.f5 = (String) read(parser, context, f5Deserializer);
+          }
+          return true;
+          case "f6":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f6 = parser.getIntValue();
+          } else {
+            builder.f6 = (Integer) read(parser, context, f6Deserializer);
+          }
+          return true;
+          case "f7":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f7 = parser.getText();
+          } else {
+            builder.f7 = (String) read(parser, context, f7Deserializer);
+          }
+          return true;
+          case "f8":
+          builder.f8 = (List<String>) read(parser, context, f8Deserializer);
+          return true;
+          case "f9":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f9 = parser.getLongValue();
+          } else {
+            builder.f9 = (Long) read(parser, context, f9Deserializer);
+          }
+          return true;
+          case "f10":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f10 = parser.getText();
+          } else {
+            builder.f10 = (String) read(parser, context, f10Deserializer);
+          }
+          return true;
+          case "f11":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f11 = parser.getIntValue();
+          } else {
+            builder.f11 = (Integer) read(parser, context, f11Deserializer);
+          }
+          return true;
+          case "f12":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f12 = parser.getText();
+          } else {
+            builder.f12 = (String) read(parser, context, f12Deserializer);
+          }
+          return true;
+          case "f13":
+          builder.f13 = (List<String>) read(parser, context, f13Deserializer);
+          return true;
+          case "f14":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f14 = parser.getLongValue();
+          } else {
+            builder.f14 = (Long) read(parser, context, f14Deserializer);
+          }
+          return true;
+          case "f15":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f15 = parser.getText();
+          } else {
+            builder.f15 = (String) read(parser, context, f15Deserializer);
+          }
+          return true;
+          case "f16":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f16 = parser.getIntValue();
+          } else {
+            builder.f16 = (Integer) read(parser, context, f16Deserializer);
+          }
+          return true;
+          case "f17":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f17 = parser.getText();
+          } else {
+            builder.f17 = (String) read(parser, context, f17Deserializer);
+          }
+          return true;
+          case "f18":
+          builder.f18 = (List<String>) read(parser, context, f18Deserializer);
+          return true;
+          case "f19":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f19 = parser.getLongValue();
+          } else {
+            builder.f19 = (Long) read(parser, context, f19Deserializer);
+          }
+          return true;
+          case "f20":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f20 = parser.getText();
+          } else {
+            builder.f20 = (String) read(parser, context, f20Deserializer);
+          }
+          return true;
+          case "f21":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f21 = parser.getIntValue();
+          } else {
+            builder.f21 = (Integer) read(parser, context, f21Deserializer);
+          }
+          return true;
+          case "f22":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f22 = parser.getText();
+          } else {
+            builder.f22 = (String) read(parser, context, f22Deserializer);
+          }
+          return true;
+          case "f23":
+          builder.f23 = (List<String>) read(parser, context, f23Deserializer);
+          return true;
+          case "f24":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f24 = parser.getLongValue();
+          } else {
+            builder.f24 = (Long) read(parser, context, f24Deserializer);
+          }
+          return true;
+          case "f25":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f25 = parser.getText();
+          } else {
+            builder.f25 = (String) read(parser, context, f25Deserializer);
+          }
+          return true;
+          case "f26":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f26 = parser.getIntValue();
+          } else {
+            builder.f26 = (Integer) read(parser, context, f26Deserializer);
+          }
+          return true;
+          case "f27":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f27 = parser.getText();
+          } else {
+            builder.f27 = (String) read(parser, context, f27Deserializer);
+          }
+          return true;
+          case "f28":
+          builder.f28 = (List<String>) read(parser, context, f28Deserializer);
+          return true;
+          case "f29":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f29 = parser.getLongValue();
+          } else {
+            builder.f29 = (Long) read(parser, context, f29Deserializer);
+          }
+          return true;
+          case "f30":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f30 = parser.getText();
+          } else {
+            builder.f30 = (String) read(parser, context, f30Deserializer);
+          }
+          return true;
+          case "f31":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f31 = parser.getIntValue();
+          } else {
+            builder.f31 = (Integer) read(parser, context, f31Deserializer);
+          }
+          return true;
+          case "f32":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f32 = parser.getText();
+          } else {
+            builder.f32 = (String) read(parser, context, f32Deserializer);
+          }
+          return true;
+          case "f33":
+          builder.f33 = (List<String>) read(parser, context, f33Deserializer);
+          return true;
+          case "f34":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f34 = parser.getLongValue();
+          } else {
+            builder.f34 = (Long) read(parser, context, f34Deserializer);
+          }
+          return true;
+          case "f35":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f35 = parser.getText();
+          } else {
+            builder.f35 = (String) read(parser, context, f35Deserializer);
+          }
+          return true;
+          case "f36":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f36 = parser.getIntValue();
+          } else {
+            builder.f36 = (Integer) read(parser, context, f36Deserializer);
+          }
+          return true;
+          case "f37":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f37 = parser.getText();
+          } else {
+            builder.f37 = (String) read(parser, context, f37Deserializer);
+          }
+          return true;
+          case "f38":
+          builder.f38 = (List<String>) read(parser, context, f38Deserializer);
+          return true;
+          case "f39":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f39 = parser.getLongValue();
+          } else {
+            builder.f39 = (Long) read(parser, context, f39Deserializer);
+          }
+          return true;
+          case "f40":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f40 = parser.getText();
+          } else {
+            builder.f40 = (String) read(parser, context, f40Deserializer);
+          }
+          return true;
+          case "f41":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f41 = parser.getIntValue();
+          } else {
+            builder.f41 = (Integer) read(parser, context, f41Deserializer);
+          }
+          return true;
+          case "f42":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f42 = parser.getText();
+          } else {
+            builder.f42 = (String) read(parser, context, f42Deserializer);
+          }
+          return true;
+          case "f43":
+          builder.f43 = (List<String>) read(parser, context, f43Deserializer);
+          return true;
+          case "f44":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f44 = parser.getLongValue();
+          } else {
+            builder.f44 = (Long) read(parser, context, f44Deserializer);
+          }
+          return true;
+          case "f45":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f45 = parser.getText();
+          } else {
+            builder.f45 = (String) read(parser, context, f45Deserializer);
+          }
+          return true;
+          case "f46":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f46 = parser.getIntValue();
+          } else {
+            builder.f46 = (Integer) read(parser, context, f46Deserializer);
+          }
+          return true;
+          case "f47":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f47 = parser.getText();
+          } else {
+            builder.f47 = (String) read(parser, context, f47Deserializer);
+          }
+          return true;
+          case "f48":
+          builder.f48 = (List<String>) read(parser, context, f48Deserializer);
+          return true;
+          case "f49":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f49 = parser.getLongValue();
+          } else {
+            builder.f49 = (Long) read(parser, context, f49Deserializer);
+          }
+          return true;
+          default:
+          return false;
+        }
+      }
+      private static Object read(JsonParser parser, DeserializationContext context, JsonDeserializer<Object> deserializer) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL
+        ? deserializer.getNullValue(context)
+        : deserializer.deserialize(parser, context);
+      }
+    }
+    public static final class Serializer extends JsonSerializer<com.geoffgranum.plugin.builder.benchmark.Wide50Streaming> {
+      private static final SerializedString F0 = new SerializedString("f0");
+      private static final SerializedString F1 = new SerializedString("f1");
+      private static final SerializedString F2 = new SerializedString("f2");
+      private static final SerializedString F3 = new SerializedString("f3");
+      private static final SerializedString F4 = new SerializedString("f4");
+      private static final SerializedString F5 = new SerializedString("f5");
+      private static final SerializedString F6 = new SerializedString("f6");
+      private static final SerializedString F7 = new SerializedString("f7");
+      private static final SerializedString F8 = new SerializedString("f8");
+      private static final SerializedString F9 = new SerializedString("f9");
+      private static final SerializedString F10 = new SerializedString("f10");
+      private static final SerializedString F11 = new SerializedString("f11");
+      private static final SerializedString F12 = new SerializedString("f12");
+      private static final SerializedString F13 = new SerializedString("f13");
+      private static final SerializedString F14 = new SerializedString("f14");
+      private static final SerializedString F15 = new SerializedString("f15");
+      private static final SerializedString F16 = new SerializedString("f16");
+      private static final SerializedString F17 = new SerializedString("f17");
+      private static final SerializedString F18 = new SerializedString("f18");
+      private static final SerializedString F19 = new SerializedString("f19");
+      private static final SerializedString F20 = new SerializedString("f20");
+      private static final SerializedString F21 = new SerializedString("f21");
+      private static final SerializedString F22 = new SerializedString("f22");
+      private static final SerializedString F23 = new SerializedString("f23");
+      private static final SerializedString F24 = new SerializedString("f24");
+      private static final SerializedString F25 = new SerializedString("f25");
+      private static final SerializedString F26 = new SerializedString("f26");
+      private static final SerializedString F27 = new SerializedString("f27");
+      private static final SerializedString F28 = new SerializedString("f28");
+      private static final SerializedString F29 = new SerializedString("f29");
+      private static final SerializedString F30 = new SerializedString("f30");
+      private static final SerializedString F31 = new SerializedString("f31");
+      private static final SerializedString F32 = new SerializedString("f32");
+      private static final SerializedString F33 = new SerializedString("f33");
+      private static final SerializedString F34 = new SerializedString("f34");
+      private static final SerializedString F35 = new SerializedString("f35");
+      private static final SerializedString F36 = new SerializedString("f36");
+      private static final SerializedString F37 = new SerializedString("f37");
+      private static final SerializedString F38 = new SerializedString("f38");
+      private static final SerializedString F39 = new SerializedString("f39");
+      private static final SerializedString F40 = new SerializedString("f40");
+      private static final SerializedString F41 = new SerializedString("f41");
+      private static final SerializedString F42 = new SerializedString("f42");
+      private static final SerializedString F43 = new SerializedString("f43");
+      private static final SerializedString F44 = new SerializedString("f44");
+      private static final SerializedString F45 = new SerializedString("f45");
+      private static final SerializedString F46 = new SerializedString("f46");
+      private static final SerializedString F47 = new SerializedString("f47");
+      private static final SerializedString F48 = new SerializedString("f48");
+      private static final SerializedString F49 = new SerializedString("f49");
+      @Override
+      public Class<com.geoffgranum.plugin.builder.benchmark.Wide50Streaming> handledType() {
+        return com.geoffgranum.plugin.builder.benchmark.Wide50Streaming.class;
+      }
+      @Override
+      public void serialize(com.geoffgranum.plugin.builder.benchmark.Wide50Streaming value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject();
+        writeProperties0(value, generator, provider);
+        generator.writeEndObject();
+      }
+      @Override
+      public void serializeWithType(com.geoffgranum.plugin.builder.benchmark.Wide50Streaming value, JsonGenerator generator, SerializerProvider provider, TypeSerializer typeSerializer) throws IOException {
+        WritableTypeId typeId = typeSerializer.writeTypePrefix(generator, typeSerializer.typeId(value, JsonToken.START_OBJECT));
+        writeProperties0(value, generator, provider);
+        typeSerializer.writeTypeSuffix(generator, typeId);
+      }
+      private static void writeProperties0(com.geoffgranum.plugin.builder.benchmark.Wide50Streaming value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeFieldName(F0);
+        if (value.f0 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f0);
+        }
+        generator.writeFieldName(F1);
+        generator.writeNumber(value.f1);
+        generator.writeFieldName(F2);
+        if (value.f2 != null && value.f2.isPresent()) {
+          generator.writeString(value.f2.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F3);
+        if (value.f3 != null) {
+          generator.writeStartArray();
+          for (String element : value.f3) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F4);
+        generator.writeNumber(value.f4);
+        generator.writeFieldName(F5);
+        if (value.f5 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f5);
+        }
+        generator.writeFieldName(F6);
+        generator.writeNumber(value.f6);
+        generator.writeFieldName(F7);
+        if (value.f7 != null && value.f7.isPresent()) {
+          generator.writeString(value.f7.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F8);
+        if (value.f8 != null) {
+          generator.writeStartArray();
+          for (String element : value.f8) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F9);
+        generator.writeNumber(value.f9);
+        generator.writeFieldName(F10);
+        if (value.f10 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f10);
+        }
+        generator.writeFieldName(F11);
+        generator.writeNumber(value.f11);
+        generator.writeFieldName(F12);
+        if (value.f12 != null && value.f12.isPresent()) {
+          generator.writeString(value.f12.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F13);
+        if (value.f13 != null) {
+          generator.writeStartArray();
+          for (String element : value.f13) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F14);
+        generator.writeNumber(value.f14);
+        generator.writeFieldName(F15);
+        if (value.f15 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f15);
+        }
+        generator.writeFieldName(F16);
+        generator.writeNumber(value.f16);
+        generator.writeFieldName(F17);
+        if (value.f17 != null && value.f17.isPresent()) {
+          generator.writeString(value.f17.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F18);
+        if (value.f18 != null) {
+          generator.writeStartArray();
+          for (String element : value.f18) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F19);
+        generator.writeNumber(value.f19);
+        generator.writeFieldName(F20);
+        if (value.f20 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f20);
+        }
+        generator.writeFieldName(F21);
+        generator.writeNumber(value.f21);
+        generator.writeFieldName(F22);
+        if (value.f22 != null && value.f22.isPresent()) {
+          generator.writeString(value.f22.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F23);
+        if (value.f23 != null) {
+          generator.writeStartArray();
+          for (String element : value.f23) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F24);
+        generator.writeNumber(value.f24);
+        generator.writeFieldName(F25);
+        if (value.f25 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f25);
+        }
+        generator.writeFieldName(F26);
+        generator.writeNumber(value.f26);
+        generator.writeFieldName(F27);
+        if (value.f27 != null && value.f27.isPresent()) {
+          generator.writeString(value.f27.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F28);
+        if (value.f28 != null) {
+          generator.writeStartArray();
+          for (String element : value.f28) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F29);
+        generator.writeNumber(value.f29);
+        generator.writeFieldName(F30);
+        if (value.f30 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f30);
+        }
+        generator.writeFieldName(F31);
+        generator.writeNumber(value.f31);
+        generator.writeFieldName(F32);
+        if (value.f32 != null && value.f32.isPresent()) {
+          generator.writeString(value.f32.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F33);
+        if (value.f33 != null) {
+          generator.writeStartArray();
+          for (String element : value.f33) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F34);
+        generator.writeNumber(value.f34);
+        generator.writeFieldName(F35);
+        if (value.f35 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f35);
+        }
+        generator.writeFieldName(F36);
+        generator.writeNumber(value.f36);
+        generator.writeFieldName(F37);
+        if (value.f37 != null && value.f37.isPresent()) {
+          generator.writeString(value.f37.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F38);
+        if (value.f38 != null) {
+          generator.writeStartArray();
+          for (String element : value.f38) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F39);
+        generator.writeNumber(value.f39);
+        generator.writeFieldName(F40);
+        if (value.f40 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f40);
+        }
+        generator.writeFieldName(F41);
+        generator.writeNumber(value.f41);
+        generator.writeFieldName(F42);
+        if (value.f42 != null && value.f42.isPresent()) {
+          generator.writeString(value.f42.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F43);
+        if (value.f43 != null) {
+          generator.writeStartArray();
+          for (String element : value.f43) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F44);
+        generator.writeNumber(value.f44);
+        generator.writeFieldName(F45);
+        if (value.f45 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f45);
+        }
+        generator.writeFieldName(F46);
+        generator.writeNumber(value.f46);
+        generator.writeFieldName(F47);
+        if (value.f47 != null && value.f47.isPresent()) {
+          generator.writeString(value.f47.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F48);
+        if (value.f48 != null) {
+          generator.writeStartArray();
+          for (String element : value.f48) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F49);
+        generator.writeNumber(value.f49);
+      }
+    }
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.Optional;
+
+public final class Wide5Adders {
+  public final String f0;
+  public final int f1;
+  public final Optional<String> f2;
+  public final List<String> f3;
+  public final long f4;
+  private Wide5Adders(Builder builder) { f0 = builder.f0;f1 = builder.f1;f2 = Optional.ofNullable(builder.f2);f3 = builder.f3 == null ? ImmutableList.of() : builder.f3.build();f4 = builder.f4; }
+  public static final class Builder {
+    private String f0;
+    private Integer f1 = 0;
+    private String f2;
+    private ImmutableList.Builder<String> f3;
+    private Long f4 = 0L;
+    public Builder f0(String f0){
+      this.f0 = f0;  return this;
+    }
+    public Builder f1(int f1){
+      this.f1 = f1;  return this;
+    }
+    public Builder f2(String f2){
+      this.f2 = f2;  return this;
+    }
+    public Builder f3(List<String> f3){
+      this.f3 = f3 == null ? null : ImmutableList.<String>builder().addAll(f3);  return this;
+    }
+    public Builder addF3(String element){
+      if (this.f3 == null) {
+        this.f3 = ImmutableList.builder();
+      }
+      this.f3.add(element);  return this;
+    }
+    public Builder addAllF3(Iterable<? extends String> elements){
+      if (this.f3 == null) {
+        this.f3 = ImmutableList.builder();
+      }
+      this.f3.addAll(elements);  return this;
+    }
+    public Builder f3ExpectedSize(int expectedSize){
+      if (this.f3 == null) {
+        this.f3 = ImmutableList.builderWithExpectedSize(expectedSize);
+      }
+      return this;
+    }
+    public Builder f4(long f4){
+      this.f4 = f4;  return this;
+    }
+    public Builder(){}
+    public Builder reset(){
+      f0 = null;
+      f1 = 0;
+      f2 = null;
+      f3 = null;
+      f4 = 0L;
+      return this;}
+    public com.geoffgranum.plugin.builder.benchmark.Wide5Adders build() {
+      return new com.geoffgranum.plugin.builder.benchmark.Wide5Adders(this);
+    }
+  }
+}
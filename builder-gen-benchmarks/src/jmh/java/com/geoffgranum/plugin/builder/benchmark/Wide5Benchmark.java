@@ -0,0 +1,202 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * build(), from()+build(), copy(), toJson and fromJson for the Wide5 fixtures, per option variant.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class Wide5Benchmark {
+  private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new Jdk8Module());
+  private static final List<String> STRINGS = Arrays.asList("a", "b", "c");
+  private static final List<Integer> INTEGERS = Arrays.asList(1, 2, 3);
+  private static final Set<String> STRING_SET = new HashSet<>(STRINGS);
+  private static final Set<Long> LONG_SET = new HashSet<>(Arrays.asList(1L, 2L, 3L));
+  private static final Map<String, Integer> COUNTS = new HashMap<>();
+  static {
+    COUNTS.put("a", 1);
+    COUNTS.put("b", 2);
+  }
+  private Wide5Copy copySource;
+  private Wide5Copy.Builder copyBuilder;
+  private Wide5Jackson jacksonInstance;
+  private Wide5Streaming streamingInstance;
+  private String json;
+  @Setup
+  public void setup() throws IOException {
+    copySource = build_copy();
+    copyBuilder = new Wide5Copy.Builder().from(copySource);
+    jacksonInstance = build_jackson();
+    streamingInstance = build_streaming();
+    json = MAPPER.writeValueAsString(jacksonInstance);
+  }
+  @Benchmark
+  public Wide5Plain build_plain() {
+    return new Wide5Plain.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide5Jackson build_jackson() {
+    return new Wide5Jackson.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide5Copy build_copy() {
+    return new Wide5Copy.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide5Unboxed build_unboxed() {
+    return new Wide5Unboxed.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide5Adders build_adders() {
+    return new Wide5Adders.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide5Jdk build_jdk() {
+    return new Wide5Jdk.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide5Fastutil build_fastutil() {
+    return new Wide5Fastutil.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide5Unwrapped build_unwrapped() {
+    return new Wide5Unwrapped.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide5Pooled build_pooled() {
+    return new Wide5Pooled.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide5Streaming build_streaming() {
+    return new Wide5Streaming.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide5Adders addAll_adders() {
+    return new Wide5Adders.Builder()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .addAllF3(STRINGS)
+        .f4(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide5Pooled pooledBuild_pooled() {
+    return Wide5Pooled.Builder.pooled()
+        .f0("f0")
+        .f1(42)
+        .f2("f2")
+        .f3(STRINGS)
+        .f4(42L)
+        .build();
+  }
+  @Benchmark
+  public Wide5Copy fromBuild_copy() {
+    return new Wide5Copy.Builder().from(copySource).build();
+  }
+  @Benchmark
+  public Wide5Copy.Builder copy_copy() {
+    return copyBuilder.copy();
+  }
+  @Benchmark
+  public String toJson_jackson() throws IOException {
+    return MAPPER.writeValueAsString(jacksonInstance);
+  }
+  @Benchmark
+  public Wide5Jackson fromJson_jackson() throws IOException {
+    return MAPPER.readValue(json, Wide5Jackson.class);
+  }
+  @Benchmark
+  public String toJson_streaming() throws IOException {
+    return MAPPER.writeValueAsString(streamingInstance);
+  }
+  @Benchmark
+  public Wide5Streaming fromJson_streaming() throws IOException {
+    return MAPPER.readValue(json, Wide5Streaming.class);
+  }
+}
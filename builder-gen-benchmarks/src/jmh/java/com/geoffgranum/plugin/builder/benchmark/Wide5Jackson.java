@@ -0,0 +1,60 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.collect.ImmutableList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+@JsonDeserialize(builder = Wide5Jackson.Builder.class)
+public final class Wide5Jackson {
+  public final String f0;
+  public final int f1;
+  public final Optional<String> f2;
+  public final List<String> f3;
+  public final long f4;
+  private Wide5Jackson(Builder builder) { f0 = builder.f0;f1 = builder.f1;f2 = Optional.ofNullable(builder.f2);f3 = ImmutableList.copyOf(builder.f3);f4 = builder.f4; }
+  public static final class Builder {
+    @JsonProperty
+    private String f0;
+    @JsonProperty
+    private Integer f1 = 0;
+    @JsonProperty
+    private String f2;
+    @JsonProperty
+    private List<String> f3 = Collections.emptyList();
+    @JsonProperty
+    private Long f4 = 0L;
+    public Builder f0(String f0){
+      this.f0 = f0;  return this;
+    }
+    public Builder f1(int f1){
+      this.f1 = f1;  return this;
+    }
+    public Builder f2(String f2){
+      this.f2 = f2;  return this;
+    }
+    public Builder f3(List<String> f3){
+      this.f3 = f3;  return this;
+    }
+    public Builder f4(long f4){
+      this.f4 = f4;  return this;
+    }
+    public Builder(){}
+    public Builder reset(){
+      f0 = null;
+      f1 = 0;
+      f2 = null;
+      f3 = Collections.emptyList();
+      f4 = 0L;
+      return this;}
+    public com.geoffgranum.plugin.builder.benchmark.Wide5Jackson build() {
+      return new com.geoffgranum.plugin.builder.benchmark.Wide5Jackson(this);
+    }
+  }
+}
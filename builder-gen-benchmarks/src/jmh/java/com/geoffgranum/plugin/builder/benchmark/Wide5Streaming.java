@@ -0,0 +1,215 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+@JsonDeserialize(using = Wide5Streaming.Builder.Deserializer.class)
+@JsonSerialize(using = Wide5Streaming.Builder.Serializer.class)
+public final class Wide5Streaming {
+  public final String f0;
+  public final int f1;
+  public final Optional<String> f2;
+  public final List<String> f3;
+  public final long f4;
+  private Wide5Streaming(Builder builder) { f0 = builder.f0;f1 = builder.f1;f2 = Optional.ofNullable(builder.f2);f3 = ImmutableList.copyOf(builder.f3);f4 = builder.f4; }
+  public static final class Builder {
+    @JsonProperty
+    private String f0;
+    @JsonProperty
+    private Integer f1 = 0;
+    @JsonProperty
+    private String f2;
+    @JsonProperty
+    private List<String> f3 = Collections.emptyList();
+    @JsonProperty
+    private Long f4 = 0L;
+    public Builder f0(String f0){
+      this.f0 = f0;  return this;
+    }
+    public Builder f1(int f1){
+      this.f1 = f1;  return this;
+    }
+    public Builder f2(String f2){
+      this.f2 = f2;  return this;
+    }
+    public Builder f3(List<String> f3){
+      this.f3 = f3;  return this;
+    }
+    public Builder f4(long f4){
+      this.f4 = f4;  return this;
+    }
+    public Builder(){}
+    public Builder reset(){
+      f0 = null;
+      f1 = 0;
+      f2 = null;
+      f3 = Collections.emptyList();
+      f4 = 0L;
+      return this;}
+    public com.geoffgranum.plugin.builder.benchmark.Wide5Streaming build() {
+      return new com.geoffgranum.plugin.builder.benchmark.Wide5Streaming(this);
+    }
+    public static final class Deserializer extends JsonDeserializer<com.geoffgranum.plugin.builder.benchmark.Wide5Streaming> implements ResolvableDeserializer {
+      private JsonDeserializer<Object> f0Deserializer;
+      private JsonDeserializer<Object> f1Deserializer;
+      private JsonDeserializer<Object> f2Deserializer;
+      private JsonDeserializer<Object> f3Deserializer;
+      private JsonDeserializer<Object> f4Deserializer;
+      @Override
+      public void resolve(DeserializationContext context) throws JsonMappingException {
+        f0Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f1Deserializer = context.findRootValueDeserializer(context.constructType(Integer.class));
+        f2Deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        f3Deserializer = context.findRootValueDeserializer(context.getTypeFactory().constructType(new TypeReference<List<String>>() {}));
+        f4Deserializer = context.findRootValueDeserializer(context.constructType(Long.class));
+      }
+      @Override
+      public boolean isCachable() {
+        return true;
+      }
+      @Override
+      public com.geoffgranum.plugin.builder.benchmark.Wide5Streaming deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+          token = parser.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+          return (com.geoffgranum.plugin.builder.benchmark.Wide5Streaming) context.handleUnexpectedToken(com.geoffgranum.plugin.builder.benchmark.Wide5Streaming.class, parser);
+        }
+        Builder builder = new Builder();
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+          String name = parser.getCurrentName();
+          token = parser.nextToken();
+          if (!readProperty0(builder, name, token, parser, context)) {
+            context.handleUnknownProperty(parser, this, com.geoffgranum.plugin.builder.benchmark.Wide5Streaming.class, name);
+          }
+        }
+        try {
+          return builder.build();
+        } catch (RuntimeException e) {
+          return (com.geoffgranum.plugin.builder.benchmark.Wide5Streaming) context.handleInstantiationProblem(com.geoffgranum.plugin.builder.benchmark.Wide5Streaming.class, builder, e);
+        }
+      }
+      @SuppressWarnings("unchecked")
+      private boolean readProperty0(Builder builder, String name, JsonToken token, JsonParser parser, DeserializationContext context) throws IOException {
+        switch (name) {
+          case "f0":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f0 = parser.getText();
+          } else {
+            builder.f0 = (String) read(parser, context, f0Deserializer);
+          }
+          return true;
+          case "f1":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f1 = parser.getIntValue();
+          } else {
+            builder.f1 = (Integer) read(parser, context, f1Deserializer);
+          }
+          return true;
+          case "f2":
+          if (token == JsonToken.VALUE_STRING) {
+            builder.f2 = parser.getText();
+          } else {
+            builder.f2 = (String) read(parser, context, f2Deserializer);
+          }
+          return true;
+          case "f3":
+          builder.f3 = (List<String>) read(parser, context, f3Deserializer);
+          return true;
+          case "f4":
+          if (token == JsonToken.VALUE_NUMBER_INT) {
+            builder.f4 = parser.getLongValue();
+          } else {
+            builder.f4 = (Long) read(parser, context, f4Deserializer);
+          }
+          return true;
+          default:
+          return false;
+        }
+      }
+      private static Object read(JsonParser parser, DeserializationContext context, JsonDeserializer<Object> deserializer) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL
+        ? deserializer.getNullValue(context)
+        : deserializer.deserialize(parser, context);
+      }
+    }
+    public static final class Serializer extends JsonSerializer<com.geoffgranum.plugin.builder.benchmark.Wide5Streaming> {
+      private static final SerializedString F0 = new SerializedString("f0");
+      private static final SerializedString F1 = new SerializedString("f1");
+      private static final SerializedString F2 = new SerializedString("f2");
+      private static final SerializedString F3 = new SerializedString("f3");
+      private static final SerializedString F4 = new SerializedString("f4");
+      @Override
+      public Class<com.geoffgranum.plugin.builder.benchmark.Wide5Streaming> handledType() {
+        return com.geoffgranum.plugin.builder.benchmark.Wide5Streaming.class;
+      }
+      @Override
+      public void serialize(com.geoffgranum.plugin.builder.benchmark.Wide5Streaming value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject();
+        writeProperties0(value, generator, provider);
+        generator.writeEndObject();
+      }
+      @Override
+      public void serializeWithType(com.geoffgranum.plugin.builder.benchmark.Wide5Streaming value, JsonGenerator generator, SerializerProvider provider, TypeSerializer typeSerializer) throws IOException {
+        WritableTypeId typeId = typeSerializer.writeTypePrefix(generator, typeSerializer.typeId(value, JsonToken.START_OBJECT));
+        writeProperties0(value, generator, provider);
+        typeSerializer.writeTypeSuffix(generator, typeId);
+      }
+      private static void writeProperties0(com.geoffgranum.plugin.builder.benchmark.Wide5Streaming value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeFieldName(F0);
+        if (value.f0 == null) {
+          generator.writeNull();
+        } else {
+          generator.writeString(value.f0);
+        }
+        generator.writeFieldName(F1);
+        generator.writeNumber(value.f1);
+        generator.writeFieldName(F2);
+        if (value.f2 != null && value.f2.isPresent()) {
+          generator.writeString(value.f2.get());
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F3);
+        if (value.f3 != null) {
+          generator.writeStartArray();
+          for (String element : value.f3) {
+            if (element == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(element);
+            }
+          }
+          generator.writeEndArray();
+        } else {
+          generator.writeNull();
+        }
+        generator.writeFieldName(F4);
+        generator.writeNumber(value.f4);
+      }
+    }
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Generated by FixtureGenerator; do not edit.
+ * Regenerate with ./gradlew :builder-gen-benchmarks:generateFixtures
+ */
+package com.geoffgranum.plugin.builder.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+public final class Wide5Unwrapped {
+  public final String f0;
+  public final int f1;
+  private final String f2;
+  public final List<String> f3;
+  public final long f4;
+  private Wide5Unwrapped(Builder builder) { f0 = builder.f0;f1 = builder.f1;f2 = builder.f2;f3 = ImmutableList.copyOf(builder.f3);f4 = builder.f4; }
+  public Optional<String> f2() {
+    return Optional.ofNullable(f2);
+  }
+  public static final class Builder {
+    private String f0;
+    private Integer f1 = 0;
+    private String f2;
+    private List<String> f3 = Collections.emptyList();
+    private Long f4 = 0L;
+    public Builder f0(String f0){
+      this.f0 = f0;  return this;
+    }
+    public Builder f1(int f1){
+      this.f1 = f1;  return this;
+    }
+    public Builder f2(String f2){
+      this.f2 = f2;  return this;
+    }
+    public Builder f3(List<String> f3){
+      this.f3 = f3;  return this;
+    }
+    public Builder f4(long f4){
+      this.f4 = f4;  return this;
+    }
+    public Builder(){}
+    public Builder reset(){
+      f0 = null;
+      f1 = 0;
+      f2 = null;
+      f3 = Collections.emptyList();
+      f4 = 0L;
+      return this;}
+    public com.geoffgranum.plugin.builder.benchmark.Wide5Unwrapped build() {
+      return new com.geoffgranum.plugin.builder.benchmark.Wide5Unwrapped(this);
+    }
+  }
+}
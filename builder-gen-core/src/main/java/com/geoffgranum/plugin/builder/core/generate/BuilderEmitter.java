@@ -0,0 +1,1151 @@
+package com.geoffgranum.plugin.builder.core.generate;
+
+import com.geoffgranum.plugin.builder.core.model.AnnotationModel;
+import com.geoffgranum.plugin.builder.core.model.BuilderOptions;
+import com.geoffgranum.plugin.builder.core.model.ClassModel;
+import com.geoffgranum.plugin.builder.core.model.FieldKind;
+import com.geoffgranum.plugin.builder.core.model.FieldModel;
+import com.geoffgranum.plugin.builder.core.model.PrimitiveCollectionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Writes the source text of a builder and of the members it needs on the instance class. Pure text in, text out:
+ * callers decide where each piece goes, whether that is a PSI tree, a parsed source file or a new file.
+ *
+ * The builder is either nested in the instance class, or a top level class of its own; see
+ * {@link ClassModel#topLevelBuilder}.
+ *
+ * @author ggranum
+ */
+public class BuilderEmitter {
+
+  private static final String BUILDER_METHOD_DEFINITION_FORMAT =
+    "public %1$s %2$s(%3$s %4$s){\n  this.%4$s = %4$s;  return this;\n}";
+
+  private static final String OPTIONAL_ACCESSOR_FORMAT = "%1$spublic %2$s %3$s() {\n  return %4$s;\n}";
+
+  private static final String TRACKED_SETTER_FORMAT =
+    "%5$spublic %1$s %2$s(%3$s %4$s){\n  this.%4$s = %4$s;  %6$s |= %7$s;  return this;\n}";
+
+  private static final String COLLECTION_SETTER_FORMAT =
+    "%4$spublic %1$s %2$s(%3$s %2$s){\n  this.%2$s = %2$s == null ? null : %5$s;  return this;\n}";
+
+  /**
+   * An adder or expected size hint on a collection the builder accumulates; the collection is created on first use.
+   */
+  private static final String COLLECTION_ADDER_FORMAT =
+    "public %1$s %2$s(%3$s){\n  if (this.%4$s == null) {\n  this.%4$s = %5$s;\n}\n  %6$s  return this;\n}";
+
+  private static final String GUAVA_COLLECT = "com.google.common.collect.";
+
+  /**
+   * The name of the presence bitmask field, or the prefix of the names when it takes more than one.
+   */
+  private static final String PRESENCE_FIELD = "primitivesSet";
+
+  /**
+   * The bitmask recording which primitive optionals stored unwrapped have been given a value, in the builder; and
+   * which hold one, in the instance. Both have the same bit for a field.
+   */
+  private static final String OPTIONALS_SET_FIELD = "optionalsSet";
+
+  public static final String OPTIONALS_PRESENT_FIELD = "optionalsPresent";
+
+  public static final String UNSET_REQUIRED_FIELDS_METHOD = "unsetRequiredFields";
+
+  private static final String POOL_FIELD = "POOL";
+
+  private static final String PRIMARY_CLASS_CTOR_FMT = "private %s(%s builder) { %s }";
+
+  public static final String JSON_PROPERTY_ANNOTATION = "com.fasterxml.jackson.annotation.JsonProperty";
+
+  public static final String JSON_DESERIALIZE_ANNOTATION = "com.fasterxml.jackson.databind.annotation.JsonDeserialize";
+
+  public static final String JSON_SERIALIZE_ANNOTATION = "com.fasterxml.jackson.databind.annotation.JsonSerialize";
+
+  /**
+   * The streaming deserializer's class, nested in the builder.
+   */
+  public static final String DESERIALIZER_CLASS_NAME = JsonStreamingSyntax.DESERIALIZER_CLASS_NAME;
+
+  /**
+   * The streaming serializer's class, nested in the builder.
+   */
+  public static final String SERIALIZER_CLASS_NAME = JsonStreamingSyntax.SERIALIZER_CLASS_NAME;
+
+  /**
+   * The name given in {@code @JsonProperty("name")} or {@code @JsonProperty(value = "name")}.
+   */
+  private static final Pattern JSON_PROPERTY_NAME = Pattern.compile("\\(\\s*(?:value\\s*=\\s*)?\"([^\"]*)\"");
+
+  private static final Map<String, String> BOXED_TYPES = new HashMap<>();
+
+  private static final Map<String, String> UNBOXED_TYPES = new HashMap<>();
+
+  static {
+    String[][] pairs = {{"boolean", "Boolean"}, {"byte", "Byte"}, {"char", "Character"}, {"short", "Short"},
+      {"int", "Integer"}, {"long", "Long"}, {"float", "Float"}, {"double", "Double"}};
+    for (String[] pair : pairs) {
+      BOXED_TYPES.put(pair[0], "java.lang." + pair[1]);
+      UNBOXED_TYPES.put(pair[1], pair[0]);
+      UNBOXED_TYPES.put("java.lang." + pair[1], pair[0]);
+    }
+  }
+
+  private final BuilderOptions options;
+
+  private final TypeNames names;
+
+  public BuilderEmitter(BuilderOptions options, TypeNames names) {
+    this.options = options;
+    this.names = names;
+  }
+
+  /**
+   * The complete builder class, as a static nested class of the instance class.
+   */
+  public String builderClass(ClassModel model) {
+    StringBuilder text = new StringBuilder(builderClassDeclaration(model)).append('\n');
+    for (FieldModel field : model.fields) {
+      text.append(builderField(field)).append('\n');
+    }
+    for (String presenceField : presenceFields(model)) {
+      text.append(presenceField).append('\n');
+    }
+    if (options.pooledBuilder) {
+      text.append(poolField(model)).append('\n');
+    }
+    for (FieldModel field : model.fields) {
+      text.append(setter(model, field)).append('\n');
+      for (String method : additionalSetters(model, field)) {
+        text.append(method).append('\n');
+      }
+    }
+    text.append(builderConstructor(model)).append('\n');
+    if (options.pooledBuilder) {
+      text.append(pooledMethod(model)).append('\n');
+    }
+    if (options.createCopyMethod) {
+      text.append(fromMethod(model)).append('\n');
+      text.append(copyMethod(model)).append('\n');
+    }
+    text.append(resetMethod(model)).append('\n');
+    text.append(buildMethod(model));
+    String unsetRequiredFields = unsetRequiredFieldsMethod(model);
+    if (unsetRequiredFields != null) {
+      text.append('\n').append(unsetRequiredFields);
+    }
+    if (generatesDeserializer()) {
+      text.append('\n').append(deserializerClass(model));
+    }
+    if (generatesSerializer()) {
+      text.append('\n').append(serializerClass(model));
+    }
+    return text.append("\n}").toString();
+  }
+
+  /**
+   * The builder class declaration, up to and including the opening brace of the class body.
+   */
+  public String builderClassDeclaration(ClassModel model) {
+    String extendsClause = options.implementValidated
+                           ? " extends " + names.reference(options.utilBaseClassPath() + ".validation.Validated")
+                           : "";
+    String modifiers = model.topLevelBuilder ? "public final class " : "public static final class ";
+    return modifiers + model.builderClassName + extendsClause + " {";
+  }
+
+  /**
+   * The builder field declaration, including annotations and initializer.
+   */
+  public String builderField(FieldModel field) {
+    if (accumulates(field)) {
+      // Neither copied constraints nor Jackson apply to the collection being filled; Jackson goes through the setter.
+      return "private " + builderFieldType(field) + " " + field.name + ";";
+    }
+    StringBuilder b = new StringBuilder();
+    boolean tracked = isTracked(field) || isUnwrappedPrimitiveOptional(field);
+    boolean hasJacksonAnnotation = false;
+    if (options.copyFieldAnnotations) {
+      for (AnnotationModel annotation : field.annotations) {
+        boolean isJacksonAnnotation = JSON_PROPERTY_ANNOTATION.equals(annotation.qualifiedName);
+        hasJacksonAnnotation |= isJacksonAnnotation;
+        if (!(tracked && isJacksonAnnotation)) {
+          b.append(annotation.text).append('\n');
+        }
+      }
+    }
+    // Jackson must go through the setter of a tracked field, or the field would be set without being marked as set.
+    if (options.implementJackson && !hasJacksonAnnotation && !tracked) {
+      b.append('@').append(names.reference(JSON_PROPERTY_ANNOTATION)).append('\n');
+    }
+    b.append("private ").append(builderFieldType(field)).append(' ').append(field.name);
+    String initializer = builderFieldInitializer(field);
+    if (initializer != null) {
+      b.append(" = ").append(initializer);
+    }
+    return b.append(";").toString();
+  }
+
+  /**
+   * The 'setter' for the field, e.g. "public Builder foo(SomeType foo){ this.foo = foo; return this; }"
+   */
+  public String setter(ClassModel model, FieldModel field) {
+    int index = trackedFields(model).indexOf(field);
+    if (index >= 0) {
+      return maskedSetter(model, field, field.type, setterJsonAnnotation(field), trackedMask(model), index);
+    }
+    index = primitiveOptionals(model).indexOf(field);
+    if (index >= 0) {
+      // Jackson goes through the Optional taking overload, which can tell a null from a value.
+      return maskedSetter(model, field, field.unwrappedType(), "", optionalsMask(model, OPTIONALS_SET_FIELD), index);
+    }
+    PrimitiveCollectionSyntax primitive = primitiveStorage(field);
+    if (primitive != null || usesCollectionBuilder(field)) {
+      return String.format(COLLECTION_SETTER_FORMAT,
+        model.builderClassName,
+        field.name,
+        field.type,
+        setterJsonAnnotation(field),
+        primitive != null ? primitive.storageFrom(field.name) : newCollectionBuilder(field, field.name));
+    }
+    String type = field.valueType();
+    String unboxed = UNBOXED_TYPES.get(type);
+    return String.format(BUILDER_METHOD_DEFINITION_FORMAT,
+      model.builderClassName,
+      field.name,
+      unboxed != null ? unboxed : type,
+      field.name);
+  }
+
+  /**
+   * The setter of a field whose bit in the mask says whether it has been set.
+   */
+  private String maskedSetter(ClassModel model,
+                              FieldModel field,
+                              String type,
+                              String jsonAnnotation,
+                              PresenceMask mask,
+                              int index) {
+    return String.format(TRACKED_SETTER_FORMAT,
+      model.builderClassName,
+      field.name,
+      type,
+      field.name,
+      jsonAnnotation,
+      mask.word(index),
+      mask.bit(index));
+  }
+
+  /**
+   * The builder methods that follow the field's setter: its collection adders, or the overload of an unwrapped
+   * primitive optional's setter taking the OptionalInt, OptionalLong or OptionalDouble. Empty for any other field.
+   */
+  public List<String> additionalSetters(ClassModel model, FieldModel field) {
+    int index = primitiveOptionals(model).indexOf(field);
+    if (index < 0) {
+      return collectionAdders(model, field);
+    }
+    PresenceMask mask = optionalsMask(model, OPTIONALS_SET_FIELD);
+    String getter = "getAs" + capitalize(field.unwrappedType());
+    String body = String.format("if (%1$s != null && %1$s.isPresent()) {\n  return %1$s(%1$s.%2$s());\n}\n"
+                                + "this.%1$s = %3$s;  %4$s &= ~%5$s;  return this;",
+      field.name,
+      getter,
+      primitiveInitializer(field.unwrappedType()),
+      mask.word(index),
+      mask.bit(index));
+    List<String> methods = new ArrayList<>();
+    methods.add(String.format("%1$spublic %2$s %3$s(%4$s %3$s){\n  %5$s\n}",
+      setterJsonAnnotation(field),
+      model.builderClassName,
+      field.name,
+      names.reference("java.util." + field.type.substring(field.type.lastIndexOf('.') + 1)),
+      body));
+    return methods;
+  }
+
+  /**
+   * The names {@link #additionalSetters} may give the field's methods under any options, other than the field's own
+   * name, which the OptionalInt (and so on) overloads take.
+   */
+  public static List<String> additionalSetterNames(String fieldName) {
+    String capitalized = capitalize(fieldName);
+    return Arrays.asList("add" + capitalized,
+      "addAll" + capitalized,
+      "put" + capitalized,
+      "putAll" + capitalized,
+      fieldName + "ExpectedSize");
+  }
+
+
+  /**
+   * The add/addAll (put/putAll for maps) methods and the expected size hint of a collection the builder accumulates:
+   * in a Guava builder, with {@link BuilderOptions#collectionAdders}, or in a primitive collection. Empty for any other
+   * field.
+   */
+  private List<String> collectionAdders(ClassModel model, FieldModel field) {
+    List<String> methods = new ArrayList<>();
+    PrimitiveCollectionSyntax primitive = primitiveStorage(field);
+    if (primitive == null && !usesCollectionBuilder(field)) {
+      return methods;
+    }
+    boolean map;
+    String element;
+    String value;
+    String create;
+    String sized;
+    String bulkType;
+    if (primitive != null) {
+      map = primitive.isMap();
+      element = primitive.type.elementType;
+      value = primitive.type.valueType;
+      create = primitive.newStorage("");
+      sized = primitive.newStorage("expectedSize");
+      // A primitive collection takes its own kind in bulk; the storage of a boxed one takes any java.util collection.
+      bulkType = field.kind == FieldKind.PRIMITIVE_COLLECTION
+                 ? field.type
+                 : bulkType(field, names.reference("java.util.Collection"));
+    } else {
+      map = field.kind == FieldKind.MAP;
+      element = field.typeArguments.get(0);
+      value = map ? field.typeArguments.get(1) : null;
+      String immutable = names.reference(GUAVA_COLLECT + immutableCollectionName(field.kind));
+      create = immutable + ".builder()";
+      sized = immutable + ".builderWithExpectedSize(expectedSize)";
+      bulkType = bulkType(field, "Iterable");
+    }
+    String capitalized = capitalize(field.name);
+    if (map) {
+      methods.add(adder(model,
+        field,
+        "put" + capitalized,
+        element + " key, " + value + " value",
+        create,
+        "put(key, value)"));
+      methods.add(adder(model, field, "putAll" + capitalized, bulkType + " entries", create, "putAll(entries)"));
+    } else {
+      methods.add(adder(model, field, "add" + capitalized, element + " element", create, "add(element)"));
+      methods.add(adder(model, field, "addAll" + capitalized, bulkType + " elements", create, "addAll(elements)"));
+    }
+    methods.add(adder(model, field, field.name + "ExpectedSize", "int expectedSize", sized, null));
+    return methods;
+  }
+
+  /**
+   * The parameter type of addAll (putAll) on a java.util collection field: the given iterable type for a list or set.
+   */
+  private String bulkType(FieldModel field, String iterableType) {
+    if (field.kind == FieldKind.MAP) {
+      return names.reference("java.util.Map") + "<? extends " + field.typeArguments.get(0) + ", ? extends "
+             + field.typeArguments.get(1) + ">";
+    }
+    return iterableType + "<? extends " + field.typeArguments.get(0) + ">";
+  }
+
+  private String adder(ClassModel model,
+                       FieldModel field,
+                       String methodName,
+                       String parameters,
+                       String create,
+                       String call) {
+    return String.format(COLLECTION_ADDER_FORMAT,
+      model.builderClassName,
+      methodName,
+      parameters,
+      field.name,
+      create,
+      call != null ? "this." + field.name + "." + call + ";" : "");
+  }
+
+  public String builderConstructor(ClassModel model) {
+    String comment = options.generateExampleCodeComment ? exampleComment(model) : "";
+    return comment + String.format("public %1$s(){}", model.builderClassName);
+  }
+
+  public String fromMethod(ClassModel model) {
+    StringBuilder body = new StringBuilder();
+    for (FieldModel field : model.fields) {
+      String value = "copy." + (field.accessor != null ? field.accessor : field.name);
+      if (field.kind == FieldKind.OPTIONAL && !unwrapsOptional(field)) {
+        value += ".orElse(null)";
+      }
+      if (accumulates(field)) {
+        body.append(String.format("%1$s(%2$s);\n", field.name, value));
+      } else {
+        body.append(String.format("%1$s = %2$s;\n", field.name, value));
+      }
+    }
+    // Every field of an instance has a value; a primitive optional, only if the instance says so.
+    PresenceMask mask = trackedMask(model);
+    for (int word = 0; word < mask.wordCount(); word++) {
+      body.append(String.format("%1$s = %2$s;\n", mask.word(word * mask.wordSize), mask.allBits(word)));
+    }
+    PresenceMask optionalsSet = optionalsMask(model, OPTIONALS_SET_FIELD);
+    PresenceMask optionalsPresent = optionalsMask(model, OPTIONALS_PRESENT_FIELD);
+    for (int word = 0; word < optionalsSet.wordCount(); word++) {
+      int index = word * optionalsSet.wordSize;
+      body.append(String.format("%1$s = copy.%2$s;\n", optionalsSet.word(index), optionalsPresent.word(index)));
+    }
+    return String.format("public %1$s from(%2$s copy){\n  %3$s  return this;}",
+      model.builderClassName,
+      model.qualifiedName,
+      body);
+  }
+
+  public String copyMethod(ClassModel model) {
+    StringBuilder body = new StringBuilder(String.format("%1$s copy = new %1$s();\n", model.builderClassName));
+    for (FieldModel field : model.fields) {
+      // An accumulated collection can't be shared; the copy starts its own from what has been added so far.
+      PrimitiveCollectionSyntax primitive = primitiveStorage(field);
+      if (primitive != null) {
+        body.append(String.format("copy.%1$s = this.%1$s == null ? null : %2$s;",
+          field.name,
+          primitive.copyStorage("this." + field.name))).append('\n');
+      } else if (usesCollectionBuilder(field)) {
+        String built = "this." + field.name + ".build()";
+        body.append(String.format("copy.%1$s = this.%1$s == null ? null : %2$s;",
+          field.name,
+          newCollectionBuilder(field, built))).append('\n');
+      } else {
+        body.append(String.format("copy.%1$s(this.%1$s);", field.name)).append('\n');
+      }
+    }
+    // The setters mark every field as set; carry over what actually was.
+    for (PresenceMask mask : builderMasks(model)) {
+      for (int word = 0; word < mask.wordCount(); word++) {
+        body.append(String.format("copy.%1$s = this.%1$s;\n", mask.word(word * mask.wordSize)));
+      }
+    }
+    return String.format("public %1$s copy(){\n  %2$s  return copy;}", model.builderClassName, body);
+  }
+
+  /**
+   * Puts every field back to the value a new builder starts with, so one builder can build any number of instances.
+   * Instances already built are unaffected: none shares a collection the builder goes on to fill.
+   */
+  public String resetMethod(ClassModel model) {
+    StringBuilder body = new StringBuilder();
+    for (FieldModel field : model.fields) {
+      body.append(String.format("%1$s = %2$s;\n", field.name, resetValue(field)));
+    }
+    for (PresenceMask mask : builderMasks(model)) {
+      for (int word = 0; word < mask.wordCount(); word++) {
+        body.append(String.format("%1$s = 0;\n", mask.word(word * mask.wordSize)));
+      }
+    }
+    return String.format("public %1$s reset(){\n  %2$s  return this;}", model.builderClassName, body);
+  }
+
+  /**
+   * The per-thread builder handed out by the {@link #pooledMethod}.
+   */
+  public String poolField(ClassModel model) {
+    return String.format("private static final %1$s<%2$s> %3$s = %1$s.withInitial(%2$s::new);",
+      names.reference("java.lang.ThreadLocal"),
+      model.builderClassName,
+      POOL_FIELD);
+  }
+
+  /**
+   * A static factory returning the calling thread's builder, reset. Each call on a thread returns the same builder, so
+   * it must be done with (built) before the next call; a pooled builder is never to be kept or passed on.
+   */
+  public String pooledMethod(ClassModel model) {
+    return String.format("public static %1$s pooled(){\n  return %2$s.get().reset();\n}",
+      model.builderClassName,
+      POOL_FIELD);
+  }
+
+  public String buildMethod(ClassModel model) {
+    String arguments;
+    if (model.topLevelBuilder) {
+      StringBuilder values = new StringBuilder();
+      for (FieldModel field : model.fields) {
+        values.append(values.length() > 0 ? ", " : "").append(instanceValue(field, "this." + field.name));
+      }
+      arguments = values.toString();
+    } else {
+      arguments = "this";
+    }
+    return String.format("public %1$s build() { \n %2$s%3$s return new %1$s(%4$s); \n}",
+      model.qualifiedName,
+      requiredFieldsCheck(model),
+      options.implementValidated ? "checkValid();\n" : "",
+      arguments);
+  }
+
+  /**
+   * The builder's bitmask fields recording which primitive fields have been set, when the primitives are kept
+   * primitive, and which primitive optionals have been, when they are stored unwrapped.
+   */
+  public List<String> presenceFields(ClassModel model) {
+    List<String> declarations = new ArrayList<>();
+    for (PresenceMask mask : builderMasks(model)) {
+      for (int word = 0; word < mask.wordCount(); word++) {
+        declarations.add("private " + mask.wordType() + " " + mask.word(word * mask.wordSize) + ";");
+      }
+    }
+    return declarations;
+  }
+
+  /**
+   * Whether the builder field is one of those {@link #presenceFields}, under any options, rather than one to build.
+   */
+  public static boolean isPresenceField(String name) {
+    for (String prefix : new String[]{PRESENCE_FIELD, OPTIONALS_SET_FIELD}) {
+      if (name.startsWith(prefix) && name.substring(prefix.length()).chars().allMatch(Character::isDigit)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * The instance's bitmask fields recording which primitive optionals stored unwrapped hold a value.
+   */
+  public List<String> instancePresenceFields(ClassModel model) {
+    PresenceMask mask = optionalsMask(model, OPTIONALS_PRESENT_FIELD);
+    List<String> declarations = new ArrayList<>();
+    for (int word = 0; word < mask.wordCount(); word++) {
+      declarations.add("private final " + mask.wordType() + " " + mask.word(word * mask.wordSize) + ";");
+    }
+    return declarations;
+  }
+
+  /**
+   * Whether the instance class field is one of those {@link #instancePresenceFields}, rather than one to build.
+   */
+  public static boolean isInstancePresenceField(String name) {
+    return name.startsWith(OPTIONALS_PRESENT_FIELD)
+           && name.substring(OPTIONALS_PRESENT_FIELD.length()).chars().allMatch(Character::isDigit);
+  }
+
+  /**
+   * Whether the instance holds the field unwrapped, with {@link BuilderOptions#unwrappedOptionals}: as declared by
+   * {@link FieldModel#unwrappedType()}, behind the {@link #optionalAccessor}.
+   */
+  public boolean unwrapsOptional(FieldModel field) {
+    if (!options.unwrappedOptionals) {
+      return false;
+    }
+    return (field.kind == FieldKind.OPTIONAL && field.typeArguments.size() == 1)
+           || field.kind == FieldKind.PRIMITIVE_OPTIONAL;
+  }
+
+  /**
+   * The instance's accessor for a field it holds unwrapped, named for the field. The Optional is created on each call,
+   * rather than held.
+   */
+  public String optionalAccessor(ClassModel model, FieldModel field) {
+    String jsonAnnotation = options.implementJackson
+                            ? "@" + names.reference(JSON_PROPERTY_ANNOTATION) + "(\"" + field.name + "\")\n"
+                            : "";
+    int index = primitiveOptionals(model).indexOf(field);
+    if (index < 0) {
+      String optional = names.reference("java.util.Optional");
+      return String.format(OPTIONAL_ACCESSOR_FORMAT,
+        jsonAnnotation,
+        optional + "<" + field.typeArguments.get(0) + ">",
+        field.name,
+        optional + ".ofNullable(" + field.name + ")");
+    }
+    String optional = names.reference("java.util." + field.type.substring(field.type.lastIndexOf('.') + 1));
+    PresenceMask mask = optionalsMask(model, OPTIONALS_PRESENT_FIELD);
+    return String.format(OPTIONAL_ACCESSOR_FORMAT,
+      jsonAnnotation,
+      optional,
+      field.name,
+      String.format("(%1$s & %2$s) != 0 ? %3$s.of(%4$s) : %3$s.empty()",
+        mask.word(index),
+        mask.bit(index),
+        optional,
+        field.name));
+  }
+
+  /**
+   * Names the required fields that have not been set, for the build() failure message. Kept out of build() so that
+   * the check there stays a mask comparison.
+   *
+   * @return The method text, or null if there are no required primitive fields.
+   */
+  public String unsetRequiredFieldsMethod(ClassModel model) {
+    List<FieldModel> tracked = trackedFields(model);
+    PresenceMask mask = trackedMask(model);
+    StringBuilder body = new StringBuilder();
+    for (int i = 0; i < tracked.size(); i++) {
+      if (tracked.get(i).required) {
+        body.append(String.format("if ((%1$s & %2$s) == 0) {\n  unset.add(\"%3$s\");\n}\n",
+          mask.word(i),
+          mask.bit(i),
+          tracked.get(i).name));
+      }
+    }
+    if (body.length() == 0) {
+      return null;
+    }
+    String joiner = names.reference("java.util.StringJoiner");
+    return String.format("private String %1$s() {\n %2$s unset = new %2$s(\", \");\n %3$s return unset.toString();\n}",
+      UNSET_REQUIRED_FIELDS_METHOD,
+      joiner,
+      body);
+  }
+
+  /**
+   * One mask comparison per 64 tracked fields; empty when nothing is required.
+   */
+  private String requiredFieldsCheck(ClassModel model) {
+    List<FieldModel> tracked = trackedFields(model);
+    PresenceMask mask = trackedMask(model);
+    StringBuilder condition = new StringBuilder();
+    for (int word = 0; word < mask.wordCount(); word++) {
+      long required = 0;
+      for (int i = word * mask.wordSize; i < Math.min(tracked.size(), (word + 1) * mask.wordSize); i++) {
+        if (tracked.get(i).required) {
+          required |= 1L << (i % mask.wordSize);
+        }
+      }
+      if (required != 0) {
+        String bits = mask.literal(required);
+        condition.append(condition.length() > 0 ? " || " : "")
+          .append(String.format("(%1$s & %2$s) != %2$s", mask.word(word * mask.wordSize), bits));
+      }
+    }
+    if (condition.length() == 0) {
+      return "";
+    }
+    return String.format("if (%1$s) {\n  throw new IllegalStateException(\"Required fields not set: \" + %2$s());\n}\n",
+      condition,
+      UNSET_REQUIRED_FIELDS_METHOD);
+  }
+
+  private boolean isTracked(FieldModel field) {
+    return options.primitiveBuilderFields && field.kind == FieldKind.PRIMITIVE;
+  }
+
+  private List<FieldModel> trackedFields(ClassModel model) {
+    List<FieldModel> tracked = new ArrayList<>();
+    for (FieldModel field : model.fields) {
+      if (isTracked(field)) {
+        tracked.add(field);
+      }
+    }
+    return tracked;
+  }
+
+  private boolean isUnwrappedPrimitiveOptional(FieldModel field) {
+    return field.kind == FieldKind.PRIMITIVE_OPTIONAL && unwrapsOptional(field);
+  }
+
+  private List<FieldModel> primitiveOptionals(ClassModel model) {
+    List<FieldModel> optionals = new ArrayList<>();
+    for (FieldModel field : model.fields) {
+      if (isUnwrappedPrimitiveOptional(field)) {
+        optionals.add(field);
+      }
+    }
+    return optionals;
+  }
+
+  private PresenceMask trackedMask(ClassModel model) {
+    return new PresenceMask(trackedFields(model).size(), PRESENCE_FIELD);
+  }
+
+  /**
+   * @param name The builder's mask field, or the instance's.
+   */
+  private PresenceMask optionalsMask(ClassModel model, String name) {
+    return new PresenceMask(primitiveOptionals(model).size(), name);
+  }
+
+  private List<PresenceMask> builderMasks(ClassModel model) {
+    List<PresenceMask> masks = new ArrayList<>();
+    masks.add(trackedMask(model));
+    masks.add(optionalsMask(model, OPTIONALS_SET_FIELD));
+    return masks;
+  }
+
+  /**
+   * The Jackson annotation for the setter of a tracked or accumulated field: the one copied off the field if there is
+   * one, otherwise the default. Empty if Jackson is off.
+   */
+  private String setterJsonAnnotation(FieldModel field) {
+    if (options.copyFieldAnnotations) {
+      for (AnnotationModel annotation : field.annotations) {
+        if (JSON_PROPERTY_ANNOTATION.equals(annotation.qualifiedName)) {
+          return annotation.text + "\n";
+        }
+      }
+    }
+    if (options.implementJackson) {
+      return "@" + names.reference(JSON_PROPERTY_ANNOTATION) + "(\"" + field.name + "\")\n";
+    }
+    return "";
+  }
+
+  /**
+   * Where each tracked field's bit lives: a single int for up to 32 tracked fields, otherwise as many longs as
+   * needed. Tracked primitives and unwrapped primitive optionals each have a mask of their own.
+   */
+  private static final class PresenceMask {
+
+    private final int trackedCount;
+
+    private final int wordSize;
+
+    private final String name;
+
+    PresenceMask(int trackedCount, String name) {
+      this.trackedCount = trackedCount;
+      this.name = name;
+      wordSize = trackedCount <= Integer.SIZE ? Integer.SIZE : Long.SIZE;
+    }
+
+    int wordCount() {
+      return (trackedCount + wordSize - 1) / wordSize;
+    }
+
+    String wordType() {
+      return wordSize == Integer.SIZE ? "int" : "long";
+    }
+
+    /**
+     * The mask field holding the bit of the tracked field at 'index'.
+     */
+    String word(int index) {
+      return wordCount() == 1 ? name : name + (index / wordSize);
+    }
+
+    String bit(int index) {
+      return literal(1L << (index % wordSize));
+    }
+
+    String allBits(int word) {
+      int bitsInWord = Math.min(wordSize, trackedCount - word * wordSize);
+      return literal(bitsInWord == Long.SIZE ? -1L : (1L << bitsInWord) - 1);
+    }
+
+    String literal(long bits) {
+      return wordSize == Integer.SIZE
+             ? "0x" + Integer.toHexString((int) bits)
+             : "0x" + Long.toHexString(bits) + "L";
+    }
+  }
+
+  /**
+   * The instance class constructor that takes the builder. Nested builders only.
+   */
+  public String instanceConstructor(ClassModel model) {
+    StringBuilder body = new StringBuilder();
+    for (FieldModel field : model.fields) {
+      body.append(constructorAssignment(field));
+    }
+    PresenceMask optionalsPresent = optionalsMask(model, OPTIONALS_PRESENT_FIELD);
+    for (int word = 0; word < optionalsPresent.wordCount(); word++) {
+      int index = word * optionalsPresent.wordSize;
+      body.append(String.format("%1$s = builder.%2$s;",
+        optionalsPresent.word(index),
+        optionalsMask(model, OPTIONALS_SET_FIELD).word(index)));
+    }
+    return String.format(PRIMARY_CLASS_CTOR_FMT, model.simpleName, model.builderClassName, body);
+  }
+
+  public String constructorAssignment(FieldModel field) {
+    return String.format("%1$s = %2$s;", field.name, instanceValue(field, "builder." + field.name));
+  }
+
+  /**
+   * Collections are wrapped in immutables, and optionals in an ofNullable unless stored unwrapped.
+   */
+  private String instanceValue(FieldModel field, String builderValue) {
+    PrimitiveCollectionSyntax primitive = primitiveStorage(field);
+    if (primitive != null) {
+      String empty = field.nullable ? "null" : primitive.empty();
+      return String.format("%1$s == null ? %2$s : %3$s", builderValue, empty, primitive.freeze(builderValue));
+    }
+    if (usesCollectionBuilder(field)) {
+      // Built once, straight from the Guava builder: no intermediate collection to copy.
+      String empty = field.nullable
+                     ? "null"
+                     : names.reference(GUAVA_COLLECT + immutableCollectionName(field.kind)) + ".of()";
+      return String.format("%1$s == null ? %2$s : %1$s.build()", builderValue, empty);
+    }
+    String value = builderValue;
+    if (field.kind.isCollection()) {
+      value = immutableCopy(field, value);
+    }
+    if (field.kind == FieldKind.OPTIONAL && !unwrapsOptional(field)) {
+      value = names.reference("java.util.Optional") + ".ofNullable(" + value + ")";
+    }
+    return value;
+  }
+
+  public String jsonDeserializeAnnotation(ClassModel model) {
+    if (generatesDeserializer()) {
+      return "@" + names.reference(JSON_DESERIALIZE_ANNOTATION) + "(using = " + model.builderReference() + "."
+             + DESERIALIZER_CLASS_NAME + ".class)";
+    }
+    return "@" + names.reference(JSON_DESERIALIZE_ANNOTATION) + "(builder = " + model.builderReference() + ".class)";
+  }
+
+  /**
+   * Whether the builder has a streaming Jackson deserializer; see {@link BuilderOptions#streamingDeserializer}.
+   */
+  public boolean generatesDeserializer() {
+    return options.implementJackson && options.streamingDeserializer;
+  }
+
+  /**
+   * The streaming Jackson deserializer, a static nested class of the builder. Each property goes where Jackson's
+   * builder support would put it: straight into the builder field, or through the setter for the fields whose setter
+   * does more than assign (tracked, accumulated, or unwrapped primitive optionals).
+   */
+  public String deserializerClass(ClassModel model) {
+    List<JsonStreamingSyntax.Property> properties = new ArrayList<>();
+    for (FieldModel field : model.fields) {
+      String jsonName = jsonPropertyName(field);
+      if (isUnwrappedPrimitiveOptional(field)) {
+        // A null or empty value goes to the OptionalInt (and so on) overload, which clears the presence bit.
+        String optionalType = names.reference("java.util." + field.type.substring(field.type.lastIndexOf('.') + 1));
+        properties.add(new JsonStreamingSyntax.Property(field.name,
+          jsonName,
+          false,
+          field.unwrappedType(),
+          optionalType));
+      } else if (isTracked(field) || accumulates(field)) {
+        properties.add(new JsonStreamingSyntax.Property(field.name, jsonName, false, field.type, field.type));
+      } else {
+        String type = builderFieldType(field);
+        properties.add(new JsonStreamingSyntax.Property(field.name, jsonName, true, type, type));
+      }
+    }
+    return new JsonStreamingSyntax(names).deserializerClass(model.qualifiedName, model.builderClassName, properties);
+  }
+
+  /**
+   * Registers the streaming serializer on the instance class; see {@link #generatesSerializer()}.
+   */
+  public String jsonSerializeAnnotation(ClassModel model) {
+    return "@" + names.reference(JSON_SERIALIZE_ANNOTATION) + "(using = " + model.builderReference() + "."
+           + SERIALIZER_CLASS_NAME + ".class)";
+  }
+
+  /**
+   * Whether the builder has a streaming Jackson serializer; see {@link BuilderOptions#streamingSerializer}.
+   */
+  public boolean generatesSerializer() {
+    return options.implementJackson && options.streamingSerializer;
+  }
+
+  /**
+   * The streaming Jackson serializer, a static nested class of the builder. It writes the instance's fields in
+   * declaration order, under the names Jackson would give them. Fields are read directly, or through the accessor of a
+   * private one; those held unwrapped directly, rather than through the accessor that creates the Optional.
+   */
+  public String serializerClass(ClassModel model) {
+    JsonStreamingSyntax syntax = new JsonStreamingSyntax(names);
+    List<FieldModel> primitiveOptionals = primitiveOptionals(model);
+    PresenceMask mask = optionalsMask(model, OPTIONALS_PRESENT_FIELD);
+    List<JsonStreamingSyntax.WrittenProperty> properties = new ArrayList<>();
+    for (FieldModel field : model.fields) {
+      String value = "value." + (field.accessor != null ? field.accessor : field.name);
+      int optionalIndex = primitiveOptionals.indexOf(field);
+      String write;
+      if (optionalIndex >= 0) {
+        write = syntax.writePresent(String.format("(value.%1$s & %2$s) != 0",
+          mask.word(optionalIndex),
+          mask.bit(optionalIndex)), value);
+      } else if (unwrapsOptional(field)) {
+        write = syntax.writeValue(field.unwrappedType(), value, true);
+      } else if (field.kind == FieldKind.OPTIONAL && field.typeArguments.size() == 1) {
+        write = syntax.writeOptional(field.typeArguments.get(0), value);
+      } else if (field.kind == FieldKind.PRIMITIVE_OPTIONAL) {
+        write = syntax.writePrimitiveOptional(field.unwrappedType(), value);
+      } else if ((field.kind == FieldKind.LIST || field.kind == FieldKind.SET) && field.typeArguments.size() == 1) {
+        write = syntax.writeElements(field.typeArguments.get(0), value);
+      } else if (field.kind == FieldKind.MAP && field.typeArguments.size() == 2) {
+        write = syntax.writeEntries(field.typeArguments.get(0), field.typeArguments.get(1), value);
+      } else {
+        write = syntax.writeValue(field.type, value, true);
+      }
+      properties.add(new JsonStreamingSyntax.WrittenProperty(field.name, jsonPropertyName(field), write));
+    }
+    return syntax.serializerClass(model.qualifiedName, properties);
+  }
+
+  /**
+   * The field's name in JSON: as given by a {@code @JsonProperty} on the field, if any, otherwise the field name.
+   */
+  private static String jsonPropertyName(FieldModel field) {
+    for (AnnotationModel annotation : field.annotations) {
+      if (JSON_PROPERTY_ANNOTATION.equals(annotation.qualifiedName)) {
+        Matcher matcher = JSON_PROPERTY_NAME.matcher(annotation.text);
+        if (matcher.find() && !matcher.group(1).isEmpty()) {
+          return matcher.group(1);
+        }
+      }
+    }
+    return field.name;
+  }
+
+  public String fromJsonMethod(ClassModel model) {
+    String fmt = "public static %1$s fromJson(%2$s mapper, String json) {\n"
+                 + "    try {\n"
+                 + "      return mapper.readValue(json, %1$s.class);\n"
+                 + "    } catch (%3$s e){\n"
+                 + "      throw new %4$s(e, \"Could not create instance from provided JSON."
+                 + "\\n\\n %%s \\n\\n\", json);\n"
+                 + "    }\n"
+                 + "  }\n";
+    return String.format(fmt,
+      model.simpleName,
+      names.reference("com.fasterxml.jackson.databind.ObjectMapper"),
+      names.reference("java.io.IOException"),
+      names.reference(options.fromJsonExceptionClass()));
+  }
+
+  public String toJsonMethod(ClassModel model) {
+    String fmt = "public String toJson(%2$s mapper) {\n"
+                 + "    try {\n"
+                 + "      return mapper.writeValueAsString(this);\n"
+                 + "    } catch (%3$s e) {\n"
+                 + "      throw new %4$s(e, \"Could not write %1$s as Json\");\n"
+                 + "    }\n"
+                 + "  }\n";
+    return String.format(fmt,
+      model.simpleName,
+      names.reference("com.fasterxml.jackson.databind.ObjectMapper"),
+      names.reference("com.fasterxml.jackson.core.JsonProcessingException"),
+      names.reference(options.toJsonExceptionClass()));
+  }
+
+  /**
+   * An immutable copy of a collection. Guava's copyOf by default, or with {@link BuilderOptions#jdkCollections} the
+   * JDK's: List/Set/Map.copyOf from Java 10, which return an immutable argument as is, and before that an
+   * unmodifiable view over a copy made at the source's size. Fields declared as a Guava type stay with Guava.
+   */
+  private String immutableCopy(FieldModel field, String value) {
+    if (!options.jdkCollections || declaresGuavaType(field)) {
+      return names.reference(GUAVA_COLLECT + immutableCollectionName(field.kind)) + ".copyOf(" + value + ")";
+    }
+    if (options.languageLevel >= 10) {
+      return names.reference(jdkCollectionName(field.kind)) + ".copyOf(" + value + ")";
+    }
+    String collections = names.reference("java.util.Collections");
+    switch (field.kind) {
+      case SET:
+        // Linked, to keep the iteration order Guava's sets have.
+        return collections + ".unmodifiableSet(new " + names.reference("java.util.LinkedHashSet") + "<>(" + value
+               + "))";
+      case MAP:
+        return collections + ".unmodifiableMap(new " + names.reference("java.util.LinkedHashMap") + "<>(" + value
+               + "))";
+      default:
+        return collections + ".unmodifiableList(new " + names.reference("java.util.ArrayList") + "<>(" + value
+               + "))";
+    }
+  }
+
+  private static boolean declaresGuavaType(FieldModel field) {
+    int typeArguments = field.type.indexOf('<');
+    String erased = typeArguments < 0 ? field.type : field.type.substring(0, typeArguments);
+    return erased.substring(erased.lastIndexOf('.') + 1).startsWith("Immutable");
+  }
+
+  /**
+   * A new Guava builder of the field's immutable collection type, holding the elements of 'source'.
+   */
+  private String newCollectionBuilder(FieldModel field, String source) {
+    return String.format("%1$s.<%2$s>builder().%3$s(%4$s)",
+      names.reference(GUAVA_COLLECT + immutableCollectionName(field.kind)),
+      String.join(", ", field.typeArguments),
+      field.kind == FieldKind.MAP ? "putAll" : "addAll",
+      source);
+  }
+
+  /**
+   * Whether the field is held in a Guava collection builder. Needs the element types spelled out: a raw or wildcard
+   * typed collection keeps the plain setter.
+   */
+  private boolean usesCollectionBuilder(FieldModel field) {
+    if (!options.collectionAdders || !field.kind.isCollection() || primitiveStorage(field) != null) {
+      return false;
+    }
+    if (field.typeArguments.size() != (field.kind == FieldKind.MAP ? 2 : 1)) {
+      return false;
+    }
+    for (String argument : field.typeArguments) {
+      if (argument.contains("?")) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * How the builder accumulates a primitive collection: a primitive collection field with
+   * {@link BuilderOptions#primitiveCollections}, or a boxed one that fastutil can hold, with
+   * {@link BuilderOptions#primitiveBackedCollections}. Null for any other field.
+   */
+  private PrimitiveCollectionSyntax primitiveStorage(FieldModel field) {
+    PrimitiveCollectionType type = null;
+    if (field.kind == FieldKind.PRIMITIVE_COLLECTION && options.primitiveCollections) {
+      type = field.primitiveCollection;
+    } else if (field.kind.isCollection() && options.primitiveBackedCollections && !declaresGuavaType(field)) {
+      type = PrimitiveCollectionType.forBoxedElements(field.kind, field.typeArguments);
+    }
+    return type != null ? new PrimitiveCollectionSyntax(type, names) : null;
+  }
+
+  /**
+   * Whether the builder holds the field in a collection of its own, filled by the setter and the adders.
+   */
+  private boolean accumulates(FieldModel field) {
+    return primitiveStorage(field) != null || usesCollectionBuilder(field);
+  }
+
+  private String builderFieldType(FieldModel field) {
+    PrimitiveCollectionSyntax primitive = primitiveStorage(field);
+    if (primitive != null) {
+      return primitive.storageType();
+    }
+    if (usesCollectionBuilder(field)) {
+      return names.reference(GUAVA_COLLECT + immutableCollectionName(field.kind)) + ".Builder<"
+             + String.join(", ", field.typeArguments) + ">";
+    }
+    if (isUnwrappedPrimitiveOptional(field)) {
+      return field.unwrappedType();
+    }
+    if (field.kind == FieldKind.PRIMITIVE && !isTracked(field)) {
+      return names.reference(BOXED_TYPES.get(field.type));
+    }
+    return field.valueType();
+  }
+
+  /**
+   * Lists and maps default to empty (unless marked nullable), and the primitive wrappers default to the primitive
+   * default, because int and Integer are very different things.
+   *
+   * @return The initializer expression text, or null if the field should not be initialized.
+   */
+  private String builderFieldInitializer(FieldModel field) {
+    switch (field.kind) {
+      case PRIMITIVE:
+        // A tracked primitive starts at the language default, and its bit says whether it has been set.
+        return isTracked(field) ? null : primitiveInitializer(field.type);
+      case LIST:
+        if (accumulates(field)) {
+          return null;
+        }
+        return field.nullable ? null : names.reference("java.util.Collections") + ".emptyList()";
+      case MAP:
+        if (accumulates(field)) {
+          return null;
+        }
+        return field.nullable ? null : names.reference("java.util.Collections") + ".emptyMap()";
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * The field's value in a new builder: its initializer, the language default of a primitive, or null. Collections
+   * the builder accumulates are created again by the first add.
+   */
+  private String resetValue(FieldModel field) {
+    if (accumulates(field)) {
+      return "null";
+    }
+    String initializer = builderFieldInitializer(field);
+    if (initializer != null) {
+      return initializer;
+    }
+    if (isUnwrappedPrimitiveOptional(field)) {
+      return primitiveInitializer(field.unwrappedType());
+    }
+    if (field.kind == FieldKind.PRIMITIVE) {
+      return primitiveInitializer(field.type);
+    }
+    return "null";
+  }
+
+  private static String primitiveInitializer(String primitive) {
+    switch (primitive) {
+      case "boolean":
+        return "false";
+      case "long":
+        return "0L";
+      case "float":
+        return "0f";
+      case "double":
+        return "0.0";
+      default:
+        return "0";
+    }
+  }
+
+  private static String immutableCollectionName(FieldKind kind) {
+    switch (kind) {
+      case LIST:
+        return "ImmutableList";
+      case SET:
+        return "ImmutableSet";
+      case MAP:
+        return "ImmutableMap";
+      default:
+        throw new IllegalArgumentException("Not a collection: " + kind);
+    }
+  }
+
+  private static String jdkCollectionName(FieldKind kind) {
+    switch (kind) {
+      case LIST:
+        return "java.util.List";
+      case SET:
+        return "java.util.Set";
+      case MAP:
+        return "java.util.Map";
+      default:
+        throw new IllegalArgumentException("Not a collection: " + kind);
+    }
+  }
+
+  private String exampleComment(ClassModel model) {
+    StringBuilder comment = new StringBuilder();
+    comment.append("/*\n");
+    // MyClass myClass = new MyClass.Builder().
+    String className = model.simpleName;
+    comment.append("\t")
+           .append(className)
+           .append(" ")
+           .append(uncapitalize(className))
+           .append(" = new ")
+           .append(model.builderReference())
+           .append("()");
+    for (FieldModel field : model.fields) {
+      comment.append("\n\t.")
+             .append(field.name)
+             .append("( input.get")
+             .append(capitalize(field.name))
+             .append("() )");
+    }
+    comment.append("\n\t.build();\n");
+    comment.append("*/\n");
+    return comment.toString();
+  }
+
+  private static String capitalize(String value) {
+    return value.isEmpty() ? value : Character.toUpperCase(value.charAt(0)) + value.substring(1);
+  }
+
+  private static String uncapitalize(String value) {
+    return value.isEmpty() ? value : Character.toLowerCase(value.charAt(0)) + value.substring(1);
+  }
+}
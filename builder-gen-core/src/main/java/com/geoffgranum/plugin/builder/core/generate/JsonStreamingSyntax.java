@@ -0,0 +1,454 @@
+package com.geoffgranum.plugin.builder.core.generate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The source text of a Jackson deserializer reading an instance token by token into its builder, and of a serializer
+ * writing the instance's fields straight to the generator, without the bean introspection and reflection of
+ * Jackson's builder and bean support. Written against the Jackson 2.9 API.
+ *
+ * Values whose token matches the property's type are read straight off the parser. Anything else (nulls, coercions,
+ * collections, nested objects) goes to the deserializer Jackson itself would use for the type, looked up once when
+ * the deserializer is resolved, so those read as they would through Jackson's builder support.
+ *
+ * Strings, primitives and their wrappers are written directly, as are the Optionals, collections and String keyed maps
+ * holding them. Any other value goes to the serializer Jackson has for its runtime class.
+ *
+ * @author ggranum
+ */
+final class JsonStreamingSyntax {
+
+  static final String DESERIALIZER_CLASS_NAME = "Deserializer";
+
+  static final String SERIALIZER_CLASS_NAME = "Serializer";
+
+  private static final String DATABIND = "com.fasterxml.jackson.databind.";
+
+  private static final String CORE = "com.fasterxml.jackson.core.";
+
+  private static final String READ_PROPERTY_METHOD = "readProperty";
+
+  private static final String WRITE_PROPERTIES_METHOD = "writeProperties";
+
+  /**
+   * How many properties each generated switch, or write method, covers. Keeps the methods well under the size HotSpot
+   * will compile (8000 bytes of bytecode), which a single switch over a couple of hundred properties is not.
+   */
+  private static final int PROPERTIES_PER_METHOD = 64;
+
+  private static final Map<String, String[]> DIRECT_READS = new HashMap<>();
+
+  private static final Map<String, String> DIRECT_WRITES = new HashMap<>();
+
+  private static final Map<String, String> BOXED_TYPES = new HashMap<>();
+
+  static {
+    String[][] pairs = {{"boolean", "Boolean"}, {"byte", "Byte"}, {"char", "Character"}, {"short", "Short"},
+      {"int", "Integer"}, {"long", "Long"}, {"float", "Float"}, {"double", "Double"}};
+    for (String[] pair : pairs) {
+      BOXED_TYPES.put(pair[0], pair[1]);
+    }
+    // The type, simple or in java.lang; the tokens it is read directly from; how.
+    String[][] reads = {{"String", "VALUE_STRING", "parser.getText()"},
+      {"int", "VALUE_NUMBER_INT", "parser.getIntValue()"},
+      {"Integer", "VALUE_NUMBER_INT", "parser.getIntValue()"},
+      {"long", "VALUE_NUMBER_INT", "parser.getLongValue()"},
+      {"Long", "VALUE_NUMBER_INT", "parser.getLongValue()"},
+      {"double", "VALUE_NUMBER_FLOAT", "parser.getDoubleValue()"},
+      {"Double", "VALUE_NUMBER_FLOAT", "parser.getDoubleValue()"},
+      {"boolean", "VALUE_TRUE VALUE_FALSE", "token == %1$s.VALUE_TRUE"},
+      {"Boolean", "VALUE_TRUE VALUE_FALSE", "token == %1$s.VALUE_TRUE"}};
+    for (String[] read : reads) {
+      DIRECT_READS.put(read[0], new String[]{read[1], read[2]});
+      DIRECT_READS.put("java.lang." + read[0], new String[]{read[1], read[2]});
+    }
+    // The type, simple or in java.lang; how a value of it is written. The wrappers are unboxed.
+    String[][] writes = {{"String", "generator.writeString(%1$s);"},
+      {"boolean", "generator.writeBoolean(%1$s);"},
+      {"Boolean", "generator.writeBoolean(%1$s);"},
+      {"char", "generator.writeString(String.valueOf(%1$s));"},
+      {"Character", "generator.writeString(String.valueOf(%1$s));"}};
+    for (String[] write : writes) {
+      DIRECT_WRITES.put(write[0], write[1]);
+      DIRECT_WRITES.put("java.lang." + write[0], write[1]);
+    }
+    for (String number : new String[]{"byte", "short", "int", "long", "float", "double"}) {
+      DIRECT_WRITES.put(number, "generator.writeNumber(%1$s);");
+      DIRECT_WRITES.put(BOXED_TYPES.get(number), "generator.writeNumber(%1$s);");
+      DIRECT_WRITES.put("java.lang." + BOXED_TYPES.get(number), "generator.writeNumber(%1$s);");
+    }
+  }
+
+  private final TypeNames names;
+
+  JsonStreamingSyntax(TypeNames names) {
+    this.names = names;
+  }
+
+  /**
+   * A JSON property and where its value goes in the builder.
+   */
+  static final class Property {
+
+    final String fieldName;
+
+    final String jsonName;
+
+    /**
+     * Assigned to the builder field, rather than passed to the setter.
+     */
+    final boolean assigned;
+
+    /**
+     * The type of the builder field or of the setter's parameter.
+     */
+    final String type;
+
+    /**
+     * The type Jackson reads when the value isn't read directly; the type of the setter overload it is passed to if
+     * that differs from {@link #type}.
+     */
+    final String fallbackType;
+
+    Property(String fieldName, String jsonName, boolean assigned, String type, String fallbackType) {
+      this.fieldName = fieldName;
+      this.jsonName = jsonName;
+      this.assigned = assigned;
+      this.type = type;
+      this.fallbackType = fallbackType;
+    }
+  }
+
+  /**
+   * A JSON property the serializer writes: its name, and the statements writing its value.
+   */
+  static final class WrittenProperty {
+
+    final String fieldName;
+
+    final String jsonName;
+
+    final String write;
+
+    WrittenProperty(String fieldName, String jsonName, String write) {
+      this.fieldName = fieldName;
+      this.jsonName = jsonName;
+      this.write = write;
+    }
+  }
+
+  /**
+   * The deserializer, a static nested class of the builder.
+   *
+   * @param instanceType The class it deserializes, as it may be referenced from the builder.
+   */
+  String deserializerClass(String instanceType, String builderClassName, List<Property> properties) {
+    String deserializer = names.reference(DATABIND + "JsonDeserializer");
+    String context = names.reference(DATABIND + "DeserializationContext");
+    String parser = names.reference(CORE + "JsonParser");
+    String token = names.reference(CORE + "JsonToken");
+    String ioException = names.reference("java.io.IOException");
+
+    StringBuilder text = new StringBuilder();
+    text.append(String.format("public static final class %1$s extends %2$s<%3$s> implements %4$s {\n",
+      DESERIALIZER_CLASS_NAME,
+      deserializer,
+      instanceType,
+      names.reference(DATABIND + "deser.ResolvableDeserializer")));
+    for (Property property : properties) {
+      text.append(String.format("private %1$s<Object> %2$s;\n", deserializer, deserializerField(property)));
+    }
+
+    text.append(String.format("@Override\npublic void resolve(%1$s context) throws %2$s {\n",
+      context,
+      names.reference(DATABIND + "JsonMappingException")));
+    for (Property property : properties) {
+      text.append(String.format("%1$s = context.findRootValueDeserializer(%2$s);\n",
+        deserializerField(property),
+        javaType(property.fallbackType)));
+    }
+    text.append("}\n");
+    text.append("@Override\npublic boolean isCachable() {\n  return true;\n}\n");
+
+    text.append(String.format("@Override\n"
+                              + "public %1$s deserialize(%2$s parser, %3$s context) throws %4$s {\n",
+      instanceType,
+      parser,
+      context,
+      ioException));
+    text.append(String.format("%1$s token = parser.currentToken();\n"
+                              + "if (token == %1$s.START_OBJECT) {\n  token = parser.nextToken();\n}"
+                              + " else if (token != %1$s.FIELD_NAME && token != %1$s.END_OBJECT) {\n"
+                              + "  return (%2$s) context.handleUnexpectedToken(%2$s.class, parser);\n}\n",
+      token,
+      instanceType));
+    text.append(String.format("%1$s builder = new %1$s();\n", builderClassName));
+    text.append(String.format("for (; token == %1$s.FIELD_NAME; token = parser.nextToken()) {\n", token));
+    text.append("String name = parser.getCurrentName();\ntoken = parser.nextToken();\n");
+    StringBuilder known = new StringBuilder();
+    for (int chunk = 0; chunk * PROPERTIES_PER_METHOD < properties.size(); chunk++) {
+      known.append(chunk > 0 ? " && " : "").append(String.format("!%1$s%2$d(builder, name, token, parser, context)",
+        READ_PROPERTY_METHOD,
+        chunk));
+    }
+    String unknown = String.format("context.handleUnknownProperty(parser, this, %1$s.class, name);\n", instanceType);
+    text.append(known.length() > 0 ? "if (" + known + ") {\n  " + unknown + "}\n" : unknown);
+    // Failures of build() are reported as Jackson reports those of a builder it calls itself.
+    text.append(String.format("}\ntry {\n  return builder.build();\n} catch (RuntimeException e) {\n"
+                              + "  return (%1$s) context.handleInstantiationProblem(%1$s.class, builder, e);\n}\n}\n",
+      instanceType));
+
+    for (int chunk = 0; chunk * PROPERTIES_PER_METHOD < properties.size(); chunk++) {
+      int end = Math.min(properties.size(), (chunk + 1) * PROPERTIES_PER_METHOD);
+      List<Property> chunkProperties = properties.subList(chunk * PROPERTIES_PER_METHOD, end);
+      // Values read by Jackson are cast to the property's type, unchecked if that is generic.
+      if (chunkProperties.stream().anyMatch(property -> property.fallbackType.indexOf('<') >= 0)) {
+        text.append("@SuppressWarnings(\"unchecked\")\n");
+      }
+      text.append(String.format("private boolean %1$s%2$d(%3$s builder, String name, %4$s token, %5$s parser,"
+                                + " %6$s context) throws %7$s {\nswitch (name) {\n",
+        READ_PROPERTY_METHOD,
+        chunk,
+        builderClassName,
+        token,
+        parser,
+        context,
+        ioException));
+      for (Property property : chunkProperties) {
+        text.append("case \"").append(property.jsonName).append("\":\n");
+        text.append(read(property, token)).append("return true;\n");
+      }
+      text.append("default:\n  return false;\n}\n}\n");
+    }
+
+    text.append(String.format("private static Object read(%1$s parser, %2$s context, %3$s<Object> deserializer)"
+                              + " throws %4$s {\n"
+                              + "  return parser.currentToken() == %5$s.VALUE_NULL\n"
+                              + "         ? deserializer.getNullValue(context)\n"
+                              + "         : deserializer.deserialize(parser, context);\n}\n",
+      parser,
+      context,
+      deserializer,
+      ioException,
+      token));
+    return text.append("}").toString();
+  }
+
+  /**
+   * The serializer, a static nested class of the builder. Each property name is written from a SerializedString
+   * constant, so it is quoted and encoded once rather than on every call.
+   *
+   * @param instanceType The class it serializes, as it may be referenced from the builder.
+   */
+  String serializerClass(String instanceType, List<WrittenProperty> properties) {
+    String generator = names.reference(CORE + "JsonGenerator");
+    String provider = names.reference(DATABIND + "SerializerProvider");
+    String serializedString = names.reference(CORE + "io.SerializedString");
+    String ioException = names.reference("java.io.IOException");
+
+    StringBuilder text = new StringBuilder();
+    text.append(String.format("public static final class %1$s extends %2$s<%3$s> {\n",
+      SERIALIZER_CLASS_NAME,
+      names.reference(DATABIND + "JsonSerializer"),
+      instanceType));
+    List<String> constants = new ArrayList<>();
+    for (WrittenProperty property : properties) {
+      String constant = constantName(property.fieldName);
+      while (constants.contains(constant)) {
+        constant += "_";
+      }
+      constants.add(constant);
+      text.append(String.format("private static final %1$s %2$s = new %1$s(\"%3$s\");\n",
+        serializedString,
+        constant,
+        property.jsonName));
+    }
+    text.append(String.format("@Override\npublic Class<%1$s> handledType() {\n  return %1$s.class;\n}\n",
+      instanceType));
+
+    StringBuilder writeProperties = new StringBuilder();
+    for (int chunk = 0; chunk * PROPERTIES_PER_METHOD < properties.size(); chunk++) {
+      writeProperties.append(String.format("%1$s%2$d(value, generator, provider);\n", WRITE_PROPERTIES_METHOD, chunk));
+    }
+    text.append(String.format("@Override\npublic void serialize(%1$s value, %2$s generator, %3$s provider)"
+                              + " throws %4$s {\ngenerator.writeStartObject();\n%5$sgenerator.writeEndObject();\n}\n",
+      instanceType,
+      generator,
+      provider,
+      ioException,
+      writeProperties));
+    // As Jackson's bean serializer does, so that polymorphic type handling still applies.
+    text.append(String.format("@Override\npublic void serializeWithType(%1$s value, %2$s generator, %3$s provider,"
+                              + " %4$s typeSerializer) throws %5$s {\n"
+                              + "%6$s typeId = typeSerializer.writeTypePrefix(generator,"
+                              + " typeSerializer.typeId(value, %7$s.START_OBJECT));\n"
+                              + "%8$stypeSerializer.writeTypeSuffix(generator, typeId);\n}\n",
+      instanceType,
+      generator,
+      provider,
+      names.reference(DATABIND + "jsontype.TypeSerializer"),
+      ioException,
+      names.reference(CORE + "type.WritableTypeId"),
+      names.reference(CORE + "JsonToken"),
+      writeProperties));
+
+    for (int chunk = 0; chunk * PROPERTIES_PER_METHOD < properties.size(); chunk++) {
+      text.append(String.format("private static void %1$s%2$d(%3$s value, %4$s generator, %5$s provider)"
+                                + " throws %6$s {\n",
+        WRITE_PROPERTIES_METHOD,
+        chunk,
+        instanceType,
+        generator,
+        provider,
+        ioException));
+      int end = Math.min(properties.size(), (chunk + 1) * PROPERTIES_PER_METHOD);
+      for (int index = chunk * PROPERTIES_PER_METHOD; index < end; index++) {
+        text.append("generator.writeFieldName(").append(constants.get(index)).append(");\n");
+        text.append(properties.get(index).write);
+      }
+      text.append("}\n");
+    }
+    return text.append("}").toString();
+  }
+
+  /**
+   * Statements writing a value: directly for the types that can be, otherwise through the serializer Jackson has for
+   * its runtime class, which also writes a null.
+   *
+   * @param nullable Whether the value may be null. Primitives never are.
+   */
+  String writeValue(String type, String value, boolean nullable) {
+    String direct = DIRECT_WRITES.get(type);
+    if (direct == null) {
+      return serializeValue(value);
+    }
+    String write = String.format(direct, value);
+    if (!nullable || BOXED_TYPES.containsKey(type)) {
+      return write + "\n";
+    }
+    return String.format("if (%1$s == null) {\n  generator.writeNull();\n} else {\n  %2$s\n}\n", value, write);
+  }
+
+  /**
+   * Statements writing an Optional, as Jackson's Jdk8Module does: the value if present, otherwise null.
+   */
+  String writeOptional(String elementType, String optional) {
+    return orNull(optional + " != null && " + optional + ".isPresent()",
+      writeValue(elementType, optional + ".get()", false));
+  }
+
+  /**
+   * Statements writing an OptionalInt, OptionalLong or OptionalDouble: the value if present, otherwise null.
+   *
+   * @param primitive int, long or double.
+   */
+  String writePrimitiveOptional(String primitive, String optional) {
+    String getter = "getAs" + Character.toUpperCase(primitive.charAt(0)) + primitive.substring(1);
+    return orNull(optional + " != null && " + optional + ".isPresent()",
+      String.format("generator.writeNumber(%1$s.%2$s());\n", optional, getter));
+  }
+
+  /**
+   * Statements writing a primitive the instance holds unwrapped, if its presence bit is set, otherwise null.
+   */
+  String writePresent(String presence, String value) {
+    return orNull(presence, "generator.writeNumber(" + value + ");\n");
+  }
+
+  /**
+   * Statements writing a List or Set as an array, element by element.
+   */
+  String writeElements(String elementType, String collection) {
+    String loopType = DIRECT_WRITES.containsKey(elementType) ? elementType : "Object";
+    return orNull(collection + " != null",
+      String.format("generator.writeStartArray();\nfor (%1$s element : %2$s) {\n%3$s}\n"
+                    + "generator.writeEndArray();\n",
+        loopType,
+        collection,
+        writeValue(loopType, "element", true)));
+  }
+
+  /**
+   * Statements writing a Map as an object, entry by entry. Only String keys are written directly; a map with any other
+   * key type goes to Jackson whole, as it converts the keys.
+   */
+  String writeEntries(String keyType, String valueType, String map) {
+    if (!"String".equals(keyType) && !"java.lang.String".equals(keyType)) {
+      return serializeValue(map);
+    }
+    String entryValueType = DIRECT_WRITES.containsKey(valueType) ? valueType : "?";
+    return orNull(map + " != null",
+      String.format("generator.writeStartObject();\nfor (%1$s.Entry<String, %2$s> entry : %3$s.entrySet()) {\n"
+                    + "generator.writeFieldName(entry.getKey());\n%4$s}\ngenerator.writeEndObject();\n",
+        names.reference("java.util.Map"),
+        entryValueType,
+        map,
+        writeValue(DIRECT_WRITES.containsKey(valueType) ? valueType : "Object", "entry.getValue()", true)));
+  }
+
+  private static String serializeValue(String value) {
+    return "provider.defaultSerializeValue(" + value + ", generator);\n";
+  }
+
+  private static String orNull(String condition, String write) {
+    return String.format("if (%1$s) {\n%2$s} else {\n  generator.writeNull();\n}\n", condition, write);
+  }
+
+  /**
+   * FIRST_NAME for firstName.
+   */
+  private static String constantName(String fieldName) {
+    StringBuilder name = new StringBuilder();
+    for (int i = 0; i < fieldName.length(); i++) {
+      char c = fieldName.charAt(i);
+      if (Character.isUpperCase(c) && i > 0 && !Character.isUpperCase(fieldName.charAt(i - 1))) {
+        name.append('_');
+      }
+      name.append(Character.toUpperCase(c));
+    }
+    return name.toString();
+  }
+
+  private String read(Property property, String token) {
+    String fallback = store(property, "(" + boxed(property.fallbackType) + ") read(parser, context, "
+                                      + deserializerField(property) + ")");
+    String[] direct = DIRECT_READS.get(property.type);
+    if (direct == null) {
+      return fallback + "\n";
+    }
+    StringBuilder condition = new StringBuilder();
+    for (String directToken : direct[0].split(" ")) {
+      condition.append(condition.length() > 0 ? " || " : "").append("token == ").append(token).append('.')
+        .append(directToken);
+    }
+    return String.format("if (%1$s) {\n  %2$s\n} else {\n  %3$s\n}\n",
+      condition,
+      store(property, String.format(direct[1], token)),
+      fallback);
+  }
+
+  private static String store(Property property, String value) {
+    return property.assigned
+           ? String.format("builder.%1$s = %2$s;", property.fieldName, value)
+           : String.format("builder.%1$s(%2$s);", property.fieldName, value);
+  }
+
+  private String javaType(String type) {
+    if (type.indexOf('<') < 0) {
+      return "context.constructType(" + type + ".class)";
+    }
+    return "context.getTypeFactory().constructType(new " + names.reference(CORE + "type.TypeReference") + "<" + type
+           + ">() {})";
+  }
+
+  private static String deserializerField(Property property) {
+    return property.fieldName + "Deserializer";
+  }
+
+  private static String boxed(String type) {
+    return BOXED_TYPES.getOrDefault(type, type);
+  }
+}
@@ -0,0 +1,163 @@
+package com.geoffgranum.plugin.builder.core.generate;
+
+import com.geoffgranum.plugin.builder.core.model.FieldKind;
+import com.geoffgranum.plugin.builder.core.model.PrimitiveCollectionType;
+
+/**
+ * The source text for accumulating a {@link PrimitiveCollectionType} in a builder: the mutable collection the builder
+ * holds, and the immutable or unmodifiable one the instance gets. Each comes from the same library as the declared
+ * type.
+ *
+ * @author ggranum
+ */
+final class PrimitiveCollectionSyntax {
+
+  private static final String ECLIPSE_IMPL = "org.eclipse.collections.impl.";
+
+  final PrimitiveCollectionType type;
+
+  private final TypeNames names;
+
+  PrimitiveCollectionSyntax(PrimitiveCollectionType type, TypeNames names) {
+    this.type = type;
+    this.names = names;
+  }
+
+  boolean isMap() {
+    return type.structure == FieldKind.MAP;
+  }
+
+  /**
+   * The type of the builder field.
+   */
+  String storageType() {
+    if (type.library == PrimitiveCollectionType.Library.GUAVA) {
+      // Referenced through its outer class: a nested 'Builder' would clash with the builder being generated.
+      return guavaArray() + ".Builder";
+    }
+    return names.reference(storageClass());
+  }
+
+  /**
+   * A new, empty storage collection.
+   *
+   * @param capacity The expected size expression, or an empty string for the library's default.
+   */
+  String newStorage(String capacity) {
+    if (type.library == PrimitiveCollectionType.Library.GUAVA) {
+      return guavaArray() + ".builder(" + capacity + ")";
+    }
+    return "new " + names.reference(storageClass()) + "(" + capacity + ")";
+  }
+
+  /**
+   * A new storage collection holding the elements of 'value', which is of the field's declared type.
+   */
+  String storageFrom(String value) {
+    switch (type.library) {
+      case GUAVA:
+        return guavaArray() + ".builder().addAll(" + value + ")";
+      case ECLIPSE_COLLECTIONS:
+        if (type.structure == FieldKind.MAP) {
+          return "new " + names.reference(storageClass()) + "(" + value + ")";
+        }
+        return names.reference(storageClass()) + (type.structure == FieldKind.LIST ? ".newList(" : ".newSet(")
+               + value + ")";
+      default:
+        return "new " + names.reference(storageClass()) + "(" + value + ")";
+    }
+  }
+
+  /**
+   * A new storage collection holding the elements of another builder's storage.
+   */
+  String copyStorage(String storage) {
+    return storageFrom(type.library == PrimitiveCollectionType.Library.GUAVA ? storage + ".build()" : storage);
+  }
+
+  /**
+   * The value the instance gets: a copy the builder can't reach, so that using the builder again doesn't change it.
+   */
+  String freeze(String storage) {
+    switch (type.library) {
+      case GUAVA:
+        return storage + ".build()";
+      case ECLIPSE_COLLECTIONS:
+        return storage + ".toImmutable()";
+      default:
+        return names.reference(fastutilUtilityClass()) + ".unmodifiable(" + storageFrom(storage) + ")";
+    }
+  }
+
+  /**
+   * The shared empty instance, for a field never set.
+   */
+  String empty() {
+    switch (type.library) {
+      case GUAVA:
+        return guavaArray() + ".of()";
+      case ECLIPSE_COLLECTIONS:
+        return names.reference(ECLIPSE_IMPL + "factory.primitive." + stem() + plural()) + ".immutable.empty()";
+      default:
+        // EMPTY_LIST, EMPTY_SET or EMPTY_MAP.
+        return names.reference(fastutilUtilityClass()) + ".EMPTY_" + type.structure.name();
+    }
+  }
+
+  private String guavaArray() {
+    String prefix = PrimitiveCollectionType.prefix(type.elementType);
+    return names.reference("com.google.common.primitives.Immutable" + prefix + "Array");
+  }
+
+  private String storageClass() {
+    if (type.library == PrimitiveCollectionType.Library.ECLIPSE_COLLECTIONS) {
+      switch (type.structure) {
+        case LIST:
+          return ECLIPSE_IMPL + "list.mutable.primitive." + stem() + "ArrayList";
+        case SET:
+          return ECLIPSE_IMPL + "set.mutable.primitive." + stem() + "HashSet";
+        default:
+          return ECLIPSE_IMPL + "map.mutable.primitive." + stem() + "HashMap";
+      }
+    }
+    switch (type.structure) {
+      case LIST:
+        return PrimitiveCollectionType.fastutilPackage(type.elementType) + stem() + "ArrayList";
+      case SET:
+        return PrimitiveCollectionType.fastutilPackage(type.elementType) + stem() + "OpenHashSet";
+      default:
+        return PrimitiveCollectionType.fastutilPackage(type.elementType) + stem() + "OpenHashMap";
+    }
+  }
+
+  /**
+   * IntLists, LongSets, Int2DoubleMaps and so on.
+   */
+  private String fastutilUtilityClass() {
+    return PrimitiveCollectionType.fastutilPackage(type.elementType) + stem() + plural();
+  }
+
+  private String plural() {
+    switch (type.structure) {
+      case LIST:
+        return "Lists";
+      case SET:
+        return "Sets";
+      default:
+        return "Maps";
+    }
+  }
+
+  /**
+   * The name shared by the library's classes for this element type: "Int", or for maps "Int2Double" in fastutil and
+   * "IntDouble" in Eclipse Collections.
+   */
+  private String stem() {
+    String prefix = PrimitiveCollectionType.prefix(type.elementType);
+    if (type.structure != FieldKind.MAP) {
+      return prefix;
+    }
+    String separator = type.library == PrimitiveCollectionType.Library.FASTUTIL ? "2" : "";
+    return prefix + separator + PrimitiveCollectionType.prefix(type.valueType);
+  }
+}
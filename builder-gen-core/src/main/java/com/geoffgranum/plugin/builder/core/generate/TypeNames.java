@@ -0,0 +1,19 @@
+package com.geoffgranum.plugin.builder.core.generate;
+
+/**
+ * How the emitter refers to the library types it introduces (Guava collections, Optional, Jackson...).
+ *
+ * @author ggranum
+ */
+public interface TypeNames {
+
+  /**
+   * Always the fully qualified name; for callers that shorten references afterwards, as the IDE does.
+   */
+  TypeNames QUALIFIED = qualifiedName -> qualifiedName;
+
+  /**
+   * @return The text to use for a reference to the type in the generated source.
+   */
+  String reference(String qualifiedName);
+}
@@ -0,0 +1,24 @@
+package com.geoffgranum.plugin.builder.core.model;
+
+/**
+ * An annotation on a field, as written in the source.
+ *
+ * @author ggranum
+ */
+public final class AnnotationModel {
+
+  /**
+   * Fully qualified, when it could be resolved; otherwise as written.
+   */
+  public final String qualifiedName;
+
+  /**
+   * The complete annotation source text, e.g. {@code @Size(max = 10)}.
+   */
+  public final String text;
+
+  public AnnotationModel(String qualifiedName, String text) {
+    this.qualifiedName = qualifiedName;
+    this.text = text;
+  }
+}
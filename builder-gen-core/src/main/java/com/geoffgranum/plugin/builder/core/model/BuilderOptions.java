@@ -0,0 +1,297 @@
+package com.geoffgranum.plugin.builder.core.model;
+
+/**
+ * What to generate, beyond the builder's fields and setters.
+ *
+ * @author ggranum
+ */
+public final class BuilderOptions {
+
+  public final boolean implementJackson;
+
+  public final boolean generateToJsonMethod;
+
+  public final boolean generateFromJsonMethod;
+
+  public final boolean copyFieldAnnotations;
+
+  public final boolean implementValidated;
+
+  public final boolean generateExampleCodeComment;
+
+  public final boolean createCopyMethod;
+
+  public final boolean useSpork;
+
+  /**
+   * Keep primitive fields primitive in the builder, rather than boxing them, and track which have been set in a
+   * bitmask. A required primitive that was never set then fails the build.
+   */
+  public final boolean primitiveBuilderFields;
+
+  /**
+   * Hold collection fields in Guava Immutable builders, with add/addAll (put/putAll) methods and an expected size
+   * hint, so build() creates each collection once instead of copying the caller's.
+   */
+  public final boolean collectionAdders;
+
+  /**
+   * Copy collection fields into JDK immutable collections rather than Guava's. How depends on {@link #languageLevel}.
+   */
+  public final boolean jdkCollections;
+
+  /**
+   * Accumulate primitive collection fields (fastutil, Eclipse Collections, Guava's Immutable*Array) in a mutable
+   * collection of the same library, with add/addAll (put/putAll) methods, and freeze them in the instance ctor.
+   */
+  public final boolean primitiveCollections;
+
+  /**
+   * Hold List, Set and Map fields of Integer, Long and Double in fastutil's primitive collections, in the builder and
+   * in the instance.
+   */
+  public final boolean primitiveBackedCollections;
+
+  /**
+   * Store Optional, OptionalInt, OptionalLong and OptionalDouble fields in the instance unwrapped, as the nullable
+   * element or as a primitive with a presence bit, behind accessors that create the Optional when asked. Rewrites the
+   * field declarations, so nested builders only.
+   */
+  public final boolean unwrappedOptionals;
+
+  /**
+   * Give the builder a static pooled() factory, handing out one builder per thread, reset before each use.
+   */
+  public final boolean pooledBuilder;
+
+  /**
+   * With {@link #implementJackson}, deserialize through a generated streaming deserializer nested in the builder,
+   * registered with {@code @JsonDeserialize(using = ...)}, rather than through Jackson's reflective builder support.
+   */
+  public final boolean streamingDeserializer;
+
+  /**
+   * With {@link #implementJackson}, serialize through a generated serializer nested in the builder, writing each field
+   * straight to the generator under a pre-encoded name, registered with {@code @JsonSerialize(using = ...)}.
+   */
+  public final boolean streamingSerializer;
+
+  /**
+   * The Java release the generated code compiles against, as a feature number: 8, 11, 17 and so on.
+   */
+  public final int languageLevel;
+
+  private BuilderOptions(Builder builder) {
+    implementJackson = builder.implementJackson;
+    generateToJsonMethod = builder.generateToJsonMethod;
+    generateFromJsonMethod = builder.generateFromJsonMethod;
+    copyFieldAnnotations = builder.copyFieldAnnotations;
+    implementValidated = builder.implementValidated;
+    generateExampleCodeComment = builder.generateExampleCodeComment;
+    createCopyMethod = builder.createCopyMethod;
+    useSpork = builder.useSpork;
+    primitiveBuilderFields = builder.primitiveBuilderFields;
+    collectionAdders = builder.collectionAdders;
+    jdkCollections = builder.jdkCollections;
+    primitiveCollections = builder.primitiveCollections;
+    primitiveBackedCollections = builder.primitiveBackedCollections;
+    unwrappedOptionals = builder.unwrappedOptionals;
+    pooledBuilder = builder.pooledBuilder;
+    streamingDeserializer = builder.streamingDeserializer;
+    streamingSerializer = builder.streamingSerializer;
+    languageLevel = builder.languageLevel;
+  }
+
+  public String utilBaseClassPath() {
+    return useSpork ? "com.geoffgranum.spork.common" : "com.geoffgranum.uttu.core";
+  }
+
+  public String fromJsonExceptionClass() {
+    return utilBaseClassPath() + ".exception.FormattedException";
+  }
+
+  public String toJsonExceptionClass() {
+    return utilBaseClassPath() + ".exception.FormattedException";
+  }
+
+  public static final class Builder {
+    private boolean implementJackson;
+
+    private boolean generateToJsonMethod;
+
+    private boolean generateFromJsonMethod;
+
+    private boolean copyFieldAnnotations;
+
+    private boolean implementValidated;
+
+    private boolean generateExampleCodeComment;
+
+    private boolean createCopyMethod;
+
+    private boolean useSpork;
+
+    private boolean primitiveBuilderFields;
+
+    private boolean collectionAdders;
+
+    private boolean jdkCollections;
+
+    private boolean primitiveCollections;
+
+    private boolean primitiveBackedCollections;
+
+    private boolean unwrappedOptionals;
+
+    private boolean pooledBuilder;
+
+    private boolean streamingDeserializer;
+
+    private boolean streamingSerializer;
+
+    private int languageLevel = 8;
+
+    public Builder() {
+    }
+
+    /**
+     * Set an option by its name, as used on the command line: the name of the matching Builder method.
+     *
+     * @throws IllegalArgumentException if there is no such option.
+     */
+    public Builder option(String name, boolean value) {
+      switch (name) {
+        case "implementJackson":
+          return implementJackson(value);
+        case "generateToJsonMethod":
+          return generateToJsonMethod(value);
+        case "generateFromJsonMethod":
+          return generateFromJsonMethod(value);
+        case "copyFieldAnnotations":
+          return copyFieldAnnotations(value);
+        case "implementValidated":
+          return implementValidated(value);
+        case "generateExampleCodeComment":
+          return generateExampleCodeComment(value);
+        case "createCopyMethod":
+          return createCopyMethod(value);
+        case "useSpork":
+          return useSpork(value);
+        case "primitiveBuilderFields":
+          return primitiveBuilderFields(value);
+        case "collectionAdders":
+          return collectionAdders(value);
+        case "jdkCollections":
+          return jdkCollections(value);
+        case "primitiveCollections":
+          return primitiveCollections(value);
+        case "primitiveBackedCollections":
+          return primitiveBackedCollections(value);
+        case "unwrappedOptionals":
+          return unwrappedOptionals(value);
+        case "pooledBuilder":
+          return pooledBuilder(value);
+        case "streamingDeserializer":
+          return streamingDeserializer(value);
+        case "streamingSerializer":
+          return streamingSerializer(value);
+        default:
+          throw new IllegalArgumentException("Unknown option: " + name);
+      }
+    }
+
+    public Builder implementJackson(boolean implementJackson) {
+      this.implementJackson = implementJackson;
+      return this;
+    }
+
+    public Builder generateToJsonMethod(boolean generateToJsonMethod) {
+      this.generateToJsonMethod = generateToJsonMethod;
+      return this;
+    }
+
+    public Builder generateFromJsonMethod(boolean generateFromJsonMethod) {
+      this.generateFromJsonMethod = generateFromJsonMethod;
+      return this;
+    }
+
+    public Builder copyFieldAnnotations(boolean copyFieldAnnotations) {
+      this.copyFieldAnnotations = copyFieldAnnotations;
+      return this;
+    }
+
+    public Builder implementValidated(boolean implementValidated) {
+      this.implementValidated = implementValidated;
+      return this;
+    }
+
+    public Builder generateExampleCodeComment(boolean generateExampleCodeComment) {
+      this.generateExampleCodeComment = generateExampleCodeComment;
+      return this;
+    }
+
+    public Builder createCopyMethod(boolean createCopyMethod) {
+      this.createCopyMethod = createCopyMethod;
+      return this;
+    }
+
+    public Builder useSpork(boolean useSpork) {
+      this.useSpork = useSpork;
+      return this;
+    }
+
+    public Builder primitiveBuilderFields(boolean primitiveBuilderFields) {
+      this.primitiveBuilderFields = primitiveBuilderFields;
+      return this;
+    }
+
+    public Builder collectionAdders(boolean collectionAdders) {
+      this.collectionAdders = collectionAdders;
+      return this;
+    }
+
+    public Builder jdkCollections(boolean jdkCollections) {
+      this.jdkCollections = jdkCollections;
+      return this;
+    }
+
+    public Builder primitiveCollections(boolean primitiveCollections) {
+      this.primitiveCollections = primitiveCollections;
+      return this;
+    }
+
+    public Builder primitiveBackedCollections(boolean primitiveBackedCollections) {
+      this.primitiveBackedCollections = primitiveBackedCollections;
+      return this;
+    }
+
+    public Builder unwrappedOptionals(boolean unwrappedOptionals) {
+      this.unwrappedOptionals = unwrappedOptionals;
+      return this;
+    }
+
+    public Builder pooledBuilder(boolean pooledBuilder) {
+      this.pooledBuilder = pooledBuilder;
+      return this;
+    }
+
+    public Builder streamingDeserializer(boolean streamingDeserializer) {
+      this.streamingDeserializer = streamingDeserializer;
+      return this;
+    }
+
+    public Builder streamingSerializer(boolean streamingSerializer) {
+      this.streamingSerializer = streamingSerializer;
+      return this;
+    }
+
+    public Builder languageLevel(int languageLevel) {
+      this.languageLevel = languageLevel;
+      return this;
+    }
+
+    public BuilderOptions build() {
+      return new BuilderOptions(this);
+    }
+  }
+}
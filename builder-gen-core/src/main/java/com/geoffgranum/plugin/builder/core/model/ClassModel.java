@@ -0,0 +1,85 @@
+package com.geoffgranum.plugin.builder.core.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The class a builder is generated for, and the fields the builder sets.
+ *
+ * @author ggranum
+ */
+public final class ClassModel {
+
+  public static final String BUILDER_CLASS_NAME = "Builder";
+
+  public final String simpleName;
+
+  public final String qualifiedName;
+
+  public final List<FieldModel> fields;
+
+  /**
+   * Whether the builder is a top level class beside the instance class, rather than nested within it. A top level
+   * builder can't call a private constructor taking itself, so it builds through the instance class's constructor
+   * taking every field, in declaration order.
+   */
+  public final boolean topLevelBuilder;
+
+  public final String builderClassName;
+
+  private ClassModel(Builder builder) {
+    simpleName = builder.simpleName;
+    qualifiedName = builder.qualifiedName != null ? builder.qualifiedName : builder.simpleName;
+    fields = Collections.unmodifiableList(new ArrayList<>(builder.fields));
+    topLevelBuilder = builder.topLevelBuilder;
+    builderClassName = topLevelBuilder ? simpleName + BUILDER_CLASS_NAME : BUILDER_CLASS_NAME;
+  }
+
+  /**
+   * How code outside the builder refers to it, e.g. {@code Foo.Builder}.
+   */
+  public String builderReference() {
+    return topLevelBuilder ? builderClassName : simpleName + "." + builderClassName;
+  }
+
+  public static final class Builder {
+    private String simpleName;
+
+    private String qualifiedName;
+
+    private List<FieldModel> fields = Collections.emptyList();
+
+    private boolean topLevelBuilder;
+
+    public Builder() {
+    }
+
+    public Builder simpleName(String simpleName) {
+      this.simpleName = simpleName;
+      return this;
+    }
+
+    public Builder qualifiedName(String qualifiedName) {
+      this.qualifiedName = qualifiedName;
+      return this;
+    }
+
+    public Builder fields(List<FieldModel> fields) {
+      this.fields = fields;
+      return this;
+    }
+
+    public Builder topLevelBuilder(boolean topLevelBuilder) {
+      this.topLevelBuilder = topLevelBuilder;
+      return this;
+    }
+
+    public ClassModel build() {
+      if (simpleName == null) {
+        throw new IllegalStateException("A class needs a name.");
+      }
+      return new ClassModel(this);
+    }
+  }
+}
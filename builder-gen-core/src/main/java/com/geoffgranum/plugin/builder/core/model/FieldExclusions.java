@@ -0,0 +1,141 @@
+package com.geoffgranum.plugin.builder.core.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Which fields never get a builder method: by erased type, by name pattern, by annotation and by modifier. The
+ * defaults are the plugin's, and every generator starts from them: the plugin's project settings, the source file
+ * generator and the annotation processor. Non-final fields and fields initialized in their declaration are always
+ * excluded, regardless.
+ *
+ * The name patterns are compiled into a single regex, and the rest held in hash sets, so a field is checked against
+ * every rule with one lookup each.
+ *
+ * @author ggranum
+ */
+public final class FieldExclusions {
+
+  public static final List<String> DEFAULT_TYPES = Collections.unmodifiableList(Arrays.asList("org.apache.log4j.Logger",
+    "org.apache.logging.log4j.Logger",
+    "java.util.logging.Logger",
+    "org.slf4j.Logger",
+    "ch.qos.logback.classic.Logger",
+    "net.sf.microlog.core.Logger",
+    "org.apache.commons.logging.Log",
+    "org.pmw.tinylog.Logger",
+    "org.jboss.logging.Logger"));
+
+  /**
+   * Any all-uppercase (constant style) field.
+   */
+  public static final List<String> DEFAULT_NAME_PATTERNS = Collections.singletonList("\\P{Ll}+");
+
+  public static final List<String> DEFAULT_ANNOTATIONS = Collections.emptyList();
+
+  public static final List<String> DEFAULT_MODIFIERS = Collections.singletonList("static");
+
+  private static final FieldExclusions DEFAULTS = new Builder().build();
+
+  /**
+   * Qualified names, without type arguments.
+   */
+  public final Set<String> types;
+
+  public final List<String> namePatterns;
+
+  /**
+   * Qualified names, or the names as written for annotations that don't resolve.
+   */
+  public final Set<String> annotations;
+
+  /**
+   * Java keywords, e.g. 'static' or 'transient'.
+   */
+  public final List<String> modifiers;
+
+  private final Pattern names;
+
+  private FieldExclusions(Builder builder) {
+    types = Collections.unmodifiableSet(new HashSet<>(nonBlank(builder.types)));
+    namePatterns = Collections.unmodifiableList(nonBlank(builder.namePatterns));
+    annotations = Collections.unmodifiableSet(new HashSet<>(nonBlank(builder.annotations)));
+    modifiers = Collections.unmodifiableList(nonBlank(builder.modifiers));
+    names = namePatterns.isEmpty()
+            ? null
+            : Pattern.compile(namePatterns.stream()
+              .map(pattern -> "(?:" + pattern + ")")
+              .collect(Collectors.joining("|")));
+  }
+
+  public static FieldExclusions defaults() {
+    return DEFAULTS;
+  }
+
+  public boolean excludesName(String name) {
+    return names != null && names.matcher(name).matches();
+  }
+
+  public boolean excludesType(String erasedQualifiedName) {
+    return types.contains(erasedQualifiedName);
+  }
+
+  public boolean excludesAnnotation(String name) {
+    return annotations.contains(name);
+  }
+
+  public boolean excludesModifier(String modifier) {
+    return modifiers.contains(modifier);
+  }
+
+  private static List<String> nonBlank(Collection<String> values) {
+    return values.stream().map(String::trim).filter(value -> !value.isEmpty()).collect(Collectors.toList());
+  }
+
+  public static final class Builder {
+    private Collection<String> types = DEFAULT_TYPES;
+
+    private Collection<String> namePatterns = DEFAULT_NAME_PATTERNS;
+
+    private Collection<String> annotations = DEFAULT_ANNOTATIONS;
+
+    private Collection<String> modifiers = DEFAULT_MODIFIERS;
+
+    public Builder() {
+    }
+
+    public Builder types(Collection<String> types) {
+      this.types = new ArrayList<>(types);
+      return this;
+    }
+
+    public Builder namePatterns(Collection<String> namePatterns) {
+      this.namePatterns = new ArrayList<>(namePatterns);
+      return this;
+    }
+
+    public Builder annotations(Collection<String> annotations) {
+      this.annotations = new ArrayList<>(annotations);
+      return this;
+    }
+
+    public Builder modifiers(Collection<String> modifiers) {
+      this.modifiers = new ArrayList<>(modifiers);
+      return this;
+    }
+
+    /**
+     * @throws java.util.regex.PatternSyntaxException if any of the name patterns are invalid.
+     */
+    public FieldExclusions build() {
+      return new FieldExclusions(this);
+    }
+  }
+}
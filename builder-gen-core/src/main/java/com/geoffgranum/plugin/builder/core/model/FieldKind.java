@@ -0,0 +1,72 @@
+package com.geoffgranum.plugin.builder.core.model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * How a field's value is held in the builder and handed to the instance class.
+ *
+ * @author ggranum
+ */
+public enum FieldKind {
+  /**
+   * Any other reference type; copied across as is.
+   */
+  VALUE,
+  PRIMITIVE,
+  /**
+   * java.util.Optional: the builder holds the (nullable) element type.
+   */
+  OPTIONAL,
+  /**
+   * java.util.OptionalInt, OptionalLong or OptionalDouble. Copied across as is, unless stored unwrapped; see
+   * {@link BuilderOptions#unwrappedOptionals}.
+   */
+  PRIMITIVE_OPTIONAL,
+  /**
+   * java.util.List, or a plain java.util.Collection.
+   */
+  LIST,
+  SET,
+  MAP,
+  /**
+   * A collection of unboxed primitives; see {@link PrimitiveCollectionType}. Copied across as is, unless the builder
+   * accumulates it.
+   */
+  PRIMITIVE_COLLECTION;
+
+  private static final Map<String, FieldKind> KINDS_BY_DECLARED_TYPE = new HashMap<>();
+
+  static {
+    KINDS_BY_DECLARED_TYPE.put("java.util.Optional", OPTIONAL);
+    KINDS_BY_DECLARED_TYPE.put("java.util.OptionalInt", PRIMITIVE_OPTIONAL);
+    KINDS_BY_DECLARED_TYPE.put("java.util.OptionalLong", PRIMITIVE_OPTIONAL);
+    KINDS_BY_DECLARED_TYPE.put("java.util.OptionalDouble", PRIMITIVE_OPTIONAL);
+    KINDS_BY_DECLARED_TYPE.put("java.util.Collection", LIST);
+    KINDS_BY_DECLARED_TYPE.put("java.util.List", LIST);
+    KINDS_BY_DECLARED_TYPE.put("com.google.common.collect.ImmutableCollection", LIST);
+    KINDS_BY_DECLARED_TYPE.put("com.google.common.collect.ImmutableList", LIST);
+    KINDS_BY_DECLARED_TYPE.put("java.util.Set", SET);
+    KINDS_BY_DECLARED_TYPE.put("com.google.common.collect.ImmutableSet", SET);
+    KINDS_BY_DECLARED_TYPE.put("java.util.Map", MAP);
+    KINDS_BY_DECLARED_TYPE.put("com.google.common.collect.ImmutableMap", MAP);
+  }
+
+  public boolean isCollection() {
+    return this == LIST || this == SET || this == MAP;
+  }
+
+  /**
+   * The kind of a field declared with exactly this (erased) type, for callers that can't walk the type hierarchy.
+   * Only the types the generated code can hold are recognised: an ArrayList field, say, can't take an ImmutableList.
+   *
+   * @return The kind, or null if the type gets no special handling.
+   */
+  public static FieldKind ofDeclaredType(String qualifiedName) {
+    FieldKind kind = KINDS_BY_DECLARED_TYPE.get(qualifiedName);
+    if (kind == null && PrimitiveCollectionType.ofDeclaredType(qualifiedName) != null) {
+      return PRIMITIVE_COLLECTION;
+    }
+    return kind;
+  }
+}
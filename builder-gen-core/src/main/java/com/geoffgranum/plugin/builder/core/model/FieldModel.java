@@ -0,0 +1,181 @@
+package com.geoffgranum.plugin.builder.core.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A field of the instance class, reduced to what the emitter needs. Holds no IDE or parser types, so it can be
+ * built from PSI, from a parsed source file or from an annotation processor's element model alike.
+ *
+ * @author ggranum
+ */
+public final class FieldModel {
+
+  public final String name;
+
+  /**
+   * The declared type, e.g. {@code java.util.List<java.lang.String>}. Emitted as is, so it must be resolvable where
+   * the builder is written: fully qualified, or as written in the source file.
+   */
+  public final String type;
+
+  public final FieldKind kind;
+
+  /**
+   * The type arguments of {@link #type}, in the same form; e.g. the element type of an Optional.
+   */
+  public final List<String> typeArguments;
+
+  public final List<AnnotationModel> annotations;
+
+  public final boolean nullable;
+
+  /**
+   * Annotated as not null: the builder must be given a value. Only checked where the builder can tell an unset value
+   * from a default one; see {@link BuilderOptions#primitiveBuilderFields}.
+   */
+  public final boolean required;
+
+  /**
+   * How the builder reads the value from an instance, e.g. {@code getName()}; null to read the field directly.
+   */
+  public final String accessor;
+
+  /**
+   * What the field holds, when it is of kind {@link FieldKind#PRIMITIVE_COLLECTION}; null otherwise.
+   */
+  public final PrimitiveCollectionType primitiveCollection;
+
+  private FieldModel(Builder builder) {
+    name = builder.name;
+    type = builder.type;
+    kind = builder.kind;
+    typeArguments = Collections.unmodifiableList(new ArrayList<>(builder.typeArguments));
+    annotations = Collections.unmodifiableList(new ArrayList<>(builder.annotations));
+    nullable = builder.nullable;
+    required = builder.required;
+    accessor = builder.accessor;
+    primitiveCollection = builder.primitiveCollection;
+  }
+
+  /**
+   * The type of the value held by the builder: the element type of an Optional, otherwise the declared type.
+   */
+  public String valueType() {
+    return kind == FieldKind.OPTIONAL && !typeArguments.isEmpty() ? typeArguments.get(0) : type;
+  }
+
+  /**
+   * The type the instance holds when the field is stored unwrapped: the element type of an Optional, or the
+   * primitive of an OptionalInt, OptionalLong or OptionalDouble. See {@link BuilderOptions#unwrappedOptionals}.
+   */
+  public String unwrappedType() {
+    if (kind != FieldKind.PRIMITIVE_OPTIONAL) {
+      return valueType();
+    }
+    switch (type.substring(type.lastIndexOf('.') + 1)) {
+      case "OptionalInt":
+        return "int";
+      case "OptionalLong":
+        return "long";
+      default:
+        return "double";
+    }
+  }
+
+  public static final class Builder {
+    private String name;
+
+    private String type;
+
+    private FieldKind kind = FieldKind.VALUE;
+
+    private List<String> typeArguments = Collections.emptyList();
+
+    private List<AnnotationModel> annotations = Collections.emptyList();
+
+    private boolean nullable;
+
+    private boolean required;
+
+    private String accessor;
+
+    private PrimitiveCollectionType primitiveCollection;
+
+    /*
+      FieldModel fieldModel = new FieldModel.Builder()
+      .name( input.getName() )
+      .type( input.getType() )
+      .kind( input.getKind() )
+      .build();
+    */
+    public Builder() {
+    }
+
+    public Builder from(FieldModel copy) {
+      name = copy.name;
+      type = copy.type;
+      kind = copy.kind;
+      typeArguments = copy.typeArguments;
+      annotations = copy.annotations;
+      nullable = copy.nullable;
+      required = copy.required;
+      accessor = copy.accessor;
+      primitiveCollection = copy.primitiveCollection;
+      return this;
+    }
+
+    public Builder name(String name) {
+      this.name = name;
+      return this;
+    }
+
+    public Builder type(String type) {
+      this.type = type;
+      return this;
+    }
+
+    public Builder kind(FieldKind kind) {
+      this.kind = kind;
+      return this;
+    }
+
+    public Builder typeArguments(List<String> typeArguments) {
+      this.typeArguments = typeArguments;
+      return this;
+    }
+
+    public Builder annotations(List<AnnotationModel> annotations) {
+      this.annotations = annotations;
+      return this;
+    }
+
+    public Builder nullable(boolean nullable) {
+      this.nullable = nullable;
+      return this;
+    }
+
+    public Builder required(boolean required) {
+      this.required = required;
+      return this;
+    }
+
+    public Builder accessor(String accessor) {
+      this.accessor = accessor;
+      return this;
+    }
+
+    public Builder primitiveCollection(PrimitiveCollectionType primitiveCollection) {
+      this.primitiveCollection = primitiveCollection;
+      return this;
+    }
+
+    public FieldModel build() {
+      if (name == null || type == null) {
+        throw new IllegalStateException("A field needs both a name and a type.");
+      }
+      return new FieldModel(this);
+    }
+  }
+}
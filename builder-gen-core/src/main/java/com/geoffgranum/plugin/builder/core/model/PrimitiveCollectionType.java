@@ -0,0 +1,170 @@
+package com.geoffgranum.plugin.builder.core.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A collection specialized for primitive elements, so that its values aren't boxed: fastutil's IntList, LongSet,
+ * Long2DoubleMap and so on, their Eclipse Collections counterparts, or Guava's ImmutableIntArray family.
+ *
+ * Only int, long and double elements are recognised, and int or long map keys: the types Guava has arrays for, and
+ * the ones worth unboxing in practice.
+ *
+ * @author ggranum
+ */
+public final class PrimitiveCollectionType {
+
+  public enum Library {
+    FASTUTIL,
+    ECLIPSE_COLLECTIONS,
+    /**
+     * Guava's ImmutableIntArray, ImmutableLongArray and ImmutableDoubleArray. Lists only.
+     */
+    GUAVA
+  }
+
+  private static final String[] ELEMENT_TYPES = {"int", "long", "double"};
+
+  private static final String[] KEY_TYPES = {"int", "long"};
+
+  private static final Map<String, PrimitiveCollectionType> TYPES_BY_QUALIFIED_NAME = new HashMap<>();
+
+  private static final Map<String, String> UNBOXED_TYPES = new HashMap<>();
+
+  static {
+    for (String element : ELEMENT_TYPES) {
+      String prefix = prefix(element);
+      String fastutil = fastutilPackage(element);
+      register(fastutil + prefix + "List", Library.FASTUTIL, FieldKind.LIST, element, null);
+      register(fastutil + prefix + "Set", Library.FASTUTIL, FieldKind.SET, element, null);
+      for (String immutable : new String[]{"", "Immutable"}) {
+        register("org.eclipse.collections.api.list.primitive." + immutable + prefix + "List",
+          Library.ECLIPSE_COLLECTIONS,
+          FieldKind.LIST,
+          element,
+          null);
+        register("org.eclipse.collections.api.set.primitive." + immutable + prefix + "Set",
+          Library.ECLIPSE_COLLECTIONS,
+          FieldKind.SET,
+          element,
+          null);
+      }
+      register("com.google.common.primitives.Immutable" + prefix + "Array",
+        Library.GUAVA,
+        FieldKind.LIST,
+        element,
+        null);
+      UNBOXED_TYPES.put(element.equals("int") ? "Integer" : prefix, element);
+    }
+    for (String key : KEY_TYPES) {
+      for (String value : ELEMENT_TYPES) {
+        register(fastutilPackage(key) + prefix(key) + "2" + prefix(value) + "Map",
+          Library.FASTUTIL,
+          FieldKind.MAP,
+          key,
+          value);
+        for (String immutable : new String[]{"", "Immutable"}) {
+          register("org.eclipse.collections.api.map.primitive." + immutable + prefix(key) + prefix(value) + "Map",
+            Library.ECLIPSE_COLLECTIONS,
+            FieldKind.MAP,
+            key,
+            value);
+        }
+      }
+    }
+  }
+
+  /**
+   * The declared type, e.g. {@code it.unimi.dsi.fastutil.ints.IntList}.
+   */
+  public final String qualifiedName;
+
+  public final Library library;
+
+  /**
+   * LIST, SET or MAP.
+   */
+  public final FieldKind structure;
+
+  /**
+   * The primitive element type, or the key type of a map.
+   */
+  public final String elementType;
+
+  /**
+   * The primitive value type of a map; null for lists and sets.
+   */
+  public final String valueType;
+
+  private PrimitiveCollectionType(String qualifiedName,
+                                  Library library,
+                                  FieldKind structure,
+                                  String elementType,
+                                  String valueType) {
+    this.qualifiedName = qualifiedName;
+    this.library = library;
+    this.structure = structure;
+    this.elementType = elementType;
+    this.valueType = valueType;
+  }
+
+  /**
+   * @return The type declared with exactly this (erased) name, or null if it isn't one of ours.
+   */
+  public static PrimitiveCollectionType ofDeclaredType(String qualifiedName) {
+    return TYPES_BY_QUALIFIED_NAME.get(qualifiedName);
+  }
+
+  /**
+   * The fastutil type that can hold a boxed List, Set or Map field without boxing, e.g. an IntList for a
+   * {@code List<Integer>}. fastutil's collections implement the java.util interfaces, so they can be assigned to the
+   * field as they are.
+   *
+   * @param typeArguments The field's type arguments, simple or qualified.
+   * @return The type, or null if the elements (or keys and values) aren't all Integer, Long or Double.
+   */
+  public static PrimitiveCollectionType forBoxedElements(FieldKind kind, List<String> typeArguments) {
+    if (kind == FieldKind.MAP && typeArguments.size() == 2) {
+      String key = unboxed(typeArguments.get(0));
+      String value = unboxed(typeArguments.get(1));
+      if (key == null || value == null) {
+        return null;
+      }
+      return ofDeclaredType(fastutilPackage(key) + prefix(key) + "2" + prefix(value) + "Map");
+    }
+    if ((kind == FieldKind.LIST || kind == FieldKind.SET) && typeArguments.size() == 1) {
+      String element = unboxed(typeArguments.get(0));
+      if (element == null) {
+        return null;
+      }
+      return ofDeclaredType(fastutilPackage(element) + prefix(element) + (kind == FieldKind.LIST ? "List" : "Set"));
+    }
+    return null;
+  }
+
+  private static void register(String qualifiedName,
+                               Library library,
+                               FieldKind structure,
+                               String elementType,
+                               String valueType) {
+    TYPES_BY_QUALIFIED_NAME.put(qualifiedName,
+      new PrimitiveCollectionType(qualifiedName, library, structure, elementType, valueType));
+  }
+
+  private static String unboxed(String typeArgument) {
+    String simpleName = typeArgument.startsWith("java.lang.") ? typeArgument.substring(10) : typeArgument;
+    return UNBOXED_TYPES.get(simpleName);
+  }
+
+  /**
+   * "Int" for int, and so on: how all three libraries name their specializations.
+   */
+  public static String prefix(String primitive) {
+    return Character.toUpperCase(primitive.charAt(0)) + primitive.substring(1);
+  }
+
+  public static String fastutilPackage(String primitive) {
+    return "it.unimi.dsi.fastutil." + primitive + "s.";
+  }
+}
@@ -0,0 +1,93 @@
+package com.geoffgranum.plugin.builder.core.source;
+
+import com.geoffgranum.plugin.builder.core.model.FieldExclusions;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the field exclusions the plugin stores for a project, in '.idea/builderGen.xml', so that generating from the
+ * command line excludes the same fields as generating in the IDE. The IDE leaves out any list still at its default,
+ * and so does this: a list not in the file is the default one.
+ *
+ * @author ggranum
+ */
+final class FieldExclusionsFile {
+
+  /**
+   * The name the plugin's settings component is stored under.
+   */
+  private static final String COMPONENT = "BuilderGenFieldExclusions";
+
+  private FieldExclusionsFile() {
+  }
+
+  static FieldExclusions read(Path file) throws IOException {
+    Element component = component(file);
+    FieldExclusions.Builder exclusions = new FieldExclusions.Builder();
+    if (component == null) {
+      return exclusions.build();
+    }
+    for (Element option : children(component, "option")) {
+      List<Element> lists = children(option, "list");
+      if (lists.isEmpty()) {
+        continue;
+      }
+      List<String> values = new ArrayList<>();
+      for (Element value : children(lists.get(0), "option")) {
+        values.add(value.getAttribute("value"));
+      }
+      switch (option.getAttribute("name")) {
+        case "excludedTypes":
+          exclusions.types(values);
+          break;
+        case "excludedNamePatterns":
+          exclusions.namePatterns(values);
+          break;
+        case "excludedAnnotations":
+          exclusions.annotations(values);
+          break;
+        case "excludedModifiers":
+          exclusions.modifiers(values);
+          break;
+        default:
+          break;
+      }
+    }
+    return exclusions.build();
+  }
+
+  private static Element component(Path file) throws IOException {
+    try {
+      DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+      factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+      Element root = factory.newDocumentBuilder().parse(file.toFile()).getDocumentElement();
+      for (Element component : children(root, "component")) {
+        if (COMPONENT.equals(component.getAttribute("name"))) {
+          return component;
+        }
+      }
+      return null;
+    } catch (ParserConfigurationException | SAXException e) {
+      throw new IOException(file + ": " + e.getMessage(), e);
+    }
+  }
+
+  private static List<Element> children(Element parent, String tagName) {
+    List<Element> result = new ArrayList<>();
+    NodeList nodes = parent.getChildNodes();
+    for (int i = 0; i < nodes.getLength(); i++) {
+      if (nodes.item(i) instanceof Element && ((Element) nodes.item(i)).getTagName().equals(tagName)) {
+        result.add((Element) nodes.item(i));
+      }
+    }
+    return result;
+  }
+}
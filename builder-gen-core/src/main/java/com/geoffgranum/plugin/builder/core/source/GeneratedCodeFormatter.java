@@ -0,0 +1,232 @@
+package com.geoffgranum.plugin.builder.core.source;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.regex.Pattern;
+
+/**
+ * Lays out the emitter's text, which leaves formatting to its callers: a statement, an opening brace or a closing one
+ * ends its line, lines are indented by their brace depth, and the members of a class are a blank line apart. It
+ * doesn't parse the text, which would cost more than the rest of the generation, so it only knows enough Java to
+ * skip literals and comments.
+ *
+ * @author ggranum
+ */
+final class GeneratedCodeFormatter {
+
+  private static final Pattern TYPE_DECLARATION = Pattern.compile("(^|\\s)(class|interface|enum|record)\\s");
+
+  /**
+   * The words after a closing brace that continue its statement.
+   */
+  private static final Pattern CONTINUATION = Pattern.compile("(else|catch|finally|while)\\b.*", Pattern.DOTALL);
+
+  private final String indent;
+
+  private final String step;
+
+  private final String eol;
+
+  private final StringBuilder text = new StringBuilder();
+
+  private final StringBuilder line = new StringBuilder();
+
+  /**
+   * For each open brace, whether it opened the body of a type, whose members are a blank line apart.
+   */
+  private final Deque<Boolean> bodies = new ArrayDeque<>();
+
+  /**
+   * For each open brace, the parentheses open where it was.
+   */
+  private final Deque<Integer> outerParens = new ArrayDeque<>();
+
+  private int parens;
+
+  private boolean memberEnded;
+
+  private boolean inComment;
+
+  /**
+   * @param indent The indentation of the member, which every line after its first gets.
+   * @param step One level of indentation.
+   */
+  private GeneratedCodeFormatter(String indent, String step, String eol) {
+    this.indent = indent;
+    this.step = step;
+    this.eol = eol;
+  }
+
+  /**
+   * The member laid out with the given indentation on every line after its first, which goes where the caller puts
+   * it.
+   */
+  static String format(String member, String indent, String step, String eol) {
+    GeneratedCodeFormatter formatter = new GeneratedCodeFormatter(indent, step, eol);
+    formatter.scan(member.trim());
+    return formatter.text.toString();
+  }
+
+  private void scan(String source) {
+    int length = source.length();
+    for (int i = 0; i < length; i++) {
+      char c = source.charAt(i);
+      if (inComment) {
+        if (c == '\n' || c == '\r') {
+          endLine();
+        } else if (c == '*' && i + 1 < length && source.charAt(i + 1) == '/') {
+          line.append("*/");
+          i++;
+          inComment = false;
+        } else {
+          appendChar(c);
+        }
+        continue;
+      }
+      switch (c) {
+        case '\n':
+        case '\r':
+          endLine();
+          break;
+        case '"':
+        case '\'':
+          i = appendLiteral(source, i);
+          break;
+        case '/':
+          if (i + 1 < length && source.charAt(i + 1) == '/') {
+            int end = source.indexOf('\n', i);
+            end = end < 0 ? length : end;
+            line.append(source, i, end);
+            i = end - 1;
+          } else if (i + 1 < length && source.charAt(i + 1) == '*') {
+            line.append("/*");
+            i++;
+            inComment = true;
+          } else {
+            line.append(c);
+          }
+          break;
+        case '(':
+          parens++;
+          line.append(c);
+          break;
+        case ')':
+          parens--;
+          line.append(c);
+          break;
+        case ';':
+          line.append(c);
+          if (parens == 0) {
+            endLine();
+            memberEnded = inBody();
+          }
+          break;
+        case '{':
+          int next = skipSpaces(source, i + 1);
+          if (next < length && source.charAt(next) == '}') {
+            line.append("{}");
+            i = afterClosingBrace(source, next);
+            break;
+          }
+          boolean typeBody = TYPE_DECLARATION.matcher(line).find();
+          line.append(c);
+          endLine();
+          bodies.push(typeBody);
+          outerParens.push(parens);
+          parens = 0;
+          break;
+        case '}':
+          endLine();
+          if (!bodies.isEmpty()) {
+            bodies.pop();
+            parens = outerParens.pop();
+          }
+          line.append(c);
+          i = afterClosingBrace(source, i);
+          break;
+        default:
+          appendChar(c);
+      }
+    }
+    endLine();
+  }
+
+  /**
+   * End the line after the closing brace at the index unless what follows continues its statement.
+   *
+   * @return The index to carry on scanning after.
+   */
+  private int afterClosingBrace(String source, int brace) {
+    int next = skipSpaces(source, brace + 1);
+    if (next < source.length()) {
+      char c = source.charAt(next);
+      if (c == ';' || c == ',' || c == ')' || c == '.') {
+        return next - 1;
+      }
+      if (CONTINUATION.matcher(source).region(next, source.length()).lookingAt()) {
+        line.append(' ');
+        return next - 1;
+      }
+    }
+    endLine();
+    memberEnded = inBody();
+    return brace;
+  }
+
+  /**
+   * Append the string or character literal starting at the index.
+   *
+   * @return The index of its closing quote.
+   */
+  private int appendLiteral(String source, int start) {
+    char quote = source.charAt(start);
+    int i = start + 1;
+    while (i < source.length() && source.charAt(i) != quote) {
+      i += source.charAt(i) == '\\' ? 2 : 1;
+    }
+    int end = Math.min(i, source.length() - 1);
+    line.append(source, start, end + 1);
+    return end;
+  }
+
+  /**
+   * Append the character, dropping the whitespace at the start of a line.
+   */
+  private void appendChar(char c) {
+    if (line.length() > 0 || !Character.isWhitespace(c)) {
+      line.append(c);
+    }
+  }
+
+  private void endLine() {
+    String content = line.toString().trim();
+    line.setLength(0);
+    if (content.isEmpty()) {
+      return;
+    }
+    if (text.length() > 0) {
+      if (memberEnded && !content.startsWith("}")) {
+        text.append(eol);
+      }
+      text.append(eol).append(indent);
+      int levels = bodies.size() + (content.startsWith(".") ? 2 : 0);
+      for (int i = 0; i < levels; i++) {
+        text.append(step);
+      }
+    }
+    memberEnded = false;
+    text.append(content.startsWith("*") ? " " + content : content);
+  }
+
+  private boolean inBody() {
+    return !bodies.isEmpty() && bodies.peek();
+  }
+
+  private static int skipSpaces(String source, int from) {
+    int i = from;
+    while (i < source.length() && Character.isWhitespace(source.charAt(i))) {
+      i++;
+    }
+    return i;
+  }
+}
@@ -0,0 +1,76 @@
+package com.geoffgranum.plugin.builder.core.source;
+
+import com.geoffgranum.plugin.builder.core.generate.TypeNames;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.ImportDeclaration;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Refers to types by simple name, recording the import the file needs, unless the simple name already means
+ * something else in that file; then the qualified name is used.
+ *
+ * @author ggranum
+ */
+final class ImportingTypeNames implements TypeNames {
+
+  private static final String JAVA_DOT_LANG = "java.lang.";
+
+  private final Map<String, String> imported = new HashMap<>();
+
+  private final Set<String> usedSimpleNames = new HashSet<>();
+
+  private final List<String> addedImports = new ArrayList<>();
+
+  /**
+   * Must be created before anything is generated into the file, so only the names the file already uses count.
+   */
+  ImportingTypeNames(CompilationUnit unit) {
+    for (ImportDeclaration importDeclaration : unit.getImports()) {
+      if (!importDeclaration.isStatic() && !importDeclaration.isAsterisk()) {
+        String name = importDeclaration.getNameAsString();
+        imported.put(SourceTypes.simpleName(name), name);
+      }
+    }
+    for (ClassOrInterfaceType type : unit.findAll(ClassOrInterfaceType.class)) {
+      if (!type.getScope().isPresent()) {
+        usedSimpleNames.add(type.getNameAsString());
+      }
+    }
+    for (TypeDeclaration<?> type : unit.findAll(TypeDeclaration.class)) {
+      usedSimpleNames.add(type.getNameAsString());
+    }
+  }
+
+  @Override
+  public String reference(String qualifiedName) {
+    String simpleName = SourceTypes.simpleName(qualifiedName);
+    if (qualifiedName.equals(JAVA_DOT_LANG + simpleName)) {
+      return simpleName;
+    }
+    String current = imported.get(simpleName);
+    if (current != null) {
+      return current.equals(qualifiedName) ? simpleName : qualifiedName;
+    }
+    if (usedSimpleNames.contains(simpleName)) {
+      return qualifiedName;
+    }
+    addedImports.add(qualifiedName);
+    imported.put(simpleName, qualifiedName);
+    return simpleName;
+  }
+
+  /**
+   * The imports the references made so far need that the file doesn't have, in the order they were needed.
+   */
+  List<String> addedImports() {
+    return addedImports;
+  }
+}
@@ -0,0 +1,575 @@
+package com.geoffgranum.plugin.builder.core.source;
+
+import com.geoffgranum.plugin.builder.core.generate.BuilderEmitter;
+import com.geoffgranum.plugin.builder.core.model.BuilderOptions;
+import com.geoffgranum.plugin.builder.core.model.ClassModel;
+import com.geoffgranum.plugin.builder.core.model.FieldExclusions;
+import com.geoffgranum.plugin.builder.core.model.FieldKind;
+import com.geoffgranum.plugin.builder.core.model.FieldModel;
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.JavaToken;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.Range;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.ConstructorDeclaration;
+import com.github.javaparser.ast.body.FieldDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.AnnotationExpr;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Generates or refreshes builders directly in Java source files, without an IDE: each file is parsed, the builder
+ * and its supporting members are emitted by the {@link BuilderEmitter}, and their text is spliced into the source at
+ * the ranges the parser found, so the rest of the file is left exactly as it was.
+ *
+ * As with the plugin, an existing builder is replaced, in place.
+ *
+ * @author ggranum
+ */
+public final class SourceBuilderGenerator {
+
+  private static final String USAGE =
+    "Usage: SourceBuilderGenerator [--<option>[=false]...] [--languageLevel=<n>] [--exclusions=<builderGen.xml>]"
+    + " <file or dir>...";
+
+  /**
+   * The indentation of a level, in a class with nothing to take it from.
+   */
+  private static final String DEFAULT_INDENT = "  ";
+
+  private final BuilderOptions options;
+
+  private final FieldExclusions exclusions;
+
+  private final ParserConfiguration configuration;
+
+  public SourceBuilderGenerator(BuilderOptions options) {
+    this(options, FieldExclusions.defaults());
+  }
+
+  public SourceBuilderGenerator(BuilderOptions options, FieldExclusions exclusions) {
+    this.options = options;
+    this.exclusions = exclusions;
+    // Only the members and their ranges are wanted: the validators and post processors of a language level would
+    // take as long as the rest of the parse, and the compiler checks the file anyway.
+    this.configuration = new ParserConfiguration().setLanguageLevel(ParserConfiguration.LanguageLevel.RAW);
+  }
+
+  /**
+   * @return The new source text, or empty if the file's first top level type isn't a class with fields to build.
+   */
+  public Optional<String> generate(String source) {
+    // Parsers aren't thread safe, and cheap to create.
+    JavaParser parser = new JavaParser(configuration);
+    CompilationUnit unit = parse(parser.parse(source), "source");
+    if (unit.getTypes().isEmpty() || !unit.getType(0).isClassOrInterfaceDeclaration()) {
+      return Optional.empty();
+    }
+    ClassOrInterfaceDeclaration clazz = unit.getType(0).asClassOrInterfaceDeclaration();
+    if (clazz.isInterface()) {
+      return Optional.empty();
+    }
+    ClassModel model = SourceClassModels.of(unit, clazz, new SourceTypes(unit), exclusions);
+    if (model.fields.isEmpty()) {
+      return Optional.empty();
+    }
+
+    ImportingTypeNames names = new ImportingTypeNames(unit);
+    BuilderEmitter emitter = new BuilderEmitter(options, names);
+    ClassEdits edits = new ClassEdits(parser, new SourceEdits(source), clazz);
+    if (!clazz.isFinal()) {
+      edits.makeFinal();
+    }
+    if (options.generateToJsonMethod) {
+      edits.replaceOrAdd(clazz.getMethodsByName("toJson"), emitter.toJsonMethod(model));
+    }
+    if (options.generateFromJsonMethod) {
+      edits.replaceOrAdd(clazz.getMethodsByName("fromJson"), emitter.fromJsonMethod(model));
+    }
+    edits.replaceOrAdd(findBuilders(clazz), emitter.builderClass(model));
+    edits.replaceOrAdd(findBuilderConstructors(clazz), emitter.instanceConstructor(model));
+    if (options.unwrappedOptionals) {
+      storeOptionalsUnwrapped(edits, clazz, model, emitter);
+    } else {
+      storeOptionalsWrapped(edits, clazz, model);
+    }
+    if (options.implementJackson) {
+      List<AnnotationExpr> deserializers =
+        findAnnotations(clazz, BuilderEmitter.JSON_DESERIALIZE_ANNOTATION, annotation -> true);
+      edits.replaceOrAddAnnotation(deserializers, emitter.jsonDeserializeAnnotation(model));
+    }
+    // The builder was replaced, so a registration of its serializer goes too; another serializer only for ours.
+    String serializer = model.builderClassName + "." + BuilderEmitter.SERIALIZER_CLASS_NAME + ".class";
+    List<AnnotationExpr> serializers = findAnnotations(clazz,
+      BuilderEmitter.JSON_SERIALIZE_ANNOTATION,
+      annotation -> emitter.generatesSerializer() || annotation.toString().contains(serializer));
+    if (emitter.generatesSerializer()) {
+      edits.replaceOrAddAnnotation(serializers, emitter.jsonSerializeAnnotation(model));
+    } else {
+      serializers.forEach(edits.source::remove);
+    }
+    // Last, as emitting the members is what finds the imports they need.
+    edits.addImports(unit, names.addedImports());
+    return Optional.of(edits.source.apply());
+  }
+
+  /**
+   * @return Whether the file was changed.
+   */
+  public boolean generate(Path file) throws IOException {
+    String source = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    Optional<String> generated = generate(source);
+    if (generated.isPresent() && !generated.get().equals(source)) {
+      Files.write(file, generated.get().getBytes(StandardCharsets.UTF_8));
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Declare the Optional fields held unwrapped with their unwrapped types, replace or add their accessors, and add the
+   * primitive optionals' presence bitmask fields after the last of them.
+   */
+  private static void storeOptionalsUnwrapped(ClassEdits edits,
+                                              ClassOrInterfaceDeclaration clazz,
+                                              ClassModel model,
+                                              BuilderEmitter emitter) {
+    SourceEdits source = edits.source;
+    Map<String, String> unwrapped = new LinkedHashMap<>();
+    for (FieldModel field : model.fields) {
+      if (emitter.unwrapsOptional(field)) {
+        unwrapped.put(field.name, field.unwrappedType());
+      }
+    }
+    Set<FieldDeclaration> redeclared = Collections.newSetFromMap(new IdentityHashMap<>());
+    int anchor = -1;
+    for (FieldModel field : model.fields) {
+      Optional<FieldDeclaration> found = clazz.getFieldByName(field.name);
+      if (!unwrapped.containsKey(field.name) || !found.isPresent()) {
+        continue;
+      }
+      // The declaration's other unwrapped fields are split off along with the first of them.
+      if (found.get().getVariables().size() == 1 || redeclared.add(found.get())) {
+        anchor = redeclare(edits, found.get(), unwrapped);
+      }
+      List<MethodDeclaration> accessors = clazz.getMethodsByName(field.name)
+        .stream()
+        .filter(method -> method.getParameters().isEmpty())
+        .collect(Collectors.toList());
+      edits.replaceOrAdd(accessors, emitter.optionalAccessor(model, field));
+    }
+    Set<String> presenceFields = new HashSet<>();
+    for (String text : emitter.instancePresenceFields(model)) {
+      FieldDeclaration wanted = (FieldDeclaration) edits.member(text);
+      presenceFields.add(wanted.getVariable(0).getNameAsString());
+      Optional<FieldDeclaration> current = clazz.getFieldByName(wanted.getVariable(0).getNameAsString());
+      if (current.isPresent()) {
+        edits.replaceOrAdd(Collections.singletonList(current.get()), text);
+        anchor = source.nextLineStart(source.end(current.get()));
+      } else if (anchor >= 0) {
+        source.insert(anchor, edits.eol + edits.indent + edits.print(text) + edits.eol);
+      } else {
+        edits.add(text);
+      }
+    }
+    removeInstancePresenceFieldsExcept(source, clazz, presenceFields);
+  }
+
+  /**
+   * Declare the fields held unwrapped as the Optionals they stand for again, now that Optionals are stored as they
+   * are. Their accessors return the field, and the presence bitmask fields go.
+   */
+  private static void storeOptionalsWrapped(ClassEdits edits, ClassOrInterfaceDeclaration clazz, ClassModel model) {
+    SourceEdits source = edits.source;
+    Map<String, String> wrapped = new LinkedHashMap<>();
+    for (FieldModel field : model.fields) {
+      if (field.kind == FieldKind.OPTIONAL || field.kind == FieldKind.PRIMITIVE_OPTIONAL) {
+        clazz.getFieldByName(field.name)
+          .flatMap(declaration -> declaration.getVariables()
+            .stream()
+            .filter(variable -> variable.getNameAsString().equals(field.name))
+            .findFirst())
+          .filter(variable -> !variable.getType().asString().equals(field.type))
+          .ifPresent(variable -> wrapped.put(field.name, field.type));
+      }
+    }
+    Set<FieldDeclaration> redeclared = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (Map.Entry<String, String> field : wrapped.entrySet()) {
+      FieldDeclaration declaration = clazz.getFieldByName(field.getKey()).orElseThrow(IllegalStateException::new);
+      if (declaration.getVariables().size() == 1 || redeclared.add(declaration)) {
+        redeclare(edits, declaration, wrapped);
+      }
+      for (MethodDeclaration accessor : clazz.getMethodsByName(field.getKey())) {
+        if (accessor.getParameters().isEmpty()
+            && accessor.getBody().isPresent()
+            && accessor.getType().asString().equals(field.getValue())) {
+          String indent = source.indentation(source.begin(accessor));
+          source.replace(accessor.getBody().get(),
+            "{" + edits.eol + indent + edits.step + "return " + field.getKey() + ";" + edits.eol + indent + "}");
+        }
+      }
+    }
+    removeInstancePresenceFieldsExcept(source, clazz, Collections.emptySet());
+  }
+
+  /**
+   * Remove the presence bitmask fields no longer wanted, along with the blank line they were added after.
+   */
+  private static void removeInstancePresenceFieldsExcept(SourceEdits source,
+                                                         ClassOrInterfaceDeclaration clazz,
+                                                         Set<String> wanted) {
+    for (FieldDeclaration declaration : clazz.getFields()) {
+      String name = declaration.getVariable(0).getNameAsString();
+      if (declaration.getVariables().size() == 1
+          && BuilderEmitter.isInstancePresenceField(name)
+          && !wanted.contains(name)) {
+        int begin = source.lineStart(source.begin(declaration));
+        if (begin > 0 && source.isBlankLine(begin - 1)) {
+          begin = source.lineStart(begin - 1);
+        }
+        source.replace(begin, source.nextLineStart(source.end(declaration)), "");
+      }
+    }
+  }
+
+  /**
+   * Give the declaration's fields named in 'types' the types mapped to them, keeping their modifiers and annotations.
+   *
+   * @return Where the members that follow them go.
+   */
+  private static int redeclare(ClassEdits edits, FieldDeclaration declaration, Map<String, String> types) {
+    SourceEdits source = edits.source;
+    if (declaration.getVariables().size() > 1) {
+      return redeclareEach(edits, declaration, types);
+    }
+    VariableDeclarator variable = declaration.getVariable(0);
+    String type = types.get(variable.getNameAsString());
+    if (!variable.getType().asString().equals(type)) {
+      source.replace(variable.getType(), type);
+    }
+    return source.nextLineStart(source.end(declaration));
+  }
+
+  /**
+   * Give each field of a declaration of several that is named in 'types' a declaration of its own, with its type and
+   * the same annotations and modifiers, ahead of the declaration of the rest. A declaration of only such fields is
+   * replaced by theirs.
+   *
+   * @return Where the members that follow them go.
+   */
+  private static int redeclareEach(ClassEdits edits, FieldDeclaration declaration, Map<String, String> types) {
+    SourceEdits source = edits.source;
+    StringBuilder prefix = new StringBuilder();
+    for (AnnotationExpr annotation : declaration.getAnnotations()) {
+      prefix.append(annotation).append(edits.eol).append(edits.indent);
+    }
+    for (Modifier modifier : declaration.getModifiers()) {
+      prefix.append(modifier.getKeyword().asString()).append(' ');
+    }
+    List<String> own = new ArrayList<>();
+    List<String> rest = new ArrayList<>();
+    for (VariableDeclarator variable : declaration.getVariables()) {
+      String type = types.get(variable.getNameAsString());
+      if (type != null) {
+        own.add(prefix + type + " " + variable.getNameAsString() + ";");
+      } else {
+        rest.add(source.text(variable));
+      }
+    }
+    String separator = edits.eol + edits.eol + edits.indent;
+    if (rest.isEmpty()) {
+      source.replace(declaration, String.join(separator, own));
+      return source.nextLineStart(source.end(declaration));
+    }
+    int before = source.lineStart(declaration.getComment().map(source::begin).orElse(source.begin(declaration)));
+    source.insert(before, edits.indent + String.join(separator, own) + edits.eol + edits.eol);
+    NodeList<VariableDeclarator> variables = declaration.getVariables();
+    source.replace(source.begin(variables.get(0)),
+      source.end(variables.get(variables.size() - 1)),
+      String.join(", ", rest));
+    return before;
+  }
+
+  private static List<TypeDeclaration<?>> findBuilders(ClassOrInterfaceDeclaration clazz) {
+    List<TypeDeclaration<?>> builders = new ArrayList<>();
+    for (BodyDeclaration<?> member : clazz.getMembers()) {
+      if (member.isTypeDeclaration()
+          && ClassModel.BUILDER_CLASS_NAME.equals(member.asTypeDeclaration().getNameAsString())) {
+        builders.add(member.asTypeDeclaration());
+      }
+    }
+    return builders;
+  }
+
+  private static List<ConstructorDeclaration> findBuilderConstructors(ClassOrInterfaceDeclaration clazz) {
+    return clazz.getConstructors()
+      .stream()
+      .filter(ctor -> ctor.getParameters().size() == 1
+                      && ClassModel.BUILDER_CLASS_NAME.equals(ctor.getParameter(0).getType().asString()))
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * The class's annotations of the type, by its simple or qualified name, that pass the filter.
+   */
+  private static List<AnnotationExpr> findAnnotations(ClassOrInterfaceDeclaration clazz,
+                                                      String qualifiedName,
+                                                      Predicate<AnnotationExpr> filter) {
+    return clazz.getAnnotations()
+      .stream()
+      .filter(annotation -> annotation.getNameAsString().equals(qualifiedName)
+                            || annotation.getNameAsString().equals(SourceTypes.simpleName(qualifiedName)))
+      .filter(filter)
+      .collect(Collectors.toList());
+  }
+
+  private static <T extends Node> T parse(ParseResult<T> result, String what) {
+    if (!result.isSuccessful() || !result.getResult().isPresent()) {
+      throw new IllegalArgumentException("Could not parse " + what + ": " + result.getProblems());
+    }
+    return result.getResult().get();
+  }
+
+  /**
+   * The edits to a class: the generated members are laid out with the indentation the class's members use, and
+   * spliced into the source in place of the ones they replace, or ahead of the class's closing brace.
+   */
+  private static final class ClassEdits {
+
+    final SourceEdits source;
+
+    final String eol;
+
+    /**
+     * The indentation of the class's members.
+     */
+    final String indent;
+
+    private final JavaParser parser;
+
+    private final ClassOrInterfaceDeclaration clazz;
+
+    /**
+     * One level of the class's indentation.
+     */
+    final String step;
+
+    ClassEdits(JavaParser parser, SourceEdits source, ClassOrInterfaceDeclaration clazz) {
+      this.parser = parser;
+      this.source = source;
+      this.clazz = clazz;
+      this.eol = source.lineSeparator();
+      String classIndent = source.indentation(source.begin(clazz));
+      String memberIndent = clazz.getMembers().isEmpty()
+                            ? classIndent + DEFAULT_INDENT
+                            : source.indentation(source.begin(clazz.getMember(0)));
+      String step = memberIndent.startsWith(classIndent) ? memberIndent.substring(classIndent.length()) : "";
+      if (step.isEmpty()) {
+        step = DEFAULT_INDENT;
+        memberIndent = classIndent + step;
+      }
+      this.indent = memberIndent;
+      this.step = step;
+    }
+
+    /**
+     * Declare the class final, ahead of the 'class' keyword.
+     */
+    void makeFinal() {
+      JavaToken token = clazz.getName().getTokenRange().orElseThrow(IllegalStateException::new).getBegin();
+      do {
+        token = token.getPreviousToken().orElseThrow(IllegalStateException::new);
+      } while (token.getCategory().isWhitespaceOrComment());
+      Range keyword = token.getRange().orElseThrow(IllegalStateException::new);
+      source.insert(source.offset(keyword.begin), Modifier.Keyword.FINAL.asString() + " ");
+    }
+
+    /**
+     * Replace the first of the existing members in place, removing any others, or add the member at the end. The
+     * existing member's comment is kept unless the generated one has its own.
+     */
+    void replaceOrAdd(List<? extends BodyDeclaration<?>> existing, String text) {
+      if (existing.isEmpty()) {
+        add(text);
+        return;
+      }
+      BodyDeclaration<?> current = existing.get(0);
+      int begin = isCommented(text) && current.getComment().isPresent()
+                  ? source.begin(current.getComment().get())
+                  : source.begin(current);
+      source.replace(begin, source.end(current), print(text));
+      for (int i = 1; i < existing.size(); i++) {
+        source.remove(existing.get(i));
+      }
+    }
+
+    /**
+     * Add the member ahead of the class's closing brace, after a blank line.
+     */
+    void add(String text) {
+      int brace = source.end(clazz) - 1;
+      int lineStart = source.lineStart(brace);
+      int at = source.indentation(brace).length() == brace - lineStart ? lineStart : brace;
+      source.insert(at, eol + indent + print(text) + eol);
+    }
+
+    private static boolean isCommented(String member) {
+      String text = member.trim();
+      return text.startsWith("/*") || text.startsWith("//");
+    }
+
+    /**
+     * Replace the first of the existing annotations in place, removing any others, or add the annotation ahead of
+     * the class's others.
+     */
+    void replaceOrAddAnnotation(List<AnnotationExpr> existing, String text) {
+      String annotation = parse(parser.parseAnnotation(text), "annotation").toString();
+      if (existing.isEmpty()) {
+        // Ahead of the 'final' of a class with no modifiers.
+        int begin = source.begin(clazz);
+        source.insertFirst(begin, annotation + eol + source.indentation(begin));
+        return;
+      }
+      source.replace(existing.get(0), annotation);
+      for (int i = 1; i < existing.size(); i++) {
+        source.remove(existing.get(i));
+      }
+    }
+
+    /**
+     * Add the imports after the file's others, or after its package declaration.
+     */
+    void addImports(CompilationUnit unit, List<String> imports) {
+      if (imports.isEmpty()) {
+        return;
+      }
+      StringBuilder text = new StringBuilder();
+      for (String name : imports) {
+        text.append("import ").append(name).append(';').append(eol);
+      }
+      // Ahead of an annotation added to a class declared on the next line.
+      if (!unit.getImports().isEmpty()) {
+        source.insertFirst(source.nextLineStart(source.end(unit.getImports().getLast().get())), text.toString());
+      } else if (unit.getPackageDeclaration().isPresent()) {
+        int at = source.nextLineStart(source.end(unit.getPackageDeclaration().get()));
+        source.insertFirst(at, eol + text + (source.isBlankLine(at) ? "" : eol));
+      } else {
+        source.insertFirst(0, text + eol);
+      }
+    }
+
+    BodyDeclaration<?> member(String text) {
+      return parse(parser.parseBodyDeclaration(text), "generated member");
+    }
+
+    /**
+     * The generated member, laid out with the class's indentation on every line after its first.
+     */
+    String print(String member) {
+      return GeneratedCodeFormatter.format(member, indent, step, eol);
+    }
+  }
+
+  /**
+   * Generates builders for every eligible class in the given files and directories, one file per task, across all
+   * cores. Fields are excluded as the plugin's settings in the given '.idea/builderGen.xml' say, or by the defaults.
+   */
+  public static void main(String[] args) throws Exception {
+    BuilderOptions.Builder options = new BuilderOptions.Builder();
+    FieldExclusions exclusions = FieldExclusions.defaults();
+    List<Path> roots = new ArrayList<>();
+    for (String arg : args) {
+      if (arg.startsWith("--")) {
+        int split = arg.indexOf('=');
+        String name = arg.substring(2, split < 0 ? arg.length() : split);
+        if (name.equals("languageLevel")) {
+          options.languageLevel(Integer.parseInt(arg.substring(split + 1)));
+        } else if (name.equals("exclusions")) {
+          exclusions = FieldExclusionsFile.read(Paths.get(arg.substring(split + 1)));
+        } else {
+          options.option(name, split < 0 || Boolean.parseBoolean(arg.substring(split + 1)));
+        }
+      } else {
+        roots.add(Paths.get(arg));
+      }
+    }
+    if (roots.isEmpty()) {
+      System.err.println(USAGE);
+      System.exit(1);
+    }
+
+    long start = System.nanoTime();
+    List<Path> files = new ArrayList<>();
+    for (Path root : roots) {
+      try (Stream<Path> paths = Files.walk(root)) {
+        paths.filter(path -> path.toString().endsWith(".java") && Files.isRegularFile(path)).forEach(files::add);
+      }
+    }
+
+    SourceBuilderGenerator generator = new SourceBuilderGenerator(options.build(), exclusions);
+    ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    int generated = 0;
+    int failed = 0;
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (Path file : files) {
+        results.add(executor.submit(() -> {
+          try {
+            return generator.generate(file);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          } catch (RuntimeException e) {
+            throw new IllegalStateException(file + ": " + e.getMessage(), e);
+          }
+        }));
+      }
+      for (Future<Boolean> result : results) {
+        try {
+          generated += result.get() ? 1 : 0;
+        } catch (ExecutionException e) {
+          failed++;
+          System.err.println(e.getCause().getMessage());
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+    System.out.printf("Generated %d builder(s) from %d file(s) in %d ms.%n",
+      generated,
+      files.size(),
+      (System.nanoTime() - start) / 1_000_000);
+    if (failed > 0) {
+      System.exit(1);
+    }
+  }
+}
@@ -0,0 +1,171 @@
+package com.geoffgranum.plugin.builder.core.source;
+
+import com.geoffgranum.plugin.builder.core.generate.BuilderEmitter;
+import com.geoffgranum.plugin.builder.core.model.AnnotationModel;
+import com.geoffgranum.plugin.builder.core.model.ClassModel;
+import com.geoffgranum.plugin.builder.core.model.FieldExclusions;
+import com.geoffgranum.plugin.builder.core.model.FieldKind;
+import com.geoffgranum.plugin.builder.core.model.FieldModel;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.FieldDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.AnnotationExpr;
+import com.github.javaparser.ast.type.Type;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Builds the {@link ClassModel} for a class from its parsed source, applying the plugin's field exclusions: non-final
+ * and initialized fields always, and the given {@link FieldExclusions}. Only the class's own fields are considered;
+ * superclasses are in other files.
+ *
+ * A field holding the unwrapped value of the Optional its accessor returns is modelled as that Optional, whether or
+ * not Optionals are still to be stored unwrapped, and the instance's presence bitmask fields are skipped.
+ *
+ * @author ggranum
+ */
+final class SourceClassModels {
+
+  private static final Set<String> NULLABLE_ANNOTATIONS = new HashSet<>(Arrays.asList("Nullable", "CheckForNull"));
+
+  private static final Set<String> NOT_NULL_ANNOTATIONS = new HashSet<>(Arrays.asList("NotNull", "Nonnull", "NonNull"));
+
+  private SourceClassModels() {
+  }
+
+  static ClassModel of(CompilationUnit unit,
+                       ClassOrInterfaceDeclaration clazz,
+                       SourceTypes types,
+                       FieldExclusions exclusions) {
+    List<FieldModel> fields = new ArrayList<>();
+    for (FieldDeclaration declaration : clazz.getFields()) {
+      if (!declaration.isFinal() || isExcluded(declaration, types, exclusions)) {
+        continue;
+      }
+      List<AnnotationModel> annotations = annotations(declaration, types);
+      boolean nullable = hasAnnotation(declaration, NULLABLE_ANNOTATIONS);
+      boolean required = hasAnnotation(declaration, NOT_NULL_ANNOTATIONS);
+      for (VariableDeclarator variable : declaration.getVariables()) {
+        String name = variable.getNameAsString();
+        if (variable.getInitializer().isPresent()
+            || exclusions.excludesName(name)
+            || exclusions.excludesType(erasedName(variable.getType(), types))
+            || BuilderEmitter.isInstancePresenceField(name)) {
+          continue;
+        }
+        FieldModel optional = unwrappedOptional(clazz, variable, annotations, nullable, required, types);
+        fields.add(optional != null
+                   ? optional
+                   : field(name, variable.getType(), annotations, nullable, required, types));
+      }
+    }
+    String packagePrefix = unit.getPackageDeclaration().map(p -> p.getNameAsString() + ".").orElse("");
+    return new ClassModel.Builder().simpleName(clazz.getNameAsString())
+      .qualifiedName(packagePrefix + clazz.getNameAsString())
+      .fields(fields)
+      .build();
+  }
+
+  /**
+   * The model of the Optional returned by the no argument method named for the field, if the field holds exactly its
+   * unwrapped value.
+   */
+  private static FieldModel unwrappedOptional(ClassOrInterfaceDeclaration clazz,
+                                              VariableDeclarator variable,
+                                              List<AnnotationModel> annotations,
+                                              boolean nullable,
+                                              boolean required,
+                                              SourceTypes types) {
+    String name = variable.getNameAsString();
+    for (MethodDeclaration method : clazz.getMethodsByName(name)) {
+      if (!method.getParameters().isEmpty()) {
+        continue;
+      }
+      FieldModel optional = field(name, method.getType(), annotations, nullable, required, types);
+      if ((optional.kind == FieldKind.OPTIONAL || optional.kind == FieldKind.PRIMITIVE_OPTIONAL)
+          && optional.unwrappedType().equals(variable.getType().asString())) {
+        return optional;
+      }
+    }
+    return null;
+  }
+
+  private static FieldModel field(String name,
+                                  Type type,
+                                  List<AnnotationModel> annotations,
+                                  boolean nullable,
+                                  boolean required,
+                                  SourceTypes types) {
+    List<String> typeArguments = new ArrayList<>();
+    if (type.isClassOrInterfaceType()) {
+      type.asClassOrInterfaceType()
+        .getTypeArguments()
+        .ifPresent(arguments -> arguments.forEach(argument -> typeArguments.add(argument.asString())));
+    }
+    FieldKind kind = types.kindOf(type);
+    if (kind == FieldKind.OPTIONAL && typeArguments.isEmpty()) {
+      // A raw Optional; nothing to unwrap.
+      kind = FieldKind.VALUE;
+    }
+    return new FieldModel.Builder().name(name)
+      .type(type.asString())
+      .kind(kind)
+      .typeArguments(typeArguments)
+      .annotations(annotations)
+      .nullable(nullable)
+      .required(required)
+      .primitiveCollection(types.primitiveCollectionOf(type))
+      .build();
+  }
+
+  private static List<AnnotationModel> annotations(FieldDeclaration declaration, SourceTypes types) {
+    List<AnnotationModel> result = new ArrayList<>();
+    for (AnnotationExpr annotation : declaration.getAnnotations()) {
+      result.add(new AnnotationModel(types.qualify(annotation.getNameAsString()), annotation.toString()));
+    }
+    return result;
+  }
+
+  private static boolean hasAnnotation(FieldDeclaration declaration, Set<String> simpleNames) {
+    for (AnnotationExpr annotation : declaration.getAnnotations()) {
+      if (simpleNames.contains(SourceTypes.simpleName(annotation.getNameAsString()))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Whether the declaration has an excluded modifier or annotation. Annotations match by their qualified name as far
+   * as the imports resolve it, or as written.
+   */
+  private static boolean isExcluded(FieldDeclaration declaration, SourceTypes types, FieldExclusions exclusions) {
+    for (Modifier modifier : declaration.getModifiers()) {
+      if (exclusions.excludesModifier(modifier.getKeyword().asString())) {
+        return true;
+      }
+    }
+    if (!exclusions.annotations.isEmpty()) {
+      for (AnnotationExpr annotation : declaration.getAnnotations()) {
+        String name = annotation.getNameAsString();
+        if (exclusions.excludesAnnotation(name) || exclusions.excludesAnnotation(types.qualify(name))) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static String erasedName(Type type, SourceTypes types) {
+    return type.isClassOrInterfaceType()
+           ? types.qualify(type.asClassOrInterfaceType().getNameWithScope())
+           : type.asString();
+  }
+}
@@ -0,0 +1,187 @@
+package com.geoffgranum.plugin.builder.core.source;
+
+import com.github.javaparser.Position;
+import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Replacements, insertions and removals of source text, found by the ranges of the parsed nodes and applied all at
+ * once. The text around them is left exactly as it was.
+ *
+ * @author ggranum
+ */
+final class SourceEdits {
+
+  private final String source;
+
+  private final int[] lineStarts;
+
+  private final List<Edit> edits = new ArrayList<>();
+
+  SourceEdits(String source) {
+    this.source = source;
+    List<Integer> starts = new ArrayList<>();
+    starts.add(0);
+    for (int i = 0; i < source.length(); i++) {
+      char c = source.charAt(i);
+      if (c == '\n' || (c == '\r' && (i + 1 == source.length() || source.charAt(i + 1) != '\n'))) {
+        starts.add(i + 1);
+      }
+    }
+    lineStarts = starts.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  /**
+   * The line separator the file uses.
+   */
+  String lineSeparator() {
+    int newline = source.indexOf('\n');
+    return newline > 0 && source.charAt(newline - 1) == '\r' ? "\r\n" : "\n";
+  }
+
+  /**
+   * The offset of the first character of the node.
+   */
+  int begin(Node node) {
+    return offset(range(node).begin);
+  }
+
+  /**
+   * The offset just past the last character of the node.
+   */
+  int end(Node node) {
+    return offset(range(node).end) + 1;
+  }
+
+  /**
+   * The node's source text.
+   */
+  String text(Node node) {
+    return source.substring(begin(node), end(node));
+  }
+
+  /**
+   * The offset of the start of the line holding the offset.
+   */
+  int lineStart(int offset) {
+    int line = Arrays.binarySearch(lineStarts, offset);
+    return lineStarts[line >= 0 ? line : -line - 2];
+  }
+
+  /**
+   * The offset of the start of the line after the one holding the offset, or the end of the source.
+   */
+  int nextLineStart(int offset) {
+    int line = Arrays.binarySearch(lineStarts, offset);
+    int next = (line >= 0 ? line : -line - 2) + 1;
+    return next < lineStarts.length ? lineStarts[next] : source.length();
+  }
+
+  /**
+   * Whether the line holding the offset holds only whitespace.
+   */
+  boolean isBlankLine(int offset) {
+    int start = lineStart(offset);
+    return source.substring(start, nextLineStart(start)).trim().isEmpty();
+  }
+
+  /**
+   * The whitespace that indents the line holding the offset.
+   */
+  String indentation(int offset) {
+    int start = lineStart(offset);
+    int end = start;
+    while (end < source.length() && (source.charAt(end) == ' ' || source.charAt(end) == '\t')) {
+      end++;
+    }
+    return source.substring(start, end);
+  }
+
+  void replace(Node node, String text) {
+    replace(begin(node), end(node), text);
+  }
+
+  void replace(int begin, int end, String text) {
+    edits.add(new Edit(begin, end, text, edits.size()));
+  }
+
+  void insert(int offset, String text) {
+    replace(offset, offset, text);
+  }
+
+  /**
+   * Insert the text ahead of anything inserted at the offset before it.
+   */
+  void insertFirst(int offset, String text) {
+    edits.add(new Edit(offset, offset, text, -edits.size() - 1));
+  }
+
+  /**
+   * Remove the node and its comment, along with the lines they were on if nothing else was.
+   */
+  void remove(Node node) {
+    int begin = node.getComment().map(this::begin).orElse(begin(node));
+    int end = end(node);
+    if (source.substring(lineStart(begin), begin).trim().isEmpty()) {
+      begin = lineStart(begin);
+      int nextLine = nextLineStart(end);
+      end = source.substring(end, nextLine).trim().isEmpty() ? nextLine : end;
+    }
+    replace(begin, end, "");
+  }
+
+  /**
+   * @return The source with every edit made. Insertions at the same offset keep the order they were made in, unless
+   * inserted first, ahead of a removal starting there.
+   */
+  String apply() {
+    List<Edit> sorted = new ArrayList<>(edits);
+    sorted.sort(Comparator.comparingInt((Edit edit) -> edit.begin)
+      .thenComparing(edit -> edit.end > edit.begin)
+      .thenComparingInt(edit -> edit.order));
+    StringBuilder text = new StringBuilder(source.length() + 4096);
+    int cursor = 0;
+    for (Edit edit : sorted) {
+      if (edit.begin < cursor) {
+        throw new IllegalStateException("Overlapping edits at offset " + edit.begin);
+      }
+      text.append(source, cursor, edit.begin).append(edit.text);
+      cursor = edit.end;
+    }
+    return text.append(source, cursor, source.length()).toString();
+  }
+
+  /**
+   * The offset of the position, in the parser's lines and columns.
+   */
+  int offset(Position position) {
+    return lineStarts[position.line - 1] + position.column - 1;
+  }
+
+  private static Range range(Node node) {
+    return node.getRange().orElseThrow(() -> new IllegalArgumentException("No source range for " + node));
+  }
+
+  private static final class Edit {
+
+    final int begin;
+
+    final int end;
+
+    final String text;
+
+    final int order;
+
+    Edit(int begin, int end, String text, int order) {
+      this.begin = begin;
+      this.end = end;
+      this.text = text;
+      this.order = order;
+    }
+  }
+}
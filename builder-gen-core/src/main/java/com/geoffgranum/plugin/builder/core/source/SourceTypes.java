@@ -0,0 +1,86 @@
+package com.geoffgranum.plugin.builder.core.source;
+
+import com.geoffgranum.plugin.builder.core.model.FieldKind;
+import com.geoffgranum.plugin.builder.core.model.PrimitiveCollectionType;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.ImportDeclaration;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.Type;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves type names in a single source file from its imports alone, without a classpath. Good enough to
+ * recognise the JDK and Guava types that get special handling; anything else is left as written.
+ *
+ * @author ggranum
+ */
+final class SourceTypes {
+
+  private final Map<String, String> singleTypeImports = new HashMap<>();
+
+  private final Set<String> onDemandImports = new HashSet<>();
+
+  SourceTypes(CompilationUnit unit) {
+    for (ImportDeclaration importDeclaration : unit.getImports()) {
+      if (importDeclaration.isStatic()) {
+        continue;
+      }
+      String name = importDeclaration.getNameAsString();
+      if (importDeclaration.isAsterisk()) {
+        onDemandImports.add(name);
+      } else {
+        singleTypeImports.put(simpleName(name), name);
+      }
+    }
+  }
+
+  /**
+   * @return The qualified name of the type, or its name as written if it can't be resolved.
+   */
+  String qualify(String name) {
+    if (name.indexOf('.') >= 0) {
+      return name;
+    }
+    String imported = singleTypeImports.get(name);
+    if (imported != null) {
+      return imported;
+    }
+    for (String packageName : onDemandImports) {
+      String candidate = packageName + "." + name;
+      if (FieldKind.ofDeclaredType(candidate) != null) {
+        return candidate;
+      }
+    }
+    return name;
+  }
+
+  FieldKind kindOf(Type type) {
+    if (type.isPrimitiveType()) {
+      return FieldKind.PRIMITIVE;
+    }
+    if (!type.isClassOrInterfaceType()) {
+      return FieldKind.VALUE;
+    }
+    ClassOrInterfaceType classType = type.asClassOrInterfaceType();
+    FieldKind kind = FieldKind.ofDeclaredType(qualify(classType.getNameWithScope()));
+    return kind != null ? kind : FieldKind.VALUE;
+  }
+
+  /**
+   * @return The primitive collection the type is, or null.
+   */
+  PrimitiveCollectionType primitiveCollectionOf(Type type) {
+    if (!type.isClassOrInterfaceType()) {
+      return null;
+    }
+    return PrimitiveCollectionType.ofDeclaredType(qualify(type.asClassOrInterfaceType().getNameWithScope()));
+  }
+
+  static String simpleName(String qualifiedName) {
+    return qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+  }
+}
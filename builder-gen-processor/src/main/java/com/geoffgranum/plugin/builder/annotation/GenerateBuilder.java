@@ -0,0 +1,96 @@
+package com.geoffgranum.plugin.builder.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generate a builder for this class at compile time: a top level {@code <ClassName>Builder} in the same package.
+ *
+ * The class must declare a constructor taking each of its buildable fields (final, non-static, not initialized in
+ * the declaration), in declaration order, visible from its package. The builder's build() method calls it.
+ *
+ * The attributes mirror the plugin's options. The toJson/fromJson methods aren't available here, as an annotation
+ * processor can't add methods to an existing class; add {@code @JsonDeserialize(builder = FooBuilder.class)}
+ * by hand to deserialize through the builder.
+ *
+ * @author ggranum
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateBuilder {
+
+  /**
+   * Annotate the builder fields with {@code @JsonProperty}.
+   */
+  boolean generateJsonAnnotations() default false;
+
+  /**
+   * Copy the annotations of each field onto its builder field.
+   */
+  boolean copyFieldAnnotations() default false;
+
+  /**
+   * Extend the Uttu (or Spork) Validated class, and validate in build().
+   */
+  boolean implementValidated() default false;
+
+  /**
+   * Generate the from(instance) and copy() methods. The builder reads each field directly, or through an accessor
+   * named for it ({@code name()}, {@code getName()} or {@code isName()}) if the field is private.
+   */
+  boolean generateCopyMethod() default false;
+
+  boolean generateExampleCodeComment() default false;
+
+  /**
+   * Use the deprecated Spork project rather than Uttu for Validated and the exceptions.
+   */
+  boolean useSpork() default false;
+
+  /**
+   * Keep primitive fields unboxed in the builder, tracking which were set in a bitmask. Primitives annotated as not
+   * null must then be set before build().
+   */
+  boolean primitiveBuilderFields() default false;
+
+  /**
+   * Hold collection fields in Guava Immutable builders, adding add/addAll (put/putAll) and expected size methods.
+   */
+  boolean collectionAdders() default false;
+
+  /**
+   * Copy collections with the JDK's List/Set/Map.copyOf rather than Guava's, or into unmodifiable copies when the
+   * source level is below Java 10.
+   */
+  boolean jdkCollections() default false;
+
+  /**
+   * Fill fastutil, Eclipse Collections and Guava Immutable*Array fields through add/addAll (put/putAll) methods, and
+   * freeze them in build().
+   */
+  boolean primitiveCollections() default false;
+
+  /**
+   * Hold List, Set and Map fields of Integer, Long and Double in fastutil's primitive collections. Needs fastutil.
+   */
+  boolean primitiveBackedCollections() default false;
+
+  /**
+   * Add a static pooled() method to the builder, returning the calling thread's builder, reset.
+   */
+  boolean pooledBuilder() default false;
+
+  /**
+   * With generateJsonAnnotations, add a streaming Jackson deserializer to the builder, as PersonBuilder.Deserializer.
+   * Register it on the model with {@code @JsonDeserialize(using = PersonBuilder.Deserializer.class)}.
+   */
+  boolean streamingDeserializer() default false;
+
+  /**
+   * With generateJsonAnnotations, add a streaming Jackson serializer to the builder, as PersonBuilder.Serializer.
+   * Register it on the model with {@code @JsonSerialize(using = PersonBuilder.Serializer.class)}.
+   */
+  boolean streamingSerializer() default false;
+}
@@ -0,0 +1,280 @@
+package com.geoffgranum.plugin.builder.processor;
+
+import com.geoffgranum.plugin.builder.annotation.GenerateBuilder;
+import com.geoffgranum.plugin.builder.core.generate.BuilderEmitter;
+import com.geoffgranum.plugin.builder.core.generate.TypeNames;
+import com.geoffgranum.plugin.builder.core.model.AnnotationModel;
+import com.geoffgranum.plugin.builder.core.model.BuilderOptions;
+import com.geoffgranum.plugin.builder.core.model.ClassModel;
+import com.geoffgranum.plugin.builder.core.model.FieldExclusions;
+import com.geoffgranum.plugin.builder.core.model.FieldKind;
+import com.geoffgranum.plugin.builder.core.model.FieldModel;
+import com.geoffgranum.plugin.builder.core.model.PrimitiveCollectionType;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates a top level builder for each class annotated with {@link GenerateBuilder}, with the same shape as the
+ * plugin's nested builders: the same fields, setters, immutable copies, Jackson annotations and Validated support.
+ *
+ * Isolating, in Gradle's terms: each builder is generated from its annotated class and that class's own members
+ * only, so a change to one model recompiles only that model's builder.
+ *
+ * @author ggranum
+ */
+@SupportedAnnotationTypes("com.geoffgranum.plugin.builder.annotation.GenerateBuilder")
+public class GenerateBuilderProcessor extends AbstractProcessor {
+
+  private static final FieldExclusions EXCLUSIONS = FieldExclusions.defaults();
+
+  private static final Set<String> NULLABLE_ANNOTATIONS = new HashSet<>(Arrays.asList("Nullable", "CheckForNull"));
+
+  private static final Set<String> NOT_NULL_ANNOTATIONS = new HashSet<>(Arrays.asList("NotNull", "Nonnull", "NonNull"));
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (Element element : roundEnv.getElementsAnnotatedWith(GenerateBuilder.class)) {
+      if (element.getKind() != ElementKind.CLASS) {
+        error(element, "@GenerateBuilder applies to classes only.");
+        continue;
+      }
+      TypeElement type = (TypeElement) element;
+      GenerateBuilder settings = type.getAnnotation(GenerateBuilder.class);
+      ClassModel model = classModel(type, settings.generateCopyMethod());
+      if (model != null && hasFieldsConstructor(type, model)) {
+        write(type, model, options(settings, processingEnv.getSourceVersion()));
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @param sourceVersion The compilation's -source (or --release) level; RELEASE_n is the n-th constant.
+   */
+  private static BuilderOptions options(GenerateBuilder settings, SourceVersion sourceVersion) {
+    return new BuilderOptions.Builder().implementJackson(settings.generateJsonAnnotations())
+      .copyFieldAnnotations(settings.copyFieldAnnotations())
+      .implementValidated(settings.implementValidated())
+      .createCopyMethod(settings.generateCopyMethod())
+      .generateExampleCodeComment(settings.generateExampleCodeComment())
+      .useSpork(settings.useSpork())
+      .primitiveBuilderFields(settings.primitiveBuilderFields())
+      .collectionAdders(settings.collectionAdders())
+      .jdkCollections(settings.jdkCollections())
+      .primitiveCollections(settings.primitiveCollections())
+      .primitiveBackedCollections(settings.primitiveBackedCollections())
+      .pooledBuilder(settings.pooledBuilder())
+      .streamingDeserializer(settings.streamingDeserializer())
+      .streamingSerializer(settings.streamingSerializer())
+      .languageLevel(sourceVersion.ordinal())
+      .build();
+  }
+
+  /**
+   * @return The model, or null if an error was reported.
+   */
+  private ClassModel classModel(TypeElement type, boolean needsAccessors) {
+    List<FieldModel> fields = new ArrayList<>();
+    boolean valid = true;
+    for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+      if (ignoringField(field)) {
+        continue;
+      }
+      String accessor = null;
+      if (needsAccessors && field.getModifiers().contains(Modifier.PRIVATE)) {
+        accessor = findAccessor(type, field);
+        if (accessor == null) {
+          error(field, "The builder's from() method can't read this private field. Make it package visible, add an "
+                       + "accessor, or turn off generateCopyMethod.");
+          valid = false;
+        }
+      }
+      fields.add(fieldModel(field, accessor));
+    }
+    if (fields.isEmpty()) {
+      error(type, "No fields to build: the builder sets the final, non-static fields that aren't initialized in "
+                  + "their declaration.");
+      return null;
+    }
+    return valid ? new ClassModel.Builder().simpleName(type.getSimpleName().toString())
+      .qualifiedName(type.getQualifiedName().toString())
+      .fields(fields)
+      .topLevelBuilder(true)
+      .build() : null;
+  }
+
+  /**
+   * The plugin's default exclusions. Fields initialized with anything other than a constant can't be seen here; the
+   * constructor check catches those.
+   */
+  private static boolean ignoringField(VariableElement field) {
+    Set<Modifier> modifiers = field.getModifiers();
+    if (!modifiers.contains(Modifier.FINAL)
+        || field.getConstantValue() != null
+        || EXCLUSIONS.excludesName(field.getSimpleName().toString())
+        || EXCLUSIONS.excludesType(erasedName(field.asType()))) {
+      return true;
+    }
+    for (Modifier modifier : modifiers) {
+      if (EXCLUSIONS.excludesModifier(modifier.toString())) {
+        return true;
+      }
+    }
+    for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+      if (EXCLUSIONS.excludesAnnotation(erasedName(annotation.getAnnotationType()))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private FieldModel fieldModel(VariableElement field, String accessor) {
+    TypeMirror type = field.asType();
+    List<String> typeArguments = new ArrayList<>();
+    if (type.getKind() == TypeKind.DECLARED) {
+      for (TypeMirror argument : ((DeclaredType) type).getTypeArguments()) {
+        typeArguments.add(argument.toString());
+      }
+    }
+    FieldKind kind;
+    if (type.getKind().isPrimitive()) {
+      kind = FieldKind.PRIMITIVE;
+    } else {
+      kind = FieldKind.ofDeclaredType(erasedName(type));
+      if (kind == null || (kind == FieldKind.OPTIONAL && typeArguments.isEmpty())) {
+        kind = FieldKind.VALUE;
+      }
+    }
+    List<AnnotationModel> annotations = new ArrayList<>();
+    boolean nullable = false;
+    boolean required = false;
+    for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+      TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+      annotations.add(new AnnotationModel(annotationType.getQualifiedName().toString(), annotation.toString()));
+      nullable |= NULLABLE_ANNOTATIONS.contains(annotationType.getSimpleName().toString());
+      required |= NOT_NULL_ANNOTATIONS.contains(annotationType.getSimpleName().toString());
+    }
+    return new FieldModel.Builder().name(field.getSimpleName().toString())
+      .type(type.toString())
+      .kind(kind)
+      .typeArguments(typeArguments)
+      .annotations(annotations)
+      .nullable(nullable)
+      .required(required)
+      .accessor(accessor)
+      .primitiveCollection(PrimitiveCollectionType.ofDeclaredType(erasedName(type)))
+      .build();
+  }
+
+  private String findAccessor(TypeElement type, VariableElement field) {
+    String name = field.getSimpleName().toString();
+    String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    List<String> candidates = Arrays.asList(name, "get" + capitalized, "is" + capitalized);
+    for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+      if (method.getParameters().isEmpty()
+          && !method.getModifiers().contains(Modifier.PRIVATE)
+          && !method.getModifiers().contains(Modifier.STATIC)
+          && candidates.contains(method.getSimpleName().toString())
+          && processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())) {
+        return method.getSimpleName() + "()";
+      }
+    }
+    return null;
+  }
+
+  private boolean hasFieldsConstructor(TypeElement type, ClassModel model) {
+    List<VariableElement> fields = new ArrayList<>();
+    Set<String> names = new HashSet<>();
+    for (FieldModel field : model.fields) {
+      names.add(field.name);
+    }
+    for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+      if (names.contains(field.getSimpleName().toString())) {
+        fields.add(field);
+      }
+    }
+    for (ExecutableElement ctor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+      if (!ctor.getModifiers().contains(Modifier.PRIVATE) && parametersMatch(ctor, fields)) {
+        return true;
+      }
+    }
+    StringBuilder expected = new StringBuilder();
+    for (FieldModel field : model.fields) {
+      expected.append(expected.length() > 0 ? ", " : "").append(field.type).append(' ').append(field.name);
+    }
+    error(type, "The generated builder needs a non-private constructor taking every buildable field, in order: "
+                + type.getSimpleName() + "(" + expected + ")");
+    return false;
+  }
+
+  private boolean parametersMatch(ExecutableElement ctor, List<VariableElement> fields) {
+    List<? extends VariableElement> parameters = ctor.getParameters();
+    if (parameters.size() != fields.size()) {
+      return false;
+    }
+    for (int i = 0; i < parameters.size(); i++) {
+      TypeMirror parameterType = processingEnv.getTypeUtils().erasure(parameters.get(i).asType());
+      TypeMirror fieldType = processingEnv.getTypeUtils().erasure(fields.get(i).asType());
+      if (!processingEnv.getTypeUtils().isSameType(parameterType, fieldType)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void write(TypeElement type, ClassModel model, BuilderOptions options) {
+    PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+    String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+    String builderName = packageName.isEmpty() ? model.builderClassName : packageName + "." + model.builderClassName;
+    StringBuilder source = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      source.append("package ").append(packageName).append(";\n\n");
+    }
+    source.append(new BuilderEmitter(options, TypeNames.QUALIFIED).builderClass(model)).append('\n');
+    // The annotated class is the only originating element, as an isolating processor requires.
+    try (Writer writer = processingEnv.getFiler().createSourceFile(builderName, type).openWriter()) {
+      writer.write(source.toString());
+    } catch (IOException e) {
+      error(type, "Could not write " + builderName + ": " + e.getMessage());
+    }
+  }
+
+  private static String erasedName(TypeMirror type) {
+    if (type.getKind() != TypeKind.DECLARED) {
+      return type.toString();
+    }
+    return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+  }
+
+  private void error(Element element, String message) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+}
@@ -1,6 +1,6 @@
 package com.geoffgranum.plugin.builder;
 
-import com.geoffgranum.plugin.builder.domain.GenerateBuilderDirective;
+import com.geoffgranum.plugin.builder.core.model.ClassModel;
 import com.intellij.ide.highlighter.JavaFileType;
 import com.intellij.openapi.fileTypes.FileType;
 import com.intellij.openapi.project.Project;
@@ -20,9 +20,9 @@ public class TypeGenerationUtil {
   private static final String JAVA_DOT_LANG = "java.lang.";
 
   @NonNls
-  public static final String BUILDER_CLASS_NAME = "Builder";
+  public static final String BUILDER_CLASS_NAME = ClassModel.BUILDER_CLASS_NAME;
 
-  private static PsiClass createClassFromText(String text, Project project) {
+  public static PsiClass createClassFromText(String text, Project project) {
     final FileType type = JavaFileType.INSTANCE;
     PsiJavaFile aFile = (PsiJavaFile)PsiFileFactory.getInstance(project).createFileFromText(DUMMY_FILE_NAME, type, text);
     final PsiClass[] classes = aFile.getClasses();
@@ -32,25 +32,11 @@ public class TypeGenerationUtil {
     return classes[0];
   }
 
-  public static PsiClass createBuilderClass(PsiClass clazz, GenerateBuilderDirective directive) {
-    PsiClass builderClass;
-    String builderClassBody;
-    if(directive.implementValidated) {
-      builderClassBody = "public static class %s extends "+ directive.utilBaseClassPath() +  ".validation.Validated {}";
-    } else {
-      builderClassBody = "public static class %s {}";
-    }
-    String body = String.format(builderClassBody, BUILDER_CLASS_NAME);
-    builderClass = createClassFromText(body, clazz.getProject());
-
-    // builder classes are static and final
-    PsiModifierList modifierList = builderClass.getModifierList();
-    if(modifierList == null) {
-      throw new IllegalStateException("No modifierList on new freshly minted class.");
-    }
-    modifierList.setModifierProperty(PsiModifier.STATIC, true);
-    modifierList.setModifierProperty(PsiModifier.FINAL, true);
-    return builderClass;
+  /**
+   * An empty builder class, to be filled in member by member.
+   */
+  public static PsiClass createBuilderClass(PsiClass clazz, String declaration) {
+    return createClassFromText(declaration + "}", clazz.getProject());
   }
 
   public static PsiElement addAnnotation(PsiClass target, String annotationText, PsiElementFactory psiElementFactory) {
@@ -1,14 +1,19 @@
 package com.geoffgranum.plugin.builder.action;
 
+import com.geoffgranum.plugin.builder.core.generate.BuilderEmitter;
+import com.geoffgranum.plugin.builder.core.generate.TypeNames;
+import com.geoffgranum.plugin.builder.core.model.BuilderOptions;
+import com.geoffgranum.plugin.builder.core.model.ClassModel;
 import com.geoffgranum.plugin.builder.domain.BuilderManager;
 import com.geoffgranum.plugin.builder.domain.PreferencesState;
 import com.geoffgranum.plugin.builder.generate.CopyMethodCreator;
 import com.geoffgranum.plugin.builder.info.BuilderInfo;
+import com.geoffgranum.plugin.builder.info.FieldInfo;
 import com.geoffgranum.plugin.builder.ui.ValueKeys;
 import com.intellij.codeInsight.generation.OverrideImplementUtil;
 import com.intellij.ide.util.PropertiesComponent;
 import com.intellij.lang.LanguageCodeInsightActionHandler;
-import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.editor.Editor;
 import com.intellij.openapi.editor.EditorModificationUtil;
 import com.intellij.openapi.fileEditor.FileDocumentManager;
@@ -42,15 +47,16 @@ public class AddCopyMethodHandler implements LanguageCodeInsightActionHandler {
     // }
 
     // Cast is safe, as we tested for same in the 'isValid()'
-    ApplicationManager.getApplication()
-      .runWriteAction(new MakeCopyMethodRunnable(project, (PsiJavaFileImpl) file, editor, propertiesComponent));
+    MakeCopyMethodRunnable makeCopyMethod =
+      new MakeCopyMethodRunnable(project, (PsiJavaFileImpl) file, editor, propertiesComponent);
+    WriteCommandAction.writeCommandAction(project, file).withName("Add Builder Copy Method").run(makeCopyMethod::run);
   }
 
   @Override
   public boolean isValidFor(Editor editor, PsiFile file) {
     return file instanceof PsiJavaFile
            && OverrideImplementUtil.getContextClass(editor.getProject(), editor, file, false) != null
-           && new BuilderManager(editor.getProject(), (PsiJavaFile) file).hasBuilder();
+           && BuilderManager.hasBuilder((PsiJavaFile) file);
   }
 
 
@@ -94,7 +100,12 @@ public class AddCopyMethodHandler implements LanguageCodeInsightActionHandler {
       BuilderManager manager = new BuilderManager(project, file);
       BuilderInfo builderInfo = manager.extractBuilderInfo();
 
-      new CopyMethodCreator().create(psiElementFactory, manager.builderClass(), builderInfo.fields);
+      ClassModel model = new ClassModel.Builder().simpleName(manager.instanceClass.getName())
+        .qualifiedName(manager.instanceClass.getQualifiedName())
+        .fields(FieldInfo.models(builderInfo.fields))
+        .build();
+      BuilderEmitter emitter = new BuilderEmitter(new BuilderOptions.Builder().build(), TypeNames.QUALIFIED);
+      new CopyMethodCreator(emitter).create(psiElementFactory, manager.builderClass(), model);
     }
 
 
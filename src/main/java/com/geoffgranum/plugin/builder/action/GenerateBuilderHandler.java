@@ -1,37 +1,47 @@
 package com.geoffgranum.plugin.builder.action;
 
-import com.geoffgranum.plugin.builder.TypeGenerationUtil;
+import com.geoffgranum.plugin.builder.domain.BuilderAnalysis;
 import com.geoffgranum.plugin.builder.domain.BuilderManager;
-import com.geoffgranum.plugin.builder.domain.BuilderPsiClassUtil;
 import com.geoffgranum.plugin.builder.domain.GenerateBuilderDirective;
 import com.geoffgranum.plugin.builder.domain.PreferencesState;
 import com.geoffgranum.plugin.builder.generate.BuilderClassGenerator;
 import com.geoffgranum.plugin.builder.generate.BuilderFieldGenerator;
+import com.geoffgranum.plugin.builder.generate.GenerationStatistics;
+import com.geoffgranum.plugin.builder.generate.GenerationTimings;
 import com.geoffgranum.plugin.builder.ui.Dialog;
 import com.geoffgranum.plugin.builder.ui.ValueKeys;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import com.intellij.codeInsight.generation.OverrideImplementUtil;
 import com.intellij.codeInsight.generation.PsiFieldMember;
 import com.intellij.ide.util.PropertiesComponent;
 import com.intellij.lang.LanguageCodeInsightActionHandler;
 import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.editor.Editor;
 import com.intellij.openapi.editor.EditorModificationUtil;
 import com.intellij.openapi.fileEditor.FileDocumentManager;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.io.FileUtilRt;
 import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiClass;
-import com.intellij.psi.PsiDocumentManager;
 import com.intellij.psi.PsiElementFactory;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiJavaFile;
-import com.intellij.psi.PsiModifier;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
 
 public class GenerateBuilderHandler implements LanguageCodeInsightActionHandler {
 
+  private static final Logger LOG = Logger.getInstance(GenerateBuilderHandler.class);
+
+  static final String COMMAND_NAME = "Generate Builder";
+
   @Override
   public void invoke(@NotNull Project project, @NotNull Editor editor, @NotNull PsiFile file) {
     if (!EditorModificationUtil.checkModificationAllowed(editor)) {
@@ -40,28 +50,54 @@ public class GenerateBuilderHandler implements LanguageCodeInsightActionHandler
     if (!FileDocumentManager.getInstance().requestWriting(editor.getDocument(), project)) {
       return;
     }
-    PsiDocumentManager.getInstance(project).commitAllDocuments();
-    PropertiesComponent propertiesComponent = PropertiesComponent.getInstance();
+    PsiJavaFile javaFile = (PsiJavaFile) file;
+    // The analysis is of the file's first top level class, which is almost always the one the file is named for.
+    GenerationTimings timings = new GenerationTimings(FileUtilRt.getNameWithoutExtension(file.getName()));
+
+    // Field scan, classification and type resolution happen off the EDT. The computation restarts if a write action
+    // intervenes, and is dropped if the file or project goes away before it completes.
+    ReadAction.nonBlocking(() -> timings.time(GenerationTimings.Phase.ANALYSIS, () -> BuilderAnalysis.of(javaFile)))
+      .withDocumentsCommitted(project)
+      .inSmartMode(project)
+      .expireWhen(() -> !javaFile.isValid())
+      .expireWith(project)
+      .coalesceBy(this, javaFile)
+      .finishOnUiThread(ModalityState.defaultModalityState(), analysis -> generate(project, analysis, timings))
+      .submit(AppExecutorUtil.getAppExecutorService());
+  }
 
-    BuilderManager manager = new BuilderManager(project, (PsiJavaFile) file);
+  private static void generate(Project project, BuilderAnalysis analysis, GenerationTimings timings) {
+    if (analysis == null || !analysis.supportsBuilder()) {
+      return;
+    }
+    PropertiesComponent propertiesComponent = PropertiesComponent.getInstance();
 
-    List<PsiFieldMember> fieldMembers = chooseFields(manager, project, propertiesComponent);
-    if (fieldMembers.isEmpty()) {
+    List<PsiFieldMember> fieldMembers = chooseFields(analysis, project, propertiesComponent);
+    if (fieldMembers.isEmpty() || !analysis.isValid()) {
       return;
     }
 
-    ApplicationManager.getApplication()
-      .runWriteAction(new MakeBuilderRunnable(project, file, fieldMembers, propertiesComponent));
+    // One command for the whole generation, including the JSON methods and the 'final' modifier: one undo step.
+    MakeBuilderRunnable makeBuilder =
+      new MakeBuilderRunnable(project, analysis, fieldMembers, propertiesComponent, timings);
+    WriteCommandAction.writeCommandAction(project, analysis.instanceClass.getContainingFile())
+      .withName(COMMAND_NAME)
+      .run(makeBuilder::run);
+    // The time spent in the field chooser is not part of any phase.
+    GenerationStatistics.getInstance().record(timings);
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(timings.summary());
+    }
   }
 
   /**
    *
    */
   @NotNull
-  private static List<PsiFieldMember> chooseFields(BuilderManager manager,
+  private static List<PsiFieldMember> chooseFields(BuilderAnalysis analysis,
                                                    Project project,
                                                    final PropertiesComponent propertiesComponent) {
-    List<PsiFieldMember> members = manager.instanceFields;
+    List<PsiFieldMember> members = analysis.instanceFields;
     List<PsiFieldMember> selectedFields = Lists.newArrayList();
     String stateJson = propertiesComponent.getValue(ValueKeys.USER_PREFERENCES_KEY, "{}");
     PreferencesState state = PreferencesState.fromJson(stateJson).build();
@@ -77,7 +113,7 @@ public class GenerateBuilderHandler implements LanguageCodeInsightActionHandler
   public boolean isValidFor(Editor editor, PsiFile file) {
     return file instanceof PsiJavaFile
            && OverrideImplementUtil.getContextClass(editor.getProject(), editor, file, false) != null
-           && new BuilderManager(editor.getProject(), (PsiJavaFile) file).supportsBuilder();
+           && BuilderManager.supportsBuilder((PsiJavaFile) file);
   }
 
 
@@ -86,28 +122,30 @@ public class GenerateBuilderHandler implements LanguageCodeInsightActionHandler
     return false;
   }
 
-  private static class MakeBuilderRunnable implements Runnable {
+  @VisibleForTesting
+  static class MakeBuilderRunnable implements Runnable {
 
 
     private final List<PsiFieldMember> fieldMembers;
 
     private final PropertiesComponent propertiesComponent;
 
-    private final BuilderManager manager;
+    private final BuilderAnalysis analysis;
 
-    private final BuilderPsiClassUtil classUtil;
+    private final GenerationTimings timings;
 
     PsiElementFactory psiElementFactory;
 
     MakeBuilderRunnable(Project project,
-                        PsiFile file,
+                        BuilderAnalysis analysis,
                         List<PsiFieldMember> fieldMembers,
-                        PropertiesComponent propertiesComponent) {
+                        PropertiesComponent propertiesComponent,
+                        GenerationTimings timings) {
 
-      this.manager = new BuilderManager(project, (PsiJavaFile) file);
-      this.classUtil = this.manager.classUtil;
+      this.analysis = analysis;
       this.fieldMembers = fieldMembers;
       this.propertiesComponent = propertiesComponent;
+      this.timings = timings;
 
       psiElementFactory = JavaPsiFacade.getInstance(project).getElementFactory();
     }
@@ -117,77 +155,18 @@ public class GenerateBuilderHandler implements LanguageCodeInsightActionHandler
       // Pull values out of state to run - the dialog box sets state on 'ok' click.
       String stateJson = propertiesComponent.getValue(ValueKeys.USER_PREFERENCES_KEY);
       PreferencesState state = PreferencesState.fromJson(stateJson).build();
-      PsiClass clazz = manager.instanceClass;
+      PsiClass clazz = analysis.instanceClass;
 
       if (clazz != null) {
-        List<BuilderFieldGenerator> bFields = classUtil.createBuilderFieldGenerators(fieldMembers, psiElementFactory);
+        List<BuilderFieldGenerator> bFields = analysis.createBuilderFieldGenerators(fieldMembers);
         GenerateBuilderDirective directive = new GenerateBuilderDirective.Builder().containerClass(clazz)
           .fields(bFields)
-          .generateJsonAnnotation(state.generateJsonAnnotations)
-          .generateToJsonMethod(state.generateToJsonMethod)
-          .generateFromJsonMethod(state.generateFromJsonMethod)
-          .implementValidated(state.implementValidated)
-          .copyFieldAnnotations(state.copyFieldAnnotations)
-          .generateExampleCodeComment(state.generateExampleCodeComment)
-          .generateCopyMethod(state.generateCopyMethod)
-          .usePrefixWith(state.useWithPrefix)
-          .useSpork(state.useSpork)
+          .preferences(state)
           .build();
-        if (clazz.getModifierList() != null) {
-          clazz.getModifierList().setModifierProperty(PsiModifier.FINAL, true);
-        }
-
-        if (directive.generateToJsonMethod) {
-          this.makeToJsonMethod(clazz, psiElementFactory, directive);
-        }
 
-        if (directive.generateFromJsonMethod) {
-          this.makeFromJsonMethod(clazz, psiElementFactory, directive);
-        }
-
-        new BuilderClassGenerator(directive).makeSelf(psiElementFactory);
+        new BuilderClassGenerator(directive, timings).makeSelf(psiElementFactory);
       }
     }
 
-    private void makeFromJsonMethod(PsiClass targetClass,
-                                    PsiElementFactory psiElementFactory,
-                                    GenerateBuilderDirective state) {
-
-      String fmt = "public static %1$s fromJson(com.fasterxml.jackson.databind.ObjectMapper mapper, String json) {\n"
-                   + "    try {\n"
-                   + "      return mapper.readValue(json, %1$s.class);\n"
-                   + "    } catch (java.io.IOException e){\n"
-                   + "      throw new "
-                   + state.fromJsonExceptionClass()
-                   + "(e, \"Could not create instance from provided JSON.\\n\\n %%s \\n\\n\", json);\n"
-                   + "    }\n"
-                   + "  }\n";
-
-
-      String methodText = String.format(fmt, targetClass.getName());
-
-      TypeGenerationUtil.addMethod(psiElementFactory, targetClass, null, methodText, true);
-    }
-
-    private void makeToJsonMethod(PsiClass targetClass,
-                                  PsiElementFactory psiElementFactory,
-                                  GenerateBuilderDirective state) {
-
-      String fmt = "public java.lang.String toJson(com.fasterxml.jackson.databind.ObjectMapper mapper) {\n"
-                   + "    try {\n"
-                   + "      return mapper.writeValueAsString(this);\n"
-                   + "    } catch (com.fasterxml.jackson.core.JsonProcessingException e) {\n"
-                   + "      throw new "
-                   + state.toJsonExceptionClass()
-                   + "(e, \"Could not write %1$s as Json\");\n"
-                   + "    }\n"
-                   + "  }\n";
-
-
-      String methodText = String.format(fmt, targetClass.getName());
-
-      TypeGenerationUtil.addMethod(psiElementFactory, targetClass, null, methodText, true);
-    }
-
   }
 }
@@ -0,0 +1,120 @@
+package com.geoffgranum.plugin.builder.action;
+
+import com.geoffgranum.plugin.builder.domain.PreferencesState;
+import com.geoffgranum.plugin.builder.generate.BulkBuilderGenerator;
+import com.google.common.collect.Lists;
+import com.intellij.ide.impl.ProjectUtil;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ApplicationStarter;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectManager;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Headless entry point: {@code idea buildergen [--options=<json or json file>] <projectDir> [<dir>...]}.
+ *
+ * Opens the project, waits for indexing, then generates builders for every eligible class under the given
+ * directories (or the whole project, if none are given) and saves the results. The options are a
+ * {@link PreferencesState} as JSON, either inline or in a file; anything left out takes its default.
+ *
+ * @author ggranum
+ */
+public class GenerateBuildersApplicationStarter implements ApplicationStarter {
+
+  private static final Logger LOG = Logger.getInstance(GenerateBuildersApplicationStarter.class);
+
+  private static final String OPTIONS_PREFIX = "--options=";
+
+  private static final int EXIT_OK = 0;
+
+  private static final int EXIT_USAGE = 1;
+
+  private static final int EXIT_FAILED = 2;
+
+  @Override
+  public String getCommandName() {
+    return "buildergen";
+  }
+
+  @Override
+  public boolean isHeadless() {
+    return true;
+  }
+
+  @Override
+  public void main(@NotNull List<String> args) {
+    // The generator hands its writes to the event dispatch thread, so the work itself must run elsewhere.
+    ApplicationManager.getApplication().executeOnPooledThread(() -> {
+      int exitCode;
+      try {
+        exitCode = run(args.subList(1, args.size()));
+      } catch (Throwable e) {
+        LOG.error(e);
+        exitCode = EXIT_FAILED;
+      }
+      System.exit(exitCode);
+    });
+  }
+
+  private int run(List<String> args) throws IOException {
+    PreferencesState state = new PreferencesState.Builder().build();
+    List<String> paths = Lists.newArrayList();
+    for (String arg : args) {
+      if (arg.startsWith(OPTIONS_PREFIX)) {
+        state = readOptions(arg.substring(OPTIONS_PREFIX.length()));
+      } else {
+        paths.add(arg);
+      }
+    }
+    if (paths.isEmpty()) {
+      System.err.println("Usage: buildergen [--options=<json or json file>] <projectDir> [<dir>...]");
+      return EXIT_USAGE;
+    }
+
+    Path projectPath = Paths.get(paths.get(0)).toAbsolutePath().normalize();
+    Project project = ProjectUtil.openOrImport(projectPath, null, false);
+    if (project == null) {
+      System.err.println("Could not open project at " + projectPath);
+      return EXIT_FAILED;
+    }
+    try {
+      List<VirtualFile> roots = Lists.newArrayList();
+      for (String path : paths.size() > 1 ? paths.subList(1, paths.size()) : paths) {
+        VirtualFile root = LocalFileSystem.getInstance()
+          .refreshAndFindFileByPath(Paths.get(path).toAbsolutePath().normalize().toString());
+        if (root == null) {
+          System.err.println("No such file or directory: " + path);
+          return EXIT_USAGE;
+        }
+        roots.add(root);
+      }
+      DumbService.getInstance(project).waitForSmartMode();
+      int generated = new BulkBuilderGenerator(project, state).generate(roots, new EmptyProgressIndicator());
+      ApplicationManager.getApplication().invokeAndWait(() -> FileDocumentManager.getInstance().saveAllDocuments());
+      System.out.println("Generated " + generated + " builder(s).");
+      return EXIT_OK;
+    } finally {
+      ApplicationManager.getApplication().invokeAndWait(() -> ProjectManager.getInstance().closeAndDispose(project));
+    }
+  }
+
+  private static PreferencesState readOptions(String value) throws IOException {
+    String json = value.trim().startsWith("{")
+                  ? value
+                  : new String(Files.readAllBytes(Paths.get(value)), StandardCharsets.UTF_8);
+    return PreferencesState.fromJson(json).build();
+  }
+}
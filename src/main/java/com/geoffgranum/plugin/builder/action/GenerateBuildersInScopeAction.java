@@ -0,0 +1,68 @@
+package com.geoffgranum.plugin.builder.action;
+
+import com.geoffgranum.plugin.builder.domain.PreferencesState;
+import com.geoffgranum.plugin.builder.generate.BulkBuilderGenerator;
+import com.geoffgranum.plugin.builder.ui.ValueKeys;
+import com.intellij.ide.util.PropertiesComponent;
+import com.intellij.notification.NotificationGroupManager;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiDocumentManager;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Project view action: generate builders for every eligible class in the selected files, packages or modules, using
+ * the options last chosen in the Generate Builder dialog.
+ *
+ * @author ggranum
+ */
+public class GenerateBuildersInScopeAction extends AnAction {
+
+  @Override
+  public void update(@NotNull AnActionEvent e) {
+    VirtualFile[] files = e.getData(CommonDataKeys.VIRTUAL_FILE_ARRAY);
+    e.getPresentation().setEnabledAndVisible(e.getProject() != null && files != null && files.length > 0);
+  }
+
+  @Override
+  public void actionPerformed(@NotNull AnActionEvent e) {
+    Project project = e.getProject();
+    VirtualFile[] files = e.getData(CommonDataKeys.VIRTUAL_FILE_ARRAY);
+    if (project == null || files == null || files.length == 0) {
+      return;
+    }
+    PsiDocumentManager.getInstance(project).commitAllDocuments();
+    FileDocumentManager.getInstance().saveAllDocuments();
+
+    String stateJson = PropertiesComponent.getInstance().getValue(ValueKeys.USER_PREFERENCES_KEY, "{}");
+    PreferencesState state = PreferencesState.fromJson(stateJson).build();
+    List<VirtualFile> roots = Arrays.asList(files);
+
+    new Task.Backgroundable(project, "Generating builders", true) {
+      private int generated;
+
+      @Override
+      public void run(@NotNull ProgressIndicator indicator) {
+        generated = new BulkBuilderGenerator(project, state).generate(roots, indicator);
+      }
+
+      @Override
+      public void onSuccess() {
+        NotificationGroupManager.getInstance()
+          .getNotificationGroup(ValueKeys.NOTIFICATION_GROUP_ID)
+          .createNotification("Generated " + generated + " builder(s).", NotificationType.INFORMATION)
+          .notify(project);
+      }
+    }.queue();
+  }
+}
@@ -0,0 +1,20 @@
+package com.geoffgranum.plugin.builder.action;
+
+import com.geoffgranum.plugin.builder.generate.GenerationStatistics;
+import com.geoffgranum.plugin.builder.ui.GenerationStatisticsDialog;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Opens the statistics of the recent builder generations.
+ *
+ * @author ggranum
+ */
+public class ShowGenerationStatisticsAction extends AnAction {
+
+  @Override
+  public void actionPerformed(@NotNull AnActionEvent e) {
+    new GenerationStatisticsDialog(e.getProject(), GenerationStatistics.getInstance()).show();
+  }
+}
@@ -0,0 +1,104 @@
+package com.geoffgranum.plugin.builder.domain;
+
+import com.geoffgranum.plugin.builder.core.generate.BuilderEmitter;
+import com.geoffgranum.plugin.builder.core.model.FieldModel;
+import com.geoffgranum.plugin.builder.generate.BuilderFieldGenerator;
+import com.geoffgranum.plugin.builder.info.FieldInfo;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.intellij.codeInsight.generation.PsiFieldMember;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiJavaFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the builder generation needs to know about a class's fields: which are buildable, and how each is
+ * classified. Computed once, in a read action, and then handed to both the field chooser dialog and the generator.
+ *
+ * @author ggranum
+ */
+public final class BuilderAnalysis {
+
+  public final PsiClass instanceClass;
+
+  public final List<PsiFieldMember> instanceFields;
+
+  private final Map<PsiField, FieldInfo> fieldInfos;
+
+  private BuilderAnalysis(PsiClass instanceClass, List<PsiFieldMember> instanceFields, Map<PsiField, FieldInfo> infos) {
+    this.instanceClass = instanceClass;
+    this.instanceFields = instanceFields;
+    this.fieldInfos = infos;
+  }
+
+  /**
+   * Must be called inside a read action.
+   *
+   * @return The analysis of the file's first top level class, or null if the file has no class.
+   */
+  @Nullable
+  public static BuilderAnalysis of(PsiJavaFile file) {
+    PsiClass instanceClass = new BuilderPsiClassUtil().findChildByClass(file);
+    return instanceClass != null ? of(instanceClass) : null;
+  }
+
+  /**
+   * Must be called inside a read action.
+   */
+  @NotNull
+  public static BuilderAnalysis of(PsiClass instanceClass) {
+    List<PsiFieldMember> members = BuilderEligibility.of(instanceClass).instanceFields;
+    FieldTypeClassifier classifier = FieldTypeClassifier.getInstance(instanceClass.getProject());
+    ImmutableMap.Builder<PsiField, FieldInfo> infos = ImmutableMap.builder();
+    for (PsiFieldMember member : members) {
+      infos.put(member.getElement(), FieldInfo.from(member.getElement(), classifier));
+    }
+    return new BuilderAnalysis(instanceClass, members, infos.build());
+  }
+
+  public boolean supportsBuilder() {
+    return !instanceFields.isEmpty();
+  }
+
+  /**
+   * False if the class or any of its fields has been changed or removed since the analysis was made.
+   */
+  public boolean isValid() {
+    if (!instanceClass.isValid()) {
+      return false;
+    }
+    for (PsiField field : fieldInfos.keySet()) {
+      if (!field.isValid()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Generators for the selected fields, reusing the classification made during the analysis.
+   *
+   * A field already storing an Optional unwrapped is generated as the Optional its accessor returns, whether or not
+   * Optionals are still to be stored unwrapped, and the instance's presence mask is never a field to build.
+   */
+  @NotNull
+  public List<BuilderFieldGenerator> createBuilderFieldGenerators(List<PsiFieldMember> selectedFields) {
+    List<BuilderFieldGenerator> bFields = Lists.newArrayListWithCapacity(selectedFields.size());
+    for (PsiFieldMember member : selectedFields) {
+      FieldInfo info = fieldInfos.get(member.getElement());
+      if (info == null) {
+        throw new IllegalArgumentException("Field was not part of the analysis: " + member.getText());
+      }
+      if (!BuilderEmitter.isInstancePresenceField(info.field.getName())) {
+        FieldModel model = info.unwrappedOptionalModel != null ? info.unwrappedOptionalModel : info.model;
+        bFields.add(new BuilderFieldGenerator(info, model));
+      }
+    }
+    return bFields;
+  }
+}
@@ -0,0 +1,51 @@
+package com.geoffgranum.plugin.builder.domain;
+
+import com.geoffgranum.plugin.builder.TypeGenerationUtil;
+import com.google.common.collect.ImmutableList;
+import com.intellij.codeInsight.generation.PsiFieldMember;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Whether a class can have a builder generated for it, and whether it already has one.
+ *
+ * Computed once per class and cached until the class or one of its superclasses is modified, so that the
+ * 'isValidFor' checks run by the Generate menu and intention popups don't re-walk the class hierarchy on every
+ * refresh.
+ *
+ * @author ggranum
+ */
+public final class BuilderEligibility {
+
+  public final List<PsiFieldMember> instanceFields;
+
+  public final boolean hasBuilder;
+
+  private BuilderEligibility(List<PsiFieldMember> instanceFields, boolean hasBuilder) {
+    this.instanceFields = instanceFields;
+    this.hasBuilder = hasBuilder;
+  }
+
+  public boolean supportsBuilder() {
+    return !instanceFields.isEmpty();
+  }
+
+  public static BuilderEligibility of(PsiClass instanceClass) {
+    return CachedValuesManager.getCachedValue(instanceClass, () -> compute(instanceClass));
+  }
+
+  private static CachedValueProvider.Result<BuilderEligibility> compute(PsiClass instanceClass) {
+    BuilderPsiClassUtil classUtil = new BuilderPsiClassUtil();
+    List<PsiFieldMember> fields = ImmutableList.copyOf(classUtil.findBuildableInstanceClassFields(instanceClass));
+    boolean hasBuilder = instanceClass.findInnerClassByName(TypeGenerationUtil.BUILDER_CLASS_NAME, false) != null;
+    // Each class in the hierarchy is a dependency: an edit to any of their files invalidates the cached value. As
+    // does a change to the field exclusion rules.
+    List<Object> dependencies = new ArrayList<>(classUtil.findBuildableClassHierarchy(instanceClass));
+    dependencies.add(FieldExclusionSettings.getInstance(instanceClass.getProject()));
+    return CachedValueProvider.Result.create(new BuilderEligibility(fields, hasBuilder), dependencies);
+  }
+}
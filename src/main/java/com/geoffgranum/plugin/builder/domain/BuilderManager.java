@@ -1,12 +1,9 @@
 package com.geoffgranum.plugin.builder.domain;
 
 import com.geoffgranum.plugin.builder.info.BuilderInfo;
-import com.google.common.collect.ImmutableList;
 import com.intellij.codeInsight.generation.PsiFieldMember;
 import com.intellij.openapi.project.Project;
-import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiClass;
-import com.intellij.psi.PsiElementFactory;
 import com.intellij.psi.PsiJavaFile;
 
 import java.util.Collections;
@@ -23,8 +20,6 @@ public class BuilderManager {
 
   private final PsiJavaFile file;
 
-  private final PsiElementFactory psiElementFactory;
-
   private Optional<PsiClass> builderClass;
 
   public final BuilderPsiClassUtil classUtil = new BuilderPsiClassUtil();
@@ -36,12 +31,12 @@ public class BuilderManager {
     this.file = file;
     instanceClass = classUtil.findChildByClass(file);
     if (instanceClass != null) {
-      this.instanceFields = ImmutableList.copyOf(classUtil.findBuildableInstanceClassFields(instanceClass));
+      this.instanceFields = BuilderEligibility.of(instanceClass).instanceFields;
       builderClass = Optional.ofNullable(instanceClass.findInnerClassByName("Builder", false));
     } else {
       instanceFields = Collections.emptyList();
+      builderClass = Optional.empty();
     }
-    psiElementFactory = JavaPsiFacade.getInstance(project).getElementFactory();
   }
 
   public PsiClass builderClass() {
@@ -53,7 +48,7 @@ public class BuilderManager {
       throw new RuntimeException("BuilderClass should have been populated before allowing this operation.");
     }
     List<PsiFieldMember> fields = classUtil.findBuilderFieldsOnBuilder(builderClass.get());
-    return new BuilderInfo(project, builderClass.get(), classUtil.getFieldInfos(fields, psiElementFactory));
+    return new BuilderInfo(project, builderClass.get(), classUtil.getFieldInfos(fields, project));
   }
 
   public boolean hasBuilder() {
@@ -64,4 +59,18 @@ public class BuilderManager {
     return !instanceFields.isEmpty();
   }
 
+  /**
+   * Cheap check for the action 'isValidFor' methods; backed by a cached {@link BuilderEligibility} so repeated menu
+   * refreshes don't re-walk the class hierarchy.
+   */
+  public static boolean supportsBuilder(PsiJavaFile file) {
+    PsiClass instanceClass = new BuilderPsiClassUtil().findChildByClass(file);
+    return instanceClass != null && BuilderEligibility.of(instanceClass).supportsBuilder();
+  }
+
+  public static boolean hasBuilder(PsiJavaFile file) {
+    PsiClass instanceClass = new BuilderPsiClassUtil().findChildByClass(file);
+    return instanceClass != null && BuilderEligibility.of(instanceClass).hasBuilder;
+  }
+
 }
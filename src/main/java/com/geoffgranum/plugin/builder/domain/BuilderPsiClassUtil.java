@@ -1,18 +1,18 @@
 package com.geoffgranum.plugin.builder.domain;
 
-import com.geoffgranum.plugin.builder.generate.BuilderFieldGenerator;
 import com.geoffgranum.plugin.builder.info.FieldInfo;
 import com.google.common.collect.Lists;
 import com.intellij.codeInsight.generation.PsiFieldMember;
+import com.intellij.openapi.project.Project;
 import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiClass;
-import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiElementFactory;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiJavaFile;
 import com.intellij.psi.PsiModifier;
 import com.intellij.psi.PsiResolveHelper;
 import com.intellij.psi.PsiSubstitutor;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import com.intellij.psi.util.TypeConversionUtil;
 import org.jetbrains.annotations.NotNull;
 
@@ -34,25 +34,43 @@ public class BuilderPsiClassUtil {
   @NotNull
   public List<PsiFieldMember> findBuildableInstanceClassFields(PsiClass instanceClass) {
     List<PsiFieldMember> result = Lists.newArrayList();
-    PsiClass classToExtractFieldsFrom = instanceClass;
-    while (classToExtractFieldsFrom != null) {
-      result.addAll(0, collectFieldsInClass(instanceClass, classToExtractFieldsFrom));
-      if (classToExtractFieldsFrom.hasModifierProperty(PsiModifier.STATIC)) {
-        break;
+    PsiResolveHelper helper = JavaPsiFacade.getInstance(instanceClass.getProject()).getResolveHelper();
+    // Final fields that are on super classes are ignored unless the instance class is abstract, so otherwise there
+    // is no point in looking at the superclasses at all.
+    boolean includeSuperclassFields = instanceClass.hasModifierProperty(PsiModifier.ABSTRACT);
+    for (PsiClass classToExtractFieldsFrom : findBuildableClassHierarchy(instanceClass)) {
+      if (classToExtractFieldsFrom == instanceClass || includeSuperclassFields) {
+        result.addAll(0, collectFieldsInClass(helper, instanceClass, classToExtractFieldsFrom));
       }
-      classToExtractFieldsFrom = classToExtractFieldsFrom.getSuperClass();
     }
 
     return result;
   }
 
-  private List<PsiFieldMember> collectFieldsInClass(PsiClass accessObjectClass, PsiClass clazz) {
+  /**
+   * The instance class followed by each superclass that may contribute fields to its builder, nearest first.
+   */
+  @NotNull
+  public List<PsiClass> findBuildableClassHierarchy(PsiClass instanceClass) {
+    List<PsiClass> result = Lists.newArrayList();
+    PsiClass clazz = instanceClass;
+    while (clazz != null) {
+      result.add(clazz);
+      if (clazz.hasModifierProperty(PsiModifier.STATIC)) {
+        break;
+      }
+      clazz = clazz.getSuperClass();
+    }
+    return result;
+  }
+
+  private List<PsiFieldMember> collectFieldsInClass(PsiResolveHelper helper,
+                                                    PsiClass accessObjectClass,
+                                                    PsiClass clazz) {
     List<PsiFieldMember> classFieldMembers = Lists.newArrayList();
-    for (PsiField field : clazz.getFields()) {
+    for (PsiField field : findCandidateFields(clazz)) {
       // check access to the field from the builder container class (eg. private superclass fields)
-      if (fieldIsAccessibleFromBuilder(accessObjectClass, clazz, field) && !ignoringField(accessObjectClass,
-        clazz,
-        field)) {
+      if (helper.isAccessible(field, accessObjectClass, clazz)) {
         PsiClass containingClass = field.getContainingClass();
         if (containingClass != null) {
           classFieldMembers.add(new PsiFieldMember(field,
@@ -64,65 +82,35 @@ public class BuilderPsiClassUtil {
     return classFieldMembers;
   }
 
-  private boolean fieldIsAccessibleFromBuilder(PsiClass accessObjectClass, PsiClass clazz, PsiField field) {
-    PsiResolveHelper helper = JavaPsiFacade.getInstance(clazz.getProject()).getResolveHelper();
-    return helper.isAccessible(field, accessObjectClass, clazz);
-  }
-
   /**
-   * Ignore any non-final fields.
-   * Ignore final fields that are already initialized in the declaration.
-   * Ignore final fields that are on super classes, unless the superclass is abstract.
-   * Ignore static fields
-   * Ignore any all-uppercase fields
-   * Ignore Logging fields
+   * The fields declared on the class that could be built, regardless of which class the builder is for. Memoized
+   * per class, so that classes sharing a large abstract base only walk its fields once.
    */
-  private boolean ignoringField(PsiClass accessObjectClass, PsiElement clazz, PsiField field) {
-    return field.hasModifierProperty(PsiModifier.STATIC)
-           || !field.hasModifierProperty(PsiModifier.FINAL)
-           || isAllUpperCase(field.getName())
-           || isLoggingField(field)
-           || isIgnoredFinalField(accessObjectClass, clazz, field);
-  }
-
-  private boolean isLoggingField(PsiField field) {
-    return "org.apache.log4j.Logger".equals(field.getType().getCanonicalText())
-           || "org.apache.logging.log4j.Logger".equals(field.getType().getCanonicalText())
-           || "java.util.logging.Logger".equals(field.getType().getCanonicalText())
-           || "org.slf4j.Logger".equals(field.getType().getCanonicalText())
-           || "ch.qos.logback.classic.Logger".equals(field.getType().getCanonicalText())
-           || "net.sf.microlog.core.Logger".equals(field.getType().getCanonicalText())
-           || "org.apache.commons.logging.Log".equals(field.getType().getCanonicalText())
-           || "org.pmw.tinylog.Logger".equals(field.getType().getCanonicalText())
-           || "org.jboss.logging.Logger".equals(field.getType().getCanonicalText());
-  }
-
-  private boolean isIgnoredFinalField(PsiClass accessObjectClass, PsiElement clazz, PsiField field) {
-    boolean ignored = false;
-    if (field.hasModifierProperty(PsiModifier.FINAL)) {
-      if (field.getInitializer() != null) {
-        ignored = true; // remove final fields that are assigned in the declaration
-      }
-      if (!accessObjectClass.isEquivalentTo(clazz) && !accessObjectClass.hasModifierProperty(PsiModifier.ABSTRACT)) {
-        ignored = true; // remove final superclass fields
+  private List<PsiField> findCandidateFields(PsiClass clazz) {
+    return CachedValuesManager.getCachedValue(clazz, () -> {
+      FieldExclusionSettings settings = FieldExclusionSettings.getInstance(clazz.getProject());
+      FieldExclusionRules rules = settings.getRules();
+      List<PsiField> result = Lists.newArrayList();
+      for (PsiField field : clazz.getFields()) {
+        if (!ignoringField(rules, field)) {
+          result.add(field);
+        }
       }
-    }
-    return ignored;
+      return CachedValueProvider.Result.create(result, clazz, settings);
+    });
   }
 
   /**
-   * Does the string have a lowercase character?
+   * Ignore any non-final fields.
+   * Ignore final fields that are already initialized in the declaration.
+   * Ignore fields matching the project's exclusion rules (by default: static, all-uppercase and logging fields).
    *
-   * @param s the string to test.
-   * @return true if the string has a lowercase character, false if not.
+   * Only stub backed data is used, so that superclass files aren't parsed into a full AST just to be skipped.
    */
-  private boolean isAllUpperCase(String s) {
-    for (int i = 0; i < s.length(); i++) {
-      if (Character.isLowerCase(s.charAt(i))) {
-        return false;
-      }
-    }
-    return true;
+  private boolean ignoringField(FieldExclusionRules rules, PsiField field) {
+    return !field.hasModifierProperty(PsiModifier.FINAL)
+           || field.hasInitializer()
+           || rules.excludes(field);
   }
 
   public List<PsiFieldMember> findBuilderFieldsOnBuilder(PsiClass builderClass) {
@@ -141,35 +129,20 @@ public class BuilderPsiClassUtil {
     return result;
   }
 
+  /**
+   * The first top level class in the file. Read from the stub where there is one, so the file needn't be parsed.
+   */
   public PsiClass findChildByClass(PsiJavaFile file) {
-    PsiClass result = null;
-    for (PsiElement child : file.getChildren()) {
-      if (child instanceof PsiClass) {
-        result = (PsiClass) child;
-        break;
-      }
-    }
-    return result;
+    PsiClass[] classes = file.getClasses();
+    return classes.length > 0 ? classes[0] : null;
   }
 
   @NotNull
-  public List<BuilderFieldGenerator> createBuilderFieldGenerators(List<PsiFieldMember> fieldMembers,
-                                                                  PsiElementFactory psiElementFactory) {
-    List<BuilderFieldGenerator> bFields = Lists.newArrayListWithCapacity(fieldMembers.size());
-    CustomDataTypes customTypes = new CustomDataTypes(psiElementFactory);
-    for (PsiFieldMember member : fieldMembers) {
-      bFields.add(new BuilderFieldGenerator(FieldInfo.from(member.getElement(), customTypes)));
-    }
-    return bFields;
-  }
-
-
-  @NotNull
-  public List<FieldInfo> getFieldInfos(List<PsiFieldMember> fieldMembers, PsiElementFactory psiElementFactory) {
+  public List<FieldInfo> getFieldInfos(List<PsiFieldMember> fieldMembers, Project project) {
     List<FieldInfo> fields = Lists.newArrayListWithCapacity(fieldMembers.size());
-    CustomDataTypes customTypes = new CustomDataTypes(psiElementFactory);
+    FieldTypeClassifier classifier = FieldTypeClassifier.getInstance(project);
     for (PsiFieldMember member : fieldMembers) {
-      fields.add(FieldInfo.from(member.getElement(), customTypes));
+      fields.add(FieldInfo.from(member.getElement(), classifier));
     }
     return fields;
   }
@@ -0,0 +1,63 @@
+package com.geoffgranum.plugin.builder.domain;
+
+import com.geoffgranum.plugin.builder.core.model.FieldExclusions;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.util.TypeConversionUtil;
+
+/**
+ * Compiled form of the project's field exclusion settings, applying the core's {@link FieldExclusions} to PSI fields,
+ * so a field is checked against every rule in one pass: each modifier, the name, the erased type and each annotation
+ * are looked at once. Types are matched without their type arguments, so 'com.google.common.cache.Cache' excludes a
+ * 'Cache<String, Foo>'.
+ *
+ * @author ggranum
+ */
+public final class FieldExclusionRules {
+
+  private final FieldExclusions exclusions;
+
+  private FieldExclusionRules(FieldExclusions exclusions) {
+    this.exclusions = exclusions;
+  }
+
+  /**
+   * @throws java.util.regex.PatternSyntaxException if any of the name patterns are invalid.
+   */
+  public static FieldExclusionRules compile(FieldExclusionSettings.State state) {
+    return new FieldExclusionRules(new FieldExclusions.Builder().types(state.excludedTypes)
+      .namePatterns(state.excludedNamePatterns)
+      .annotations(state.excludedAnnotations)
+      .modifiers(state.excludedModifiers)
+      .build());
+  }
+
+  public boolean excludes(PsiField field) {
+    PsiModifierList modifiers = field.getModifierList();
+    if (modifiers != null) {
+      for (String modifier : exclusions.modifiers) {
+        if (modifiers.hasModifierProperty(modifier)) {
+          return true;
+        }
+      }
+    }
+    if (exclusions.excludesName(field.getName())) {
+      return true;
+    }
+    if (!exclusions.types.isEmpty()
+        && exclusions.excludesType(TypeConversionUtil.erasure(field.getType()).getCanonicalText())) {
+      return true;
+    }
+    if (modifiers != null && !exclusions.annotations.isEmpty()) {
+      for (PsiAnnotation annotation : modifiers.getAnnotations()) {
+        // Unresolved annotations report their reference text, so short names can be configured as well.
+        String name = annotation.getQualifiedName();
+        if (name != null && exclusions.excludesAnnotation(name)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,87 @@
+package com.geoffgranum.plugin.builder.domain;
+
+import com.geoffgranum.plugin.builder.core.model.FieldExclusions;
+import com.google.common.collect.Lists;
+import com.intellij.openapi.components.PersistentStateComponent;
+import com.intellij.openapi.components.State;
+import com.intellij.openapi.components.Storage;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.ModificationTracker;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Per project rules for which fields never get a builder method: by type, by name pattern, by annotation and by
+ * modifier. Non-final fields and fields initialized in their declaration are always excluded, regardless. The defaults
+ * are the core's {@link FieldExclusions}, shared with the command line generator, which can read this file's
+ * '.idea/builderGen.xml' too.
+ *
+ * Doubles as the modification tracker for anything cached from these rules.
+ *
+ * @author ggranum
+ */
+@State(name = "BuilderGenFieldExclusions", storages = @Storage("builderGen.xml"))
+public final class FieldExclusionSettings implements PersistentStateComponent<FieldExclusionSettings.State>,
+  ModificationTracker {
+
+  private static final Logger LOG = Logger.getInstance(FieldExclusionSettings.class);
+
+  private State state = new State();
+
+  private volatile FieldExclusionRules rules;
+
+  private volatile long modificationCount;
+
+  public static FieldExclusionSettings getInstance(Project project) {
+    return project.getService(FieldExclusionSettings.class);
+  }
+
+  @NotNull
+  @Override
+  public State getState() {
+    return state;
+  }
+
+  @Override
+  public void loadState(@NotNull State state) {
+    this.state = state;
+    this.rules = null;
+    modificationCount++;
+  }
+
+  @Override
+  public long getModificationCount() {
+    return modificationCount;
+  }
+
+  public FieldExclusionRules getRules() {
+    FieldExclusionRules result = rules;
+    if (result == null) {
+      try {
+        result = FieldExclusionRules.compile(state);
+      } catch (PatternSyntaxException e) {
+        LOG.warn("Invalid field exclusion name pattern, using the defaults instead.", e);
+        result = FieldExclusionRules.compile(new State());
+      }
+      rules = result;
+    }
+    return result;
+  }
+
+  public static final class State {
+
+    public List<String> excludedTypes = Lists.newArrayList(FieldExclusions.DEFAULT_TYPES);
+
+    /**
+     * By default, ignore any all-uppercase (constant style) fields.
+     */
+    public List<String> excludedNamePatterns = Lists.newArrayList(FieldExclusions.DEFAULT_NAME_PATTERNS);
+
+    public List<String> excludedAnnotations = Lists.newArrayList(FieldExclusions.DEFAULT_ANNOTATIONS);
+
+    public List<String> excludedModifiers = Lists.newArrayList(FieldExclusions.DEFAULT_MODIFIERS);
+  }
+}
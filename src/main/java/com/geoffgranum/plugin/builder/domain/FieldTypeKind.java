@@ -0,0 +1,23 @@
+package com.geoffgranum.plugin.builder.domain;
+
+/**
+ * The field types that get special handling in a generated builder.
+ *
+ * @author ggranum
+ */
+public enum FieldTypeKind {
+  OPTIONAL("java.util.Optional"),
+  COLLECTION("java.util.Collection"),
+  LIST("java.util.List"),
+  SET("java.util.Set"),
+  MAP("java.util.Map");
+
+  /**
+   * Any class that is, or inherits from, this class is of this kind.
+   */
+  public final String qualifiedName;
+
+  FieldTypeKind(String qualifiedName) {
+    this.qualifiedName = qualifiedName;
+  }
+}
@@ -1,8 +1,13 @@
 package com.geoffgranum.plugin.builder.domain;
 
+import com.geoffgranum.plugin.builder.core.model.BuilderOptions;
+import com.geoffgranum.plugin.builder.core.model.ClassModel;
+import com.geoffgranum.plugin.builder.core.model.FieldModel;
 import com.geoffgranum.plugin.builder.generate.BuilderFieldGenerator;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.util.PsiUtil;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -34,6 +39,27 @@ public final class GenerateBuilderDirective {
 
   public final boolean useSpork;
 
+  public final boolean singlePassGeneration;
+
+  public final boolean updateExistingBuilder;
+
+  public final boolean primitiveBuilderFields;
+
+  public final boolean collectionAdders;
+
+  public final boolean jdkCollections;
+
+  public final boolean primitiveCollections;
+
+  public final boolean primitiveBackedCollections;
+
+  public final boolean unwrappedOptionals;
+
+  public final boolean pooledBuilder;
+
+  public final boolean streamingDeserializer;
+
+  public final boolean streamingSerializer;
 
 
   private GenerateBuilderDirective(Builder builder) {
@@ -48,24 +74,61 @@ public final class GenerateBuilderDirective {
     createCopyMethod = builder.createCopyMethod;
     usePrefixWith = builder.usePrefixWith;
     useSpork = builder.useSpork;
+    singlePassGeneration = builder.singlePassGeneration;
+    updateExistingBuilder = builder.updateExistingBuilder;
     copyFieldAnnotations = builder.copyFieldAnnotations;
+    primitiveBuilderFields = builder.primitiveBuilderFields;
+    collectionAdders = builder.collectionAdders;
+    jdkCollections = builder.jdkCollections;
+    primitiveCollections = builder.primitiveCollections;
+    primitiveBackedCollections = builder.primitiveBackedCollections;
+    unwrappedOptionals = builder.unwrappedOptionals;
+    pooledBuilder = builder.pooledBuilder;
+    streamingDeserializer = builder.streamingDeserializer;
+    streamingSerializer = builder.streamingSerializer;
   }
 
 
-  public String utilBaseClassPath() {
-    return useSpork ? "com.geoffgranum.spork.common" : "com.geoffgranum.uttu.core";
-  }
-
-  public String fromJsonExceptionClass() {
-    return utilBaseClassPath() + ".exception.FormattedException";
+  /**
+   * The generation options, for the builder emitter. The language level is the container class's module's.
+   */
+  public BuilderOptions toOptions() {
+    return new BuilderOptions.Builder().implementJackson(implementJackson)
+      .generateToJsonMethod(generateToJsonMethod)
+      .generateFromJsonMethod(generateFromJsonMethod)
+      .copyFieldAnnotations(copyFieldAnnotations)
+      .implementValidated(implementValidated)
+      .generateExampleCodeComment(generateExampleCodeComment)
+      .createCopyMethod(createCopyMethod)
+      .useSpork(useSpork)
+      .primitiveBuilderFields(primitiveBuilderFields)
+      .collectionAdders(collectionAdders)
+      .jdkCollections(jdkCollections)
+      .primitiveCollections(primitiveCollections)
+      .primitiveBackedCollections(primitiveBackedCollections)
+      .unwrappedOptionals(unwrappedOptionals)
+      .pooledBuilder(pooledBuilder)
+      .streamingDeserializer(streamingDeserializer)
+      .streamingSerializer(streamingSerializer)
+      .languageLevel(PsiUtil.getLanguageLevel(containerClass).toJavaVersion().feature)
+      .build();
   }
 
-  public String toJsonExceptionClass() {
-    return utilBaseClassPath() + ".exception.FormattedException";
+  /**
+   * The container class and the selected fields, for the builder emitter.
+   */
+  public ClassModel toClassModel() {
+    List<FieldModel> models = new ArrayList<>(fields.size());
+    for (BuilderFieldGenerator field : fields) {
+      models.add(field.model);
+    }
+    return new ClassModel.Builder().simpleName(containerClass.getName())
+      .qualifiedName(containerClass.getQualifiedName())
+      .fields(models)
+      .build();
   }
 
 
-
   public static final class Builder {
     private boolean generateToJsonMethod;
 
@@ -89,11 +152,60 @@ public final class GenerateBuilderDirective {
 
     private boolean useSpork;
 
+    private boolean singlePassGeneration;
+
+    private boolean updateExistingBuilder;
+
     private boolean copyFieldAnnotations;
 
+    private boolean primitiveBuilderFields;
+
+    private boolean collectionAdders;
+
+    private boolean jdkCollections;
+
+    private boolean primitiveCollections;
+
+    private boolean primitiveBackedCollections;
+
+    private boolean unwrappedOptionals;
+
+    private boolean pooledBuilder;
+
+    private boolean streamingDeserializer;
+
+    private boolean streamingSerializer;
+
     public Builder() {
     }
 
+    /**
+     * Apply the generation options the user chose in the dialog.
+     */
+    public Builder preferences(PreferencesState state) {
+      generateJsonAnnotations = state.generateJsonAnnotations;
+      generateToJsonMethod = state.generateToJsonMethod;
+      generateFromJsonMethod = state.generateFromJsonMethod;
+      implementValidated = state.implementValidated;
+      copyFieldAnnotations = state.copyFieldAnnotations;
+      generateExampleCodeComment = state.generateExampleCodeComment;
+      createCopyMethod = state.generateCopyMethod;
+      usePrefixWith = state.useWithPrefix;
+      useSpork = state.useSpork;
+      singlePassGeneration = state.singlePassGeneration;
+      updateExistingBuilder = state.updateExistingBuilder;
+      primitiveBuilderFields = state.primitiveBuilderFields;
+      collectionAdders = state.collectionAdders;
+      jdkCollections = state.jdkCollections;
+      primitiveCollections = state.primitiveCollections;
+      primitiveBackedCollections = state.primitiveBackedCollections;
+      unwrappedOptionals = state.unwrappedOptionals;
+      pooledBuilder = state.pooledBuilder;
+      streamingDeserializer = state.streamingDeserializer;
+      streamingSerializer = state.streamingSerializer;
+      return this;
+    }
+
     public Builder containerClass(PsiClass containerClass) {
       this.containerClass = containerClass;
       return this;
@@ -154,6 +266,16 @@ public final class GenerateBuilderDirective {
       return this;
     }
 
+    public Builder singlePassGeneration(boolean singlePassGeneration) {
+      this.singlePassGeneration = singlePassGeneration;
+      return this;
+    }
+
+    public Builder updateExistingBuilder(boolean updateExistingBuilder) {
+      this.updateExistingBuilder = updateExistingBuilder;
+      return this;
+    }
+
     public GenerateBuilderDirective build() {
       // tempting to throw an error generateTo/From JSON methods is enabled, but JSON Annotations are not. But
       // the code will be created and could work, and maybe the user wants it that way?
@@ -25,6 +25,28 @@ public final class PreferencesState {
 
   public final boolean useSpork;
 
+  public final boolean singlePassGeneration;
+
+  public final boolean updateExistingBuilder;
+
+  public final boolean primitiveBuilderFields;
+
+  public final boolean collectionAdders;
+
+  public final boolean jdkCollections;
+
+  public final boolean primitiveCollections;
+
+  public final boolean primitiveBackedCollections;
+
+  public final boolean unwrappedOptionals;
+
+  public final boolean pooledBuilder;
+
+  public final boolean streamingDeserializer;
+
+  public final boolean streamingSerializer;
+
   private PreferencesState(Builder builder) {
     copyFieldAnnotations = builder.copyFieldAnnotations;
     generateJsonAnnotations = builder.generateJsonAnnotations;
@@ -35,6 +57,17 @@ public final class PreferencesState {
     generateExampleCodeComment = builder.generateExampleCodeComment;
     useWithPrefix = builder.useWithPrefix;
     useSpork = builder.useSpork;
+    singlePassGeneration = builder.singlePassGeneration;
+    updateExistingBuilder = builder.updateExistingBuilder;
+    primitiveBuilderFields = builder.primitiveBuilderFields;
+    collectionAdders = builder.collectionAdders;
+    jdkCollections = builder.jdkCollections;
+    primitiveCollections = builder.primitiveCollections;
+    primitiveBackedCollections = builder.primitiveBackedCollections;
+    unwrappedOptionals = builder.unwrappedOptionals;
+    pooledBuilder = builder.pooledBuilder;
+    streamingDeserializer = builder.streamingDeserializer;
+    streamingSerializer = builder.streamingSerializer;
   }
 
   public String toJson() {
@@ -65,6 +98,28 @@ public final class PreferencesState {
 
     private Boolean useSpork = true;
 
+    private Boolean singlePassGeneration = true;
+
+    private Boolean updateExistingBuilder = false;
+
+    private Boolean primitiveBuilderFields = false;
+
+    private Boolean collectionAdders = false;
+
+    private Boolean jdkCollections = false;
+
+    private Boolean primitiveCollections = false;
+
+    private Boolean primitiveBackedCollections = false;
+
+    private Boolean unwrappedOptionals = false;
+
+    private Boolean pooledBuilder = false;
+
+    private Boolean streamingDeserializer = false;
+
+    private Boolean streamingSerializer = false;
+
     public Builder() {
     }
 
@@ -83,6 +138,17 @@ public final class PreferencesState {
       generateExampleCodeComment = copy.generateExampleCodeComment;
       useWithPrefix = copy.useWithPrefix;
       useSpork = copy.useSpork;
+      singlePassGeneration = copy.singlePassGeneration;
+      updateExistingBuilder = copy.updateExistingBuilder;
+      primitiveBuilderFields = copy.primitiveBuilderFields;
+      collectionAdders = copy.collectionAdders;
+      jdkCollections = copy.jdkCollections;
+      primitiveCollections = copy.primitiveCollections;
+      primitiveBackedCollections = copy.primitiveBackedCollections;
+      unwrappedOptionals = copy.unwrappedOptionals;
+      pooledBuilder = copy.pooledBuilder;
+      streamingDeserializer = copy.streamingDeserializer;
+      streamingSerializer = copy.streamingSerializer;
       return this;
     }
 
@@ -126,6 +192,61 @@ public final class PreferencesState {
       return this;
     }
 
+    public Builder singlePassGeneration(boolean singlePassGeneration) {
+      this.singlePassGeneration = singlePassGeneration;
+      return this;
+    }
+
+    public Builder updateExistingBuilder(boolean updateExistingBuilder) {
+      this.updateExistingBuilder = updateExistingBuilder;
+      return this;
+    }
+
+    public Builder primitiveBuilderFields(boolean primitiveBuilderFields) {
+      this.primitiveBuilderFields = primitiveBuilderFields;
+      return this;
+    }
+
+    public Builder collectionAdders(boolean collectionAdders) {
+      this.collectionAdders = collectionAdders;
+      return this;
+    }
+
+    public Builder jdkCollections(boolean jdkCollections) {
+      this.jdkCollections = jdkCollections;
+      return this;
+    }
+
+    public Builder primitiveCollections(boolean primitiveCollections) {
+      this.primitiveCollections = primitiveCollections;
+      return this;
+    }
+
+    public Builder primitiveBackedCollections(boolean primitiveBackedCollections) {
+      this.primitiveBackedCollections = primitiveBackedCollections;
+      return this;
+    }
+
+    public Builder unwrappedOptionals(boolean unwrappedOptionals) {
+      this.unwrappedOptionals = unwrappedOptionals;
+      return this;
+    }
+
+    public Builder pooledBuilder(boolean pooledBuilder) {
+      this.pooledBuilder = pooledBuilder;
+      return this;
+    }
+
+    public Builder streamingDeserializer(boolean streamingDeserializer) {
+      this.streamingDeserializer = streamingDeserializer;
+      return this;
+    }
+
+    public Builder streamingSerializer(boolean streamingSerializer) {
+      this.streamingSerializer = streamingSerializer;
+      return this;
+    }
+
     public PreferencesState build() {
       return new PreferencesState(this);
     }
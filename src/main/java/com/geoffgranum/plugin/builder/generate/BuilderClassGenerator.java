@@ -1,163 +1,728 @@
 package com.geoffgranum.plugin.builder.generate;
 
 import com.geoffgranum.plugin.builder.TypeGenerationUtil;
+import com.geoffgranum.plugin.builder.core.generate.BuilderEmitter;
+import com.geoffgranum.plugin.builder.core.generate.TypeNames;
+import com.geoffgranum.plugin.builder.core.model.ClassModel;
+import com.geoffgranum.plugin.builder.domain.BuilderManager;
 import com.geoffgranum.plugin.builder.domain.GenerateBuilderDirective;
+import com.geoffgranum.plugin.builder.info.BuilderInfo;
 import com.geoffgranum.plugin.builder.info.FieldInfo;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiCodeBlock;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementFactory;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.PsiTypeElement;
 import com.intellij.psi.codeStyle.CodeStyleManager;
 import com.intellij.psi.codeStyle.JavaCodeStyleManager;
-import org.apache.commons.lang.StringUtils;
+import com.intellij.psi.impl.source.PostprocessReformattingAspect;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
+ * Generates, or updates, the builder for a class. The source text of every member comes from the
+ * {@link BuilderEmitter}; this class decides where it goes in the PSI tree.
+ *
  * @author Geoff M. Granum
  */
 public class BuilderClassGenerator {
 
-  private static final String PRIMARY_CLASS_CTOR_FMT = "private %s(%s builder) { %s }";
+  private static final String JSON_DESERIALIZE_ANNOTATION = BuilderEmitter.JSON_DESERIALIZE_ANNOTATION;
+
+  private static final String JSON_SERIALIZE_ANNOTATION = BuilderEmitter.JSON_SERIALIZE_ANNOTATION;
+
+  /**
+   * A package qualifier ('java.util.') ahead of a type name.
+   */
+  private static final Pattern QUALIFIER = Pattern.compile("\\b(?:[a-z_]\\w*\\.)+(?=[A-Z])");
 
   private final GenerateBuilderDirective directive;
 
+  private final BuilderEmitter emitter;
+
+  private final ClassModel model;
+
+  private final GenerationTimings timings;
+
   private PsiClass builderClass;
 
+  /**
+   * Elements inserted or replaced during this generation; the only elements that are reformatted.
+   */
+  private final List<PsiElement> generated = new ArrayList<>();
+
   public BuilderClassGenerator(GenerateBuilderDirective directive) {
+    this(directive, new GenerationTimings(directive.containerClass.getName()));
+  }
+
+  /**
+   * @param timings Receives the durations of the PSI insertion, reference shortening and reformat phases, and the
+   *                counts of fields and changed elements.
+   */
+  public BuilderClassGenerator(GenerateBuilderDirective directive, GenerationTimings timings) {
     this.directive = directive;
+    this.timings = timings;
+    // References are fully qualified, then shortened along with the formatting.
+    this.emitter = new BuilderEmitter(directive.toOptions(), TypeNames.QUALIFIED);
+    this.model = directive.toClassModel();
   }
 
+  /**
+   * Must be called inside a write command; the whole generation is meant to be a single undoable step.
+   */
   public void makeSelf(PsiElementFactory psiElementFactory) {
-    builderClass = directive.containerClass.findInnerClassByName(TypeGenerationUtil.BUILDER_CLASS_NAME, false);
-    if (builderClass != null) {
-      // @todo: ggranum: Scrape info about existing builder class so we can augment it.
-      builderClass.delete();
+    timings.fields(directive.fields.size());
+    Project project = directive.containerClass.getProject();
+    // Formatting of each insertion is postponed to the end of the generation, so the document is brought up to date
+    // once, with all of the changes, rather than after every added field and method.
+    PostprocessReformattingAspect.getInstance(project).postponeFormattingInside(() -> {
+      timings.time(GenerationTimings.Phase.PSI_INSERTION, () -> insertMembers(psiElementFactory));
+      formatGeneratedElements();
+    });
+    commitDocument(project, directive.containerClass.getContainingFile());
+  }
+
+  /**
+   * One commit for the whole generation: a single reparse, and a single highlighting pass.
+   */
+  private static void commitDocument(Project project, PsiFile file) {
+    PsiDocumentManager documentManager = PsiDocumentManager.getInstance(project);
+    Document document = documentManager.getDocument(file);
+    if (document != null) {
+      documentManager.doPostponedOperationsAndUnblockDocument(document);
+      documentManager.commitDocument(document);
     }
-    builderClass = TypeGenerationUtil.createBuilderClass(directive.containerClass, directive);
-    builderClass = (PsiClass) directive.containerClass.add(builderClass);
+  }
 
-    makeInstanceClassCtorTakingBuilder(psiElementFactory);
+  private void insertMembers(PsiElementFactory psiElementFactory) {
+    PsiModifierList containerModifiers = directive.containerClass.getModifierList();
+    if (containerModifiers != null) {
+      containerModifiers.setModifierProperty(PsiModifier.FINAL, true);
+    }
 
-    BuilderFieldGenerator previous = null;
-    for (BuilderFieldGenerator field : directive.fields) {
-      field.makeSelf(directive, builderClass, previous, psiElementFactory);
-      previous = field;
+    BuilderInfo existing = findExistingBuilder();
+    boolean merging = directive.updateExistingBuilder && existing != null;
+
+    if (directive.generateToJsonMethod && !(merging && hasMethod(directive.containerClass, "toJson"))) {
+      inserted(new JsonMethodsCreator(emitter).createToJsonMethod(psiElementFactory,
+        directive.containerClass,
+        model));
+    }
+    if (directive.generateFromJsonMethod && !(merging && hasMethod(directive.containerClass, "fromJson"))) {
+      inserted(new JsonMethodsCreator(emitter).createFromJsonMethod(psiElementFactory,
+        directive.containerClass,
+        model));
     }
 
-    makeBuilderCtor(psiElementFactory);
-    if (directive.createCopyMethod) {
-      List<FieldInfo> infos = new ArrayList<>();
-      for (BuilderFieldGenerator field : directive.fields) {
-        infos.add(field.info);
+    if (merging) {
+      mergeIntoExistingBuilder(psiElementFactory, existing);
+    } else {
+      if (existing != null) {
+        existing.clazz.delete();
       }
+      if (directive.singlePassGeneration) {
+        makeBuilderClassFromText(psiElementFactory);
+      } else {
+        makeBuilderClassMemberByMember(psiElementFactory);
+      }
+      if (existing != null) {
+        replaced(builderClass);
+      } else {
+        inserted(builderClass);
+      }
+    }
 
-      new FromInstanceMethodCreator().create(psiElementFactory, directive.containerClass, builderClass, infos);
-      new CopyMethodCreator().create(psiElementFactory, builderClass, infos);
+    if (directive.unwrappedOptionals) {
+      storeOptionalsUnwrapped(psiElementFactory);
+    } else {
+      storeOptionalsWrapped(psiElementFactory);
     }
 
-    makeBuildMethod(psiElementFactory);
+    if (directive.implementJackson && !(merging && hasCurrentJsonDeserializeAnnotation())) {
+      inserted(addJacksonAnnotationToContainerClass(psiElementFactory));
+    }
+    syncJsonSerializeAnnotation(psiElementFactory, merging);
+  }
+
+  /**
+   * Whether the container is annotated for the deserialization chosen: through the builder, or 'using' the builder's
+   * streaming deserializer.
+   */
+  private boolean hasCurrentJsonDeserializeAnnotation() {
+    PsiAnnotation annotation = directive.containerClass.getAnnotation(JSON_DESERIALIZE_ANNOTATION);
+    return annotation != null
+           && (annotation.findDeclaredAttributeValue("using") != null) == emitter.generatesDeserializer();
+  }
 
-    if (directive.implementJackson) {
-      addJacksonAnnotationToContainerClass(psiElementFactory);
+  /**
+   * Register the builder's streaming serializer on the container, or drop that registration if the serializer is no
+   * longer generated. A {@code @JsonSerialize} naming some other serializer is only replaced by ours.
+   */
+  private void syncJsonSerializeAnnotation(PsiElementFactory psiElementFactory, boolean merging) {
+    PsiAnnotation current = directive.containerClass.getAnnotation(JSON_SERIALIZE_ANNOTATION);
+    PsiAnnotationMemberValue using = current == null ? null : current.findDeclaredAttributeValue("using");
+    boolean ours = using != null
+                   && using.getText().endsWith(model.builderClassName + "." + BuilderEmitter.SERIALIZER_CLASS_NAME
+                                               + ".class");
+    if (!emitter.generatesSerializer()) {
+      if (ours) {
+        current.delete();
+      }
+    } else if (!(merging && ours)) {
+      if (current != null) {
+        current.delete();
+      }
+      inserted(TypeGenerationUtil.addAnnotation(directive.containerClass,
+        emitter.jsonSerializeAnnotation(model),
+        psiElementFactory));
     }
+  }
 
-    JavaCodeStyleManager styleManager = JavaCodeStyleManager.getInstance(directive.containerClass.getProject());
-    styleManager.shortenClassReferences(directive.containerClass);
+  /**
+   * Declare the Optional fields the instance holds unwrapped with their unwrapped types, keeping their modifiers, and
+   * give each its accessor. The primitive optionals' presence bitmask fields follow the last of them.
+   */
+  private void storeOptionalsUnwrapped(PsiElementFactory psiElementFactory) {
+    PsiClass container = directive.containerClass;
+    PsiElement anchor = null;
+    for (BuilderFieldGenerator field : directive.fields) {
+      if (!emitter.unwrapsOptional(field.model)) {
+        continue;
+      }
+      PsiField declared = field.info.field;
+      String unwrappedType = field.model.unwrappedType();
+      if (!declared.getType().getCanonicalText().equals(unwrappedType)) {
+        declared.normalizeDeclaration();
+        PsiTypeElement typeElement = declared.getTypeElement();
+        if (typeElement != null) {
+          typeElement.replace(psiElementFactory.createTypeElementFromText(unwrappedType, declared));
+        }
+        replaced(declared);
+      }
+      anchor = declared;
+      syncMethod(psiElementFactory, container, emitter.optionalAccessor(model, field.model), true, null);
+    }
+    Set<String> presenceFields = new HashSet<>();
+    for (String declaration : emitter.instancePresenceFields(model)) {
+      PsiField wanted = psiElementFactory.createFieldFromText(declaration, container);
+      presenceFields.add(wanted.getName());
+      PsiField current = container.findFieldByName(wanted.getName(), false);
+      if (current == null) {
+        current = (PsiField) container.addAfter(wanted, anchor);
+        inserted(current);
+      } else if (!current.getType().equals(wanted.getType())) {
+        current = (PsiField) current.replace(wanted);
+        replaced(current);
+      }
+      anchor = current;
+    }
+    removeInstancePresenceFieldsExcept(presenceFields);
+  }
 
-    CodeStyleManager codeStyleManager = CodeStyleManager.getInstance(directive.containerClass.getProject());
-    codeStyleManager.reformat(directive.containerClass);
+  /**
+   * Declare the fields the instance holds unwrapped as the Optionals they stand for again, now that Optionals are
+   * stored as they are. Their accessors return the field, and the presence bitmask fields go.
+   */
+  private void storeOptionalsWrapped(PsiElementFactory psiElementFactory) {
+    for (BuilderFieldGenerator field : directive.fields) {
+      if (field.info.unwrappedOptionalModel == null) {
+        continue;
+      }
+      PsiField declared = field.info.field;
+      declared.normalizeDeclaration();
+      PsiTypeElement typeElement = declared.getTypeElement();
+      if (typeElement != null) {
+        typeElement.replace(psiElementFactory.createTypeElementFromText(field.model.type, declared));
+      }
+      replaced(declared);
+      for (PsiMethod accessor : directive.containerClass.findMethodsByName(declared.getName(), false)) {
+        PsiCodeBlock body = accessor.getBody();
+        if (accessor.getParameterList().getParametersCount() == 0
+            && body != null
+            && accessor.getReturnType() != null
+            && accessor.getReturnType().getCanonicalText().equals(field.model.type)) {
+          body.replace(psiElementFactory.createCodeBlockFromText("{ return " + declared.getName() + "; }", accessor));
+          replaced(accessor);
+        }
+      }
+    }
+    removeInstancePresenceFieldsExcept(Collections.emptySet());
   }
 
-  private void makeInstanceClassCtorTakingBuilder(PsiElementFactory psiElementFactory) {
-    TypeGenerationUtil.addMethod(psiElementFactory,
-      directive.containerClass,
-      null,
-      this.makeInstanceClassConstructorString(),
-      true);
+  private void removeInstancePresenceFieldsExcept(Set<String> wanted) {
+    for (PsiField field : directive.containerClass.getFields()) {
+      if (BuilderEmitter.isInstancePresenceField(field.getName()) && !wanted.contains(field.getName())) {
+        field.delete();
+      }
+    }
   }
 
-  private String makeInstanceClassConstructorString() {
-    return String.format(PRIMARY_CLASS_CTOR_FMT,
-      directive.containerClass.getName(),
-      builderClass.getName(),
-      generateConstructorBody(directive.fields));
+  /**
+   * Whether any field holds an Optional unwrapped: stored so by an earlier generation, whether or not it still is.
+   */
+  private boolean holdsOptionalsUnwrapped() {
+    for (BuilderFieldGenerator field : directive.fields) {
+      if (field.info.unwrappedOptionalModel != null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void inserted(PsiElement element) {
+    generated.add(element);
+    timings.inserted(1);
   }
 
-  private String generateConstructorBody(List<BuilderFieldGenerator> fields) {
-    StringBuilder b = new StringBuilder();
+  private void replaced(PsiElement element) {
+    generated.add(element);
+    timings.replaced(1);
+  }
 
-    for (BuilderFieldGenerator field : fields) {
-      b.append(field.toConstructorDeclaration());
+  /**
+   * Shorten references and reformat only what we inserted or replaced, so the cost tracks the size of the generated
+   * code rather than the size of the file, and hand formatting elsewhere in the class is left alone.
+   */
+  private void formatGeneratedElements() {
+    JavaCodeStyleManager styleManager = JavaCodeStyleManager.getInstance(directive.containerClass.getProject());
+    CodeStyleManager codeStyleManager = CodeStyleManager.getInstance(directive.containerClass.getProject());
+    for (PsiElement element : generated) {
+      if (element != null && element.isValid()) {
+        PsiElement shortened =
+          timings.time(GenerationTimings.Phase.SHORTEN_REFERENCES, () -> styleManager.shortenClassReferences(element));
+        // Offsets are read just before each reformat, as formatting an earlier element can shift later ones.
+        TextRange range = shortened.getTextRange();
+        timings.time(GenerationTimings.Phase.REFORMAT,
+          () -> codeStyleManager.reformatRange(directive.containerClass, range.getStartOffset(), range.getEndOffset()));
+      }
     }
-    return b.toString();
   }
 
-  private void addJacksonAnnotationToContainerClass(PsiElementFactory psiElementFactory) {
-    String deserialize = "@com.fasterxml.jackson.databind.annotation.JsonDeserialize(builder = "
-                         + directive.containerClass.getName()
-                         + ".Builder.class)";
+  /**
+   * Write the entire builder class into a single buffer, parse it once and insert it with a single 'add'. Cost is
+   * linear in the number of fields, and the container class sees one PSI change rather than one per member.
+   */
+  private void makeBuilderClassFromText(PsiElementFactory psiElementFactory) {
+    PsiClass newBuilderClass =
+      TypeGenerationUtil.createClassFromText(emitter.builderClass(model), directive.containerClass.getProject());
+    builderClass = (PsiClass) directive.containerClass.add(newBuilderClass);
 
-    PsiAnnotation jsonDeserializerAnnotation =
-      directive.containerClass.getAnnotation("com.fasterxml.jackson.databind.annotation.JsonDeserialize");
-    if (jsonDeserializerAnnotation != null) {
-      // probably don't need to delete and re-add, but on the off chance that the className was changed without
-      // the annotation being updated. Or perhaps the option was un-checked on re-run.
-      jsonDeserializerAnnotation.delete();
+    makeInstanceClassCtorTakingBuilder(psiElementFactory);
+  }
+
+  @Nullable
+  private BuilderInfo findExistingBuilder() {
+    PsiFile file = directive.containerClass.getContainingFile();
+    if (file instanceof PsiJavaFile) {
+      BuilderManager manager = new BuilderManager(directive.containerClass.getProject(), (PsiJavaFile) file);
+      if (directive.containerClass.equals(manager.instanceClass) && manager.hasBuilder()) {
+        return manager.extractBuilderInfo();
+      }
     }
-    TypeGenerationUtil.addAnnotation(directive.containerClass, deserialize, psiElementFactory);
+    return null;
   }
 
-  private void makeBuildMethod(PsiElementFactory psiElementFactory) {
-    TypeGenerationUtil.addMethod(psiElementFactory,
+  /**
+   * Update an existing builder in place: add, replace or remove only the fields and setters that differ from what
+   * would be generated, and regenerate the field-list dependent methods (ctor, from, copy, reset) only when the field
+   * list changed. Members that already match are left alone, hand edits included.
+   */
+  private void mergeIntoExistingBuilder(PsiElementFactory psiElementFactory, BuilderInfo existing) {
+    builderClass = existing.clazz;
+    Set<String> wantedNames = new HashSet<>();
+    for (BuilderFieldGenerator field : directive.fields) {
+      wantedNames.add(field.info.field.getName());
+    }
+
+    boolean fieldsChanged = false;
+    for (FieldInfo info : existing.fields) {
+      String name = info.field.getName();
+      // Static fields (the pool of a pooled builder) hold no field's value, and the presence masks are synced below.
+      if (wantedNames.contains(name)
+          || info.field.hasModifierProperty(PsiModifier.STATIC)
+          || BuilderEmitter.isPresenceField(name)) {
+        continue;
+      }
+      // Only a field the builder was generated with goes: one for a container field left out of the builder, or one
+      // with a generated setter. Fields added by hand, and their methods, stay.
+      List<PsiMethod> generatedMethods = generatedMethodsFor(name);
+      if (directive.containerClass.findFieldByName(name, false) != null || !generatedMethods.isEmpty()) {
+        for (PsiMethod method : generatedMethods) {
+          method.delete();
+        }
+        info.field.delete();
+        fieldsChanged = true;
+      }
+    }
+
+    // The setters are compared with what would be generated, rather than only added when missing: the presence bits are
+    // numbered by field order, and collections held in Guava builders or primitive collections and Optionals stored
+    // unwrapped have setters, copies and an instance ctor that differ from the plain ones. Turning one of those options
+    // off changes the setters back, so a changed setter (or presence mask) regenerates the methods that depend on them.
+    boolean shapeChanged = false;
+    boolean tracking = directive.primitiveBuilderFields;
+    boolean adders =
+      directive.collectionAdders || directive.primitiveCollections || directive.primitiveBackedCollections;
+    boolean unwrapped = directive.unwrappedOptionals || holdsOptionalsUnwrapped();
+    PsiElement fieldAnchor = null;
+    PsiElement setterAnchor = null;
+    for (BuilderFieldGenerator field : directive.fields) {
+      String name = field.info.field.getName();
+      PsiField wantedField = psiElementFactory.createFieldFromText(field.toBuilderFieldText(emitter), builderClass);
+      PsiField currentField = builderClass.findFieldByName(name, false);
+      if (currentField == null) {
+        currentField = (PsiField) insertMember(wantedField, fieldAnchor, firstOf(builderClass.getFields()));
+        inserted(currentField);
+        fieldsChanged = true;
+      } else if (!currentField.getType().equals(wantedField.getType())) {
+        currentField = (PsiField) currentField.replace(wantedField);
+        replaced(currentField);
+        fieldsChanged = true;
+      }
+      fieldAnchor = currentField;
+
+      PsiMethod wantedSetter =
+        psiElementFactory.createMethodFromText(field.toBuilderMethodText(emitter, model), builderClass);
+      PsiMethod currentSetter = builderClass.findMethodBySignature(wantedSetter, false);
+      if (currentSetter == null) {
+        PsiMethod staleSetter = findSetter(name);
+        if (staleSetter != null) {
+          currentSetter = (PsiMethod) staleSetter.replace(wantedSetter);
+          replaced(currentSetter);
+          shapeChanged = true;
+        } else {
+          currentSetter = (PsiMethod) insertMember(wantedSetter, setterAnchor, firstOf(builderClass.getMethods()));
+          inserted(currentSetter);
+        }
+      } else if (!sameText(currentSetter.getBody(), wantedSetter.getBody())) {
+        currentSetter = (PsiMethod) currentSetter.replace(wantedSetter);
+        replaced(currentSetter);
+        shapeChanged = true;
+      }
+      setterAnchor = syncAdditionalSetters(psiElementFactory, field, currentSetter);
+    }
+
+    shapeChanged |= syncPresenceFields(psiElementFactory, fieldAnchor);
+    boolean regenerate = fieldsChanged || shapeChanged || tracking || adders || unwrapped;
+    if (directive.pooledBuilder) {
+      PsiField pool = psiElementFactory.createFieldFromText(emitter.poolField(model), builderClass);
+      if (builderClass.findFieldByName(pool.getName(), false) == null) {
+        PsiField[] fields = builderClass.getFields();
+        inserted(insertMember(pool, fields.length > 0 ? fields[fields.length - 1] : null, null));
+      }
+    }
+
+    syncMethod(psiElementFactory, builderClass, emitter.builderConstructor(model), false, null);
+    if (directive.pooledBuilder) {
+      syncMethod(psiElementFactory, builderClass, emitter.pooledMethod(model), false, null);
+    }
+    PsiMethod[] buildMethods = builderClass.findMethodsByName("build", false);
+    PsiMethod buildMethod = buildMethods.length > 0 ? buildMethods[0] : null;
+    if (directive.createCopyMethod) {
+      syncMethod(psiElementFactory,
+        builderClass,
+        emitter.fromMethod(model),
+        regenerate,
+        null);
+      syncMethod(psiElementFactory,
+        builderClass,
+        emitter.copyMethod(model),
+        regenerate,
+        buildMethod);
+    }
+    syncMethod(psiElementFactory,
       builderClass,
-      null,
-      String.format("public %1$s build() { \n %2$s return new %1$s(this); \n}",
-        directive.containerClass.getQualifiedName(),
-        directive.implementValidated ? "checkValid();\n" : ""));
+      emitter.resetMethod(model),
+      regenerate,
+      buildMethod);
+    syncMethod(psiElementFactory, builderClass, emitter.buildMethod(model), true, null);
+    String unsetRequiredFields = emitter.unsetRequiredFieldsMethod(model);
+    if (unsetRequiredFields != null) {
+      syncMethod(psiElementFactory, builderClass, unsetRequiredFields, true, null);
+    } else {
+      // Nothing is tracked any more, and build() no longer calls it.
+      for (PsiMethod stale : builderClass.findMethodsByName(BuilderEmitter.UNSET_REQUIRED_FIELDS_METHOD, false)) {
+        if (stale.getParameterList().getParametersCount() == 0) {
+          stale.delete();
+        }
+      }
+    }
+    syncMethod(psiElementFactory,
+      directive.containerClass,
+      emitter.instanceConstructor(model),
+      fieldsChanged || shapeChanged || adders || unwrapped || directive.jdkCollections,
+      null);
+    if (emitter.generatesDeserializer()) {
+      syncNestedClass(BuilderEmitter.DESERIALIZER_CLASS_NAME, emitter.deserializerClass(model), regenerate);
+    }
+    if (emitter.generatesSerializer()) {
+      syncNestedClass(BuilderEmitter.SERIALIZER_CLASS_NAME,
+        emitter.serializerClass(model),
+        fieldsChanged || shapeChanged || unwrapped);
+    }
   }
 
+  /**
+   * Add the builder's nested class (the streaming deserializer or serializer) if it is missing, or replace it if
+   * 'replace' is set.
+   */
+  private void syncNestedClass(String name, String text, boolean replace) {
+    PsiClass wanted = TypeGenerationUtil.createClassFromText(text, directive.containerClass.getProject());
+    PsiClass current = builderClass.findInnerClassByName(name, false);
+    if (current == null) {
+      inserted(builderClass.add(wanted));
+    } else if (replace) {
+      replaced(current.replace(wanted));
+    }
+  }
 
+  /**
+   * Add the field's collection adders or setter overload that are missing, after its setter, replace those that
+   * differ from what would be generated, and remove generated ones no longer wanted (with the option turned off).
+   *
+   * @return The last of the field's methods, where the next field's setter goes.
+   */
+  private PsiElement syncAdditionalSetters(PsiElementFactory psiElementFactory,
+                                           BuilderFieldGenerator field,
+                                           PsiElement setter) {
+    List<PsiElement> kept = new ArrayList<>();
+    kept.add(setter);
+    PsiElement anchor = setter;
+    for (String method : emitter.additionalSetters(model, field.model)) {
+      PsiMethod wanted = psiElementFactory.createMethodFromText(method, builderClass);
+      PsiMethod current = builderClass.findMethodBySignature(wanted, false);
+      if (current == null) {
+        current = (PsiMethod) builderClass.addAfter(wanted, anchor);
+        inserted(current);
+      } else if (!sameText(current.getBody(), wanted.getBody())) {
+        current = (PsiMethod) current.replace(wanted);
+        replaced(current);
+      }
+      kept.add(current);
+      anchor = current;
+    }
+    for (PsiMethod method : generatedMethodsFor(field.info.field.getName())) {
+      if (!kept.contains(method)) {
+        method.delete();
+      }
+    }
+    return anchor;
+  }
 
   /**
-   * Create the constructor for the Builder class.
+   * Add the presence bitmask fields that are missing, after the last builder field, replace any whose type changed
+   * (from an int to longs, say, as the number of tracked fields grew past 32), and remove those no longer wanted.
+   *
+   * @return Whether any of them changed.
    */
-  private void makeBuilderCtor(PsiElementFactory psiElementFactory) {
-    String comment = directive.generateExampleCodeComment ? generateExampleComment() : "";
-    String fmt = "public %1$s(){}";
-    TypeGenerationUtil.addMethod(psiElementFactory,
-      builderClass,
-      null,
-      comment + String.format(fmt, builderClass.getName()));
-  }
-
-  private String generateExampleComment() {
-    StringBuilder comment = new StringBuilder();
-    comment.append("/*\n");
-    // MyClass myClass = new MyClass.Builder().
-    String className = directive.containerClass.getName();
-    comment.append("\t")
-           .append(className)
-           .append(" ")
-           .append(StringUtils.uncapitalize(className))
-           .append(" = new ")
-           .append(className)
-           .append(".")
-           .append(builderClass.getName())
-           .append("()");
+  private boolean syncPresenceFields(PsiElementFactory psiElementFactory, @Nullable PsiElement after) {
+    boolean changed = false;
+    Set<String> wantedNames = new HashSet<>();
+    PsiElement anchor = after;
+    for (String declaration : emitter.presenceFields(model)) {
+      PsiField wanted = psiElementFactory.createFieldFromText(declaration, builderClass);
+      wantedNames.add(wanted.getName());
+      PsiField current = builderClass.findFieldByName(wanted.getName(), false);
+      if (current == null) {
+        current = (PsiField) insertMember(wanted, anchor, firstOf(builderClass.getFields()));
+        inserted(current);
+        changed = true;
+      } else if (!current.getType().equals(wanted.getType())) {
+        current = (PsiField) current.replace(wanted);
+        replaced(current);
+        changed = true;
+      }
+      anchor = current;
+    }
+    for (PsiField field : builderClass.getFields()) {
+      if (BuilderEmitter.isPresenceField(field.getName()) && !wantedNames.contains(field.getName())) {
+        field.delete();
+        changed = true;
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * Equal ignoring whitespace, which the reformat decides anyway, and package qualifiers, which the emitter writes and
+   * the reference shortening removes.
+   */
+  private static boolean sameText(@Nullable PsiElement a, @Nullable PsiElement b) {
+    if (a == null || b == null) {
+      return a == b;
+    }
+    return normalized(a).equals(normalized(b));
+  }
+
+  private static String normalized(PsiElement element) {
+    return QUALIFIER.matcher(element.getText()).replaceAll("").replaceAll("\\s+", "");
+  }
+
+  /**
+   * The builder's methods for the field that have the shape of those generated for it: its one argument setter and
+   * overloads, and its collection adders.
+   */
+  private List<PsiMethod> generatedMethodsFor(String fieldName) {
+    List<PsiMethod> methods = new ArrayList<>();
+    for (PsiMethod method : builderClass.findMethodsByName(fieldName, false)) {
+      if (method.getParameterList().getParametersCount() == 1 && hasGeneratedShape(method, fieldName)) {
+        methods.add(method);
+      }
+    }
+    for (String name : BuilderEmitter.additionalSetterNames(fieldName)) {
+      for (PsiMethod method : builderClass.findMethodsByName(name, false)) {
+        if (hasGeneratedShape(method, fieldName)) {
+          methods.add(method);
+        }
+      }
+    }
+    return methods;
+  }
+
+  /**
+   * Whether the method has the shape of one generated for the field, under any options: it assigns the builder field
+   * and returns the builder. The setters do, as do their OptionalInt (and so on) overloads and the collection adders.
+   */
+  private static boolean hasGeneratedShape(PsiMethod method, String fieldName) {
+    PsiCodeBlock body = method.getBody();
+    if (body == null) {
+      return false;
+    }
+    String text = body.getText().replaceAll("\\s+", "");
+    return text.contains("this." + fieldName + "=") && text.endsWith("returnthis;}");
+  }
+
+  /**
+   * A one argument method named for the field: the builder's 'setter' for it.
+   */
+  @Nullable
+  private PsiMethod findSetter(String fieldName) {
+    for (PsiMethod method : builderClass.findMethodsByName(fieldName, false)) {
+      if (method.getParameterList().getParametersCount() == 1) {
+        return method;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Add the method if it is missing, or replace it if it exists, 'replace' is set and its body differs from the one
+   * wanted. Records what changed.
+   */
+  private void syncMethod(PsiElementFactory psiElementFactory,
+                          PsiClass target,
+                          String methodText,
+                          boolean replace,
+                          @Nullable PsiElement insertBefore) {
+    PsiMethod wanted = psiElementFactory.createMethodFromText(methodText, target);
+    PsiMethod current = target.findMethodBySignature(wanted, false);
+    if (current == null) {
+      inserted(insertBefore != null ? target.addBefore(wanted, insertBefore) : target.add(wanted));
+    } else if (replace && !sameText(current.getBody(), wanted.getBody())) {
+      replaced(current.replace(wanted));
+    }
+  }
+
+  private PsiElement insertMember(PsiElement member, @Nullable PsiElement after, @Nullable PsiElement first) {
+    if (after != null) {
+      return builderClass.addAfter(member, after);
+    }
+    if (first != null) {
+      return builderClass.addBefore(member, first);
+    }
+    return builderClass.add(member);
+  }
+
+  @Nullable
+  private static <T> T firstOf(T[] items) {
+    return items.length > 0 ? items[0] : null;
+  }
+
+  private static boolean hasMethod(PsiClass clazz, String name) {
+    return clazz.findMethodsByName(name, false).length > 0;
+  }
+
+  private void makeBuilderClassMemberByMember(PsiElementFactory psiElementFactory) {
+    builderClass = TypeGenerationUtil.createBuilderClass(directive.containerClass,
+      emitter.builderClassDeclaration(model));
+    builderClass = (PsiClass) directive.containerClass.add(builderClass);
+
+    makeInstanceClassCtorTakingBuilder(psiElementFactory);
+
+    BuilderFieldGenerator previous = null;
     for (BuilderFieldGenerator field : directive.fields) {
-      String fieldName = field.info.field.getName(); // @todo: ggranum: This is wrong for Optional.
-      comment.append("\n\t.")
-             .append(fieldName)
-             .append("( input.get")
-             .append(StringUtils.capitalize(fieldName))
-             .append("() )");
+      field.makeSelf(emitter, model, builderClass, previous, psiElementFactory);
+      previous = field;
+    }
+    for (String presenceField : emitter.presenceFields(model)) {
+      builderClass.add(psiElementFactory.createFieldFromText(presenceField, builderClass));
+    }
+    if (directive.pooledBuilder) {
+      builderClass.add(psiElementFactory.createFieldFromText(emitter.poolField(model), builderClass));
+    }
+
+    TypeGenerationUtil.addMethod(psiElementFactory, builderClass, null, emitter.builderConstructor(model));
+    if (directive.pooledBuilder) {
+      TypeGenerationUtil.addMethod(psiElementFactory, builderClass, null, emitter.pooledMethod(model));
+    }
+    if (directive.createCopyMethod) {
+      new FromInstanceMethodCreator(emitter).create(psiElementFactory, builderClass, model);
+      new CopyMethodCreator(emitter).create(psiElementFactory, builderClass, model);
+    }
+    TypeGenerationUtil.addMethod(psiElementFactory, builderClass, null, emitter.resetMethod(model));
+
+    TypeGenerationUtil.addMethod(psiElementFactory, builderClass, null, emitter.buildMethod(model));
+    String unsetRequiredFields = emitter.unsetRequiredFieldsMethod(model);
+    if (unsetRequiredFields != null) {
+      TypeGenerationUtil.addMethod(psiElementFactory, builderClass, null, unsetRequiredFields);
+    }
+    if (emitter.generatesDeserializer()) {
+      builderClass.add(TypeGenerationUtil.createClassFromText(emitter.deserializerClass(model),
+        directive.containerClass.getProject()));
+    }
+    if (emitter.generatesSerializer()) {
+      builderClass.add(TypeGenerationUtil.createClassFromText(emitter.serializerClass(model),
+        directive.containerClass.getProject()));
     }
-    comment.append("\n\t.build();\n");
-    comment.append("*/\n");
-    return comment.toString();
+    timings.inserted(builderClass.getFields().length + builderClass.getMethods().length);
   }
 
+  private void makeInstanceClassCtorTakingBuilder(PsiElementFactory psiElementFactory) {
+    PsiElement ctor = TypeGenerationUtil.addMethod(psiElementFactory,
+      directive.containerClass,
+      null,
+      emitter.instanceConstructor(model),
+      true);
+    inserted(ctor);
+  }
+
+  private PsiElement addJacksonAnnotationToContainerClass(PsiElementFactory psiElementFactory) {
+    String deserialize = emitter.jsonDeserializeAnnotation(model);
 
+    PsiAnnotation jsonDeserializerAnnotation = directive.containerClass.getAnnotation(JSON_DESERIALIZE_ANNOTATION);
+    if (jsonDeserializerAnnotation != null) {
+      // probably don't need to delete and re-add, but on the off chance that the className was changed without
+      // the annotation being updated. Or perhaps the option was un-checked on re-run.
+      jsonDeserializerAnnotation.delete();
+    }
+    return TypeGenerationUtil.addAnnotation(directive.containerClass, deserialize, psiElementFactory);
+  }
 }
- 
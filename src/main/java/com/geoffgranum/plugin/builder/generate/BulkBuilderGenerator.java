@@ -0,0 +1,179 @@
+package com.geoffgranum.plugin.builder.generate;
+
+import com.geoffgranum.plugin.builder.domain.BuilderAnalysis;
+import com.geoffgranum.plugin.builder.domain.GenerateBuilderDirective;
+import com.geoffgranum.plugin.builder.domain.PreferencesState;
+import com.google.common.collect.Lists;
+import com.intellij.concurrency.JobLauncher;
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElementFactory;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.SmartPointerManager;
+import com.intellij.psi.SmartPsiElementPointer;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Generates builders for every eligible class under a set of files and directories, without a dialog.
+ *
+ * The class analysis runs in parallel, in non-blocking read actions that give way to any pending write action. The
+ * PSI writes are then applied in small batches, each its own write command, so the IDE stays responsive between
+ * batches and the whole run can be cancelled from the progress indicator.
+ *
+ * @author ggranum
+ */
+public class BulkBuilderGenerator {
+
+  private static final int WRITE_BATCH_SIZE = 25;
+
+  private final Project project;
+
+  private final PreferencesState state;
+
+  public BulkBuilderGenerator(Project project, PreferencesState state) {
+    this.project = project;
+    this.state = state;
+  }
+
+  /**
+   * Must be called from a background thread.
+   *
+   * @return The number of classes a builder was generated for.
+   */
+  public int generate(Collection<VirtualFile> roots, ProgressIndicator indicator) {
+    indicator.setIndeterminate(false);
+    indicator.setText("Finding Java files");
+    List<VirtualFile> files = ReadAction.compute(() -> collectJavaFiles(roots, indicator));
+
+    indicator.setText("Analyzing classes");
+    Queue<Candidate> found = new ConcurrentLinkedQueue<>();
+    JobLauncher.getInstance().invokeConcurrentlyUnderProgress(files, indicator, file -> {
+      Candidate candidate = ReadAction.nonBlocking(() -> analyze(file)).executeSynchronously();
+      if (candidate != null) {
+        found.add(candidate);
+      }
+      return true;
+    });
+
+    List<Candidate> candidates = Lists.newArrayList(found);
+    candidates.sort(Comparator.comparing(c -> c.file.getPath()));
+
+    indicator.setText("Generating builders");
+    int generated = 0;
+    int processed = 0;
+    for (List<Candidate> batch : Lists.partition(candidates, WRITE_BATCH_SIZE)) {
+      indicator.checkCanceled();
+      generated += writeBatch(batch);
+      processed += batch.size();
+      indicator.setFraction((double) processed / candidates.size());
+    }
+    return generated;
+  }
+
+  private List<VirtualFile> collectJavaFiles(Collection<VirtualFile> roots, ProgressIndicator indicator) {
+    ProjectFileIndex fileIndex = ProjectRootManager.getInstance(project).getFileIndex();
+    List<VirtualFile> result = Lists.newArrayList();
+    for (VirtualFile root : roots) {
+      VfsUtilCore.iterateChildrenRecursively(root, file -> !fileIndex.isExcluded(file), file -> {
+        indicator.checkCanceled();
+        if (!file.isDirectory()
+            && JavaFileType.INSTANCE.equals(file.getFileType())
+            && fileIndex.isInSourceContent(file)) {
+          result.add(file);
+        }
+        return true;
+      });
+    }
+    return result;
+  }
+
+  @Nullable
+  private Candidate analyze(VirtualFile file) {
+    if (!file.isValid()) {
+      return null;
+    }
+    PsiFile psiFile = PsiManager.getInstance(project).findFile(file);
+    if (!(psiFile instanceof PsiJavaFile)) {
+      return null;
+    }
+    BuilderAnalysis analysis = BuilderAnalysis.of((PsiJavaFile) psiFile);
+    if (analysis == null || !analysis.supportsBuilder()) {
+      return null;
+    }
+    return new Candidate(file, analysis, SmartPointerManager.createPointer(analysis.instanceClass));
+  }
+
+  private int writeBatch(List<Candidate> batch) {
+    int[] written = {0};
+    ApplicationManager.getApplication().invokeAndWait(() -> {
+      List<PsiFile> files = Lists.newArrayList();
+      for (Candidate candidate : batch) {
+        PsiClass clazz = candidate.pointer.getElement();
+        if (clazz != null) {
+          files.add(clazz.getContainingFile());
+        }
+      }
+      PsiFile[] affected = files.toArray(PsiFile.EMPTY_ARRAY);
+      WriteCommandAction.writeCommandAction(project, affected).withName("Generate Builders").run(() -> {
+        PsiElementFactory psiElementFactory = JavaPsiFacade.getElementFactory(project);
+        for (Candidate candidate : batch) {
+          PsiClass clazz = candidate.pointer.getElement();
+          if (clazz != null && generate(clazz, candidate.analysis, psiElementFactory)) {
+            written[0]++;
+          }
+        }
+      });
+    }, ModalityState.defaultModalityState());
+    return written[0];
+  }
+
+  private boolean generate(PsiClass clazz, BuilderAnalysis analysis, PsiElementFactory psiElementFactory) {
+    if (!analysis.isValid()) {
+      // The file was edited after the analysis pass.
+      analysis = BuilderAnalysis.of(clazz);
+      if (!analysis.supportsBuilder()) {
+        return false;
+      }
+    }
+    GenerateBuilderDirective directive = new GenerateBuilderDirective.Builder().containerClass(clazz)
+      .fields(analysis.createBuilderFieldGenerators(analysis.instanceFields))
+      .preferences(state)
+      .build();
+    new BuilderClassGenerator(directive).makeSelf(psiElementFactory);
+    return true;
+  }
+
+  private static class Candidate {
+
+    private final VirtualFile file;
+
+    private final BuilderAnalysis analysis;
+
+    private final SmartPsiElementPointer<PsiClass> pointer;
+
+    Candidate(VirtualFile file, BuilderAnalysis analysis, SmartPsiElementPointer<PsiClass> pointer) {
+      this.file = file;
+      this.analysis = analysis;
+      this.pointer = pointer;
+    }
+  }
+}
@@ -1,29 +1,25 @@
 package com.geoffgranum.plugin.builder.generate;
 
 import com.geoffgranum.plugin.builder.TypeGenerationUtil;
-import com.geoffgranum.plugin.builder.info.FieldInfo;
+import com.geoffgranum.plugin.builder.core.generate.BuilderEmitter;
+import com.geoffgranum.plugin.builder.core.model.ClassModel;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElementFactory;
 import com.intellij.psi.PsiMethod;
 
-import java.util.List;
-
 /**
  * @author ggranum
  */
 public class CopyMethodCreator {
 
-  public void create(PsiElementFactory psiElementFactory, PsiClass builderClass, List<FieldInfo> fields) {
-
-    String fmt = "public %1$s copy(){\n" + "  %2$s" + "  return copy;" + "}";
-
-    StringBuilder body = new StringBuilder("Builder copy = new Builder();\n");
+  private final BuilderEmitter emitter;
 
-    for (FieldInfo field : fields) {
-      body.append(copyFieldStatement(field)).append('\n');
-    }
+  public CopyMethodCreator(BuilderEmitter emitter) {
+    this.emitter = emitter;
+  }
 
-    String methodText = String.format(fmt, builderClass.getName(), body.toString());
+  public void create(PsiElementFactory psiElementFactory, PsiClass builderClass, ClassModel model) {
+    String methodText = emitter.copyMethod(model);
 
     PsiMethod[] buildMethods = builderClass.findMethodsByName("build", false);
     if (buildMethods.length > 0) {
@@ -32,14 +28,4 @@ public class CopyMethodCreator {
       TypeGenerationUtil.addMethod(psiElementFactory, builderClass, methodText, true);
     }
   }
-
-
-  /**
-   * Returns a copy statement of the form "targetVariableName.fieldName(this.fieldName);"
-   */
-  private String copyFieldStatement(FieldInfo info) {
-    String fmt = "%1$s.%2$s(this.%2$s);";
-    return String.format(fmt, "copy", info.field.getName());
-  }
-
 }
@@ -0,0 +1,95 @@
+package com.geoffgranum.plugin.builder.generate;
+
+import com.intellij.openapi.application.ApplicationManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The timings of the most recent generations, for the statistics view. Only a fixed number of runs is kept, so the
+ * percentiles follow the current session rather than everything since the IDE started.
+ *
+ * @author ggranum
+ */
+public class GenerationStatistics {
+
+  static final int WINDOW_SIZE = 200;
+
+  private static final int SLOWEST_SHOWN = 5;
+
+  private final Deque<GenerationTimings> recent = new ArrayDeque<>(WINDOW_SIZE);
+
+  public static GenerationStatistics getInstance() {
+    return ApplicationManager.getApplication().getService(GenerationStatistics.class);
+  }
+
+  public synchronized void record(GenerationTimings timings) {
+    if (recent.size() == WINDOW_SIZE) {
+      recent.removeFirst();
+    }
+    recent.addLast(timings);
+  }
+
+  public synchronized void clear() {
+    recent.clear();
+  }
+
+  public synchronized List<GenerationTimings> snapshot() {
+    return new ArrayList<>(recent);
+  }
+
+  /**
+   * A plain text report: the percentiles for each phase and the slowest recent classes. Plain text so that it can be
+   * pasted straight into an issue.
+   */
+  public String report() {
+    List<GenerationTimings> runs = snapshot();
+    if (runs.isEmpty()) {
+      return "No builders generated yet.";
+    }
+    StringBuilder b = new StringBuilder(String.format(Locale.ROOT,
+      "Last %d generation(s), in milliseconds%n%n%-20s %8s %8s %8s %8s%n",
+      runs.size(),
+      "Phase",
+      "p50",
+      "p90",
+      "p99",
+      "max"));
+    for (GenerationTimings.Phase phase : GenerationTimings.Phase.values()) {
+      appendRow(b, phase.label, runs.stream().mapToLong(run -> run.millis(phase)).toArray());
+    }
+    appendRow(b, "Total", runs.stream().mapToLong(GenerationTimings::totalMillis).toArray());
+    appendRow(b, "Fields", runs.stream().mapToLong(GenerationTimings::fields).toArray());
+
+    b.append(String.format(Locale.ROOT, "%nSlowest%n"));
+    runs.sort(Comparator.comparingLong(GenerationTimings::totalMillis).reversed());
+    for (GenerationTimings run : runs.subList(0, Math.min(SLOWEST_SHOWN, runs.size()))) {
+      b.append(run.summary()).append(String.format("%n"));
+    }
+    return b.toString();
+  }
+
+  private static void appendRow(StringBuilder b, String label, long[] values) {
+    Arrays.sort(values);
+    b.append(String.format(Locale.ROOT,
+      "%-20s %8d %8d %8d %8d%n",
+      label,
+      percentile(values, 50),
+      percentile(values, 90),
+      percentile(values, 99),
+      values[values.length - 1]));
+  }
+
+  /**
+   * Nearest rank percentile of sorted values.
+   */
+  static long percentile(long[] sorted, int percent) {
+    int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+    return sorted[Math.max(rank, 1) - 1];
+  }
+}
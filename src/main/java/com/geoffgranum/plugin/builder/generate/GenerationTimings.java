@@ -0,0 +1,121 @@
+package com.geoffgranum.plugin.builder.generate;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Durations and counts for one builder generation, phase by phase, so that a slow generation can be attributed to
+ * the field analysis, the PSI changes, the reference shortening or the reformat.
+ *
+ * Each phase is filled in by the thread doing that phase, one phase at a time; the instance is not shared beyond that.
+ *
+ * @author ggranum
+ */
+public final class GenerationTimings {
+
+  public enum Phase {
+    ANALYSIS("Field analysis"),
+    PSI_INSERTION("PSI insertion"),
+    SHORTEN_REFERENCES("Shorten references"),
+    REFORMAT("Reformat");
+
+    public final String label;
+
+    Phase(String label) {
+      this.label = label;
+    }
+  }
+
+  public final String className;
+
+  private final long[] nanos = new long[Phase.values().length];
+
+  private int fields;
+
+  private int inserted;
+
+  private int replaced;
+
+  public GenerationTimings(String className) {
+    this.className = className;
+  }
+
+  public <T> T time(Phase phase, Supplier<T> work) {
+    long start = System.nanoTime();
+    try {
+      return work.get();
+    } finally {
+      add(phase, System.nanoTime() - start);
+    }
+  }
+
+  public void time(Phase phase, Runnable work) {
+    long start = System.nanoTime();
+    try {
+      work.run();
+    } finally {
+      add(phase, System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Accumulates: a phase that runs more than once, say a read action restarted by a write, counts every run.
+   */
+  public void add(Phase phase, long durationNanos) {
+    nanos[phase.ordinal()] += durationNanos;
+  }
+
+  public void fields(int count) {
+    fields = count;
+  }
+
+  public void inserted(int count) {
+    inserted += count;
+  }
+
+  public void replaced(int count) {
+    replaced += count;
+  }
+
+  public long millis(Phase phase) {
+    return TimeUnit.NANOSECONDS.toMillis(nanos[phase.ordinal()]);
+  }
+
+  public long totalMillis() {
+    long total = 0;
+    for (long phaseNanos : nanos) {
+      total += phaseNanos;
+    }
+    return TimeUnit.NANOSECONDS.toMillis(total);
+  }
+
+  public int fields() {
+    return fields;
+  }
+
+  public int inserted() {
+    return inserted;
+  }
+
+  public int replaced() {
+    return replaced;
+  }
+
+  /**
+   * One line, for idea.log and bug reports.
+   */
+  public String summary() {
+    StringBuilder b = new StringBuilder(String.format(Locale.ROOT,
+      "Generated builder for %s in %d ms (%d fields, %d elements inserted, %d replaced):",
+      className,
+      totalMillis(),
+      fields,
+      inserted,
+      replaced));
+    for (Phase phase : Phase.values()) {
+      b.append(' ').append(phase.label).append(' ').append(millis(phase)).append(" ms;");
+    }
+    return b.toString();
+  }
+}
@@ -0,0 +1,30 @@
+package com.geoffgranum.plugin.builder.generate;
+
+import com.geoffgranum.plugin.builder.TypeGenerationUtil;
+import com.geoffgranum.plugin.builder.core.generate.BuilderEmitter;
+import com.geoffgranum.plugin.builder.core.model.ClassModel;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementFactory;
+
+/**
+ * Creates the Jackson backed 'toJson' and 'fromJson' methods on the container class.
+ *
+ * @author ggranum
+ */
+public class JsonMethodsCreator {
+
+  private final BuilderEmitter emitter;
+
+  public JsonMethodsCreator(BuilderEmitter emitter) {
+    this.emitter = emitter;
+  }
+
+  public PsiElement createFromJsonMethod(PsiElementFactory psiElementFactory, PsiClass targetClass, ClassModel model) {
+    return TypeGenerationUtil.addMethod(psiElementFactory, targetClass, null, emitter.fromJsonMethod(model), true);
+  }
+
+  public PsiElement createToJsonMethod(PsiElementFactory psiElementFactory, PsiClass targetClass, ClassModel model) {
+    return TypeGenerationUtil.addMethod(psiElementFactory, targetClass, null, emitter.toJsonMethod(model), true);
+  }
+}
@@ -0,0 +1,57 @@
+package com.geoffgranum.plugin.builder.info;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
+/**
+ * Field annotations the generators know about. Each marker owns one bit of {@link FieldAnnotationsInfo#markers}.
+ *
+ * @author ggranum
+ */
+public enum FieldAnnotationMarker {
+  NOT_NULL("javax.validation.constraints.NotNull",
+    "jakarta.validation.constraints.NotNull",
+    "javax.annotation.Nonnull",
+    "org.jetbrains.annotations.NotNull",
+    "edu.umd.cs.findbugs.annotations.NonNull",
+    "lombok.NonNull",
+    "androidx.annotation.NonNull",
+    "org.checkerframework.checker.nullness.qual.NonNull",
+    "org.springframework.lang.NonNull"),
+  NULLABLE("javax.annotation.Nullable",
+    "javax.annotation.CheckForNull",
+    "org.jetbrains.annotations.Nullable",
+    "edu.umd.cs.findbugs.annotations.Nullable",
+    "androidx.annotation.Nullable",
+    "org.checkerframework.checker.nullness.qual.Nullable",
+    "org.springframework.lang.Nullable"),
+  NOT_EMPTY("javax.validation.constraints.NotEmpty",
+    "jakarta.validation.constraints.NotEmpty",
+    "org.hibernate.validator.constraints.NotEmpty"),
+  NOT_BLANK("javax.validation.constraints.NotBlank",
+    "jakarta.validation.constraints.NotBlank",
+    "org.hibernate.validator.constraints.NotBlank"),
+  SIZE("javax.validation.constraints.Size", "jakarta.validation.constraints.Size"),
+  MIN("javax.validation.constraints.Min", "jakarta.validation.constraints.Min"),
+  MAX("javax.validation.constraints.Max", "jakarta.validation.constraints.Max"),
+  PATTERN("javax.validation.constraints.Pattern", "jakarta.validation.constraints.Pattern"),
+  EMAIL("javax.validation.constraints.Email",
+    "jakarta.validation.constraints.Email",
+    "org.hibernate.validator.constraints.Email"),
+  POSITIVE("javax.validation.constraints.Positive", "jakarta.validation.constraints.Positive"),
+  POSITIVE_OR_ZERO("javax.validation.constraints.PositiveOrZero", "jakarta.validation.constraints.PositiveOrZero"),
+  NEGATIVE("javax.validation.constraints.Negative", "jakarta.validation.constraints.Negative"),
+  NEGATIVE_OR_ZERO("javax.validation.constraints.NegativeOrZero", "jakarta.validation.constraints.NegativeOrZero"),
+  VALID("javax.validation.Valid", "jakarta.validation.Valid");
+
+  public final List<String> qualifiedNames;
+
+  FieldAnnotationMarker(String... qualifiedNames) {
+    this.qualifiedNames = ImmutableList.copyOf(qualifiedNames);
+  }
+
+  public int bit() {
+    return 1 << ordinal();
+  }
+}
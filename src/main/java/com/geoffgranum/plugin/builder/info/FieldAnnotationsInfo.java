@@ -1,48 +1,46 @@
 package com.geoffgranum.plugin.builder.info;
 
 /**
+ * The recognized annotations on a field, as a bitset of {@link FieldAnnotationMarker}s.
+ *
  * @author ggranum
  */
 public final class FieldAnnotationsInfo {
 
+  public final int markers;
+
   public final boolean hasNotNull;
 
   public final boolean hasNullable;
 
-
-
   private FieldAnnotationsInfo(Builder builder) {
-    hasNotNull = builder.hasNotNull;
-    hasNullable = builder.hasNullable;
+    markers = builder.markers;
+    hasNotNull = has(FieldAnnotationMarker.NOT_NULL);
+    hasNullable = has(FieldAnnotationMarker.NULLABLE);
   }
 
-  public static final class Builder {
-    private Boolean hasNotNull;
+  public boolean has(FieldAnnotationMarker marker) {
+    return (markers & marker.bit()) != 0;
+  }
 
-    private Boolean hasNullable;
+  public static final class Builder {
+    private int markers;
 
     /*
-      BuilderFieldAnnotationsInfo builderFieldAnnotationsInfo = new BuilderFieldAnnotationsInfo.Builder()
-      .hasNotNull( input.getHasNotNull() )
-      .hasNullable( input.getHasNullable() )
+      FieldAnnotationsInfo fieldAnnotationsInfo = new FieldAnnotationsInfo.Builder()
+      .marker( FieldAnnotationMarker.NOT_NULL )
       .build();
     */
     public Builder() {
     }
 
     public Builder from(FieldAnnotationsInfo copy) {
-      hasNotNull = copy.hasNotNull;
-      hasNullable = copy.hasNullable;
-      return this;
-    }
-
-    public Builder hasNotNull(boolean hasNotNull) {
-      this.hasNotNull = hasNotNull;
+      markers = copy.markers;
       return this;
     }
 
-    public Builder hasNullable(boolean hasNullable) {
-      this.hasNullable = hasNullable;
+    public Builder marker(FieldAnnotationMarker marker) {
+      this.markers |= marker.bit();
       return this;
     }
 
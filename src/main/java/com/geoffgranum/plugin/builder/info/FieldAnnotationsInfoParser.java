@@ -1,58 +1,72 @@
 package com.geoffgranum.plugin.builder.info;
 
+import com.google.common.collect.ImmutableMap;
 import com.intellij.psi.PsiAnnotation;
-import org.jetbrains.annotations.NotNull;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Map;
 
 /**
+ * Reads a field's annotations in a single pass. Each annotation is looked up by exact qualified name in a table
+ * built once from {@link FieldAnnotationMarker}. Any annotation not in that table, whether its type resolves or not,
+ * falls back to a short name lookup, for the nullability markers only: those are declared by many libraries under
+ * the same names, more than the table lists.
+ *
  * @author ggranum
  */
 public class FieldAnnotationsInfoParser {
 
+  private static final Map<String, FieldAnnotationMarker> MARKERS_BY_NAME = markersByName();
+
+  private static final Map<String, FieldAnnotationMarker> NULLABILITY_BY_SHORT_NAME =
+    ImmutableMap.<String, FieldAnnotationMarker>builder()
+      .put("NotNull", FieldAnnotationMarker.NOT_NULL)
+      .put("NonNull", FieldAnnotationMarker.NOT_NULL)
+      .put("Nonnull", FieldAnnotationMarker.NOT_NULL)
+      .put("Nullable", FieldAnnotationMarker.NULLABLE)
+      .put("CheckForNull", FieldAnnotationMarker.NULLABLE)
+      .build();
+
   public FieldAnnotationsInfoParser() {
   }
 
   public FieldAnnotationsInfo parse(PsiAnnotation[] annotations) {
-    FieldAnnotationsInfo.Builder builder =
-      new FieldAnnotationsInfo.Builder().hasNotNull(checkForAnnotationByName(annotations, "NotNull"))
-        .hasNullable(checkForAnnotationByName(annotations, "Nullable"));
-    return builder.build();
-  }
-
-
-  private boolean checkForAnnotationByName(PsiAnnotation[] annotations, String name) {
-    boolean result = false;
+    FieldAnnotationsInfo.Builder builder = new FieldAnnotationsInfo.Builder();
     for (PsiAnnotation annotation : annotations) {
-      String qName = annotation.getQualifiedName();
-      if (qName != null && qName.contains(name)) {
-        result = true;
-        break;
+      FieldAnnotationMarker marker = markerFor(annotation);
+      if (marker != null) {
+        builder.marker(marker);
       }
     }
-    return result;
-
+    return builder.build();
   }
 
-  @NotNull
-  private List<PsiAnnotation> annotationsInPackage(PsiAnnotation[] annotations, String packagePath) {
-    List<PsiAnnotation> result = new ArrayList<>();
-    for (PsiAnnotation annotation : annotations) {
-      if (annotationInPackage(annotation, packagePath)) {
-        result.add(annotation);
+  @Nullable
+  private static FieldAnnotationMarker markerFor(PsiAnnotation annotation) {
+    String qName = annotation.getQualifiedName();
+    if (qName == null) {
+      return null;
+    }
+    FieldAnnotationMarker marker = MARKERS_BY_NAME.get(qName);
+    if (marker == null) {
+      // Unresolved types too, whose qualified name is just the name as written.
+      PsiJavaCodeReferenceElement ref = annotation.getNameReferenceElement();
+      String shortName = ref == null ? null : ref.getReferenceName();
+      if (shortName != null) {
+        marker = NULLABILITY_BY_SHORT_NAME.get(shortName);
       }
     }
-    return result;
-  }
-
-  private boolean annotationInPackage(PsiAnnotation annotation, String packagePath) {
-    String qName = annotation.getQualifiedName();
-    return qName != null && qName.startsWith(packagePath);
+    return marker;
   }
 
-  private List<PsiAnnotation> hibernateValidationConstraints(PsiAnnotation[] annotations) {
-    return null;
+  private static Map<String, FieldAnnotationMarker> markersByName() {
+    ImmutableMap.Builder<String, FieldAnnotationMarker> builder = ImmutableMap.builder();
+    for (FieldAnnotationMarker marker : FieldAnnotationMarker.values()) {
+      for (String qualifiedName : marker.qualifiedNames) {
+        builder.put(qualifiedName, marker);
+      }
+    }
+    return builder.build();
   }
-
 }
@@ -1,10 +1,25 @@
 package com.geoffgranum.plugin.builder.info;
 
-import com.geoffgranum.plugin.builder.domain.CustomDataTypes;
+import com.geoffgranum.plugin.builder.core.model.AnnotationModel;
+import com.geoffgranum.plugin.builder.core.model.FieldKind;
+import com.geoffgranum.plugin.builder.core.model.FieldModel;
+import com.geoffgranum.plugin.builder.core.model.PrimitiveCollectionType;
+import com.geoffgranum.plugin.builder.domain.FieldTypeClassifier;
+import com.geoffgranum.plugin.builder.domain.FieldTypeKind;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
 import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiPrimitiveType;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.impl.source.PsiClassReferenceType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 /**
  * @author ggranum
@@ -38,8 +53,24 @@ public final class FieldInfo {
    */
   public final boolean isAnOptional;
 
+  /**
+   * The fastutil, Eclipse Collections or Guava primitive collection this field is declared as; null if none.
+   */
+  public final PrimitiveCollectionType primitiveCollection;
+
   public final PsiField field;
 
+  /**
+   * The IDE independent form of this field, for the builder emitter.
+   */
+  public final FieldModel model;
+
+  /**
+   * When this field holds an Optional unwrapped, as generated with 'Store Optional fields unwrapped': the model of
+   * the Optional field it stands for, read from its accessor. Null otherwise.
+   */
+  public final FieldModel unwrappedOptionalModel;
+
   private FieldInfo(Builder builder) {
     annotationsInfo = builder.annotationsInfo;
     typeParameters = builder.typeParameters;
@@ -50,42 +81,108 @@ public final class FieldInfo {
     isSet = builder.isSet;
     isMap = builder.isMap;
     isAnOptional = builder.isAnOptional;
+    primitiveCollection = builder.primitiveCollection;
     field = builder.field;
 
     isPrimitiveType = field.getType() instanceof PsiPrimitiveType;
+    model = toModel();
+    unwrappedOptionalModel = unwrappedOptionalModel(builder.optionalAccessorType);
+  }
+
+  public static List<FieldModel> models(Collection<FieldInfo> infos) {
+    List<FieldModel> models = new ArrayList<>(infos.size());
+    for (FieldInfo info : infos) {
+      models.add(info.model);
+    }
+    return models;
+  }
+
+  private FieldModel toModel() {
+    List<String> typeArguments = canonicalTexts(typeParameters);
+    return modelOf(field.getType().getCanonicalText(), kind(typeArguments), typeArguments)
+      .primitiveCollection(primitiveCollection)
+      .build();
+  }
+
+  /**
+   * The model of the Optional the accessor returns, if this field holds exactly its unwrapped value.
+   */
+  @Nullable
+  private FieldModel unwrappedOptionalModel(@Nullable PsiClassType accessorType) {
+    if (accessorType == null) {
+      return null;
+    }
+    FieldKind kind = FieldKind.ofDeclaredType(accessorType.rawType().getCanonicalText());
+    List<String> typeArguments = canonicalTexts(accessorType.getParameters());
+    if (!(kind == FieldKind.PRIMITIVE_OPTIONAL || (kind == FieldKind.OPTIONAL && typeArguments.size() == 1))) {
+      return null;
+    }
+    FieldModel optional = modelOf(accessorType.getCanonicalText(), kind, typeArguments).build();
+    return optional.unwrappedType().equals(field.getType().getCanonicalText()) ? optional : null;
+  }
+
+  private FieldModel.Builder modelOf(String type, FieldKind kind, List<String> typeArguments) {
+    List<AnnotationModel> annotations = new ArrayList<>();
+    for (PsiAnnotation annotation : field.getAnnotations()) {
+      String qName = annotation.getQualifiedName();
+      annotations.add(new AnnotationModel(qName != null ? qName : "", annotation.getText()));
+    }
+    return new FieldModel.Builder().name(field.getName())
+      .type(type)
+      .kind(kind)
+      .typeArguments(typeArguments)
+      .annotations(annotations)
+      .nullable(annotationsInfo != null && annotationsInfo.hasNullable)
+      .required(annotationsInfo != null && annotationsInfo.hasNotNull);
   }
 
-  public String getImmutableCollectionName() {
-    String name;
-    if (this.isCollection) {
-      if (this.isList) {
-        name = "List";
-      } else if (this.isMap) {
-        name = "Map";
-      } else if (this.isSet) {
-        name = "Set";
-      } else {
-        throw new RuntimeException("Unhandled collection type: " + this.field.getType().getCanonicalText());
+  private static List<String> canonicalTexts(@Nullable PsiType[] types) {
+    List<String> texts = new ArrayList<>();
+    if (types != null) {
+      for (PsiType type : types) {
+        texts.add(type.getCanonicalText());
       }
-    } else {
-      throw new IllegalStateException("Developer fail.");
     }
-    return "Immutable" + name;
+    return texts;
   }
 
+  private FieldKind kind(List<String> typeArguments) {
+    if (isPrimitiveType) {
+      return FieldKind.PRIMITIVE;
+    }
+    if (FieldKind.ofDeclaredType(field.getType().getCanonicalText()) == FieldKind.PRIMITIVE_OPTIONAL) {
+      return FieldKind.PRIMITIVE_OPTIONAL;
+    }
+    if (primitiveCollection != null) {
+      // Checked first: fastutil's collections are java.util ones too, but can't take an ImmutableList.
+      return FieldKind.PRIMITIVE_COLLECTION;
+    }
+    if (isAnOptional && !typeArguments.isEmpty()) {
+      return FieldKind.OPTIONAL;
+    }
+    if (isMap) {
+      return FieldKind.MAP;
+    }
+    if (isCollection) {
+      return isSet ? FieldKind.SET : FieldKind.LIST;
+    }
+    return FieldKind.VALUE;
+  }
 
-  public static FieldInfo from(PsiField field, CustomDataTypes interestingTypes) {
+  public static FieldInfo from(PsiField field, FieldTypeClassifier classifier) {
     Builder builder = new Builder();
     PsiType type = field.getType();
     if (type instanceof PsiClassReferenceType) {
       PsiClassReferenceType pType = (PsiClassReferenceType) type;
+      Set<FieldTypeKind> kinds = classifier.classify(pType);
       builder.typeParameters(pType.getParameters())
         .typeClassName(pType.getClassName())
-        .isAnOptional(interestingTypes.isAnOptional(pType))
-        .isCollection(interestingTypes.isJavaUtilCollection(pType))
-        .isMap(interestingTypes.isJavaUtilMap(pType))
-        .isSet(interestingTypes.isJavaUtilSet(pType))
-        .isList(interestingTypes.isJavaUtilList(pType));
+        .isAnOptional(kinds.contains(FieldTypeKind.OPTIONAL))
+        .isCollection(kinds.contains(FieldTypeKind.COLLECTION))
+        .isMap(kinds.contains(FieldTypeKind.MAP))
+        .isSet(kinds.contains(FieldTypeKind.SET))
+        .isList(kinds.contains(FieldTypeKind.LIST));
+      builder.primitiveCollection(PrimitiveCollectionType.ofDeclaredType(pType.rawType().getCanonicalText()));
     } else {
 
       builder.typeClassName(type.getPresentableText());
@@ -93,9 +190,28 @@ public final class FieldInfo {
     return builder.field(field)
       .actualType(type)
       .annotationsInfo(new FieldAnnotationsInfoParser().parse(field.getAnnotations()))
+      .optionalAccessorType(optionalAccessorType(field))
       .build();
   }
 
+  /**
+   * The return type of the no argument method named for the field, when it returns a class type: a candidate for the
+   * accessor of an Optional the field holds unwrapped.
+   */
+  @Nullable
+  private static PsiClassType optionalAccessorType(PsiField field) {
+    PsiClass owner = field.getContainingClass();
+    if (owner == null) {
+      return null;
+    }
+    for (PsiMethod method : owner.findMethodsByName(field.getName(), false)) {
+      if (method.getParameterList().getParametersCount() == 0 && method.getReturnType() instanceof PsiClassType) {
+        return (PsiClassType) method.getReturnType();
+      }
+    }
+    return null;
+  }
+
   public static final class Builder {
 
     private FieldAnnotationsInfo annotationsInfo;
@@ -116,6 +232,10 @@ public final class FieldInfo {
 
     private boolean isAnOptional;
 
+    private PrimitiveCollectionType primitiveCollection;
+
+    private PsiClassType optionalAccessorType;
+
     private PsiField field;
 
     /*
@@ -153,6 +273,16 @@ public final class FieldInfo {
       return this;
     }
 
+    public Builder primitiveCollection(PrimitiveCollectionType primitiveCollection) {
+      this.primitiveCollection = primitiveCollection;
+      return this;
+    }
+
+    public Builder optionalAccessorType(PsiClassType optionalAccessorType) {
+      this.optionalAccessorType = optionalAccessorType;
+      return this;
+    }
+
     public Builder isCollection(boolean isCollection) {
       this.isCollection = isCollection;
       return this;
@@ -55,6 +55,59 @@ public class Dialog {
     "For to/From json and Validated, use the older Spork imports instead of the newer Uttu project.",
     'x');
 
+  public static final DialogOption SINGLE_PASS_GENERATION = new DialogOption("Generate builder in a single pass",
+    "Write the whole Builder class as text and insert it at once. Much faster on classes with many fields.",
+    'p');
+
+  public static final DialogOption UPDATE_EXISTING_BUILDER = new DialogOption("Update existing builder instead of replacing it",
+    "Only add, replace or remove the builder members that changed. Hand edits to unchanged members are kept.",
+    'u');
+
+  public static final DialogOption PRIMITIVE_BUILDER_FIELDS = new DialogOption("Keep primitive builder fields unboxed",
+    "Builder fields for primitives stay primitive, with a bitmask of which were set. Required (@NotNull) primitives "
+    + "must be set before build().",
+    'b');
+
+  public static final DialogOption COLLECTION_ADDERS = new DialogOption("Back collections with Guava builders",
+    "Collection fields are held in Immutable*.Builder instances, with add/addAll (put/putAll) and expected size "
+    + "methods. build() creates each collection once; a map given the same key twice then fails build().",
+    'g');
+
+  public static final DialogOption JDK_COLLECTIONS = new DialogOption("Use JDK immutable collections",
+    "Copy collections with List/Set/Map.copyOf (Java 10+), or into unmodifiable copies on older language levels, "
+    + "rather than with Guava. Fields declared as Guava types keep Guava.",
+    'j');
+
+  public static final DialogOption PRIMITIVE_COLLECTIONS = new DialogOption("Accumulate primitive collections",
+    "fastutil, Eclipse Collections and Guava Immutable*Array fields get add/addAll (put/putAll) methods filling a "
+    + "mutable collection of the same library, frozen to an immutable or unmodifiable one by build().",
+    'k');
+
+  public static final DialogOption PRIMITIVE_BACKED_COLLECTIONS = new DialogOption("Unbox number collections",
+    "List, Set and Map fields of Integer, Long and Double are held in fastutil's primitive collections, in the "
+    + "builder and in the instance. Needs fastutil on the classpath.",
+    'd');
+
+  public static final DialogOption UNWRAPPED_OPTIONALS = new DialogOption("Store Optional fields unwrapped",
+    "Optional, OptionalInt, OptionalLong and OptionalDouble fields hold the value instead, null or a presence bit if "
+    + "absent, with accessors named for them that return the Optional. Turning it off stores them as Optionals again.",
+    'o');
+
+  public static final DialogOption POOLED_BUILDER = new DialogOption("Add a thread-local pooled() builder",
+    "The builder gets a static pooled() method returning the calling thread's builder, reset, for building many "
+    + "instances in a loop without allocating a builder for each.",
+    'l');
+
+  public static final DialogOption STREAMING_DESERIALIZER = new DialogOption("Stream JSON into the builder",
+    "With Jackson annotations, the builder gets a generated deserializer reading the JSON token by token, registered "
+    + "with @JsonDeserialize(using = ...), in place of Jackson's reflective builder support.",
+    'r');
+
+  public static final DialogOption STREAMING_SERIALIZER = new DialogOption("Stream JSON out of the instance",
+    "With Jackson annotations, the builder gets a generated serializer writing each field straight to the JSON, "
+    + "registered with @JsonSerialize(using = ...), in place of Jackson's reflective bean serialization.",
+    's');
+
   private final PropertiesComponent propertiesComponent;
 
   private final PreferencesState.Builder newState;
@@ -79,6 +132,28 @@ public class Dialog {
 
   private JCheckBox generateExampleCodeCommentCb;
 
+  private JCheckBox singlePassGenerationCb;
+
+  private JCheckBox updateExistingBuilderCb;
+
+  private JCheckBox primitiveBuilderFieldsCb;
+
+  private JCheckBox collectionAddersCb;
+
+  private JCheckBox jdkCollectionsCb;
+
+  private JCheckBox primitiveCollectionsCb;
+
+  private JCheckBox primitiveBackedCollectionsCb;
+
+  private JCheckBox unwrappedOptionalsCb;
+
+  private JCheckBox pooledBuilderCb;
+
+  private JCheckBox streamingDeserializerCb;
+
+  private JCheckBox streamingSerializerCb;
+
   private MemberChooser<PsiFieldMember> chooser;
 
   public Dialog(PreferencesState state, PropertiesComponent propertiesComponent) {
@@ -119,6 +194,39 @@ public class Dialog {
     useSporkCb = createUseSporkCb();
     components.add(useSporkCb);
 
+    singlePassGenerationCb = createSinglePassGenerationCb();
+    components.add(singlePassGenerationCb);
+
+    updateExistingBuilderCb = createUpdateExistingBuilderCb();
+    components.add(updateExistingBuilderCb);
+
+    primitiveBuilderFieldsCb = createPrimitiveBuilderFieldsCb();
+    components.add(primitiveBuilderFieldsCb);
+
+    collectionAddersCb = createCollectionAddersCb();
+    components.add(collectionAddersCb);
+
+    jdkCollectionsCb = createJdkCollectionsCb();
+    components.add(jdkCollectionsCb);
+
+    primitiveCollectionsCb = createPrimitiveCollectionsCb();
+    components.add(primitiveCollectionsCb);
+
+    primitiveBackedCollectionsCb = createPrimitiveBackedCollectionsCb();
+    components.add(primitiveBackedCollectionsCb);
+
+    unwrappedOptionalsCb = createUnwrappedOptionalsCb();
+    components.add(unwrappedOptionalsCb);
+
+    pooledBuilderCb = createPooledBuilderCb();
+    components.add(pooledBuilderCb);
+
+    streamingDeserializerCb = createStreamingDeserializerCb();
+    components.add(streamingDeserializerCb);
+
+    streamingSerializerCb = createStreamingSerializerCb();
+    components.add(streamingSerializerCb);
+
     chooser = new MemberChooser<>(memberArray, false, true, project, null, components.toArray(new JComponent[0]));
 
     chooser.setTitle("Select Fields to Include in Builder");
@@ -230,4 +338,81 @@ public class Dialog {
     cb.addItemListener((e -> newState.useSpork(cb.isSelected())));
     return cb;
   }
+
+  @NotNull
+  private JCheckBox createSinglePassGenerationCb() {
+    JCheckBox cb = createCheckbox(SINGLE_PASS_GENERATION, previousState.singlePassGeneration);
+    cb.addItemListener((e -> newState.singlePassGeneration(cb.isSelected())));
+    return cb;
+  }
+
+  @NotNull
+  private JCheckBox createUpdateExistingBuilderCb() {
+    JCheckBox cb = createCheckbox(UPDATE_EXISTING_BUILDER, previousState.updateExistingBuilder);
+    cb.addItemListener((e -> newState.updateExistingBuilder(cb.isSelected())));
+    return cb;
+  }
+
+  @NotNull
+  private JCheckBox createPrimitiveBuilderFieldsCb() {
+    JCheckBox cb = createCheckbox(PRIMITIVE_BUILDER_FIELDS, previousState.primitiveBuilderFields);
+    cb.addItemListener((e -> newState.primitiveBuilderFields(cb.isSelected())));
+    return cb;
+  }
+
+  @NotNull
+  private JCheckBox createCollectionAddersCb() {
+    JCheckBox cb = createCheckbox(COLLECTION_ADDERS, previousState.collectionAdders);
+    cb.addItemListener((e -> newState.collectionAdders(cb.isSelected())));
+    return cb;
+  }
+
+  @NotNull
+  private JCheckBox createJdkCollectionsCb() {
+    JCheckBox cb = createCheckbox(JDK_COLLECTIONS, previousState.jdkCollections);
+    cb.addItemListener((e -> newState.jdkCollections(cb.isSelected())));
+    return cb;
+  }
+
+  @NotNull
+  private JCheckBox createPrimitiveCollectionsCb() {
+    JCheckBox cb = createCheckbox(PRIMITIVE_COLLECTIONS, previousState.primitiveCollections);
+    cb.addItemListener((e -> newState.primitiveCollections(cb.isSelected())));
+    return cb;
+  }
+
+  @NotNull
+  private JCheckBox createPrimitiveBackedCollectionsCb() {
+    JCheckBox cb = createCheckbox(PRIMITIVE_BACKED_COLLECTIONS, previousState.primitiveBackedCollections);
+    cb.addItemListener((e -> newState.primitiveBackedCollections(cb.isSelected())));
+    return cb;
+  }
+
+  @NotNull
+  private JCheckBox createUnwrappedOptionalsCb() {
+    JCheckBox cb = createCheckbox(UNWRAPPED_OPTIONALS, previousState.unwrappedOptionals);
+    cb.addItemListener((e -> newState.unwrappedOptionals(cb.isSelected())));
+    return cb;
+  }
+
+  @NotNull
+  private JCheckBox createPooledBuilderCb() {
+    JCheckBox cb = createCheckbox(POOLED_BUILDER, previousState.pooledBuilder);
+    cb.addItemListener((e -> newState.pooledBuilder(cb.isSelected())));
+    return cb;
+  }
+
+  @NotNull
+  private JCheckBox createStreamingDeserializerCb() {
+    JCheckBox cb = createCheckbox(STREAMING_DESERIALIZER, previousState.streamingDeserializer);
+    cb.addItemListener((e -> newState.streamingDeserializer(cb.isSelected())));
+    return cb;
+  }
+
+  @NotNull
+  private JCheckBox createStreamingSerializerCb() {
+    JCheckBox cb = createCheckbox(STREAMING_SERIALIZER, previousState.streamingSerializer);
+    cb.addItemListener((e -> newState.streamingSerializer(cb.isSelected())));
+    return cb;
+  }
 }
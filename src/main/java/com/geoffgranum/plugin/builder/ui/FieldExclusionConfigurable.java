@@ -0,0 +1,103 @@
+package com.geoffgranum.plugin.builder.ui;
+
+import com.geoffgranum.plugin.builder.domain.FieldExclusionRules;
+import com.geoffgranum.plugin.builder.domain.FieldExclusionSettings;
+import com.intellij.openapi.options.Configurable;
+import com.intellij.openapi.options.ConfigurationException;
+import com.intellij.openapi.project.Project;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.util.ui.FormBuilder;
+import org.jetbrains.annotations.Nls;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Settings page for the project's field exclusion rules. One entry per line.
+ *
+ * @author ggranum
+ */
+public class FieldExclusionConfigurable implements Configurable {
+
+  private final Project project;
+
+  private JTextArea excludedTypesText;
+
+  private JTextArea excludedNamePatternsText;
+
+  private JTextArea excludedAnnotationsText;
+
+  private JTextArea excludedModifiersText;
+
+  public FieldExclusionConfigurable(Project project) {
+    this.project = project;
+  }
+
+  @Nls
+  @Override
+  public String getDisplayName() {
+    return "BuilderGen Field Exclusions";
+  }
+
+  @Override
+  public JComponent createComponent() {
+    excludedTypesText = new JTextArea(8, 60);
+    excludedNamePatternsText = new JTextArea(3, 60);
+    excludedAnnotationsText = new JTextArea(3, 60);
+    excludedModifiersText = new JTextArea(3, 60);
+    return FormBuilder.createFormBuilder()
+      .addLabeledComponent("Excluded field types (fully qualified):", new JBScrollPane(excludedTypesText), true)
+      .addLabeledComponent("Excluded field name patterns (regex):", new JBScrollPane(excludedNamePatternsText), true)
+      .addLabeledComponent("Excluded annotations (fully qualified):", new JBScrollPane(excludedAnnotationsText), true)
+      .addLabeledComponent("Excluded modifiers (e.g. static, transient):",
+                           new JBScrollPane(excludedModifiersText),
+                           true)
+      .addComponentFillVertically(new JPanel(), 0)
+      .getPanel();
+  }
+
+  @Override
+  public boolean isModified() {
+    FieldExclusionSettings.State state = FieldExclusionSettings.getInstance(project).getState();
+    return !state.excludedTypes.equals(lines(excludedTypesText))
+           || !state.excludedNamePatterns.equals(lines(excludedNamePatternsText))
+           || !state.excludedAnnotations.equals(lines(excludedAnnotationsText))
+           || !state.excludedModifiers.equals(lines(excludedModifiersText));
+  }
+
+  @Override
+  public void apply() throws ConfigurationException {
+    FieldExclusionSettings.State state = new FieldExclusionSettings.State();
+    state.excludedTypes = lines(excludedTypesText);
+    state.excludedNamePatterns = lines(excludedNamePatternsText);
+    state.excludedAnnotations = lines(excludedAnnotationsText);
+    state.excludedModifiers = lines(excludedModifiersText);
+    try {
+      FieldExclusionRules.compile(state);
+    } catch (PatternSyntaxException e) {
+      throw new ConfigurationException("Invalid field name pattern: " + e.getMessage());
+    }
+    FieldExclusionSettings.getInstance(project).loadState(state);
+  }
+
+  @Override
+  public void reset() {
+    FieldExclusionSettings.State state = FieldExclusionSettings.getInstance(project).getState();
+    excludedTypesText.setText(String.join("\n", state.excludedTypes));
+    excludedNamePatternsText.setText(String.join("\n", state.excludedNamePatterns));
+    excludedAnnotationsText.setText(String.join("\n", state.excludedAnnotations));
+    excludedModifiersText.setText(String.join("\n", state.excludedModifiers));
+  }
+
+  private static List<String> lines(JTextArea text) {
+    List<String> result = new ArrayList<>();
+    for (String line : text.getText().split("\n")) {
+      if (!line.trim().isEmpty()) {
+        result.add(line.trim());
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,73 @@
+package com.geoffgranum.plugin.builder.ui;
+
+import com.geoffgranum.plugin.builder.generate.GenerationStatistics;
+import com.intellij.openapi.ide.CopyPasteManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.DialogWrapper;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.components.JBTextArea;
+import com.intellij.util.ui.JBUI;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.AbstractAction;
+import javax.swing.Action;
+import javax.swing.JComponent;
+import java.awt.Font;
+import java.awt.datatransfer.StringSelection;
+import java.awt.event.ActionEvent;
+
+/**
+ * Shows the phase percentiles and slowest classes of the recent builder generations, as text that can be copied into
+ * a bug report.
+ *
+ * @author ggranum
+ */
+public class GenerationStatisticsDialog extends DialogWrapper {
+
+  private final GenerationStatistics statistics;
+
+  private final JBTextArea report = new JBTextArea();
+
+  public GenerationStatisticsDialog(@Nullable Project project, GenerationStatistics statistics) {
+    super(project);
+    this.statistics = statistics;
+    setTitle("Builder Generation Statistics");
+    setOKButtonText("Close");
+    init();
+  }
+
+  @Nullable
+  @Override
+  protected JComponent createCenterPanel() {
+    report.setEditable(false);
+    report.setFont(new Font(Font.MONOSPACED, Font.PLAIN, report.getFont().getSize()));
+    report.setText(statistics.report());
+    JBScrollPane scrollPane = new JBScrollPane(report);
+    scrollPane.setPreferredSize(JBUI.size(760, 360));
+    return scrollPane;
+  }
+
+  @NotNull
+  @Override
+  protected Action[] createLeftSideActions() {
+    return new Action[]{new AbstractAction("Copy") {
+      @Override
+      public void actionPerformed(ActionEvent e) {
+        CopyPasteManager.getInstance().setContents(new StringSelection(report.getText()));
+      }
+    }, new AbstractAction("Clear") {
+      @Override
+      public void actionPerformed(ActionEvent e) {
+        statistics.clear();
+        report.setText(statistics.report());
+      }
+    }};
+  }
+
+  @NotNull
+  @Override
+  protected Action[] createActions() {
+    return new Action[]{getOKAction()};
+  }
+}
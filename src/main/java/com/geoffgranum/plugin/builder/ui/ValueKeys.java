@@ -6,4 +6,6 @@ package com.geoffgranum.plugin.builder.ui;
 public class ValueKeys {
 
   public static final String USER_PREFERENCES_KEY = "com.geoffgranum.plugin.builder.default_preferences";
+
+  public static final String NOTIFICATION_GROUP_ID = "BuilderGen";
 }
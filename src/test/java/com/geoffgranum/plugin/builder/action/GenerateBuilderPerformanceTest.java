@@ -0,0 +1,342 @@
+package com.geoffgranum.plugin.builder.action;
+
+import com.geoffgranum.plugin.builder.TypeGenerationUtil;
+import com.geoffgranum.plugin.builder.core.generate.BuilderEmitter;
+import com.geoffgranum.plugin.builder.core.generate.TypeNames;
+import com.geoffgranum.plugin.builder.domain.BuilderAnalysis;
+import com.geoffgranum.plugin.builder.domain.GenerateBuilderDirective;
+import com.geoffgranum.plugin.builder.domain.PreferencesState;
+import com.geoffgranum.plugin.builder.generate.GenerationTimings;
+import com.geoffgranum.plugin.builder.ui.ValueKeys;
+import com.intellij.ide.util.PropertiesComponent;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.codeStyle.CodeStyleManager;
+import com.intellij.psi.codeStyle.JavaCodeStyleManager;
+import com.intellij.testFramework.LightProjectDescriptor;
+import com.intellij.testFramework.PlatformTestUtil;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.intellij.util.ThrowableRunnable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times each step of generating a builder, on classes from 10 to 2,000 fields wide and at the bottom of a deep
+ * superclass chain, against the baselines in 'performance-baselines.properties'. The platform scales the baselines to
+ * the speed of the machine running the test.
+ *
+ * Two checks don't depend on the baselines at all. Each step's time at 2,000 fields is compared with its time at 500,
+ * so a step that goes quadratic fails on any machine. And every step timed here runs on the EDT, so a step that
+ * never finishes within the platform's freeze threshold fails too.
+ *
+ * With 'performance.baselines.record' set, as './gradlew test -PrecordBaselines' does, the steps are measured and the
+ * baselines written out rather than checked; see {@link PerformanceBaselines}.
+ *
+ * @author ggranum
+ */
+public class GenerateBuilderPerformanceTest extends LightJavaCodeInsightFixtureTestCase {
+
+  private static final PerformanceBaselines BASELINES = PerformanceBaselines.load();
+
+  private static final String DEEP = "deep";
+
+  /**
+   * The flat class widths, and the superclass chain.
+   */
+  private static final String[] CASES = {"10", "100", "500", "2000", DEEP};
+
+  private static final int HIERARCHY_DEPTH = 50;
+
+  private static final String SINGLE_PASS_CASE = "300";
+
+  private static final int FIELDS_PER_LEVEL = 10;
+
+  private static final int ATTEMPTS = 3;
+
+  /**
+   * The runs timed for a median, after one to warm up: when recording a baseline, and for each size compared by the
+   * scaling checks.
+   */
+  private static final int TIMED_RUNS = 7;
+
+  /**
+   * Four times the fields should cost about four times as much; sixteen times if the cost is quadratic. The limit is
+   * halfway between, geometrically, so the measured ratio can be off by a factor of two before a linear generator
+   * fails or a quadratic one passes.
+   */
+  private static final double MAX_SCALING_RATIO = 8.0;
+
+  /**
+   * Below this, at 2,000 fields, a step's ratio is mostly timer and GC noise, and a quadratic cost too small to matter.
+   */
+  private static final long MIN_SCALING_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+  /**
+   * The platform's default 'performance.watcher.unresponsive.interval.ms': an EDT busy for longer is reported as a
+   * freeze. Checked against a step's fastest attempt, so it takes a consistently slow step to fail, not a GC pause.
+   */
+  private static final long FREEZE_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+  /**
+   * Each configured class gets a fresh name, so no attempt is served from the caches of an earlier one.
+   */
+  private int classCount;
+
+  @NotNull
+  @Override
+  protected LightProjectDescriptor getProjectDescriptor() {
+    return JAVA_8;
+  }
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    SyntheticClasses.addLibraryStubs(myFixture);
+    PropertiesComponent.getInstance().setValue(ValueKeys.USER_PREFERENCES_KEY, preferences().toJson());
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    try {
+      PropertiesComponent.getInstance().unsetValue(ValueKeys.USER_PREFERENCES_KEY);
+    } finally {
+      super.tearDown();
+    }
+  }
+
+  public void testIsValidFor() throws Throwable {
+    timeCases("isValidFor", isValidForStep());
+  }
+
+  public void testIsValidForScalesLinearly() throws Throwable {
+    assertScalesLinearly("isValidFor", isValidForStep());
+  }
+
+  public void testFieldSelection() throws Throwable {
+    timeCases("fieldSelection", fieldSelectionStep());
+  }
+
+  public void testFieldSelectionScalesLinearly() throws Throwable {
+    assertScalesLinearly("fieldSelection", fieldSelectionStep());
+  }
+
+  public void testMakeBuilder() throws Throwable {
+    timeCases("makeBuilder", makeBuilderStep());
+  }
+
+  public void testMakeBuilderScalesLinearly() throws Throwable {
+    assertScalesLinearly("makeBuilder", makeBuilderStep());
+  }
+
+  public void testReformat() throws Throwable {
+    timeCases("reformat", reformatStep());
+  }
+
+  public void testReformatScalesLinearly() throws Throwable {
+    assertScalesLinearly("reformat", reformatStep());
+  }
+
+  /**
+   * Times the single pass generation against the member by member one it replaced, and fails if it has lost its lead.
+   * Recording baselines records both medians, so the comparison is kept with the machine it was made on.
+   */
+  public void testSinglePassBeatsMemberByMember() throws Throwable {
+    PreferencesState singlePass = preferences();
+    PreferencesState memberByMember =
+      new PreferencesState.Builder().from(singlePass).singlePassGeneration(false).build();
+    long[] single = new long[TIMED_RUNS];
+    long[] byMember = new long[TIMED_RUNS];
+    makeBuilderNanos(SINGLE_PASS_CASE, singlePass);
+    makeBuilderNanos(SINGLE_PASS_CASE, memberByMember);
+    for (int i = 0; i < TIMED_RUNS; i++) {
+      single[i] = makeBuilderNanos(SINGLE_PASS_CASE, singlePass);
+      byMember[i] = makeBuilderNanos(SINGLE_PASS_CASE, memberByMember);
+    }
+    if (PerformanceBaselines.isRecording()) {
+      BASELINES.record("singlePass." + SINGLE_PASS_CASE, median(single));
+      BASELINES.record("memberByMember." + SINGLE_PASS_CASE, median(byMember));
+    }
+    assertTrue(String.format("%s fields: single pass %d ms, member by member %d ms, medians of %d runs",
+      SINGLE_PASS_CASE,
+      TimeUnit.NANOSECONDS.toMillis(median(single)),
+      TimeUnit.NANOSECONDS.toMillis(median(byMember)),
+      TIMED_RUNS), median(single) < median(byMember));
+  }
+
+  /**
+   * A step of the generation, prepared for a case untimed.
+   */
+  private interface Step {
+
+    /**
+     * @return The step itself, to time.
+     */
+    ThrowableRunnable<?> prepare(String caseName) throws Throwable;
+  }
+
+  private Step isValidForStep() {
+    GenerateBuilderHandler handler = new GenerateBuilderHandler();
+    return caseName -> {
+      PsiJavaFile file = configure(caseName);
+      return () -> assertTrue(handler.isValidFor(myFixture.getEditor(), file));
+    };
+  }
+
+  /**
+   * The field scan and classification that precede the field chooser.
+   */
+  private Step fieldSelectionStep() {
+    return caseName -> {
+      PsiJavaFile file = configure(caseName);
+      return () -> {
+        BuilderAnalysis analysis = BuilderAnalysis.of(file);
+        assertTrue(analysis != null && analysis.supportsBuilder());
+      };
+    };
+  }
+
+  private Step makeBuilderStep() {
+    return caseName -> {
+      BuilderAnalysis analysis = BuilderAnalysis.of(configure(caseName));
+      return () -> {
+        makeBuilder(analysis);
+        assertNotNull(analysis.instanceClass.findInnerClassByName(TypeGenerationUtil.BUILDER_CLASS_NAME, false));
+      };
+    };
+  }
+
+  /**
+   * The reference shortening and reformat that finish the generation, on the builder as it is first inserted: fully
+   * qualified and unformatted.
+   */
+  private Step reformatStep() {
+    return caseName -> {
+      PsiClass builder = insertUnformattedBuilder(caseName);
+      return () -> WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+        PsiElement shortened = JavaCodeStyleManager.getInstance(getProject()).shortenClassReferences(builder);
+        CodeStyleManager.getInstance(getProject()).reformat(shortened);
+      });
+    };
+  }
+
+  /**
+   * Check the step against its baseline and the freeze threshold for each case, or record its baselines.
+   */
+  private static void timeCases(String stepName, Step step) throws Throwable {
+    for (String caseName : CASES) {
+      String name = stepName + "." + caseName;
+      if (PerformanceBaselines.isRecording()) {
+        BASELINES.record(name, medianNanos(step, caseName));
+        continue;
+      }
+      ThrowableRunnable<?>[] prepared = {null};
+      long[] fastest = {Long.MAX_VALUE};
+      PlatformTestUtil.startPerformanceTest(name, BASELINES.expectedMs(name), () -> {
+        long start = System.nanoTime();
+        prepared[0].run();
+        fastest[0] = Math.min(fastest[0], System.nanoTime() - start);
+      }).setup(() -> prepared[0] = step.prepare(caseName)).attempts(ATTEMPTS).assertTiming();
+      assertTrue(String.format("%s took %d ms at best, on the EDT", name, TimeUnit.NANOSECONDS.toMillis(fastest[0])),
+        fastest[0] < FREEZE_NANOS);
+    }
+  }
+
+  /**
+   * Catches a step gone quadratic even on a machine fast enough to stay under the absolute baselines, and whatever
+   * the baselines are.
+   */
+  private static void assertScalesLinearly(String stepName, Step step) throws Throwable {
+    long[] small = new long[TIMED_RUNS];
+    long[] large = new long[TIMED_RUNS];
+    timeOnce(step, "500");
+    timeOnce(step, "2000");
+    // Alternating the sizes spreads a change in the machine's load over both.
+    for (int i = 0; i < TIMED_RUNS; i++) {
+      small[i] = timeOnce(step, "500");
+      large[i] = timeOnce(step, "2000");
+    }
+    if (median(large) < MIN_SCALING_NANOS) {
+      return;
+    }
+    double ratio = (double) median(large) / median(small);
+    assertTrue(String.format("%s took %.1f times as long at 2000 fields as at 500, comparing the medians of %d runs",
+      stepName,
+      ratio,
+      TIMED_RUNS), ratio < MAX_SCALING_RATIO);
+  }
+
+  /**
+   * The median of the timed runs, after one to warm up.
+   */
+  private static long medianNanos(Step step, String caseName) throws Throwable {
+    timeOnce(step, caseName);
+    long[] runs = new long[TIMED_RUNS];
+    for (int i = 0; i < runs.length; i++) {
+      runs[i] = timeOnce(step, caseName);
+    }
+    return median(runs);
+  }
+
+  private static long timeOnce(Step step, String caseName) throws Throwable {
+    ThrowableRunnable<?> timed = step.prepare(caseName);
+    long start = System.nanoTime();
+    timed.run();
+    return System.nanoTime() - start;
+  }
+
+  private PsiJavaFile configure(String caseName) {
+    String className = "Model" + (++classCount);
+    String text = DEEP.equals(caseName)
+                  ? SyntheticClasses.deepHierarchy(myFixture, className, HIERARCHY_DEPTH, FIELDS_PER_LEVEL)
+                  : SyntheticClasses.flat(className, Integer.parseInt(caseName));
+    return (PsiJavaFile) myFixture.configureByText(className + ".java", text);
+  }
+
+  private void makeBuilder(BuilderAnalysis analysis) {
+    WriteCommandAction.runWriteCommandAction(getProject(),
+      new GenerateBuilderHandler.MakeBuilderRunnable(getProject(),
+        analysis,
+        analysis.instanceFields,
+        PropertiesComponent.getInstance(),
+        new GenerationTimings(analysis.instanceClass.getName())));
+  }
+
+  private long makeBuilderNanos(String caseName, PreferencesState preferences) throws Throwable {
+    PropertiesComponent.getInstance().setValue(ValueKeys.USER_PREFERENCES_KEY, preferences.toJson());
+    return makeBuilderNanos(caseName);
+  }
+
+  private long makeBuilderNanos(String caseName) throws Throwable {
+    return timeOnce(makeBuilderStep(), caseName);
+  }
+
+  private static long median(long[] nanos) {
+    long[] sorted = nanos.clone();
+    Arrays.sort(sorted);
+    return sorted[sorted.length / 2];
+  }
+
+  private PsiClass insertUnformattedBuilder(String caseName) {
+    BuilderAnalysis analysis = BuilderAnalysis.of(configure(caseName));
+    GenerateBuilderDirective directive = new GenerateBuilderDirective.Builder().containerClass(analysis.instanceClass)
+      .fields(analysis.createBuilderFieldGenerators(analysis.instanceFields))
+      .preferences(preferences())
+      .build();
+    BuilderEmitter emitter = new BuilderEmitter(directive.toOptions(), TypeNames.QUALIFIED);
+    PsiClass builder =
+      TypeGenerationUtil.createClassFromText(emitter.builderClass(directive.toClassModel()), getProject());
+    return WriteCommandAction.writeCommandAction(getProject())
+      .compute(() -> (PsiClass) analysis.instanceClass.add(builder));
+  }
+
+  /**
+   * Jackson and the copy methods on, so that most of the generated code is in play.
+   */
+  private static PreferencesState preferences() {
+    return new PreferencesState.Builder().generateJsonAnnotations(true).generateCopyMethod(true).build();
+  }
+}
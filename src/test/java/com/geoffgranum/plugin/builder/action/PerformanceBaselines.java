@@ -0,0 +1,155 @@
+package com.geoffgranum.plugin.builder.action;
+
+import com.intellij.openapi.application.ApplicationInfo;
+import com.intellij.testFramework.Timings;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * The expected timings for the performance tests, from 'performance-baselines.properties'. A test without a
+ * baseline fails, rather than passing against some default.
+ *
+ * Run with the system property 'performance.baselines.record' set to a path, the tests measure each step instead and
+ * write a copy of the file there with the measured baselines and the machine they came from.
+ *
+ * @author ggranum
+ */
+final class PerformanceBaselines {
+
+  private static final String RESOURCE = "/performance-baselines.properties";
+
+  private static final String RECORD_PROPERTY = "performance.baselines.record";
+
+  private static final String MACHINE_PREFIX = "# Machine: ";
+
+  /**
+   * A recorded baseline is the measured median times this, the room the file promises for noise.
+   */
+  private static final double HEADROOM = 1.5;
+
+  private final String text;
+
+  private final Properties baselines;
+
+  private final Map<String, Long> recorded = new TreeMap<>();
+
+  private PerformanceBaselines(String text, Properties baselines) {
+    this.text = text;
+    this.baselines = baselines;
+  }
+
+  static PerformanceBaselines load() {
+    Properties properties = new Properties();
+    String text;
+    try (InputStream in = PerformanceBaselines.class.getResourceAsStream(RESOURCE)) {
+      if (in == null) {
+        throw new IllegalStateException("Missing " + RESOURCE);
+      }
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      byte[] buffer = new byte[4096];
+      for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+        bytes.write(buffer, 0, read);
+      }
+      text = new String(bytes.toByteArray(), StandardCharsets.ISO_8859_1);
+      properties.load(new StringReader(text));
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not read " + RESOURCE, e);
+    }
+    return new PerformanceBaselines(text, properties);
+  }
+
+  static boolean isRecording() {
+    return System.getProperty(RECORD_PROPERTY) != null;
+  }
+
+  int expectedMs(String name) {
+    String value = baselines.getProperty(name);
+    if (value == null) {
+      throw new IllegalStateException("No baseline for '" + name + "' in " + RESOURCE);
+    }
+    return Integer.parseInt(value.trim());
+  }
+
+  /**
+   * Record the baseline for a step from its median time on this machine, scaled back to the platform's reference
+   * machine the way the platform scales the baselines when it checks them, and rewrite the recorded file.
+   */
+  void record(String name, long medianNanos) {
+    double speed = (double) Timings.adjustAccordingToMySpeed(1_000_000, false) / 1_000_000;
+    recorded.put(name, Math.max(1, (long) Math.ceil(medianNanos / 1e6 / speed * HEADROOM)));
+    write();
+  }
+
+  /**
+   * The file as checked in, with the recorded baselines in place of the old ones and any new ones at the end.
+   */
+  private void write() {
+    List<String> lines = new ArrayList<>();
+    Set<String> written = new HashSet<>();
+    for (String line : text.split("\r?\n")) {
+      int equals = line.indexOf('=');
+      String name = line.startsWith("#") || equals < 0 ? null : line.substring(0, equals).trim();
+      if (line.startsWith(MACHINE_PREFIX)) {
+        lines.add(MACHINE_PREFIX + machine());
+      } else if (name != null && recorded.containsKey(name)) {
+        lines.add(name + "=" + recorded.get(name));
+        written.add(name);
+      } else {
+        lines.add(line);
+      }
+    }
+    recorded.forEach((name, ms) -> {
+      if (!written.contains(name)) {
+        lines.add(name + "=" + ms);
+      }
+    });
+    try {
+      Files.write(Paths.get(System.getProperty(RECORD_PROPERTY)), lines, StandardCharsets.ISO_8859_1);
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not write the recorded baselines", e);
+    }
+  }
+
+  private static String machine() {
+    return String.format("%s, %d CPUs, %s %s, Java %s (%s), %s, CPU timing %d, recorded %s",
+      System.getProperty("os.name"),
+      Runtime.getRuntime().availableProcessors(),
+      System.getProperty("os.arch"),
+      cpuModel(),
+      System.getProperty("java.version"),
+      System.getProperty("java.vendor"),
+      ApplicationInfo.getInstance().getBuild().asString(),
+      Timings.CPU_TIMING,
+      LocalDate.now());
+  }
+
+  /**
+   * The processor's model name, where the OS offers it as Linux does.
+   */
+  private static String cpuModel() {
+    try {
+      return Files.readAllLines(Paths.get("/proc/cpuinfo"))
+        .stream()
+        .filter(line -> line.startsWith("model name"))
+        .map(line -> line.substring(line.indexOf(':') + 1).trim())
+        .findFirst()
+        .orElse("");
+    } catch (IOException | RuntimeException e) {
+      return "";
+    }
+  }
+}
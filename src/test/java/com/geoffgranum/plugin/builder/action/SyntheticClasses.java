@@ -0,0 +1,84 @@
+package com.geoffgranum.plugin.builder.action;
+
+import com.intellij.testFramework.fixtures.JavaCodeInsightTestFixture;
+
+/**
+ * Source text for the classes the performance tests generate builders for: flat classes of a given width, and
+ * classes at the bottom of a deep superclass chain. The field types rotate through the kinds the generator treats
+ * differently, so every code path is exercised in proportion.
+ *
+ * @author ggranum
+ */
+final class SyntheticClasses {
+
+  static final String PACKAGE = "synthetic";
+
+  private static final String[] FIELD_TYPES = {
+    "String", "int", "long", "List<String>", "Optional<String>", "Map<String, Integer>", "Set<String>", "boolean"
+  };
+
+  private SyntheticClasses() {
+  }
+
+  /**
+   * The library classes the generated code refers to, so that references resolve and shorten as they would in a real
+   * project. Only their names and signatures matter.
+   */
+  static void addLibraryStubs(JavaCodeInsightTestFixture fixture) {
+    for (String collection : new String[]{"List", "Set"}) {
+      fixture.addClass("package com.google.common.collect; public abstract class Immutable" + collection + "<E> "
+                       + "implements java.util." + collection + "<E> { "
+                       + "public static <E> Immutable" + collection + "<E> "
+                       + "copyOf(java.util.Collection<? extends E> c) { return null; } }");
+    }
+    fixture.addClass("package com.google.common.collect; public abstract class ImmutableMap<K, V> "
+                     + "implements java.util.Map<K, V> { "
+                     + "public static <K, V> ImmutableMap<K, V> copyOf(java.util.Map<? extends K, ? extends V> m) { "
+                     + "return null; } }");
+    fixture.addClass("package com.fasterxml.jackson.annotation; public @interface JsonProperty { }");
+    fixture.addClass("package com.fasterxml.jackson.databind.annotation; public @interface JsonDeserialize { "
+                     + "Class<?> builder(); }");
+  }
+
+  /**
+   * A class with 'fieldCount' final fields, and the caret on a blank line in its body.
+   */
+  static String flat(String className, int fieldCount) {
+    return classText(className, null, "f", fieldCount, true);
+  }
+
+  /**
+   * Adds a chain of 'depth' superclasses, each declaring 'fieldsPerClass' final fields, and returns the text of the
+   * class at the bottom of it, which declares the same number again.
+   */
+  static String deepHierarchy(JavaCodeInsightTestFixture fixture, String className, int depth, int fieldsPerClass) {
+    String superClass = null;
+    for (int level = 0; level < depth; level++) {
+      String name = className + "Base" + level;
+      fixture.addClass(classText(name, superClass, "l" + level + "f", fieldsPerClass, false));
+      superClass = name;
+    }
+    return classText(className, superClass, "f", fieldsPerClass, true);
+  }
+
+  private static String classText(String className,
+                                  String superClass,
+                                  String fieldPrefix,
+                                  int fieldCount,
+                                  boolean caret) {
+    StringBuilder text = new StringBuilder("package ").append(PACKAGE).append(";\n\n")
+      .append("import java.util.List;\nimport java.util.Map;\nimport java.util.Optional;\nimport java.util.Set;\n\n")
+      .append("public class ").append(className);
+    if (superClass != null) {
+      text.append(" extends ").append(superClass);
+    }
+    text.append(" {\n");
+    for (int i = 0; i < fieldCount; i++) {
+      text.append("  public final ").append(FIELD_TYPES[i % FIELD_TYPES.length]).append(' ')
+        .append(fieldPrefix).append(i).append(";\n");
+    }
+    // The fields are assigned by the generated constructor; until then the class only needs to parse.
+    text.append('\n').append(caret ? "  <caret>\n" : "").append("}\n");
+    return text.toString();
+  }
+}
@@ -0,0 +1,34 @@
+package com.geoffgranum.plugin.builder.domain;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.testFramework.LightProjectDescriptor;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author ggranum
+ */
+public class FieldExclusionRulesTest extends LightJavaCodeInsightFixtureTestCase {
+
+  @NotNull
+  @Override
+  protected LightProjectDescriptor getProjectDescriptor() {
+    return JAVA_8;
+  }
+
+  public void testExcludedTypeMatchesParameterizedField() {
+    myFixture.addClass("package com.google.common.cache; public interface Cache<K, V> { }");
+    PsiClass model = myFixture.addClass("package model; import com.google.common.cache.Cache;"
+                                        + " public final class Model {"
+                                        + " private final Cache<String, Integer> cache;"
+                                        + " private final Cache<String, Integer>[] caches;"
+                                        + " private final String name; }");
+    FieldExclusionSettings.State state = new FieldExclusionSettings.State();
+    state.excludedTypes.add("com.google.common.cache.Cache");
+    FieldExclusionRules rules = FieldExclusionRules.compile(state);
+
+    assertTrue(rules.excludes(model.findFieldByName("cache", false)));
+    assertFalse(rules.excludes(model.findFieldByName("caches", false)));
+    assertFalse(rules.excludes(model.findFieldByName("name", false)));
+  }
+}